@@ -13,4 +13,25 @@ import org.osgi.service.metatype.annotations.ObjectClassDefinition;
 	@AttributeDefinition(name = "Timedata-IDs", description = "IDs of Timedata Services. Execution is going to be sorted in the order of the IDs.")
 	String[] timedata_ids() default {};
 
-}
\ No newline at end of file
+	@AttributeDefinition(name = "Query-Cache Size", description = "Max number of cached historic energy query results. '0' disables the cache.")
+	int queryCacheSize() default 10_000;
+
+	@AttributeDefinition(name = "Query-Cache TTL for current periods [s]", description = "Time-to-live of cached results for periods that are not yet closed.")
+	int queryCacheCurrentPeriodTtl() default 60;
+
+	@AttributeDefinition(name = "Query-Cache TTL for closed periods [s]", description = "Time-to-live of cached results for periods that ended more than one hour ago.")
+	int queryCacheClosedPeriodTtl() default 86_400;
+
+	@AttributeDefinition(name = "Hedged queries", description = "Query the next Timedata Service in parallel if the previous one did not answer within its typical latency.")
+	boolean queryHedging() default false;
+
+	@AttributeDefinition(name = "Hedged queries: Percentile", description = "Latency percentile of a Timedata Service after which the next one is queried, e.g. 95.")
+	int queryHedgingPercentile() default 95;
+
+	@AttributeDefinition(name = "Hedged queries: Min delay [ms]", description = "Minimum delay before the next Timedata Service is queried.")
+	int queryHedgingMinDelay() default 100;
+
+	@AttributeDefinition(name = "Hedged queries: Max threads", description = "Maximum number of parallel queries. If all threads are busy, queries are not hedged.")
+	int queryHedgingThreads() default 20;
+
+}
@@ -0,0 +1,147 @@
+package io.openems.backend.core.timedatamanager;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * A histogram of query latencies in logarithmic buckets over a sliding window.
+ *
+ * <p>
+ * Bucket {@code i} holds latencies up to {@code 2^(i/4)} milliseconds, i.e.
+ * percentiles are accurate to about 19 %, which is sufficient to derive a hedge
+ * delay.
+ *
+ * <p>
+ * Latencies are recorded in the current window. When it is older than the
+ * window length, it becomes the previous window and the window before is
+ * dropped. Count and percentiles are evaluated over the current and the
+ * previous window, i.e. over the latencies of the last one to two window
+ * lengths.
+ */
+public class LatencyHistogram {
+
+	/** The default length of one window. */
+	public static final Duration DEFAULT_WINDOW = Duration.ofMinutes(10);
+
+	private static final int BUCKETS_PER_DOUBLING = 4;
+	/** Up to 2^18 ms, i.e. about 4 minutes. */
+	private static final int BUCKETS = 18 * BUCKETS_PER_DOUBLING + 1;
+
+	private final long windowNanos;
+	private final LongSupplier nanoTime;
+	private final AtomicLongArray[] windows = { new AtomicLongArray(BUCKETS), new AtomicLongArray(BUCKETS) };
+
+	private volatile int current = 0;
+	private volatile long windowStart;
+
+	public LatencyHistogram() {
+		this(DEFAULT_WINDOW, System::nanoTime);
+	}
+
+	protected LatencyHistogram(Duration window, LongSupplier nanoTime) {
+		this.windowNanos = window.toNanos();
+		this.nanoTime = nanoTime;
+		this.windowStart = nanoTime.getAsLong();
+	}
+
+	/**
+	 * Records a latency.
+	 *
+	 * @param millis the latency in [ms]
+	 */
+	public void record(long millis) {
+		this.rotate();
+		this.windows[this.current].incrementAndGet(toBucket(millis));
+	}
+
+	/**
+	 * Gets the number of recorded latencies in the sliding window.
+	 *
+	 * @return the count
+	 */
+	public long getCount() {
+		var result = 0L;
+		for (var count : this.getCounts()) {
+			result += count;
+		}
+		return result;
+	}
+
+	/**
+	 * Gets the upper bound of the bucket that holds the given percentile.
+	 *
+	 * @param percentile the percentile, e.g. 95
+	 * @return the latency in [ms]; 0 if nothing was recorded
+	 */
+	public long getPercentile(int percentile) {
+		var counts = this.getCounts();
+		var total = 0L;
+		for (var count : counts) {
+			total += count;
+		}
+		if (total == 0) {
+			return 0;
+		}
+		var rank = (long) Math.ceil(total * Math.min(100, Math.max(0, percentile)) / 100.);
+		var sum = 0L;
+		for (var i = 0; i < BUCKETS; i++) {
+			sum += counts[i];
+			if (sum >= rank && counts[i] > 0) {
+				return toMillis(i);
+			}
+		}
+		return toMillis(BUCKETS - 1);
+	}
+
+	private long[] getCounts() {
+		this.rotate();
+		var result = new long[BUCKETS];
+		for (var window : this.windows) {
+			for (var i = 0; i < BUCKETS; i++) {
+				result[i] += window.get(i);
+			}
+		}
+		return result;
+	}
+
+	private void rotate() {
+		if (this.nanoTime.getAsLong() - this.windowStart < this.windowNanos) {
+			return;
+		}
+		synchronized (this) {
+			var now = this.nanoTime.getAsLong();
+			var elapsed = now - this.windowStart;
+			if (elapsed < this.windowNanos) {
+				return;
+			}
+			var next = 1 - this.current;
+			clear(this.windows[next]);
+			if (elapsed >= 2 * this.windowNanos) {
+				// Current window is outdated, too
+				clear(this.windows[this.current]);
+			}
+			this.current = next;
+			this.windowStart = now;
+		}
+	}
+
+	private static void clear(AtomicLongArray array) {
+		for (var i = 0; i < array.length(); i++) {
+			array.set(i, 0);
+		}
+	}
+
+	protected static int toBucket(long millis) {
+		if (millis <= 1) {
+			return 0;
+		}
+		var bucket = (int) Math.ceil(Math.log(millis) / Math.log(2) * BUCKETS_PER_DOUBLING);
+		return Math.min(BUCKETS - 1, bucket);
+	}
+
+	protected static long toMillis(int bucket) {
+		return (long) Math.ceil(Math.pow(2, (double) bucket / BUCKETS_PER_DOUBLING));
+	}
+
+}
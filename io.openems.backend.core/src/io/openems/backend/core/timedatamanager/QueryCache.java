@@ -0,0 +1,176 @@
+package io.openems.backend.core.timedatamanager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.function.ThrowingSupplier;
+import io.openems.common.timedata.Resolution;
+import io.openems.common.types.ChannelAddress;
+
+/**
+ * A size-bounded read-through cache for historic queries.
+ *
+ * <p>
+ * Results for periods that ended more than {@link #CLOSED_PERIOD_GRACE} ago
+ * expire after a long TTL; results for current periods expire after a short
+ * TTL. Entries that overlap with resent data are invalidated with
+ * {@link #invalidate(String, Instant, Instant)}. The cache is size-bounded
+ * and evicts the least-recently-used entry.
+ *
+ * <p>
+ * Cached values are shared by all callers, so they must not be modified.
+ */
+public class QueryCache {
+
+	/**
+	 * Late data, e.g. from a resend of historic data, may still arrive shortly
+	 * after a period ended.
+	 */
+	public static final Duration CLOSED_PERIOD_GRACE = Duration.ofHours(1);
+
+	public enum Method {
+		HISTORIC_ENERGY, HISTORIC_ENERGY_PER_PERIOD;
+	}
+
+	public record Key(Method method, String edgeId, ZonedDateTime fromDate, ZonedDateTime toDate,
+			Set<ChannelAddress> channels, Resolution resolution) {
+
+		public Key {
+			channels = Set.copyOf(channels);
+		}
+	}
+
+	private record Entry(Object value, Instant expiresAt) {
+	}
+
+	private final Clock clock;
+	private final int maxEntries;
+	private final Duration currentPeriodTtl;
+	private final Duration closedPeriodTtl;
+	private final Map<Key, Entry> entries;
+
+	private final AtomicLong hits = new AtomicLong();
+	private final AtomicLong misses = new AtomicLong();
+	/** Incremented on every invalidation; guards against caching stale results. */
+	private long invalidations = 0;
+
+	public QueryCache(int maxEntries, Duration currentPeriodTtl, Duration closedPeriodTtl) {
+		this(Clock.systemDefaultZone(), maxEntries, currentPeriodTtl, closedPeriodTtl);
+	}
+
+	public QueryCache(Clock clock, int maxEntries, Duration currentPeriodTtl, Duration closedPeriodTtl) {
+		this.clock = clock;
+		this.maxEntries = maxEntries;
+		this.currentPeriodTtl = currentPeriodTtl;
+		this.closedPeriodTtl = closedPeriodTtl;
+		this.entries = new LinkedHashMap<>(16, 0.75F, true /* access-order */) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+				return this.size() > QueryCache.this.maxEntries;
+			}
+		};
+	}
+
+	/**
+	 * Gets the cached value for the {@link Key} or queries and caches it.
+	 *
+	 * <p>
+	 * Null values and exceptions are not cached. A value is also not cached if the
+	 * cache was invalidated while it was queried.
+	 *
+	 * @param <T>      the type of the value
+	 * @param key      the {@link Key}
+	 * @param supplier queries the value on a cache miss
+	 * @return the value
+	 * @throws OpenemsNamedException on error
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> T get(Key key, ThrowingSupplier<T, OpenemsNamedException> supplier) throws OpenemsNamedException {
+		if (this.maxEntries <= 0) {
+			return supplier.get();
+		}
+		final var now = Instant.now(this.clock);
+		final long invalidations;
+		synchronized (this.entries) {
+			invalidations = this.invalidations;
+			var entry = this.entries.get(key);
+			if (entry != null) {
+				if (entry.expiresAt().isAfter(now)) {
+					this.hits.incrementAndGet();
+					return (T) entry.value();
+				}
+				this.entries.remove(key);
+			}
+		}
+
+		this.misses.incrementAndGet();
+		var value = supplier.get();
+		if (value != null) {
+			var expiresAt = key.toDate().toInstant().plus(CLOSED_PERIOD_GRACE).isBefore(now) //
+					? now.plus(this.closedPeriodTtl) //
+					: now.plus(this.currentPeriodTtl);
+			synchronized (this.entries) {
+				if (invalidations == this.invalidations) {
+					this.entries.put(key, new Entry(value, expiresAt));
+				}
+			}
+		}
+		return value;
+	}
+
+	/**
+	 * Removes the cached values of an Edge whose period overlaps the given period,
+	 * e.g. after historic data was resent.
+	 *
+	 * @param edgeId   the Edge-ID
+	 * @param fromDate the start of the changed period
+	 * @param toDate   the end of the changed period (inclusive)
+	 */
+	public void invalidate(String edgeId, Instant fromDate, Instant toDate) {
+		synchronized (this.entries) {
+			this.invalidations++;
+			this.entries.keySet().removeIf(key -> key.edgeId().equals(edgeId) //
+					&& !key.fromDate().toInstant().isAfter(toDate) //
+					&& !key.toDate().toInstant().isBefore(fromDate));
+		}
+	}
+
+	/**
+	 * Removes all cached values.
+	 */
+	public void clear() {
+		synchronized (this.entries) {
+			this.invalidations++;
+			this.entries.clear();
+		}
+	}
+
+	public long getHits() {
+		return this.hits.get();
+	}
+
+	public long getMisses() {
+		return this.misses.get();
+	}
+
+	/**
+	 * Gets the number of cached values.
+	 *
+	 * @return the size
+	 */
+	public int size() {
+		synchronized (this.entries) {
+			return this.entries.size();
+		}
+	}
+
+}
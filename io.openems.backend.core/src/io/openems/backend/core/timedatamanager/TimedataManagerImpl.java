@@ -1,17 +1,33 @@
 package io.openems.backend.core.timedatamanager;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Modified;
 import org.osgi.service.component.annotations.Reference;
 import org.osgi.service.component.annotations.ReferenceCardinality;
@@ -22,12 +38,17 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.gson.JsonElement;
+import com.google.gson.JsonPrimitive;
 
 import io.openems.backend.common.component.AbstractOpenemsBackendComponent;
+import io.openems.backend.common.debugcycle.DebugLoggable;
 import io.openems.backend.common.timedata.InternalTimedataException;
 import io.openems.backend.common.timedata.Timedata;
 import io.openems.backend.common.timedata.TimedataManager;
+import io.openems.backend.core.timedatamanager.QueryCache.Key;
+import io.openems.backend.core.timedatamanager.QueryCache.Method;
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.exceptions.OpenemsException;
 import io.openems.common.function.ThrowingFunction;
@@ -38,13 +59,14 @@ import io.openems.common.jsonrpc.notification.ResendDataNotification;
 import io.openems.common.jsonrpc.notification.TimestampedDataNotification;
 import io.openems.common.timedata.Resolution;
 import io.openems.common.types.ChannelAddress;
+import io.openems.common.utils.ThreadPoolUtils;
 
 @Designate(ocd = Config.class, factory = false)
 @Component(//
 		name = "Core.TimedataManager", //
 		immediate = true //
 )
-public class TimedataManagerImpl extends AbstractOpenemsBackendComponent implements TimedataManager {
+public class TimedataManagerImpl extends AbstractOpenemsBackendComponent implements TimedataManager, DebugLoggable {
 
 	private final Logger log = LoggerFactory.getLogger(TimedataManagerImpl.class);
 
@@ -52,6 +74,13 @@ public class TimedataManagerImpl extends AbstractOpenemsBackendComponent impleme
 	private final List<Timedata> _rawTimedatas = new ArrayList<>();
 	private final AtomicReference<ImmutableSortedSet<Timedata>> timedatas = new AtomicReference<>(
 			ImmutableSortedSet.of());
+	private volatile QueryCache queryCache = new QueryCache(0, Duration.ZERO, Duration.ZERO);
+
+	/** Latencies of queries per Timedata-ID. */
+	private final Map<String, LatencyHistogram> latencies = new ConcurrentHashMap<>();
+	private final AtomicLong countHedgedQueries = new AtomicLong();
+	private volatile Config config;
+	private volatile ThreadPoolExecutor queryExecutor;
 
 	@Reference(//
 			policy = ReferencePolicy.DYNAMIC, //
@@ -61,6 +90,7 @@ public class TimedataManagerImpl extends AbstractOpenemsBackendComponent impleme
 		synchronized (this._rawTimedatas) {
 			this._rawTimedatas.add(timedata);
 			this.updateSortedTimedatas();
+			this.queryCache.clear();
 		}
 	}
 
@@ -68,6 +98,7 @@ public class TimedataManagerImpl extends AbstractOpenemsBackendComponent impleme
 		synchronized (this._rawTimedatas) {
 			this._rawTimedatas.remove(timedata);
 			this.updateSortedTimedatas();
+			this.queryCache.clear();
 		}
 	}
 
@@ -114,8 +145,49 @@ public class TimedataManagerImpl extends AbstractOpenemsBackendComponent impleme
 	@Activate
 	@Modified
 	public void activate(Config config) {
+		this.config = config;
+		this.updateQueryExecutor(config);
 		this._configTimedataIds = Arrays.asList(config.timedata_ids());
 		this.updateSortedTimedatas();
+		this.queryCache = new QueryCache(config.queryCacheSize(),
+				Duration.ofSeconds(config.queryCacheCurrentPeriodTtl()),
+				Duration.ofSeconds(config.queryCacheClosedPeriodTtl()));
+	}
+
+	/**
+	 * Deactivates the component.
+	 */
+	@Deactivate
+	public void deactivate() {
+		ThreadPoolUtils.shutdownAndAwaitTermination(this.queryExecutor, 5);
+		this.queryExecutor = null;
+	}
+
+	/**
+	 * Creates, resizes or shuts down the executor for hedged queries.
+	 *
+	 * <p>
+	 * The executor is bounded and has no queue. If all threads are busy, a query
+	 * is executed on the calling thread and not hedged.
+	 *
+	 * @param config the {@link Config}
+	 */
+	private synchronized void updateQueryExecutor(Config config) {
+		var executor = this.queryExecutor;
+		var threads = Math.max(1, config.queryHedgingThreads());
+		if (executor != null && (!config.queryHedging() || executor.getMaximumPoolSize() != threads)) {
+			// Running queries are finished by the old executor
+			executor.shutdown();
+			executor = null;
+		}
+		if (config.queryHedging() && executor == null) {
+			executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS, new SynchronousQueue<>(),
+					new ThreadFactoryBuilder() //
+							.setNameFormat("Core.TimedataManager:Query-%d") //
+							.build());
+			executor.allowCoreThreadTimeOut(true);
+		}
+		this.queryExecutor = executor;
 	}
 
 	/**
@@ -149,7 +221,9 @@ public class TimedataManagerImpl extends AbstractOpenemsBackendComponent impleme
 	@Override
 	public SortedMap<ChannelAddress, JsonElement> queryHistoricEnergy(String edgeId, ZonedDateTime fromDate,
 			ZonedDateTime toDate, Set<ChannelAddress> channels) throws OpenemsNamedException {
-		final var value = this.firstOf(t -> t.queryHistoricEnergy(edgeId, fromDate, toDate, channels));
+		final var value = this.queryCache.get(
+				new Key(Method.HISTORIC_ENERGY, edgeId, fromDate, toDate, channels, null), //
+				() -> unmodifiable(this.firstOf(t -> t.queryHistoricEnergy(edgeId, fromDate, toDate, channels))));
 		if (value != null) {
 			return value;
 		}
@@ -170,8 +244,10 @@ public class TimedataManagerImpl extends AbstractOpenemsBackendComponent impleme
 	public SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> queryHistoricEnergyPerPeriod(String edgeId,
 			ZonedDateTime fromDate, ZonedDateTime toDate, Set<ChannelAddress> channels, Resolution resolution)
 			throws OpenemsNamedException {
-		final var value = this
-				.firstOf(t -> t.queryHistoricEnergyPerPeriod(edgeId, fromDate, toDate, channels, resolution));
+		final var value = this.queryCache.get(
+				new Key(Method.HISTORIC_ENERGY_PER_PERIOD, edgeId, fromDate, toDate, channels, resolution), //
+				() -> unmodifiableNested(this.firstOf(
+						t -> t.queryHistoricEnergyPerPeriod(edgeId, fromDate, toDate, channels, resolution))));
 		if (value != null) {
 			return value;
 		}
@@ -194,30 +270,206 @@ public class TimedataManagerImpl extends AbstractOpenemsBackendComponent impleme
 		throw new OpenemsException("Unable to query first value before. Result is null");
 	}
 
+	/**
+	 * Wraps a cacheable result, so it can be shared by all callers.
+	 *
+	 * @param <K>    the type of the keys
+	 * @param <V>    the type of the values
+	 * @param result the result; possibly null
+	 * @return an unmodifiable view of the result; null if result is null
+	 */
+	private static <K, V> SortedMap<K, V> unmodifiable(SortedMap<K, V> result) {
+		return result == null ? null : Collections.unmodifiableSortedMap(result);
+	}
+
+	private static <K1, K2, V> SortedMap<K1, SortedMap<K2, V>> unmodifiableNested(
+			SortedMap<K1, SortedMap<K2, V>> result) {
+		if (result == null) {
+			return null;
+		}
+		var copy = new TreeMap<K1, SortedMap<K2, V>>(result.comparator());
+		result.forEach((key, value) -> copy.put(key, unmodifiable(value)));
+		return Collections.unmodifiableSortedMap(copy);
+	}
+
 	private <T> T firstOf(ThrowingFunction<Timedata, T, OpenemsNamedException> function) throws OpenemsNamedException {
 		var timedatas = this.timedatas.get();
+		final var config = this.config;
+		final var executor = this.queryExecutor;
+		if (config != null && config.queryHedging() && executor != null && timedatas.size() > 1) {
+			return this.hedgedFirstOf(timedatas.asList(), function, config, executor);
+		}
 		final var errors = new ArrayList<Exception>();
 		for (var timedata : timedatas) {
-			try {
-				var data = function.apply(timedata);
-				if (data != null) {
-					return data;
+			var data = this.queryOrLog(timedata, function, errors);
+			if (data != null) {
+				return data;
+			}
+		}
+		if (!errors.isEmpty()) {
+			throw new OpenemsException(errors.stream().map(t -> t.getMessage()).collect(Collectors.joining("; ")));
+		}
+		return null;
+	}
+
+	/**
+	 * Queries the Timedata services in order, but does not wait longer than the
+	 * configured latency percentile of the previous service before querying the
+	 * next one in parallel. The first non-null result wins; pending queries that
+	 * did not start yet are cancelled. Running queries are not interrupted, as
+	 * interrupts might break the connections of the database clients.
+	 *
+	 * <p>
+	 * If the executor is saturated, no further query is hedged. If no query is
+	 * pending, the next service is queried on the calling thread.
+	 *
+	 * @param <T>       the type of the result
+	 * @param timedatas the sorted Timedata services
+	 * @param function  the query
+	 * @param config    the {@link Config}
+	 * @param executor  the {@link ExecutorService} for the queries
+	 * @return the first result; null if no service returned a result
+	 * @throws OpenemsNamedException if no service returned a result and at least
+	 *                               one failed
+	 */
+	protected <T> T hedgedFirstOf(List<Timedata> timedatas,
+			ThrowingFunction<Timedata, T, OpenemsNamedException> function, Config config, ExecutorService executor)
+			throws OpenemsNamedException {
+		final var completionService = new ExecutorCompletionService<T>(executor);
+		final var futures = new HashMap<Future<T>, Timedata>();
+		final var errors = new ArrayList<Exception>();
+		var next = 0;
+		try {
+			while (next < timedatas.size() || !futures.isEmpty()) {
+				if (futures.isEmpty()) {
+					// Nothing pending: query next Timedata immediately
+					final var timedata = timedatas.get(next++);
+					final var future = this.trySubmit(completionService, timedata, function);
+					if (future == null) {
+						final var data = this.queryOrLog(timedata, function, errors);
+						if (data != null) {
+							return data;
+						}
+						continue;
+					}
+					futures.put(future, timedata);
+				}
+
+				Future<T> future = null;
+				if (next < timedatas.size()) {
+					future = completionService.poll(this.getHedgeDelay(timedatas.get(next - 1), config),
+							TimeUnit.MILLISECONDS);
+					if (future == null) {
+						// Hedge: query next Timedata in parallel
+						final var timedata = timedatas.get(next);
+						final var hedge = this.trySubmit(completionService, timedata, function);
+						if (hedge != null) {
+							this.countHedgedQueries.incrementAndGet();
+							futures.put(hedge, timedata);
+							next++;
+							continue;
+						}
+					}
+				}
+				if (future == null) {
+					future = completionService.take();
+				}
+
+				final var timedata = futures.remove(future);
+				try {
+					final var data = future.get();
+					if (data != null) {
+						return data;
+					}
+				} catch (ExecutionException e) {
+					this.logError(timedata, e.getCause(), errors);
+				}
+
+				// No result: query next Timedata immediately
+				if (next < timedatas.size() && !futures.isEmpty()) {
+					final var hedge = this.trySubmit(completionService, timedatas.get(next), function);
+					if (hedge != null) {
+						futures.put(hedge, timedatas.get(next));
+						next++;
+					}
 				}
-			} catch (InternalTimedataException e) {
-				this.log.info(timedata.id() + ": " + e.getMessage());
-			} catch (OpenemsNamedException e) {
-				this.log.info(timedata.id() + ": " + e.getMessage());
-				errors.add(e);
-			} catch (RuntimeException e) {
-				this.log.info(timedata.id() + ": " + e.getMessage(), e);
 			}
+
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new OpenemsException("Interrupted while querying Timedata");
+
+		} finally {
+			futures.keySet().forEach(f -> f.cancel(false));
 		}
+
 		if (!errors.isEmpty()) {
 			throw new OpenemsException(errors.stream().map(t -> t.getMessage()).collect(Collectors.joining("; ")));
 		}
 		return null;
 	}
 
+	private <T> Future<T> trySubmit(ExecutorCompletionService<T> completionService, Timedata timedata,
+			ThrowingFunction<Timedata, T, OpenemsNamedException> function) {
+		try {
+			return completionService.submit(() -> this.query(timedata, function));
+		} catch (RejectedExecutionException e) {
+			// All threads are busy or executor was shut down
+			return null;
+		}
+	}
+
+	private <T> T queryOrLog(Timedata timedata, ThrowingFunction<Timedata, T, OpenemsNamedException> function,
+			List<Exception> errors) {
+		try {
+			return this.query(timedata, function);
+		} catch (OpenemsNamedException | RuntimeException e) {
+			this.logError(timedata, e, errors);
+			return null;
+		}
+	}
+
+	private void logError(Timedata timedata, Throwable e, List<Exception> errors) {
+		if (e instanceof InternalTimedataException) {
+			this.log.info(timedata.id() + ": " + e.getMessage());
+		} else if (e instanceof OpenemsNamedException) {
+			this.log.info(timedata.id() + ": " + e.getMessage());
+			errors.add((OpenemsNamedException) e);
+		} else {
+			this.log.info(timedata.id() + ": " + e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * Applies the query and records its latency if it completed without error.
+	 *
+	 * <p>
+	 * Failed queries are not recorded; they usually fail fast and would lower the
+	 * hedge delay.
+	 *
+	 * @param <T>      the type of the result
+	 * @param timedata the {@link Timedata}
+	 * @param function the query
+	 * @return the result
+	 * @throws OpenemsNamedException on error
+	 */
+	private <T> T query(Timedata timedata, ThrowingFunction<Timedata, T, OpenemsNamedException> function)
+			throws OpenemsNamedException {
+		final var start = System.nanoTime();
+		final var result = function.apply(timedata);
+		this.getLatencies(timedata).record(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+		return result;
+	}
+
+	private long getHedgeDelay(Timedata timedata, Config config) {
+		return Math.max(config.queryHedgingMinDelay(),
+				this.getLatencies(timedata).getPercentile(config.queryHedgingPercentile()));
+	}
+
+	private LatencyHistogram getLatencies(Timedata timedata) {
+		return this.latencies.computeIfAbsent(String.valueOf(timedata.id()), id -> new LatencyHistogram());
+	}
+
 	@Override
 	public void write(String edgeId, AggregatedDataNotification data) {
 		this.write(edgeId, data, Timedata::write);
@@ -231,6 +483,13 @@ public class TimedataManagerImpl extends AbstractOpenemsBackendComponent impleme
 	@Override
 	public void write(String edgeId, ResendDataNotification data) {
 		this.write(edgeId, data, Timedata::write);
+
+		// Cached results might not include the resent data
+		var timestamps = data.getData().rowKeySet();
+		if (!timestamps.isEmpty()) {
+			this.queryCache.invalidate(edgeId, Instant.ofEpochMilli(timestamps.first()),
+					Instant.ofEpochMilli(timestamps.last()));
+		}
 	}
 
 	private <T extends AbstractDataNotification> void write(//
@@ -247,4 +506,34 @@ public class TimedataManagerImpl extends AbstractOpenemsBackendComponent impleme
 		}
 	}
 
+	@Override
+	public String debugLog() {
+		var b = new StringBuilder() //
+				.append("[").append(this.getName()).append("] QueryCache Size:").append(this.queryCache.size()) //
+				.append("|Hits:").append(this.queryCache.getHits()) //
+				.append("|Misses:").append(this.queryCache.getMisses()) //
+				.append("|Hedged:").append(this.countHedgedQueries.get());
+		this.latencies.forEach((id, histogram) -> {
+			b.append("|").append(id).append(" p95:").append(histogram.getPercentile(95)).append("ms");
+		});
+		return b.toString();
+	}
+
+	@Override
+	public Map<String, JsonElement> debugMetrics() {
+		var result = new HashMap<String, JsonElement>();
+		result.put(this.getName() + "/QueryCacheSize", new JsonPrimitive(this.queryCache.size()));
+		result.put(this.getName() + "/QueryCacheHits", new JsonPrimitive(this.queryCache.getHits()));
+		result.put(this.getName() + "/QueryCacheMisses", new JsonPrimitive(this.queryCache.getMisses()));
+		result.put(this.getName() + "/HedgedQueries", new JsonPrimitive(this.countHedgedQueries.get()));
+		this.latencies.forEach((id, histogram) -> {
+			final var prefix = this.getName() + "/QueryLatency/" + id + "/";
+			result.put(prefix + "Count", new JsonPrimitive(histogram.getCount()));
+			result.put(prefix + "P50", new JsonPrimitive(histogram.getPercentile(50)));
+			result.put(prefix + "P95", new JsonPrimitive(histogram.getPercentile(95)));
+			result.put(prefix + "P99", new JsonPrimitive(histogram.getPercentile(99)));
+		});
+		return result;
+	}
+
 }
@@ -0,0 +1,96 @@
+package io.openems.backend.core.timedatamanager;
+
+import java.time.ZonedDateTime;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonPrimitive;
+
+import io.openems.backend.common.timedata.Timedata;
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.common.jsonrpc.notification.AggregatedDataNotification;
+import io.openems.common.jsonrpc.notification.ResendDataNotification;
+import io.openems.common.jsonrpc.notification.TimestampedDataNotification;
+import io.openems.common.timedata.Resolution;
+import io.openems.common.types.ChannelAddress;
+
+/**
+ * A {@link Timedata} that answers historic energy queries with a fixed value
+ * after a delay, or fails.
+ */
+public class DummyTimedata implements Timedata {
+
+	public static final ChannelAddress CHANNEL = new ChannelAddress("_sum", "ProductionActiveEnergy");
+
+	private final String id;
+	private final long delay;
+	private final Integer value;
+
+	protected final AtomicInteger queries = new AtomicInteger();
+
+	/**
+	 * Constructor.
+	 *
+	 * @param id    the ID
+	 * @param delay the delay of a query in [ms]
+	 * @param value the value of {@link #CHANNEL}; null to fail
+	 */
+	public DummyTimedata(String id, long delay, Integer value) {
+		this.id = id;
+		this.delay = delay;
+		this.value = value;
+	}
+
+	@Override
+	public String id() {
+		return this.id;
+	}
+
+	@Override
+	public SortedMap<ChannelAddress, JsonElement> queryHistoricEnergy(String edgeId, ZonedDateTime fromDate,
+			ZonedDateTime toDate, Set<ChannelAddress> channels) throws OpenemsNamedException {
+		this.queries.incrementAndGet();
+		try {
+			Thread.sleep(this.delay);
+		} catch (InterruptedException e) {
+			throw new OpenemsException("Interrupted");
+		}
+		if (this.value == null) {
+			throw new OpenemsException("Query failed on " + this.id);
+		}
+		var result = new TreeMap<ChannelAddress, JsonElement>();
+		result.put(CHANNEL, new JsonPrimitive(this.value));
+		return result;
+	}
+
+	@Override
+	public SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> queryHistoricData(String edgeId,
+			ZonedDateTime fromDate, ZonedDateTime toDate, Set<ChannelAddress> channels, Resolution resolution)
+			throws OpenemsNamedException {
+		return null;
+	}
+
+	@Override
+	public SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> queryHistoricEnergyPerPeriod(
+			String edgeId, ZonedDateTime fromDate, ZonedDateTime toDate, Set<ChannelAddress> channels,
+			Resolution resolution) throws OpenemsNamedException {
+		return null;
+	}
+
+	@Override
+	public void write(String edgeId, TimestampedDataNotification data) {
+	}
+
+	@Override
+	public void write(String edgeId, AggregatedDataNotification data) {
+	}
+
+	@Override
+	public void write(String edgeId, ResendDataNotification data) {
+	}
+
+}
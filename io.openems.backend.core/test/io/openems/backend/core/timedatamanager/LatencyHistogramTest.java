@@ -0,0 +1,69 @@
+package io.openems.backend.core.timedatamanager;
+
+import static org.junit.Assert.assertEquals;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+
+public class LatencyHistogramTest {
+
+	@Test
+	public void testPercentile() {
+		var sut = new LatencyHistogram();
+		assertEquals(0, sut.getCount());
+		assertEquals(0, sut.getPercentile(95));
+
+		for (var i = 0; i < 90; i++) {
+			sut.record(10);
+		}
+		for (var i = 0; i < 10; i++) {
+			sut.record(1000);
+		}
+		assertEquals(100, sut.getCount());
+		// Upper bounds of the buckets
+		assertEquals(12, sut.getPercentile(50));
+		assertEquals(12, sut.getPercentile(90));
+		assertEquals(1024, sut.getPercentile(95));
+		assertEquals(1024, sut.getPercentile(100));
+	}
+
+	@Test
+	public void testBuckets() {
+		assertEquals(0, LatencyHistogram.toBucket(0));
+		assertEquals(0, LatencyHistogram.toBucket(1));
+		assertEquals(4, LatencyHistogram.toBucket(2));
+		assertEquals(2, LatencyHistogram.toMillis(LatencyHistogram.toBucket(2)));
+		assertEquals(LatencyHistogram.toBucket(Long.MAX_VALUE), LatencyHistogram.toBucket(Long.MAX_VALUE / 2));
+	}
+
+	@Test
+	public void testSlidingWindow() {
+		var now = new AtomicLong();
+		var sut = new LatencyHistogram(Duration.ofMinutes(10), now::get);
+		for (var i = 0; i < 100; i++) {
+			sut.record(1000);
+		}
+
+		// Previous window is still evaluated
+		now.addAndGet(TimeUnit.MINUTES.toNanos(11));
+		for (var i = 0; i < 100; i++) {
+			sut.record(10);
+		}
+		assertEquals(200, sut.getCount());
+		assertEquals(1024, sut.getPercentile(95));
+
+		// Slow queries are dropped with the previous window
+		now.addAndGet(TimeUnit.MINUTES.toNanos(11));
+		sut.record(10);
+		assertEquals(101, sut.getCount());
+		assertEquals(12, sut.getPercentile(95));
+
+		// Nothing recorded for two windows
+		now.addAndGet(TimeUnit.MINUTES.toNanos(25));
+		assertEquals(0, sut.getCount());
+	}
+
+}
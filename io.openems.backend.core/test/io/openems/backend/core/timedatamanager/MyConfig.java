@@ -0,0 +1,122 @@
+package io.openems.backend.core.timedatamanager;
+
+import io.openems.common.test.AbstractComponentConfig;
+
+@SuppressWarnings("all")
+public class MyConfig extends AbstractComponentConfig implements Config {
+
+	protected static class Builder {
+		private String[] timedataIds = {};
+		private int queryCacheSize = 0;
+		private int queryCacheCurrentPeriodTtl = 60;
+		private int queryCacheClosedPeriodTtl = 86_400;
+		private boolean queryHedging = false;
+		private int queryHedgingPercentile = 95;
+		private int queryHedgingMinDelay = 100;
+		private int queryHedgingThreads = 20;
+
+		private Builder() {
+		}
+
+		public Builder setTimedataIds(String... timedataIds) {
+			this.timedataIds = timedataIds;
+			return this;
+		}
+
+		public Builder setQueryCacheSize(int queryCacheSize) {
+			this.queryCacheSize = queryCacheSize;
+			return this;
+		}
+
+		public Builder setQueryCacheCurrentPeriodTtl(int queryCacheCurrentPeriodTtl) {
+			this.queryCacheCurrentPeriodTtl = queryCacheCurrentPeriodTtl;
+			return this;
+		}
+
+		public Builder setQueryCacheClosedPeriodTtl(int queryCacheClosedPeriodTtl) {
+			this.queryCacheClosedPeriodTtl = queryCacheClosedPeriodTtl;
+			return this;
+		}
+
+		public Builder setQueryHedging(boolean queryHedging) {
+			this.queryHedging = queryHedging;
+			return this;
+		}
+
+		public Builder setQueryHedgingPercentile(int queryHedgingPercentile) {
+			this.queryHedgingPercentile = queryHedgingPercentile;
+			return this;
+		}
+
+		public Builder setQueryHedgingMinDelay(int queryHedgingMinDelay) {
+			this.queryHedgingMinDelay = queryHedgingMinDelay;
+			return this;
+		}
+
+		public Builder setQueryHedgingThreads(int queryHedgingThreads) {
+			this.queryHedgingThreads = queryHedgingThreads;
+			return this;
+		}
+
+		public MyConfig build() {
+			return new MyConfig(this);
+		}
+	}
+
+	/**
+	 * Create a Config builder.
+	 *
+	 * @return a {@link Builder}
+	 */
+	public static Builder create() {
+		return new Builder();
+	}
+
+	private final Builder builder;
+
+	private MyConfig(Builder builder) {
+		super(Config.class, null);
+		this.builder = builder;
+	}
+
+	@Override
+	public String[] timedata_ids() {
+		return this.builder.timedataIds;
+	}
+
+	@Override
+	public int queryCacheSize() {
+		return this.builder.queryCacheSize;
+	}
+
+	@Override
+	public int queryCacheCurrentPeriodTtl() {
+		return this.builder.queryCacheCurrentPeriodTtl;
+	}
+
+	@Override
+	public int queryCacheClosedPeriodTtl() {
+		return this.builder.queryCacheClosedPeriodTtl;
+	}
+
+	@Override
+	public boolean queryHedging() {
+		return this.builder.queryHedging;
+	}
+
+	@Override
+	public int queryHedgingPercentile() {
+		return this.builder.queryHedgingPercentile;
+	}
+
+	@Override
+	public int queryHedgingMinDelay() {
+		return this.builder.queryHedgingMinDelay;
+	}
+
+	@Override
+	public int queryHedgingThreads() {
+		return this.builder.queryHedgingThreads;
+	}
+
+}
@@ -0,0 +1,159 @@
+package io.openems.backend.core.timedatamanager;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import io.openems.backend.core.timedatamanager.QueryCache.Key;
+import io.openems.backend.core.timedatamanager.QueryCache.Method;
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.common.test.TimeLeapClock;
+
+public class QueryCacheTest {
+
+	private static final Instant NOW = Instant.parse("2020-01-01T12:00:00Z");
+	private static final ZoneId ZONE = ZoneId.of("UTC");
+
+	private static Key key(String edgeId, ZonedDateTime fromDate, ZonedDateTime toDate) {
+		return new Key(Method.HISTORIC_ENERGY, edgeId, fromDate, toDate, Set.of(), null);
+	}
+
+	/**
+	 * Gets a value from the cache; queries return the number of the query.
+	 *
+	 * @param sut     the {@link QueryCache}
+	 * @param key     the {@link Key}
+	 * @param queries the number of queries
+	 * @return the value
+	 * @throws OpenemsNamedException on error
+	 */
+	private static int get(QueryCache sut, Key key, AtomicInteger queries) throws OpenemsNamedException {
+		return sut.get(key, queries::incrementAndGet);
+	}
+
+	@Test
+	public void testEviction() throws OpenemsNamedException {
+		var clock = new TimeLeapClock(NOW, ZONE);
+		var sut = new QueryCache(clock, 2, Duration.ofMinutes(1), Duration.ofDays(1));
+		var queries = new AtomicInteger();
+		var yesterday = ZonedDateTime.now(clock).minusDays(1);
+		var key0 = key("edge0", yesterday.minusDays(1), yesterday);
+		var key1 = key("edge1", yesterday.minusDays(1), yesterday);
+		var key2 = key("edge2", yesterday.minusDays(1), yesterday);
+
+		assertEquals(1, get(sut, key0, queries));
+		assertEquals(2, get(sut, key1, queries));
+		assertEquals(1, get(sut, key0, queries)); // key0 is most recently used
+		assertEquals(3, get(sut, key2, queries)); // evicts key1
+		assertEquals(2, sut.size());
+		assertEquals(1, get(sut, key0, queries));
+		assertEquals(4, get(sut, key1, queries));
+
+		assertEquals(2, sut.getHits());
+		assertEquals(4, sut.getMisses());
+	}
+
+	@Test
+	public void testCurrentPeriodExpiry() throws OpenemsNamedException {
+		var clock = new TimeLeapClock(NOW, ZONE);
+		var sut = new QueryCache(clock, 10, Duration.ofMinutes(1), Duration.ofDays(1));
+		var queries = new AtomicInteger();
+		var today = ZonedDateTime.now(clock).truncatedTo(ChronoUnit.DAYS);
+		var key = key("edge0", today, today.plusDays(1));
+
+		assertEquals(1, get(sut, key, queries));
+		clock.leap(59, ChronoUnit.SECONDS);
+		assertEquals(1, get(sut, key, queries));
+		clock.leap(1, ChronoUnit.SECONDS);
+		assertEquals(2, get(sut, key, queries));
+	}
+
+	@Test
+	public void testClosedPeriodExpiry() throws OpenemsNamedException {
+		var clock = new TimeLeapClock(NOW, ZONE);
+		var sut = new QueryCache(clock, 10, Duration.ofMinutes(1), Duration.ofDays(1));
+		var queries = new AtomicInteger();
+		var now = ZonedDateTime.now(clock);
+		var closed = key("edge0", now.minusDays(1), now.minus(QueryCache.CLOSED_PERIOD_GRACE).minusSeconds(1));
+		var grace = key("edge0", now.minusDays(1), now.minus(QueryCache.CLOSED_PERIOD_GRACE));
+
+		assertEquals(1, get(sut, closed, queries));
+		assertEquals(2, get(sut, grace, queries));
+
+		// Period within grace time expires like a current period
+		clock.leap(1, ChronoUnit.HOURS);
+		assertEquals(1, get(sut, closed, queries));
+		assertEquals(3, get(sut, grace, queries));
+
+		// Closed period expires after its TTL
+		clock.leap(23, ChronoUnit.HOURS);
+		assertEquals(4, get(sut, closed, queries));
+	}
+
+	@Test
+	public void testInvalidate() throws OpenemsNamedException {
+		var clock = new TimeLeapClock(NOW, ZONE);
+		var sut = new QueryCache(clock, 10, Duration.ofMinutes(1), Duration.ofDays(1));
+		var queries = new AtomicInteger();
+		var now = ZonedDateTime.now(clock);
+		var lastWeek = key("edge0", now.minusDays(14), now.minusDays(7));
+		var yesterday = key("edge0", now.minusDays(2), now.minusDays(1));
+		var otherEdge = key("edge1", now.minusDays(2), now.minusDays(1));
+		get(sut, lastWeek, queries);
+		get(sut, yesterday, queries);
+		get(sut, otherEdge, queries);
+
+		// Resend of data of edge0 from yesterday
+		sut.invalidate("edge0", now.minusDays(1).minusHours(1).toInstant(), now.minusDays(1).toInstant());
+		assertEquals(2, sut.size());
+		assertEquals(1, get(sut, lastWeek, queries));
+		assertEquals(4, get(sut, yesterday, queries));
+		assertEquals(3, get(sut, otherEdge, queries));
+	}
+
+	@Test
+	public void testInvalidateWhileQuerying() throws OpenemsNamedException {
+		var clock = new TimeLeapClock(NOW, ZONE);
+		var sut = new QueryCache(clock, 10, Duration.ofMinutes(1), Duration.ofDays(1));
+		var now = ZonedDateTime.now(clock);
+		var key = key("edge0", now.minusDays(2), now.minusDays(1));
+
+		// Result queried before the resend is not cached
+		assertEquals(1, (int) sut.get(key, () -> {
+			sut.invalidate("edge0", now.minusDays(3).toInstant(), now.toInstant());
+			return 1;
+		}));
+		assertEquals(0, sut.size());
+	}
+
+	@Test
+	public void testNotCached() throws OpenemsNamedException {
+		var clock = new TimeLeapClock(NOW, ZONE);
+		var sut = new QueryCache(clock, 10, Duration.ofMinutes(1), Duration.ofDays(1));
+		var now = ZonedDateTime.now(clock);
+		var key = key("edge0", now.minusDays(2), now.minusDays(1));
+
+		assertEquals(null, sut.get(key, () -> null));
+		assertThrows(OpenemsException.class, () -> sut.get(key, () -> {
+			throw new OpenemsException("failed");
+		}));
+		assertEquals(0, sut.size());
+
+		// Disabled
+		var queries = new AtomicInteger();
+		var disabled = new QueryCache(clock, 0, Duration.ofMinutes(1), Duration.ofDays(1));
+		assertEquals(1, get(disabled, key, queries));
+		assertEquals(2, get(disabled, key, queries));
+	}
+
+}
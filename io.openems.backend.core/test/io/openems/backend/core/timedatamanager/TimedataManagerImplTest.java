@@ -0,0 +1,142 @@
+package io.openems.backend.core.timedatamanager;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.time.ZonedDateTime;
+import java.util.Set;
+
+import org.junit.Test;
+
+import com.google.common.collect.TreeBasedTable;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonPrimitive;
+
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.jsonrpc.notification.ResendDataNotification;
+
+public class TimedataManagerImplTest {
+
+	private static final String HEDGED = "Core.TimedataManager/HedgedQueries";
+
+	private static TimedataManagerImpl create(DummyTimedata... timedatas) {
+		var sut = new TimedataManagerImpl();
+		sut.activate(MyConfig.create() //
+				.setTimedataIds("timedata0", "timedata1") //
+				.setQueryHedging(true) //
+				.setQueryHedgingMinDelay(50) //
+				.build());
+		for (var timedata : timedatas) {
+			sut.addTimedata(timedata);
+		}
+		return sut;
+	}
+
+	private static int query(TimedataManagerImpl sut) throws OpenemsNamedException {
+		var now = ZonedDateTime.now();
+		return sut.queryHistoricEnergy("edge0", now.minusDays(1), now, Set.of(DummyTimedata.CHANNEL)) //
+				.get(DummyTimedata.CHANNEL).getAsInt();
+	}
+
+	@Test
+	public void testHedge() throws OpenemsNamedException {
+		var timedata0 = new DummyTimedata("timedata0", 1000, 0);
+		var timedata1 = new DummyTimedata("timedata1", 0, 1);
+		var sut = create(timedata0, timedata1);
+
+		var start = System.currentTimeMillis();
+		assertEquals(1, query(sut));
+		assertTrue(System.currentTimeMillis() - start < 900);
+		assertEquals(1, sut.debugMetrics().get(HEDGED).getAsLong());
+
+		sut.deactivate();
+		// Pending query was not interrupted and its latency was recorded
+		assertEquals(1, sut.debugMetrics().get("Core.TimedataManager/QueryLatency/timedata0/Count").getAsLong());
+	}
+
+	@Test
+	public void testNoHedge() throws OpenemsNamedException {
+		var timedata0 = new DummyTimedata("timedata0", 0, 0);
+		var timedata1 = new DummyTimedata("timedata1", 0, 1);
+		var sut = create(timedata0, timedata1);
+
+		assertEquals(0, query(sut));
+		assertEquals(0, sut.debugMetrics().get(HEDGED).getAsLong());
+		assertEquals(0, timedata1.queries.get());
+		sut.deactivate();
+	}
+
+	@Test
+	public void testFailover() throws OpenemsNamedException {
+		var timedata0 = new DummyTimedata("timedata0", 0, null);
+		var timedata1 = new DummyTimedata("timedata1", 0, 1);
+		var sut = create(timedata0, timedata1);
+
+		assertEquals(1, query(sut));
+		assertEquals(0, sut.debugMetrics().get(HEDGED).getAsLong());
+
+		// Failed queries are not recorded
+		var metrics = sut.debugMetrics();
+		assertEquals(0, metrics.get("Core.TimedataManager/QueryLatency/timedata0/Count").getAsLong());
+		assertEquals(1, metrics.get("Core.TimedataManager/QueryLatency/timedata1/Count").getAsLong());
+		sut.deactivate();
+	}
+
+	@Test
+	public void testAllFailed() {
+		var sut = create(new DummyTimedata("timedata0", 0, null), new DummyTimedata("timedata1", 100, null));
+
+		assertThrows(OpenemsNamedException.class, () -> query(sut));
+		sut.deactivate();
+	}
+
+	@Test
+	public void testExecutorSaturated() throws OpenemsNamedException {
+		var timedata0 = new DummyTimedata("timedata0", 200, 0);
+		var timedata1 = new DummyTimedata("timedata1", 0, 1);
+		var sut = new TimedataManagerImpl();
+		sut.activate(MyConfig.create() //
+				.setTimedataIds("timedata0", "timedata1") //
+				.setQueryHedging(true) //
+				.setQueryHedgingMinDelay(50) //
+				.setQueryHedgingThreads(1) //
+				.build());
+		sut.addTimedata(timedata0);
+		sut.addTimedata(timedata1);
+
+		// The only thread is busy with timedata0; timedata1 is not hedged
+		assertEquals(0, query(sut));
+		assertEquals(0, sut.debugMetrics().get(HEDGED).getAsLong());
+		sut.deactivate();
+	}
+
+	@Test
+	public void testQueryCache() throws OpenemsNamedException {
+		var timedata0 = new DummyTimedata("timedata0", 0, 0);
+		var sut = new TimedataManagerImpl();
+		sut.activate(MyConfig.create() //
+				.setTimedataIds("timedata0") //
+				.setQueryCacheSize(10) //
+				.build());
+		sut.addTimedata(timedata0);
+
+		var toDate = ZonedDateTime.now().minusDays(1);
+		var fromDate = toDate.minusDays(1);
+		var channels = Set.of(DummyTimedata.CHANNEL);
+		var result = sut.queryHistoricEnergy("edge0", fromDate, toDate, channels);
+		assertThrows(UnsupportedOperationException.class, () -> result.clear());
+		assertEquals(result, sut.queryHistoricEnergy("edge0", fromDate, toDate, channels));
+		assertEquals(1, timedata0.queries.get());
+
+		// Resent data invalidates the cached result
+		var data = TreeBasedTable.<Long, String, JsonElement>create();
+		data.put(fromDate.plusHours(1).toInstant().toEpochMilli(), DummyTimedata.CHANNEL.toString(),
+				new JsonPrimitive(1));
+		sut.write("edge0", new ResendDataNotification(data));
+		sut.queryHistoricEnergy("edge0", fromDate, toDate, channels);
+		assertEquals(2, timedata0.queries.get());
+		sut.deactivate();
+	}
+
+}
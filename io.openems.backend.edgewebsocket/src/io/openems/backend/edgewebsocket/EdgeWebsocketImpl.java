@@ -110,7 +110,9 @@ public class EdgeWebsocketImpl extends AbstractOpenemsBackendComponent
 	 */
 	private synchronized void startServer() {
 		if (this.server == null) {
-			this.server = new WebsocketServer(this, this.getName(), this.config.port(), this.config.poolSize());
+			this.server = new WebsocketServer(this, this.getName(), this.config.port(), this.config.poolSize(),
+					this.config.executionMode(), this.config.maxConcurrentMessagesPerSession(),
+					this.config.binaryData());
 			this.server.start();
 		}
 	}
@@ -1,14 +1,11 @@
 package io.openems.backend.edgewebsocket;
 
-import java.util.Map.Entry;
 import java.util.concurrent.TimeUnit;
 
 import org.java_websocket.WebSocket;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.google.gson.JsonElement;
-
 import io.openems.backend.common.metadata.Edge.Events;
 import io.openems.common.channel.Level;
 import io.openems.common.event.EventBuilder;
@@ -24,7 +21,6 @@ import io.openems.common.jsonrpc.notification.ResendDataNotification;
 import io.openems.common.jsonrpc.notification.SystemLogNotification;
 import io.openems.common.jsonrpc.notification.TimestampedDataNotification;
 import io.openems.common.types.SemanticVersion;
-import io.openems.common.utils.JsonUtils;
 
 public class OnNotification implements io.openems.common.websocket.OnNotification {
 
@@ -137,20 +133,17 @@ public class OnNotification implements io.openems.common.websocket.OnNotificatio
 
 		// Read some specific channels
 		var edge = this.parent.metadata.getEdgeOrError(edgeId);
-		for (Entry<String, JsonElement> entry : message.getParams().entrySet()) {
-			var d = JsonUtils.getAsJsonObject(entry.getValue());
-
+		for (var d : message.getData().rowMap().values()) {
 			// set specific Edge values
-			if (d.has("_sum/State") && d.get("_sum/State").isJsonPrimitive()) {
-				var sumState = Level.fromJson(d, "_sum/State").orElse(Level.FAULT);
-				edge.setSumState(sumState);
+			var sumState = d.get("_sum/State");
+			if (sumState != null && sumState.isJsonPrimitive()) {
+				edge.setSumState(Level.fromJson(sumState).orElse(Level.FAULT));
 			}
 
-			if (d.has("_meta/Version") && d.get("_meta/Version").isJsonPrimitive()) {
-				var version = JsonUtils.getAsPrimitive(d, "_meta/Version").getAsString();
-				edge.setVersion(SemanticVersion.fromString(version));
+			var version = d.get("_meta/Version");
+			if (version != null && version.isJsonPrimitive()) {
+				edge.setVersion(SemanticVersion.fromString(version.getAsString()));
 			}
-
 		}
 	}
 
@@ -1,5 +1,6 @@
 package io.openems.backend.edgewebsocket;
 
+import java.nio.ByteBuffer;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -8,25 +9,35 @@ import java.util.TreeMap;
 import java.util.stream.Collectors;
 
 import org.java_websocket.WebSocket;
+import org.java_websocket.handshake.ClientHandshake;
+import org.java_websocket.handshake.ServerHandshakeBuilder;
 import org.slf4j.Logger;
 
 import com.google.gson.JsonElement;
 
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.common.jsonrpc.base.JsonrpcMessage;
+import io.openems.common.jsonrpc.notification.BinaryDataNotification;
 import io.openems.common.types.ChannelAddress;
 import io.openems.common.websocket.AbstractWebsocketServer;
+import io.openems.common.websocket.ExecutionMode;
 
 public class WebsocketServer extends AbstractWebsocketServer<WsData> {
 
 	private final EdgeWebsocketImpl parent;
+	private final boolean binaryData;
 	private final OnOpen onOpen;
 	private final OnRequest onRequest;
 	private final OnNotification onNotification;
 	private final OnError onError;
 	private final OnClose onClose;
 
-	public WebsocketServer(EdgeWebsocketImpl parent, String name, int port, int poolSize) {
-		super(name, port, poolSize);
+	public WebsocketServer(EdgeWebsocketImpl parent, String name, int port, int poolSize,
+			ExecutionMode executionMode, int maxConcurrentMessagesPerSession, boolean binaryData) {
+		super(name, port, poolSize, executionMode, maxConcurrentMessagesPerSession);
 		this.parent = parent;
+		this.binaryData = binaryData;
 		this.onOpen = new OnOpen(parent);
 		this.onRequest = new OnRequest(//
 				() -> parent.appCenterMetadata, //
@@ -41,6 +52,24 @@ public class WebsocketServer extends AbstractWebsocketServer<WsData> {
 		return new WsData(ws);
 	}
 
+	@Override
+	protected void onHandshake(ClientHandshake request, ServerHandshakeBuilder response) {
+		// Announce support for binary data
+		if (this.binaryData && String.valueOf(BinaryDataNotification.VERSION)
+				.equals(request.getFieldValue(BinaryDataNotification.HTTP_HEADER))) {
+			response.put(BinaryDataNotification.HTTP_HEADER, String.valueOf(BinaryDataNotification.VERSION));
+		}
+	}
+
+	@Override
+	protected JsonrpcMessage decodeBinaryMessage(WebSocket ws, ByteBuffer message) throws OpenemsNamedException {
+		if (!this.binaryData) {
+			throw new OpenemsException("Binary data is not allowed");
+		}
+		WsData wsData = ws.getAttachment();
+		return wsData.getBinaryDataDecoder().decode(message);
+	}
+
 	/**
 	 * Is the given Edge online?.
 	 *
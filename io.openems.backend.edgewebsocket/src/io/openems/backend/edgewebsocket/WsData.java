@@ -12,6 +12,7 @@ import io.openems.backend.common.edgewebsocket.EdgeCache;
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.exceptions.OpenemsException;
 import io.openems.common.jsonrpc.base.JsonrpcMessage;
+import io.openems.common.jsonrpc.notification.BinaryDataNotification;
 import io.openems.common.utils.StringUtils;
 
 public class WsData extends io.openems.common.websocket.WsData {
@@ -25,6 +26,8 @@ public class WsData extends io.openems.common.websocket.WsData {
 	private final CompletableFuture<Void> isAuthenticated = new CompletableFuture<>();
 	public final EdgeCache edgeCache = new EdgeCache();
 
+	private BinaryDataNotification.Decoder binaryDataDecoder = null;
+
 	public WsData(WebSocket ws) {
 		super(ws);
 	}
@@ -75,6 +78,18 @@ public class WsData extends io.openems.common.websocket.WsData {
 		return this.edgeId;
 	}
 
+	/**
+	 * Gets the {@link BinaryDataNotification.Decoder} of this connection.
+	 *
+	 * @return the {@link BinaryDataNotification.Decoder}
+	 */
+	public synchronized BinaryDataNotification.Decoder getBinaryDataDecoder() {
+		if (this.binaryDataDecoder == null) {
+			this.binaryDataDecoder = new BinaryDataNotification.Decoder();
+		}
+		return this.binaryDataDecoder;
+	}
+
 	@Override
 	public String toString() {
 		return "EdgeWebsocket.WsData [" //
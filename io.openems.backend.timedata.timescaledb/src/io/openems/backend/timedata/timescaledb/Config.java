@@ -33,6 +33,9 @@ public @interface Config {
 	@AttributeDefinition(name = "Number of Threads", description = "Pool-Size: the number of threads dedicated to handle the tasks")
 	int poolSize() default 10;
 
+	@AttributeDefinition(name = "Number of Write-Shards", description = "Number of parallel COPY writers per data type and priority, i.e. 6 x Write-Shards writers in total. Channels are distributed by their ID. Every writer uses its own database connection: the connection pool for writes has Pool-Size + 6 x Write-Shards connections.")
+	int writeShards() default 4;
+
 	String webconsole_configurationFactory_nameHint() default "Timedata.TimescaleDB";
 
 }
@@ -2,11 +2,13 @@ package io.openems.backend.timedata.timescaledb;
 
 import java.sql.SQLException;
 import java.time.ZonedDateTime;
+import java.util.Map;
 import java.util.Set;
 import java.util.SortedMap;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
@@ -18,8 +20,10 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.google.gson.JsonElement;
+import com.google.gson.JsonPrimitive;
 
 import io.openems.backend.common.component.AbstractOpenemsBackendComponent;
+import io.openems.backend.common.debugcycle.DebugLoggable;
 import io.openems.backend.common.metadata.Metadata;
 import io.openems.backend.common.timedata.Timedata;
 import io.openems.backend.timedata.timescaledb.internal.read.TimescaledbReadHandler;
@@ -38,7 +42,7 @@ import io.openems.common.utils.ThreadPoolUtils;
 		configurationPolicy = ConfigurationPolicy.REQUIRE, //
 		immediate = true //
 )
-public class TimedataTimescaleDb extends AbstractOpenemsBackendComponent implements Timedata {
+public class TimedataTimescaleDb extends AbstractOpenemsBackendComponent implements Timedata, DebugLoggable {
 
 	private final Logger log = LoggerFactory.getLogger(TimedataTimescaleDb.class);
 
@@ -124,4 +128,17 @@ public class TimedataTimescaleDb extends AbstractOpenemsBackendComponent impleme
 		return this.config.id();
 	}
 
+	@Override
+	public String debugLog() {
+		// Write details are logged by the own [monitor] log
+		return null;
+	}
+
+	@Override
+	public Map<String, JsonElement> debugMetrics() {
+		final var prefix = this.config.id() + "/";
+		return this.timescaledbWriteHandler.debugMetrics().entrySet().stream() //
+				.collect(Collectors.toMap(e -> prefix + e.getKey(), e -> new JsonPrimitive(e.getValue())));
+	}
+
 }
@@ -1,12 +1,15 @@
 package io.openems.backend.timedata.timescaledb.internal.write;
 
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import com.zaxxer.hikari.HikariDataSource;
 
@@ -14,26 +17,45 @@ import io.openems.backend.timedata.timescaledb.internal.Priority;
 import io.openems.backend.timedata.timescaledb.internal.Type;
 import io.openems.common.worker.AbstractImmediateWorker;
 
+/**
+ * Merges single Points of one shard to batches and writes them via its own
+ * {@link WritePointsHandler}.
+ *
+ * <p>
+ * The batch size adapts to the write latency: it is halved if a write took
+ * longer than {@link TimescaledbWriteHandler#TARGET_WRITE_LATENCY} and
+ * increased while the queue holds more Points than fit into one batch.
+ *
+ * <p>
+ * If the queue is full, the oldest Point is evicted.
+ */
 public class MergePointsWorker<POINT extends Point> extends AbstractImmediateWorker {
 
-	private final HikariDataSource dataSource;
-	private final ExecutorService executor;
-	private final Type type;
-	private final Priority priority;
-	// TODO queue: delete old entries if full; like an EvictingQueue;
-	// https://github.com/google/guava/issues/3882
-	private final BlockingQueue<POINT> queue = new ArrayBlockingQueue<>(TimescaledbWriteHandler.POINTS_QUEUE_SIZE);
-	private long countPoints = 0;
-
-	public MergePointsWorker(HikariDataSource dataSource, ExecutorService executor, Type type, Priority priority) {
-		this.dataSource = dataSource;
-		this.executor = executor;
-		this.type = type;
-		this.priority = priority;
+	private final WritePointsHandler writePointsHandler;
+	private final BlockingQueue<POINT> queue;
+
+	private final AtomicLong countPoints = new AtomicLong();
+	private final AtomicLong countDropped = new AtomicLong();
+	private final AtomicLong countFailed = new AtomicLong();
+	private volatile long lastWriteLatency = 0; // [ms]
+	private volatile int batchSize = TimescaledbWriteHandler.INITIAL_POINTS_PER_WRITE;
+
+	public MergePointsWorker(HikariDataSource dataSource, Type type, Priority priority, int queueSize) {
+		this.writePointsHandler = new WritePointsHandler(dataSource, type, priority);
+		this.queue = new ArrayBlockingQueue<>(queueSize);
 	}
 
-	public BlockingQueue<POINT> getQueue() {
-		return this.queue;
+	/**
+	 * Adds a Point to the queue. Evicts the oldest Point if the queue is full.
+	 *
+	 * @param point the Point
+	 */
+	public void offer(POINT point) {
+		while (!this.queue.offer(point)) {
+			if (this.queue.poll() != null) {
+				this.countDropped.incrementAndGet();
+			}
+		}
 	}
 
 	@Override
@@ -41,34 +63,61 @@ public class MergePointsWorker<POINT extends Point> extends AbstractImmediateWor
 		/**
 		 * This task merges single Points to Lists of Points, which are then sent to
 		 * TimescaleDB. This approach improves speed as not every single Point gets sent
-		 * via HTTP individually.
+		 * individually.
 		 */
 		// Poll and merge Points. Wait max 10 seconds in total.
-		var points = pollAndMergePoints(this.queue);
+		var points = pollAndMergePoints(this.queue, this.batchSize);
 
 		if (points.isEmpty()) {
 			return;
 		}
 
-		this.countPoints += points.size();
+		// Write points in this thread; a slow database slows down only this shard
+		var start = System.nanoTime();
+		if (this.writePointsHandler.write(points)) {
+			this.countPoints.addAndGet(points.size());
+		} else {
+			this.countFailed.addAndGet(points.size());
+		}
+		var latency = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+		this.lastWriteLatency = latency;
+		this.batchSize = adaptBatchSize(this.batchSize, latency, this.queue.size());
+	}
 
-		// Write points async.
-		this.executor.execute(new WritePointsHandler(this.dataSource, this.type, this.priority, points));
+	/**
+	 * Calculates the next batch size.
+	 *
+	 * @param batchSize  the current batch size
+	 * @param latency    the latency of the last write in [ms]
+	 * @param queueDepth the number of Points that are waiting
+	 * @return the next batch size
+	 */
+	protected static int adaptBatchSize(int batchSize, long latency, int queueDepth) {
+		if (latency > TimescaledbWriteHandler.TARGET_WRITE_LATENCY) {
+			return max(TimescaledbWriteHandler.MIN_POINTS_PER_WRITE, batchSize / 2);
+		}
+		if (queueDepth > batchSize) {
+			return min(TimescaledbWriteHandler.MAX_POINTS_PER_WRITE, batchSize + batchSize / 2);
+		}
+		return batchSize;
 	}
 
 	/**
 	 * Poll and merge Points. Wait max 10 seconds in total.
-	 * 
-	 * @param <POINT> the type of the Point
-	 * @param queue   the Queue of Points
+	 *
+	 * @param <POINT>   the type of the Point
+	 * @param queue     the Queue of Points
+	 * @param batchSize the max number of Points
 	 * @return a list of Points
 	 * @throws InterruptedException on error
 	 */
-	private static <POINT extends Point> List<Point> pollAndMergePoints(BlockingQueue<POINT> queue)
+	private static <POINT extends Point> List<Point> pollAndMergePoints(BlockingQueue<POINT> queue, int batchSize)
 			throws InterruptedException {
 		final Instant maxWait = Instant.now().plusSeconds(TimescaledbWriteHandler.MAX_AGGREGATE_WAIT);
-		List<Point> points = new ArrayList<>(TimescaledbWriteHandler.MAX_POINTS_PER_WRITE);
-		for (int i = 0; i < TimescaledbWriteHandler.MAX_POINTS_PER_WRITE; i++) {
+		List<Point> points = new ArrayList<>(batchSize);
+		// Take what is immediately available
+		queue.drainTo(points, batchSize);
+		while (points.size() < batchSize) {
 			var point = queue.poll(TimescaledbWriteHandler.MAX_AGGREGATE_WAIT, TimeUnit.SECONDS);
 			if (point == null) {
 				break;
@@ -81,18 +130,44 @@ public class MergePointsWorker<POINT extends Point> extends AbstractImmediateWor
 		return points;
 	}
 
+	public int getQueueDepth() {
+		return this.queue.size();
+	}
+
+	public long getCountPoints() {
+		return this.countPoints.get();
+	}
+
+	public long getCountDropped() {
+		return this.countDropped.get();
+	}
+
+	public long getCountFailed() {
+		return this.countFailed.get();
+	}
+
+	public long getLastWriteLatency() {
+		return this.lastWriteLatency;
+	}
+
+	public int getBatchSize() {
+		return this.batchSize;
+	}
+
 	/**
 	 * Returns a DebugLog String.
-	 * 
+	 *
 	 * @return debug log
 	 */
 	public String debugLog() {
 		return new StringBuilder() //
 				.append(this.queue.size()) //
 				.append("/") //
-				.append(TimescaledbWriteHandler.POINTS_QUEUE_SIZE) //
+				.append(this.queue.size() + this.queue.remainingCapacity()) //
 				.append("|Total:") //
-				.append(this.countPoints) //
+				.append(this.countPoints.get()) //
+				.append("|Dropped:") //
+				.append(this.countDropped.get()) //
 				.toString();
 	}
 }
@@ -3,7 +3,9 @@ package io.openems.backend.timedata.timescaledb.internal.write;
 import java.time.Instant;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
-import java.util.concurrent.ExecutorService;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.ToLongFunction;
 
 import com.google.gson.JsonElement;
 import com.zaxxer.hikari.HikariDataSource;
@@ -19,13 +21,24 @@ import io.openems.common.types.OpenemsType;
 import io.openems.common.utils.JsonUtils;
 
 public abstract class QueueHandler<T extends Point> {
-	private final MergePointsWorker<T> mergePointsWorker;
+	private final List<MergePointsWorker<T>> mergePointsWorkers;
 	private final Class<T> pointClass;
+	private final Priority priority;
 
-	protected QueueHandler(MergePointsWorker<T> mergePointsWorker, Class<T> pointClass) {
+	protected QueueHandler(HikariDataSource dataSource, Type type, Priority priority, int shards,
+			Class<T> pointClass) {
 		super();
-		this.mergePointsWorker = mergePointsWorker;
+		if (shards < 1) {
+			throw new IllegalArgumentException("Number of shards must be at least 1");
+		}
+		var queueSize = Math.max(1, TimescaledbWriteHandler.POINTS_QUEUE_SIZE / shards);
+		var mergePointsWorkers = new ArrayList<MergePointsWorker<T>>(shards);
+		for (var i = 0; i < shards; i++) {
+			mergePointsWorkers.add(new MergePointsWorker<T>(dataSource, type, priority, queueSize));
+		}
+		this.mergePointsWorkers = List.copyOf(mergePointsWorkers);
 		this.pointClass = pointClass;
+		this.priority = priority;
 	}
 
 	/**
@@ -34,7 +47,7 @@ public abstract class QueueHandler<T extends Point> {
 	 * @param channel   the channel
 	 * @param timestamp the timestamp
 	 * @param json      the value
-	 * @return true if the element was added to this queue, else false
+	 * @return true if the element was added to a queue, else false
 	 * @throws OpenemsNamedException on error
 	 */
 	public boolean offer(ChannelRecord channel, long timestamp, JsonElement json) throws OpenemsNamedException {
@@ -43,11 +56,33 @@ public abstract class QueueHandler<T extends Point> {
 		if (value == null) {
 			return false;
 		}
-		return this.mergePointsWorker.getQueue().offer(value);
+		// All Points of one Channel go to the same shard to keep their order
+		this.mergePointsWorkers.get(Math.floorMod(channel.id, this.mergePointsWorkers.size())).offer(value);
+		return true;
 	}
 
-	public MergePointsWorker<T> getMergePointsWorker() {
-		return this.mergePointsWorker;
+	public List<MergePointsWorker<T>> getMergePointsWorkers() {
+		return this.mergePointsWorkers;
+	}
+
+	/**
+	 * Gets the sum of a metric over all shards.
+	 *
+	 * @param metric the metric of one {@link MergePointsWorker}
+	 * @return the sum
+	 */
+	public long sum(ToLongFunction<MergePointsWorker<T>> metric) {
+		return this.mergePointsWorkers.stream().mapToLong(metric).sum();
+	}
+
+	/**
+	 * Gets the maximum of a metric over all shards.
+	 *
+	 * @param metric the metric of one {@link MergePointsWorker}
+	 * @return the maximum
+	 */
+	public long max(ToLongFunction<MergePointsWorker<T>> metric) {
+		return this.mergePointsWorkers.stream().mapToLong(metric).max().orElse(0);
 	}
 
 	/**
@@ -58,8 +93,13 @@ public abstract class QueueHandler<T extends Point> {
 	public String debugLog() {
 		var sb = new StringBuilder() //
 				.append(this.pointClass.getSimpleName()) //
-				.append(": ") //
-				.append(this.mergePointsWorker.debugLog());
+				.append(": ");
+		for (var i = 0; i < this.mergePointsWorkers.size(); i++) {
+			if (i > 0) {
+				sb.append(" ");
+			}
+			sb.append(this.mergePointsWorkers.get(i).debugLog());
+		}
 		return sb.toString();
 	}
 
@@ -67,10 +107,13 @@ public abstract class QueueHandler<T extends Point> {
 			throws OpenemsNamedException;
 
 	/**
-	 * Activates the {@link MergePointsWorker}.
+	 * Activates the {@link MergePointsWorker}s.
 	 */
 	public void activate() {
-		this.mergePointsWorker.activate("TimescaleDB-Merge-" + this.pointClass.getSimpleName());
+		for (var i = 0; i < this.mergePointsWorkers.size(); i++) {
+			this.mergePointsWorkers.get(i).activate(
+					"TimescaleDB-Merge-" + this.pointClass.getSimpleName() + "-" + this.priority.name() + "-" + i);
+		}
 	}
 
 	/**
@@ -79,26 +122,25 @@ public abstract class QueueHandler<T extends Point> {
 	 * @param type       the type of the handler
 	 * @param priority   the priority of the handler
 	 * @param dataSource the dataSource to get database connections
-	 * @param executor   the executor to execute writes
+	 * @param shards     the number of parallel writers
 	 * @return the handler
 	 */
-	public static QueueHandler<?> of(Type type, Priority priority, HikariDataSource dataSource,
-			ExecutorService executor) {
+	public static QueueHandler<?> of(Type type, Priority priority, HikariDataSource dataSource, int shards) {
 		switch (type) {
 		case INTEGER:
-			return new IntQueueHandler(dataSource, executor, type, priority);
+			return new IntQueueHandler(dataSource, type, priority, shards);
 		case FLOAT:
-			return new FloatQueueHandler(dataSource, executor, type, priority);
+			return new FloatQueueHandler(dataSource, type, priority, shards);
 		case STRING:
-			return new StringQueueHandler(dataSource, executor, type, priority);
+			return new StringQueueHandler(dataSource, type, priority, shards);
 		}
 		return null;
 	}
 
 	public static class IntQueueHandler extends QueueHandler<IntPoint> {
 
-		public IntQueueHandler(HikariDataSource dataSource, ExecutorService executor, Type type, Priority priority) {
-			super(new MergePointsWorker<IntPoint>(dataSource, executor, type, priority), IntPoint.class);
+		public IntQueueHandler(HikariDataSource dataSource, Type type, Priority priority, int shards) {
+			super(dataSource, type, priority, shards, IntPoint.class);
 		}
 
 		@Override
@@ -115,8 +157,8 @@ public abstract class QueueHandler<T extends Point> {
 
 	public static class FloatQueueHandler extends QueueHandler<FloatPoint> {
 
-		public FloatQueueHandler(HikariDataSource dataSource, ExecutorService executor, Type type, Priority priority) {
-			super(new MergePointsWorker<FloatPoint>(dataSource, executor, type, priority), FloatPoint.class);
+		public FloatQueueHandler(HikariDataSource dataSource, Type type, Priority priority, int shards) {
+			super(dataSource, type, priority, shards, FloatPoint.class);
 		}
 
 		@Override
@@ -133,8 +175,8 @@ public abstract class QueueHandler<T extends Point> {
 
 	public static class StringQueueHandler extends QueueHandler<StringPoint> {
 
-		public StringQueueHandler(HikariDataSource dataSource, ExecutorService executor, Type type, Priority priority) {
-			super(new MergePointsWorker<StringPoint>(dataSource, executor, type, priority), StringPoint.class);
+		public StringQueueHandler(HikariDataSource dataSource, Type type, Priority priority, int shards) {
+			super(dataSource, type, priority, shards, StringPoint.class);
 		}
 
 		@Override
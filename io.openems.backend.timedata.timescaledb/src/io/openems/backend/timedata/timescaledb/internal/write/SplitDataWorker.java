@@ -167,6 +167,10 @@ public class SplitDataWorker extends AbstractImmediateWorker {
 		}
 	}
 
+	public int getQueueDepth() {
+		return this.sourceQueue.size();
+	}
+
 	/**
 	 * Returns a DebugLog String.
 	 * 
@@ -4,6 +4,7 @@ import java.sql.SQLException;
 import java.util.EnumMap;
 import java.util.HashSet;
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadPoolExecutor;
@@ -34,18 +35,23 @@ import io.openems.common.worker.AbstractWorker;
 public class TimescaledbWriteHandler {
 
 	public static final int POINTS_QUEUE_SIZE = 1_000_000;
-	public static final int MAX_POINTS_PER_WRITE = 10_000;
+	public static final int MIN_POINTS_PER_WRITE = 1_000;
+	public static final int INITIAL_POINTS_PER_WRITE = 10_000;
+	public static final int MAX_POINTS_PER_WRITE = 100_000;
 	public static final int MAX_AGGREGATE_WAIT = 10; // [s]
+	public static final int TARGET_WRITE_LATENCY = 2_000; // [ms]
 
 	private final Logger log = LoggerFactory.getLogger(TimescaledbWriteHandler.class);
 
 	/**
-	 * A {@link HikariDataSource} used solely for writes.
+	 * A {@link HikariDataSource} used solely for writes. Sized by
+	 * {@link #getWritePoolSize(int, int)}.
 	 */
 	private final HikariDataSource dataSource;
 
 	/**
-	 * A {@link Executor} used solely for writes.
+	 * A {@link Executor} used for Schema updates of new Channels. Points are
+	 * written by the sharded {@link MergePointsWorker}s.
 	 */
 	private final ThreadPoolExecutor executor;
 
@@ -56,7 +62,7 @@ public class TimescaledbWriteHandler {
 	// #1 step: split data to points
 	private final SplitDataWorker splitPointsWorker;
 
-	// #2 step: split points to typed queues
+	// #2 step: split points to typed and sharded queues
 	private final DoubleKeyMap<Type, Priority, QueueHandler<?>> queueHandler;
 
 	public TimescaledbWriteHandler(Config config, Consumer<Schema> onInitializedSchema) throws SQLException {
@@ -64,7 +70,7 @@ public class TimescaledbWriteHandler {
 
 		this.dataSource = Utils.getDataSource(//
 				config.host(), config.port(), config.database(), //
-				config.user(), config.password(), config.poolSize());
+				config.user(), config.password(), getWritePoolSize(config.poolSize(), config.writeShards()));
 
 		this.executor = (ThreadPoolExecutor) Executors.newFixedThreadPool(config.poolSize(),
 				new ThreadFactoryBuilder().setNameFormat("TimescaleDB-%d").build());
@@ -75,7 +81,7 @@ public class TimescaledbWriteHandler {
 		for (var type : Type.values()) {
 			for (var priority : Priority.values()) {
 				this.queueHandler.put(type, priority, //
-						QueueHandler.of(type, priority, this.dataSource, this.executor));
+						QueueHandler.of(type, priority, this.dataSource, config.writeShards()));
 			}
 		}
 
@@ -92,6 +98,24 @@ public class TimescaledbWriteHandler {
 		this.splitPointsWorker.activate("TimescaleDB-SplitPoints");
 	}
 
+	/**
+	 * Gets the size of the connection pool for writes.
+	 *
+	 * <p>
+	 * Every {@link MergePointsWorker} writes synchronously with its own connection,
+	 * i.e. there are 'writeShards' writers per {@link Type} and {@link Priority}.
+	 * The Schema updates of the {@link Executor} with 'poolSize' threads need
+	 * further connections. With a smaller pool the writers would block each other
+	 * while waiting for a connection.
+	 *
+	 * @param poolSize    the configured number of threads
+	 * @param writeShards the configured number of Write-Shards
+	 * @return the maximum pool size
+	 */
+	public static int getWritePoolSize(int poolSize, int writeShards) {
+		return poolSize + Type.values().length * Priority.values().length * Math.max(1, writeShards);
+	}
+
 	private final Stream<QueueHandler<?>> streamHandler() {
 		return this.queueHandler.values().stream() //
 				.flatMap(t -> t.values().stream()); //
@@ -104,7 +128,7 @@ public class TimescaledbWriteHandler {
 		ThreadPoolUtils.shutdownAndAwaitTermination(this.executor, 0);
 		this.splitPointsWorker.deactivate();
 		this.streamHandler() //
-				.map(QueueHandler::getMergePointsWorker) //
+				.flatMap(h -> h.getMergePointsWorkers().stream()) //
 				.forEach(AbstractWorker::deactivate);
 		if (this.dataSource != null) {
 			this.dataSource.close();
@@ -154,7 +178,18 @@ public class TimescaledbWriteHandler {
 	 * @return metrics
 	 */
 	public Map<String, Long> debugMetrics() {
-		return ThreadPoolUtils.debugMetrics(this.executor);
+		var result = new TreeMap<String, Long>(ThreadPoolUtils.debugMetrics(this.executor));
+		result.put("SplitQueueDepth", (long) this.splitPointsWorker.getQueueDepth());
+		this.queueHandler.forEach((type, t) -> t.forEach((priority, h) -> {
+			var prefix = type.name() + "/" + priority.name() + "/";
+			result.put(prefix + "QueueDepth", h.sum(MergePointsWorker::getQueueDepth));
+			result.put(prefix + "Written", h.sum(MergePointsWorker::getCountPoints));
+			result.put(prefix + "Dropped", h.sum(MergePointsWorker::getCountDropped));
+			result.put(prefix + "Failed", h.sum(MergePointsWorker::getCountFailed));
+			result.put(prefix + "WriteLatencyMax", h.max(MergePointsWorker::getLastWriteLatency));
+			result.put(prefix + "BatchSizeMax", h.max(MergePointsWorker::getBatchSize));
+		}));
+		return result;
 	}
 
 	private boolean enableWriteToTimescaledb(String edgeId) {
@@ -14,19 +14,21 @@ import de.bytefish.pgbulkinsert.util.PostgreSqlUtils;
 import io.openems.backend.timedata.timescaledb.internal.Priority;
 import io.openems.backend.timedata.timescaledb.internal.Type;
 
-public class WritePointsHandler implements Runnable {
+/**
+ * Writes Points of one {@link Type} and {@link Priority} via a PostgreSQL COPY
+ * session on a pooled connection.
+ */
+public class WritePointsHandler {
 
 	private final Logger log = LoggerFactory.getLogger(WritePointsHandler.class);
 
 	private final HikariDataSource dataSource;
 	private final Type type;
-	private final List<Point> points;
 	private final Table table;
 
-	public WritePointsHandler(HikariDataSource dataSource, Type type, Priority priority, List<Point> points) {
+	public WritePointsHandler(HikariDataSource dataSource, Type type, Priority priority) {
 		this.dataSource = dataSource;
 		this.type = type;
-		this.points = points;
 
 		this.table = new SimpleRowWriter.Table(null, type.getRawTableName(priority), new String[] { //
 				"time", //
@@ -35,15 +37,21 @@ public class WritePointsHandler implements Runnable {
 		});
 	}
 
-	@Override
-	public void run() {
+	/**
+	 * Writes the Points.
+	 *
+	 * @param points the Points
+	 * @return true on success; false on error
+	 */
+	public boolean write(List<Point> points) {
 		try (//
 				var con = this.dataSource.getConnection();
 				SimpleRowWriter writer = new SimpleRowWriter(this.table, PostgreSqlUtils.getPGConnection(con)) //
 		) {
-			for (var point : this.points) {
+			for (var point : points) {
 				writer.startRow(this.type.fillRow(point));
 			}
+			return true;
 
 		} catch (SQLException e) {
 			// 'Expected errors', e.g. PostgreSQL server stopped
@@ -56,6 +64,7 @@ public class WritePointsHandler implements Runnable {
 			e.printStackTrace();
 
 		}
+		return false;
 	}
 
 }
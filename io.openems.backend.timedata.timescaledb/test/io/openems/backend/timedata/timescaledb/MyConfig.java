@@ -14,6 +14,7 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 		private String database;
 		private boolean isReadOnly;
 		private int poolSize;
+		private int writeShards;
 
 		private Builder() {
 		}
@@ -58,6 +59,11 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 			return this;
 		}
 
+		public Builder setWriteShards(int writeShards) {
+			this.writeShards = writeShards;
+			return this;
+		}
+
 		public MyConfig build() {
 			return new MyConfig(this);
 		}
@@ -114,4 +120,9 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 		return this.builder.poolSize;
 	}
 
+	@Override
+	public int writeShards() {
+		return this.builder.writeShards;
+	}
+
 }
@@ -28,6 +28,7 @@ public class TimescaledbImplTest {
 				.setDatabase(Credentials.DATABASE) //
 				.setReadOnly(true) //
 				.setPoolSize(10) //
+				.setWriteShards(4) //
 				.build();
 		TimedataTimescaleDb sut = new TimedataTimescaleDb(metadata, config);
 
@@ -0,0 +1,45 @@
+package io.openems.backend.timedata.timescaledb.internal.write;
+
+import static io.openems.backend.timedata.timescaledb.internal.write.MergePointsWorker.adaptBatchSize;
+import static io.openems.backend.timedata.timescaledb.internal.write.TimescaledbWriteHandler.MAX_POINTS_PER_WRITE;
+import static io.openems.backend.timedata.timescaledb.internal.write.TimescaledbWriteHandler.MIN_POINTS_PER_WRITE;
+import static io.openems.backend.timedata.timescaledb.internal.write.TimescaledbWriteHandler.TARGET_WRITE_LATENCY;
+import static org.junit.Assert.assertEquals;
+
+import java.time.ZonedDateTime;
+
+import org.junit.Test;
+
+import io.openems.backend.timedata.timescaledb.internal.Priority;
+import io.openems.backend.timedata.timescaledb.internal.Type;
+import io.openems.backend.timedata.timescaledb.internal.write.Point.IntPoint;
+
+public class MergePointsWorkerTest {
+
+	@Test
+	public void testAdaptBatchSize() {
+		// Slow write -> halve
+		assertEquals(5_000, adaptBatchSize(10_000, TARGET_WRITE_LATENCY + 1, 0));
+		assertEquals(MIN_POINTS_PER_WRITE, adaptBatchSize(MIN_POINTS_PER_WRITE, TARGET_WRITE_LATENCY + 1, 0));
+
+		// Fast write with backlog -> grow
+		assertEquals(15_000, adaptBatchSize(10_000, 10, 20_000));
+		assertEquals(MAX_POINTS_PER_WRITE, adaptBatchSize(MAX_POINTS_PER_WRITE, 10, 1_000_000));
+
+		// Fast write without backlog -> keep
+		assertEquals(10_000, adaptBatchSize(10_000, 10, 5_000));
+	}
+
+	@Test
+	public void testOfferEvictsOldest() {
+		var sut = new MergePointsWorker<IntPoint>(null, Type.INTEGER, Priority.LOW, 2);
+		var time = ZonedDateTime.now();
+		sut.offer(new IntPoint(1, time, 1L));
+		sut.offer(new IntPoint(1, time, 2L));
+		sut.offer(new IntPoint(1, time, 3L));
+
+		assertEquals(2, sut.getQueueDepth());
+		assertEquals(1, sut.getCountDropped());
+	}
+
+}
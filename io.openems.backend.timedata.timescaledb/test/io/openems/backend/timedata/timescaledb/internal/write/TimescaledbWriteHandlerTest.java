@@ -0,0 +1,17 @@
+package io.openems.backend.timedata.timescaledb.internal.write;
+
+import static io.openems.backend.timedata.timescaledb.internal.write.TimescaledbWriteHandler.getWritePoolSize;
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+public class TimescaledbWriteHandlerTest {
+
+	@Test
+	public void testGetWritePoolSize() {
+		// 10 threads + 3 types x 2 priorities x 4 shards
+		assertEquals(34, getWritePoolSize(10, 4));
+		assertEquals(16, getWritePoolSize(10, 0));
+	}
+
+}
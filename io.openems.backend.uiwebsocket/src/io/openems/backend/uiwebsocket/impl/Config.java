@@ -3,6 +3,8 @@ package io.openems.backend.uiwebsocket.impl;
 import org.osgi.service.metatype.annotations.AttributeDefinition;
 import org.osgi.service.metatype.annotations.ObjectClassDefinition;
 
+import io.openems.common.websocket.ExecutionMode;
+
 @ObjectClassDefinition(//
 		name = "Ui.Websocket", //
 		description = "Configures the websocket server for OpenEMS UI")
@@ -11,8 +13,14 @@ import org.osgi.service.metatype.annotations.ObjectClassDefinition;
 	@AttributeDefinition(name = "Port", description = "The port of the websocket server.")
 	int port() default 8082;
 
-	@AttributeDefinition(name = "Number of Threads", description = "Pool-Size: the number of threads dedicated to handle the tasks")
+	@AttributeDefinition(name = "Number of Threads", description = "Pool-Size: the number of threads dedicated to handle the tasks. THREAD_PER_MESSAGE: the max number of threads if virtual threads are not supported (Java < 21).")
 	int poolSize() default 10;
 
+	@AttributeDefinition(name = "Execution Mode", description = "THREAD_POOL: handle messages in the fixed pool of threads; THREAD_PER_MESSAGE: handle every message in its own (virtual on Java 21+) thread, so slow requests do not block other sessions.")
+	ExecutionMode executionMode() default ExecutionMode.THREAD_POOL;
+
+	@AttributeDefinition(name = "Max concurrent messages per session", description = "Max number of messages of one session that are handled at the same time; further messages are queued. '0' for unbounded.")
+	int maxConcurrentMessagesPerSession() default 0;
+
 	String webconsole_configurationFactory_nameHint() default "Ui Websocket";
 }
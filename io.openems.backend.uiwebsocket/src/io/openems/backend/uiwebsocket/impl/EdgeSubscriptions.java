@@ -0,0 +1,71 @@
+package io.openems.backend.uiwebsocket.impl;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Index from Edge-ID to the UI sessions that subscribed the Edge.
+ *
+ * <p>
+ * Allows broadcasts for an Edge to touch only interested sessions instead of
+ * iterating all open connections. Maintained by {@link WsData} on subscribe,
+ * authenticate, logout and close.
+ */
+public class EdgeSubscriptions {
+
+	private final ConcurrentHashMap<String, Set<WsData>> subscribers = new ConcurrentHashMap<>();
+
+	/**
+	 * Updates the subscriptions of a session.
+	 *
+	 * @param wsData   the {@link WsData} of the session
+	 * @param previous the previously subscribed Edge-IDs
+	 * @param current  the currently subscribed Edge-IDs
+	 */
+	public void update(WsData wsData, Set<String> previous, Set<String> current) {
+		for (var edgeId : previous) {
+			if (!current.contains(edgeId)) {
+				this.subscribers.computeIfPresent(edgeId, (k, wsDatas) -> {
+					wsDatas.remove(wsData);
+					return wsDatas.isEmpty() ? null : wsDatas;
+				});
+			}
+		}
+		for (var edgeId : current) {
+			if (!previous.contains(edgeId)) {
+				this.subscribers.compute(edgeId, (k, wsDatas) -> {
+					if (wsDatas == null) {
+						wsDatas = ConcurrentHashMap.newKeySet();
+					}
+					wsDatas.add(wsData);
+					return wsDatas;
+				});
+			}
+		}
+	}
+
+	/**
+	 * Gets the sessions that subscribed an Edge.
+	 *
+	 * @param edgeId the Edge-ID
+	 * @return the {@link WsData}s; empty if there are none
+	 */
+	public Set<WsData> get(String edgeId) {
+		var result = this.subscribers.get(edgeId);
+		if (result == null) {
+			return Collections.emptySet();
+		}
+		return result;
+	}
+
+	/**
+	 * Gets the number of subscribed Edges.
+	 *
+	 * @return the number of Edge-IDs with at least one subscriber
+	 */
+	public int size() {
+		return this.subscribers.size();
+	}
+
+}
@@ -2,9 +2,10 @@ package io.openems.backend.uiwebsocket.impl;
 
 import static java.util.stream.Collectors.toUnmodifiableMap;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
+import java.util.SortedSet;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 
@@ -41,6 +42,8 @@ import io.openems.common.jsonrpc.base.AbstractJsonrpcRequest;
 import io.openems.common.jsonrpc.base.JsonrpcNotification;
 import io.openems.common.jsonrpc.base.JsonrpcRequest;
 import io.openems.common.jsonrpc.base.JsonrpcResponseSuccess;
+import io.openems.common.jsonrpc.notification.CurrentDataNotification;
+import io.openems.common.jsonrpc.notification.EdgeRpcNotification;
 
 @Designate(ocd = Config.class, factory = false)
 @Component(//
@@ -58,6 +61,9 @@ public class UiWebsocketImpl extends AbstractOpenemsBackendComponent
 
 	protected WebsocketServer server = null;
 
+	/** Index of Edge-ID to subscribed UI sessions. */
+	protected final EdgeSubscriptions edgeSubscriptions = new EdgeSubscriptions();
+
 	@Reference
 	protected volatile JsonRpcRequestHandler jsonRpcRequestHandler;
 
@@ -98,7 +104,8 @@ public class UiWebsocketImpl extends AbstractOpenemsBackendComponent
 	 */
 	private synchronized void startServer() {
 		if (this.server == null) {
-			this.server = new WebsocketServer(this, this.getName(), this.config.port(), this.config.poolSize());
+			this.server = new WebsocketServer(this, this.getName(), this.config.port(), this.config.poolSize(),
+					this.config.executionMode(), this.config.maxConcurrentMessagesPerSession());
 			this.server.start();
 		}
 	}
@@ -155,12 +162,15 @@ public class UiWebsocketImpl extends AbstractOpenemsBackendComponent
 		if (this.server == null) {
 			return;
 		}
-		var wsDatas = this.getWsDatasForEdgeId(edgeId);
-		for (WsData wsData : wsDatas) {
-			if (!wsData.isEdgeSubscribed(edgeId)) {
+		String payload = null; // serialize once; only if required
+		for (var wsData : this.edgeSubscriptions.get(edgeId)) {
+			if (!wsData.isEdgeSubscribed(edgeId) || !this.hasEdgeRole(wsData, edgeId)) {
 				continue;
 			}
-			wsData.send(notification);
+			if (payload == null) {
+				payload = notification.toString();
+			}
+			wsData.send(payload);
 		}
 	}
 
@@ -186,37 +196,17 @@ public class UiWebsocketImpl extends AbstractOpenemsBackendComponent
 	}
 
 	/**
-	 * Gets the WebSocket connection attachments of all connections accessing an
-	 * Edge-ID.
+	 * Does the authenticated User of a WebSocket connection have access to an
+	 * Edge-ID?.
 	 *
+	 * @param wsData the WebSocket attachment
 	 * @param edgeId the Edge-ID
-	 * @return the WsDatas; empty list if there are none
+	 * @return true if the User has a Role for the Edge
 	 */
-	private List<WsData> getWsDatasForEdgeId(String edgeId) {
-		var result = new ArrayList<WsData>();
-		var connections = this.server.getConnections();
-		for (var websocket : connections) {
-			WsData wsData = websocket.getAttachment();
-			if (wsData == null) {
-				continue;
-			}
-			// get attachment User-ID
-			var userIdOpt = wsData.getUserId();
-			if (userIdOpt.isPresent()) {
-				var userId = userIdOpt.get();
-				// get User for User-ID
-				var userOpt = this.metadata.getUser(userId);
-				if (userOpt.isPresent()) {
-					var user = userOpt.get();
-					var edgeRoleOpt = user.getRole(edgeId);
-					if (edgeRoleOpt.isPresent()) {
-						// User has access to this Edge-ID
-						result.add(wsData);
-					}
-				}
-			}
-		}
-		return result;
+	private boolean hasEdgeRole(WsData wsData, String edgeId) {
+		return wsData.getUser(this.metadata) //
+				.flatMap(user -> user.getRole(edgeId)) //
+				.isPresent();
 	}
 
 	@Override
@@ -233,12 +223,24 @@ public class UiWebsocketImpl extends AbstractOpenemsBackendComponent
 		if (this.server == null) {
 			return;
 		}
-		var connections = this.server.getConnections();
-		for (var websocket : connections) {
-			WsData wsData = websocket.getAttachment();
-			if (wsData != null) {
-				wsData.sendSubscribedChannels(edgeId, edgeCache);
+		// Sessions with the same subscribed Channels share one serialized payload
+		var payloads = new HashMap<SortedSet<String>, Optional<String>>();
+		for (var wsData : this.edgeSubscriptions.get(edgeId)) {
+			if (!wsData.isEdgeSubscribed(edgeId)) {
+				continue;
+			}
+			var channels = wsData.getSubscribedChannels(edgeId);
+			if (channels == null || channels.isEmpty()) {
+				continue;
 			}
+			var payload = payloads.computeIfAbsent(channels, c -> {
+				var values = edgeCache.getChannelValues(c).a();
+				if (values.isEmpty()) {
+					return Optional.empty();
+				}
+				return Optional.of(new EdgeRpcNotification(edgeId, new CurrentDataNotification(values)).toString());
+			});
+			payload.ifPresent(wsData::send);
 		}
 	}
 
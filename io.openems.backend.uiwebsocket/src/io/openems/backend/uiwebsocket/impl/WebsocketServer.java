@@ -4,6 +4,7 @@ import org.java_websocket.WebSocket;
 import org.slf4j.Logger;
 
 import io.openems.common.websocket.AbstractWebsocketServer;
+import io.openems.common.websocket.ExecutionMode;
 import io.openems.common.websocket.OnClose;
 import io.openems.common.websocket.OnOpen;
 
@@ -14,8 +15,9 @@ public class WebsocketServer extends AbstractWebsocketServer<WsData> {
 	private final OnNotification onNotification;
 	private final OnError onError;
 
-	public WebsocketServer(UiWebsocketImpl parent, String name, int port, int poolSize) {
-		super(name, port, poolSize);
+	public WebsocketServer(UiWebsocketImpl parent, String name, int port, int poolSize,
+			ExecutionMode executionMode, int maxConcurrentMessagesPerSession) {
+		super(name, port, poolSize, executionMode, maxConcurrentMessagesPerSession);
 		this.parent = parent;
 		this.onRequest = new OnRequest(parent);
 		this.onNotification = new OnNotification(parent);
@@ -24,7 +26,7 @@ public class WebsocketServer extends AbstractWebsocketServer<WsData> {
 
 	@Override
 	protected WsData createWsData(WebSocket ws) {
-		return new WsData(ws);
+		return new WsData(ws, this.parent.edgeSubscriptions);
 	}
 
 	@Override
@@ -2,7 +2,6 @@ package io.openems.backend.uiwebsocket.impl;
 
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -11,15 +10,10 @@ import java.util.UUID;
 
 import org.java_websocket.WebSocket;
 
-import com.google.gson.JsonElement;
-
-import io.openems.backend.common.edgewebsocket.EdgeCache;
 import io.openems.backend.common.metadata.Metadata;
 import io.openems.backend.common.metadata.User;
 import io.openems.common.exceptions.OpenemsError;
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
-import io.openems.common.jsonrpc.notification.CurrentDataNotification;
-import io.openems.common.jsonrpc.notification.EdgeRpcNotification;
 import io.openems.common.jsonrpc.request.SubscribeChannelsRequest;
 
 public class WsData extends io.openems.common.websocket.WsData {
@@ -42,37 +36,38 @@ public class WsData extends io.openems.common.websocket.WsData {
 		}
 
 		/**
-		 * Gets the values for subscribed Channels.
+		 * Gets the subscribed Channels.
 		 * 
-		 * @param edgeId    the Edge-ID
-		 * @param edgeCache the {@link EdgeCache}
-		 * @return a map of channel values
+		 * @param edgeId the Edge-ID
+		 * @return the Channel-Addresses; null if there are none
 		 */
-		public Map<String, JsonElement> getChannelValues(String edgeId, EdgeCache edgeCache) {
-			var subscribedChannels = this.subscribedChannels.get(edgeId);
-			if (subscribedChannels == null || subscribedChannels.isEmpty()) {
-				return Collections.emptyMap();
-			}
-
-			var result = edgeCache.getChannelValues(subscribedChannels);
-			return result.a();
+		public synchronized SortedSet<String> getSubscribedChannels(String edgeId) {
+			return this.subscribedChannels.get(edgeId);
 		}
 
-		protected void dispose() {
+		protected synchronized void dispose() {
 			this.subscribedChannels.clear();
 		}
 	}
 
 	private final UUID id = UUID.randomUUID();
 
+	private final EdgeSubscriptions edgeSubscriptions;
 	private final SubscribedChannels subscribedChannels = new SubscribedChannels();
 	private Optional<String> userId = Optional.empty();
 	private Optional<String> token = Optional.empty();
 
-	private Set<String> subscribedEdges = new HashSet<>();
+	private volatile Set<String> subscribedEdges = Collections.emptySet();
 
-	public WsData(WebSocket ws) {
+	public WsData(WebSocket ws, EdgeSubscriptions edgeSubscriptions) {
 		super(ws);
+		this.edgeSubscriptions = edgeSubscriptions;
+	}
+
+	@Override
+	public void dispose() {
+		super.dispose();
+		this.handleSubscribeEdgesRequest(Collections.emptySet());
 	}
 
 	/**
@@ -82,9 +77,20 @@ public class WsData extends io.openems.common.websocket.WsData {
 		this.unsetToken();
 		this.unsetUserId();
 		this.subscribedChannels.dispose();
+		this.handleSubscribeEdgesRequest(Collections.emptySet());
 	}
 
+	/**
+	 * Sets the authenticated User-ID. Subscriptions of a previously authenticated
+	 * User are dropped.
+	 * 
+	 * @param userId the User-ID
+	 */
 	public synchronized void setUserId(String userId) {
+		if (this.userId.isPresent() && !this.userId.get().equals(userId)) {
+			this.subscribedChannels.dispose();
+			this.handleSubscribeEdgesRequest(Collections.emptySet());
+		}
 		this.userId = Optional.ofNullable(userId);
 	}
 
@@ -179,28 +185,21 @@ public class WsData extends io.openems.common.websocket.WsData {
 	 * 
 	 * @param edgeIds the edges to subscribe
 	 */
-	public void handleSubscribeEdgesRequest(Set<String> edgeIds) {
+	public synchronized void handleSubscribeEdgesRequest(Set<String> edgeIds) {
 		// TODO maybe only add and remove on explicit request
-		this.subscribedEdges = edgeIds;
+		var previous = this.subscribedEdges;
+		this.subscribedEdges = Set.copyOf(edgeIds);
+		this.edgeSubscriptions.update(this, previous, this.subscribedEdges);
 	}
 
 	/**
-	 * Sends the subscribed Channels to the UI session.
+	 * Gets the subscribed Channels of an Edge.
 	 * 
-	 * @param edgeId    the Edge-ID
-	 * @param edgeCache the {@link EdgeCache} for the Edge-ID
+	 * @param edgeId the Edge-ID
+	 * @return the Channel-Addresses; null if there are none
 	 */
-	public void sendSubscribedChannels(String edgeId, EdgeCache edgeCache) {
-		if (!this.isEdgeSubscribed(edgeId)) {
-			return;
-		}
-		var values = this.subscribedChannels.getChannelValues(edgeId, edgeCache);
-		if (values.isEmpty()) {
-			return;
-		}
-		this.send(//
-				new EdgeRpcNotification(edgeId, //
-						new CurrentDataNotification(values)));
+	public SortedSet<String> getSubscribedChannels(String edgeId) {
+		return this.subscribedChannels.getSubscribedChannels(edgeId);
 	}
 
 	/**
@@ -1,6 +1,9 @@
 package io.openems.common.jsonrpc.base;
 
+import java.io.IOException;
+
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonWriter;
 
 /**
  * Represents a wrapper around JSON-RPC Notification for compatibility with
@@ -30,4 +33,9 @@ public class DeprecatedJsonrpcNotification extends JsonrpcNotification {
 		return this.jMessage;
 	}
 
+	@Override
+	public void writeTo(JsonWriter writer) throws IOException {
+		JsonrpcSerializer.write(writer, this.jMessage);
+	}
+
 }
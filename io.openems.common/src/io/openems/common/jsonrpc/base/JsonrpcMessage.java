@@ -1,6 +1,9 @@
 package io.openems.common.jsonrpc.base;
 
+import java.io.IOException;
+
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonWriter;
 
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.exceptions.OpenemsException;
@@ -72,12 +75,27 @@ public abstract class JsonrpcMessage {
 				.build();
 	}
 
+	/**
+	 * Writes this {@link JsonrpcMessage} to a {@link JsonWriter}.
+	 *
+	 * <p>
+	 * By default this writes {@link #toJsonObject()}. High-volume messages
+	 * override it to stream their content without building a {@link JsonObject}
+	 * tree; the output has to be identical.
+	 *
+	 * @param writer the {@link JsonWriter}
+	 * @throws IOException on error
+	 */
+	public void writeTo(JsonWriter writer) throws IOException {
+		JsonrpcSerializer.write(writer, this.toJsonObject());
+	}
+
 	/**
 	 * Returns this JsonrpcMessage as a JSON String.
 	 */
 	@Override
 	public String toString() {
-		return this.toJsonObject().toString();
+		return JsonrpcSerializer.toString(this);
 	}
 
 }
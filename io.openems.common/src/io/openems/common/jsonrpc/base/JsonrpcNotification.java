@@ -1,5 +1,9 @@
 package io.openems.common.jsonrpc.base;
 
+import java.io.IOException;
+
+import com.google.gson.stream.JsonWriter;
+
 /**
  * Represents a JSON-RPC Notification.
  *
@@ -20,4 +24,29 @@ public abstract class JsonrpcNotification extends AbstractJsonrpcRequest {
 		super(method);
 	}
 
+	@Override
+	public void writeTo(JsonWriter writer) throws IOException {
+		writer.beginObject();
+		writer.name("jsonrpc").value(JsonrpcMessage.JSONRPC_VERSION);
+		writer.name("method").value(this.getMethod());
+		writer.name("params");
+		this.writeParams(writer);
+		writer.endObject();
+	}
+
+	/**
+	 * Writes the params of this {@link JsonrpcNotification} to a
+	 * {@link JsonWriter}.
+	 *
+	 * <p>
+	 * By default this writes {@link #getParams()}; see
+	 * {@link JsonrpcMessage#writeTo(JsonWriter)}.
+	 *
+	 * @param writer the {@link JsonWriter}
+	 * @throws IOException on error
+	 */
+	protected void writeParams(JsonWriter writer) throws IOException {
+		JsonrpcSerializer.write(writer, this.getParams());
+	}
+
 }
@@ -0,0 +1,134 @@
+package io.openems.common.jsonrpc.base;
+
+import java.io.IOException;
+import java.io.Writer;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.Strictness;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonWriter;
+
+/**
+ * Serializes {@link JsonrpcMessage}s by streaming them through a
+ * {@link JsonWriter} into a reusable, thread-local buffer.
+ *
+ * <p>
+ * Messages that override {@link JsonrpcMessage#writeTo(JsonWriter)} are
+ * serialized without building an intermediate {@link JsonElement} tree. The
+ * output is identical to {@link JsonElement#toString()}.
+ */
+public final class JsonrpcSerializer {
+
+	/** Buffers that grew beyond this size are not retained. */
+	private static final int MAX_RETAINED_CAPACITY = 1024 * 1024; // [chars]
+
+	private static final TypeAdapter<JsonElement> JSON_ELEMENT = new Gson().getAdapter(JsonElement.class);
+
+	private static final ThreadLocal<StringBuilderWriter> BUFFER = ThreadLocal
+			.withInitial(() -> new StringBuilderWriter(1024));
+
+	private static class StringBuilderWriter extends Writer {
+
+		private final StringBuilder sb;
+		private boolean inUse = false;
+
+		private StringBuilderWriter(int capacity) {
+			this.sb = new StringBuilder(capacity);
+		}
+
+		@Override
+		public void write(int c) {
+			this.sb.append((char) c);
+		}
+
+		@Override
+		public void write(char[] cbuf, int off, int len) {
+			this.sb.append(cbuf, off, len);
+		}
+
+		@Override
+		public void write(String str, int off, int len) {
+			this.sb.append(str, off, off + len);
+		}
+
+		@Override
+		public Writer append(CharSequence csq) {
+			this.sb.append(csq);
+			return this;
+		}
+
+		@Override
+		public Writer append(CharSequence csq, int start, int end) {
+			this.sb.append(csq, start, end);
+			return this;
+		}
+
+		@Override
+		public void flush() {
+		}
+
+		@Override
+		public void close() {
+		}
+	}
+
+	private JsonrpcSerializer() {
+	}
+
+	/**
+	 * Serializes a {@link JsonrpcMessage} to a JSON String.
+	 *
+	 * @param message the {@link JsonrpcMessage}
+	 * @return the JSON String
+	 */
+	public static String toString(JsonrpcMessage message) {
+		var buffer = BUFFER.get();
+		if (buffer.inUse) {
+			// Reentrant call, e.g. from within writeTo()
+			buffer = new StringBuilderWriter(1024);
+		}
+		buffer.inUse = true;
+		try {
+			message.writeTo(newJsonWriter(buffer));
+			return buffer.sb.toString();
+
+		} catch (IOException e) {
+			// Writing to a StringBuilder never fails
+			throw new AssertionError(e);
+
+		} finally {
+			buffer.inUse = false;
+			buffer.sb.setLength(0);
+			if (buffer.sb.capacity() > MAX_RETAINED_CAPACITY) {
+				BUFFER.remove();
+			}
+		}
+	}
+
+	/**
+	 * Creates a {@link JsonWriter} with the same settings as
+	 * {@link JsonElement#toString()}.
+	 *
+	 * @param out the target {@link Writer}
+	 * @return the {@link JsonWriter}
+	 */
+	public static JsonWriter newJsonWriter(Writer out) {
+		var writer = new JsonWriter(out);
+		writer.setStrictness(Strictness.LENIENT);
+		return writer;
+	}
+
+	/**
+	 * Writes a {@link JsonElement} to a {@link JsonWriter}.
+	 *
+	 * @param writer  the {@link JsonWriter}
+	 * @param element the {@link JsonElement}; null is written as JSON null
+	 * @throws IOException on error
+	 */
+	public static void write(JsonWriter writer, JsonElement element) throws IOException {
+		JSON_ELEMENT.write(writer, element == null ? JsonNull.INSTANCE : element);
+	}
+
+}
@@ -1,13 +1,16 @@
 package io.openems.common.jsonrpc.notification;
 
+import java.io.IOException;
 import java.util.Map;
 
 import com.google.common.collect.TreeBasedTable;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonWriter;
 
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.jsonrpc.base.JsonrpcNotification;
+import io.openems.common.jsonrpc.base.JsonrpcSerializer;
 import io.openems.common.utils.JsonUtils;
 
 /**
@@ -88,6 +91,21 @@ public abstract class AbstractDataNotification extends JsonrpcNotification {
 		return p;
 	}
 
+	@Override
+	protected void writeParams(JsonWriter writer) throws IOException {
+		writer.beginObject();
+		for (var e1 : this.data.rowMap().entrySet()) {
+			writer.name(e1.getKey().toString());
+			writer.beginObject();
+			for (var e2 : e1.getValue().entrySet()) {
+				writer.name(e2.getKey());
+				JsonrpcSerializer.write(writer, e2.getValue());
+			}
+			writer.endObject();
+		}
+		writer.endObject();
+	}
+
 	public TreeBasedTable<Long, String, JsonElement> getData() {
 		return this.data;
 	}
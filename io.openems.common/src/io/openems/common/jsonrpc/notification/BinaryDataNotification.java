@@ -0,0 +1,379 @@
+package io.openems.common.jsonrpc.notification;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.google.common.collect.TreeBasedTable;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+
+import io.openems.common.exceptions.OpenemsException;
+
+/**
+ * Binary, columnar encoding of {@link TimestampedDataNotification}s and
+ * {@link AggregatedDataNotification}s.
+ *
+ * <p>
+ * Channel-Addresses are sent only once per session; afterwards they are
+ * referenced by their index in a dictionary that is built up identically by
+ * {@link Encoder} and {@link Decoder}. Both are stateful and have to be created
+ * per connection; messages have to be decoded in the order they were encoded.
+ * The dictionary is limited to {@link #MAX_DICTIONARY_SIZE} entries.
+ *
+ * <pre>
+ * byte      version
+ * byte      type (1 = timestampedData, 2 = aggregatedData)
+ * varint    number of new dictionary entries
+ *   string  Channel-Address (varint length + UTF-8)
+ * varint    number of timestamps
+ *   varlong timestamp, delta to the previous one (zig-zag)
+ *   varint  number of values n
+ *   n x varint dictionary index
+ *   n x byte   value type
+ *   n x        value (depending on type)
+ * </pre>
+ */
+public final class BinaryDataNotification {
+
+	/** Version of the binary format. */
+	public static final int VERSION = 1;
+
+	/**
+	 * HTTP header of the opening handshake. The Edge announces the supported
+	 * version; the Backend answers with the same version if it accepts binary data.
+	 */
+	public static final String HTTP_HEADER = "binaryData";
+
+	/** Maximum number of Channel-Addresses in the dictionary of a session. */
+	public static final int MAX_DICTIONARY_SIZE = 65_536;
+
+	private static final byte TYPE_TIMESTAMPED = 1;
+	private static final byte TYPE_AGGREGATED = 2;
+
+	private static final byte VALUE_NULL = 0;
+	private static final byte VALUE_FALSE = 1;
+	private static final byte VALUE_TRUE = 2;
+	private static final byte VALUE_LONG = 3;
+	private static final byte VALUE_FLOAT = 4;
+	private static final byte VALUE_DOUBLE = 5;
+	private static final byte VALUE_STRING = 6;
+	private static final byte VALUE_JSON = 7;
+
+	private BinaryDataNotification() {
+	}
+
+	/**
+	 * Encodes {@link AbstractDataNotification}s for one session.
+	 *
+	 * <p>
+	 * New Channel-Addresses of an encoded message are added to the dictionary only
+	 * on {@link #commit()}, i.e. after the message was sent successfully.
+	 * Otherwise they are sent again with the next message.
+	 */
+	public static final class Encoder {
+
+		private final Map<String, Integer> dictionary = new HashMap<>();
+		private final ByteArrayOutputStream out = new ByteArrayOutputStream(1024);
+		private final Map<String, Integer> newEntries = new LinkedHashMap<>();
+
+		/**
+		 * Encodes a {@link TimestampedDataNotification} or
+		 * {@link AggregatedDataNotification}.
+		 *
+		 * <p>
+		 * Call {@link #commit()} after the encoded bytes were sent successfully.
+		 *
+		 * @param notification the {@link AbstractDataNotification}
+		 * @return the encoded bytes; null if the dictionary would exceed
+		 *         {@link BinaryDataNotification#MAX_DICTIONARY_SIZE} entries
+		 * @throws IllegalArgumentException if the notification type is not supported
+		 */
+		public synchronized byte[] encode(AbstractDataNotification notification) {
+			final byte type;
+			if (notification instanceof TimestampedDataNotification) {
+				type = TYPE_TIMESTAMPED;
+			} else if (notification instanceof AggregatedDataNotification) {
+				type = TYPE_AGGREGATED;
+			} else {
+				throw new IllegalArgumentException(
+						"Unsupported notification " + notification.getClass().getSimpleName());
+			}
+			final var data = notification.getData();
+
+			// Collect new dictionary entries
+			this.newEntries.clear();
+			for (var address : data.columnKeySet()) {
+				if (!this.dictionary.containsKey(address)) {
+					this.newEntries.put(address, this.dictionary.size() + this.newEntries.size());
+				}
+			}
+			if (this.dictionary.size() + this.newEntries.size() > MAX_DICTIONARY_SIZE) {
+				this.newEntries.clear();
+				return null;
+			}
+
+			this.out.reset();
+			this.out.write(VERSION);
+			this.out.write(type);
+			this.writeVarLong(this.newEntries.size());
+			for (var address : this.newEntries.keySet()) {
+				this.writeString(address);
+			}
+
+			this.writeVarLong(data.rowKeySet().size());
+			var previousTimestamp = 0L;
+			for (var row : data.rowMap().entrySet()) {
+				var timestamp = row.getKey();
+				this.writeVarLong(zigZag(timestamp - previousTimestamp));
+				previousTimestamp = timestamp;
+
+				var values = row.getValue();
+				this.writeVarLong(values.size());
+				for (var address : values.keySet()) {
+					var index = this.dictionary.get(address);
+					this.writeVarLong(index != null ? index : this.newEntries.get(address));
+				}
+				for (var value : values.values()) {
+					this.out.write(getValueType(value));
+				}
+				for (var value : values.values()) {
+					this.writeValue(value);
+				}
+			}
+			return this.out.toByteArray();
+		}
+
+		/**
+		 * Adds the new Channel-Addresses of the last encoded message to the
+		 * dictionary. Must be called after the message was sent successfully.
+		 */
+		public synchronized void commit() {
+			this.dictionary.putAll(this.newEntries);
+			this.newEntries.clear();
+		}
+
+		private void writeValue(JsonElement value) {
+			switch (getValueType(value)) {
+			case VALUE_NULL, VALUE_FALSE, VALUE_TRUE -> {
+			}
+			case VALUE_LONG -> this.writeVarLong(zigZag(value.getAsLong()));
+			case VALUE_FLOAT -> this.writeInt(Float.floatToIntBits(value.getAsFloat()));
+			case VALUE_DOUBLE -> this.writeLong(Double.doubleToLongBits(value.getAsDouble()));
+			case VALUE_STRING -> this.writeString(value.getAsString());
+			default -> this.writeString(value.toString());
+			}
+		}
+
+		private void writeVarLong(long value) {
+			while ((value & ~0x7FL) != 0) {
+				this.out.write((int) ((value & 0x7F) | 0x80));
+				value >>>= 7;
+			}
+			this.out.write((int) value);
+		}
+
+		private void writeInt(int value) {
+			for (var shift = 24; shift >= 0; shift -= 8) {
+				this.out.write(value >>> shift);
+			}
+		}
+
+		private void writeLong(long value) {
+			for (var shift = 56; shift >= 0; shift -= 8) {
+				this.out.write((int) (value >>> shift));
+			}
+		}
+
+		private void writeString(String value) {
+			var bytes = value.getBytes(StandardCharsets.UTF_8);
+			this.writeVarLong(bytes.length);
+			this.out.write(bytes, 0, bytes.length);
+		}
+	}
+
+	/**
+	 * Decodes {@link AbstractDataNotification}s of one session.
+	 *
+	 * <p>
+	 * New Channel-Addresses of a message are added to the dictionary only if the
+	 * complete message was decoded successfully. Lengths and counts are checked
+	 * against the remaining bytes of the message before anything is allocated.
+	 */
+	public static final class Decoder {
+
+		private final List<String> dictionary = new ArrayList<>();
+
+		/**
+		 * Decodes a binary message.
+		 *
+		 * @param buffer the {@link ByteBuffer}
+		 * @return a {@link TimestampedDataNotification} or
+		 *         {@link AggregatedDataNotification}
+		 * @throws OpenemsException on error
+		 */
+		public synchronized AbstractDataNotification decode(ByteBuffer buffer) throws OpenemsException {
+			try {
+				var version = buffer.get();
+				if (version != VERSION) {
+					throw new OpenemsException("Unsupported binary data version [" + version + "]");
+				}
+				var type = buffer.get();
+
+				// Every entry takes at least one byte
+				var newEntries = readLength(buffer);
+				if (newEntries > MAX_DICTIONARY_SIZE - this.dictionary.size()) {
+					throw new OpenemsException("Binary data dictionary exceeds [" + MAX_DICTIONARY_SIZE + "] entries");
+				}
+				var staged = new ArrayList<String>(newEntries);
+				for (var i = 0; i < newEntries; i++) {
+					staged.add(readString(buffer));
+				}
+
+				var data = TreeBasedTable.<Long, String, JsonElement>create();
+				var rows = readLength(buffer);
+				var timestamp = 0L;
+				for (var row = 0; row < rows; row++) {
+					timestamp += unZigZag(readVarLong(buffer));
+					// Every value takes at least one byte for index and one for type
+					var size = readLength(buffer);
+					if (size > buffer.remaining() / 2) {
+						throw new IllegalStateException("Invalid number of values [" + size + "]");
+					}
+					var addresses = new String[size];
+					for (var i = 0; i < size; i++) {
+						addresses[i] = this.lookup(staged, readVarInt(buffer));
+					}
+					var types = new byte[size];
+					buffer.get(types);
+					for (var i = 0; i < size; i++) {
+						data.put(timestamp, addresses[i], readValue(buffer, types[i]));
+					}
+				}
+
+				final AbstractDataNotification result = switch (type) {
+				case TYPE_TIMESTAMPED -> new TimestampedDataNotification(data);
+				case TYPE_AGGREGATED -> new AggregatedDataNotification(data);
+				default -> throw new OpenemsException("Unsupported binary data type [" + type + "]");
+				};
+				this.dictionary.addAll(staged);
+				return result;
+
+			} catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalStateException | ArithmeticException
+					| JsonParseException e) {
+				throw new OpenemsException("Unable to decode binary data: " + e.getClass().getSimpleName());
+			}
+		}
+
+		private String lookup(List<String> staged, int index) {
+			if (index < this.dictionary.size()) {
+				return this.dictionary.get(index);
+			}
+			return staged.get(index - this.dictionary.size());
+		}
+
+		private static JsonElement readValue(ByteBuffer buffer, byte type) throws OpenemsException {
+			return switch (type) {
+			case VALUE_NULL -> JsonNull.INSTANCE;
+			case VALUE_FALSE -> new JsonPrimitive(false);
+			case VALUE_TRUE -> new JsonPrimitive(true);
+			case VALUE_LONG -> new JsonPrimitive(unZigZag(readVarLong(buffer)));
+			case VALUE_FLOAT -> new JsonPrimitive(buffer.getFloat());
+			case VALUE_DOUBLE -> new JsonPrimitive(buffer.getDouble());
+			case VALUE_STRING -> new JsonPrimitive(readString(buffer));
+			case VALUE_JSON -> JsonParser.parseString(readString(buffer));
+			default -> throw new OpenemsException("Unsupported binary value type [" + type + "]");
+			};
+		}
+
+		private static long readVarLong(ByteBuffer buffer) {
+			var result = 0L;
+			for (var shift = 0; shift < 64; shift += 7) {
+				var b = buffer.get();
+				result |= (long) (b & 0x7F) << shift;
+				if ((b & 0x80) == 0) {
+					return result;
+				}
+			}
+			throw new IllegalStateException("VarLong is too long");
+		}
+
+		private static int readVarInt(ByteBuffer buffer) {
+			return Math.toIntExact(readVarLong(buffer));
+		}
+
+		/**
+		 * Reads a length or count that has to fit into the remaining bytes.
+		 *
+		 * @param buffer the {@link ByteBuffer}
+		 * @return the length
+		 * @throws IllegalStateException if the length is negative or exceeds the
+		 *                               remaining bytes
+		 */
+		private static int readLength(ByteBuffer buffer) {
+			var length = readVarInt(buffer);
+			if (length < 0 || length > buffer.remaining()) {
+				throw new IllegalStateException("Invalid length [" + length + "]");
+			}
+			return length;
+		}
+
+		private static String readString(ByteBuffer buffer) {
+			var bytes = new byte[readLength(buffer)];
+			buffer.get(bytes);
+			return new String(bytes, StandardCharsets.UTF_8);
+		}
+	}
+
+	private static byte getValueType(JsonElement value) {
+		if (value == null || value.isJsonNull()) {
+			return VALUE_NULL;
+		}
+		if (!value.isJsonPrimitive()) {
+			return VALUE_JSON;
+		}
+		var primitive = value.getAsJsonPrimitive();
+		if (primitive.isBoolean()) {
+			return primitive.getAsBoolean() ? VALUE_TRUE : VALUE_FALSE;
+		}
+		if (primitive.isString()) {
+			return VALUE_STRING;
+		}
+		var number = primitive.getAsNumber();
+		if (number instanceof Integer || number instanceof Long || number instanceof Short
+				|| number instanceof Byte) {
+			return VALUE_LONG;
+		}
+		if (number instanceof Float) {
+			return VALUE_FLOAT;
+		}
+		if (number instanceof Double) {
+			return VALUE_DOUBLE;
+		}
+		// e.g. LazilyParsedNumber or BigDecimal
+		try {
+			Long.parseLong(number.toString());
+			return VALUE_LONG;
+		} catch (NumberFormatException e) {
+			return VALUE_DOUBLE;
+		}
+	}
+
+	private static long zigZag(long value) {
+		return (value << 1) ^ (value >> 63);
+	}
+
+	private static long unZigZag(long value) {
+		return (value >>> 1) ^ -(value & 1);
+	}
+
+}
@@ -1,12 +1,15 @@
 package io.openems.common.jsonrpc.notification;
 
+import java.io.IOException;
 import java.util.Map;
 import java.util.Map.Entry;
 
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonWriter;
 
 import io.openems.common.jsonrpc.base.JsonrpcNotification;
+import io.openems.common.jsonrpc.base.JsonrpcSerializer;
 import io.openems.common.utils.JsonUtils;
 
 /**
@@ -40,4 +43,14 @@ public class CurrentDataNotification extends JsonrpcNotification {
 				.collect(JsonUtils.toJsonObject(Entry::getKey, Entry::getValue));
 	}
 
+	@Override
+	protected void writeParams(JsonWriter writer) throws IOException {
+		writer.beginObject();
+		for (var entry : this.data.entrySet()) {
+			writer.name(entry.getKey());
+			JsonrpcSerializer.write(writer, entry.getValue());
+		}
+		writer.endObject();
+	}
+
 }
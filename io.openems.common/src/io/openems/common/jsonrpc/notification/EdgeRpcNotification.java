@@ -1,6 +1,9 @@
 package io.openems.common.jsonrpc.notification;
 
+import java.io.IOException;
+
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonWriter;
 
 import io.openems.common.jsonrpc.base.JsonrpcNotification;
 import io.openems.common.utils.JsonUtils;
@@ -40,6 +43,15 @@ public class EdgeRpcNotification extends JsonrpcNotification {
 				.build();
 	}
 
+	@Override
+	protected void writeParams(JsonWriter writer) throws IOException {
+		writer.beginObject();
+		writer.name("edgeId").value(this.edgeId);
+		writer.name("payload");
+		this.payload.writeTo(writer);
+		writer.endObject();
+	}
+
 	public String getEdgeId() {
 		return this.edgeId;
 	}
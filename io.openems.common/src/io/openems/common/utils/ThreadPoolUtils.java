@@ -2,12 +2,17 @@ package io.openems.common.utils;
 
 import java.util.Map;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
 public class ThreadPoolUtils {
 
 	private static final Logger LOG = LoggerFactory.getLogger(ThreadPoolUtils.class);
@@ -92,4 +97,36 @@ public class ThreadPoolUtils {
 		);
 	}
 
+	/**
+	 * Creates an {@link ExecutorService} that starts a new thread per task.
+	 *
+	 * <p>
+	 * Uses virtual threads if the Java runtime supports them (Java 21+); otherwise
+	 * a pool of at most maxPlatformThreads platform threads that are kept alive
+	 * for 60 seconds. Further tasks are queued.
+	 *
+	 * @param name               the name prefix of the threads
+	 * @param maxPlatformThreads the max number of threads if virtual threads are
+	 *                           not supported
+	 * @return the {@link ExecutorService}
+	 */
+	public static ExecutorService newThreadPerTaskExecutor(String name, int maxPlatformThreads) {
+		try {
+			// Accessed via reflection to stay compatible with Java 17
+			var ofVirtual = Thread.class.getMethod("ofVirtual").invoke(null);
+			var builderClass = Class.forName("java.lang.Thread$Builder");
+			var builder = builderClass.getMethod("name", String.class, long.class).invoke(ofVirtual, name + "-", 0L);
+			var factory = (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+			return (ExecutorService) Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class)
+					.invoke(null, factory);
+		} catch (ReflectiveOperationException e) {
+			LOG.info("Virtual threads are not supported by this Java runtime. Using platform threads for [" + name
+					+ "]");
+		}
+		var executor = new ThreadPoolExecutor(maxPlatformThreads, maxPlatformThreads, 60L, TimeUnit.SECONDS,
+				new LinkedBlockingQueue<>(), new ThreadFactoryBuilder().setNameFormat(name + "-%d").build());
+		executor.allowCoreThreadTimeOut(true);
+		return executor;
+	}
+
 }
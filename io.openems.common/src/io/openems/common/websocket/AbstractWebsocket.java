@@ -127,6 +127,29 @@ public abstract class AbstractWebsocket<T extends WsData> {
 		}
 	}
 
+	/**
+	 * Sends binary data to the {@link WebSocket}. Returns true if sending was
+	 * successful, otherwise false.
+	 *
+	 * @param ws   the {@link WebSocket}
+	 * @param data the binary data
+	 * @return true if sending was successful
+	 */
+	protected final boolean sendBinary(WebSocket ws, byte[] data) {
+		if (!ws.isOpen()) {
+			return false;
+		}
+
+		try {
+			ws.send(data);
+			return true;
+
+		} catch (WebsocketNotConnectedException e) {
+			// Fallback for race condition if Connection was closed inbetween
+			return false;
+		}
+	}
+
 	private void sendMessageFailedLog(WebSocket ws, JsonrpcMessage message) {
 		this.logWarn(this.log, new StringBuilder() //
 				.append("[").append(generateWsDataString(ws)) //
@@ -163,6 +163,17 @@ public abstract class AbstractWebsocketClient<T extends WsData> extends Abstract
 		return this.sendMessage(this.ws, message);
 	}
 
+	/**
+	 * Sends binary data to the {@link WebSocket}. Returns true if sending was
+	 * successful, otherwise false.
+	 *
+	 * @param data the binary data
+	 * @return true if sending was successful
+	 */
+	public boolean sendBinary(byte[] data) {
+		return this.sendBinary(this.ws, data);
+	}
+
 	@Override
 	protected OnInternalError getOnInternalError() {
 		return (t, wsDataString) -> {
@@ -1,9 +1,11 @@
 package io.openems.common.websocket;
 
 import static io.openems.common.utils.ThreadPoolUtils.shutdownAndAwaitTermination;
+import static io.openems.common.websocket.WebsocketUtils.generateWsDataString;
 
 import java.net.BindException;
 import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
@@ -14,13 +16,18 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadPoolExecutor;
 
 import org.java_websocket.WebSocket;
+import org.java_websocket.drafts.Draft;
+import org.java_websocket.exceptions.InvalidDataException;
+import org.java_websocket.framing.CloseFrame;
 import org.java_websocket.handshake.ClientHandshake;
+import org.java_websocket.handshake.ServerHandshakeBuilder;
 import org.java_websocket.server.WebSocketServer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.jsonrpc.base.JsonrpcMessage;
 import io.openems.common.utils.ThreadPoolUtils;
 
@@ -29,7 +36,12 @@ public abstract class AbstractWebsocketServer<T extends WsData> extends Abstract
 	/**
 	 * Shared {@link ExecutorService}.
 	 */
-	private final ThreadPoolExecutor executor;
+	private final ExecutorService executor;
+	private final ExecutionMode executionMode;
+	/** Max concurrently handled messages per session; 0 for unbounded. */
+	private final int maxConcurrentMessagesPerSession;
+	private final Map<WebSocket, SessionExecutor> sessionExecutors = new ConcurrentHashMap<>();
+	private final RequestMetrics requestMetrics = new RequestMetrics();
 
 	private final Logger log = LoggerFactory.getLogger(AbstractWebsocketServer.class);
 	private final int port;
@@ -44,9 +56,36 @@ public abstract class AbstractWebsocketServer<T extends WsData> extends Abstract
 	 * @param poolSize number of threads dedicated to handle the tasks
 	 */
 	protected AbstractWebsocketServer(String name, int port, int poolSize) {
+		this(name, port, poolSize, ExecutionMode.THREAD_POOL, 0);
+	}
+
+	/**
+	 * Construct an {@link AbstractWebsocketServer}.
+	 *
+	 * @param name                            to identify this server
+	 * @param port                            to listen on
+	 * @param poolSize                        number of threads dedicated to
+	 *                                        handle the tasks in
+	 *                                        {@link ExecutionMode#THREAD_POOL};
+	 *                                        max number of platform threads in
+	 *                                        {@link ExecutionMode#THREAD_PER_MESSAGE}
+	 *                                        if virtual threads are not
+	 *                                        supported
+	 * @param executionMode                   the {@link ExecutionMode}
+	 * @param maxConcurrentMessagesPerSession max number of messages of one
+	 *                                        session that are handled at the
+	 *                                        same time; 0 for unbounded
+	 */
+	protected AbstractWebsocketServer(String name, int port, int poolSize, ExecutionMode executionMode,
+			int maxConcurrentMessagesPerSession) {
 		super(name);
-		this.executor = (ThreadPoolExecutor) Executors.newFixedThreadPool(poolSize,
+		this.executionMode = executionMode;
+		this.maxConcurrentMessagesPerSession = maxConcurrentMessagesPerSession;
+		this.executor = switch (executionMode) {
+		case THREAD_POOL -> Executors.newFixedThreadPool(poolSize,
 				new ThreadFactoryBuilder().setNameFormat(name + "-%d").build());
+		case THREAD_PER_MESSAGE -> ThreadPoolUtils.newThreadPerTaskExecutor(name, poolSize);
+		};
 
 		this.port = port;
 		this.ws = new WebSocketServer(new InetSocketAddress(port),
@@ -71,15 +110,47 @@ public abstract class AbstractWebsocketServer<T extends WsData> extends Abstract
 
 			@Override
 			public void onMessage(WebSocket ws, String message) {
-				AbstractWebsocketServer.this.execute(new OnMessageHandler(//
+				AbstractWebsocketServer.this.executeMessage(ws, new OnMessageHandler(//
 						ws, message, //
-						AbstractWebsocketServer.this.getOnRequest(), //
+						AbstractWebsocketServer.this.getMeasuredOnRequest(), //
+						AbstractWebsocketServer.this.getOnNotification(), //
+						AbstractWebsocketServer.this::sendMessage, //
+						AbstractWebsocketServer.this::handleInternalError, //
+						AbstractWebsocketServer.this::logWarn));
+			}
+
+			@Override
+			public void onMessage(WebSocket ws, ByteBuffer message) {
+				// Decode in the order of arrival; handle asynchronously
+				final JsonrpcMessage decoded;
+				try {
+					decoded = AbstractWebsocketServer.this.decodeBinaryMessage(ws, message);
+				} catch (Throwable t) {
+					// Edge and Backend state (e.g. a dictionary) might have diverged
+					AbstractWebsocketServer.this.handleInternalError(t, generateWsDataString(ws));
+					ws.close(CloseFrame.PROTOCOL_ERROR, "Unable to decode binary message");
+					return;
+				}
+				if (decoded == null) {
+					return;
+				}
+				AbstractWebsocketServer.this.executeMessage(ws, new OnMessageHandler(//
+						ws, decoded, //
+						AbstractWebsocketServer.this.getMeasuredOnRequest(), //
 						AbstractWebsocketServer.this.getOnNotification(), //
 						AbstractWebsocketServer.this::sendMessage, //
 						AbstractWebsocketServer.this::handleInternalError, //
 						AbstractWebsocketServer.this::logWarn));
 			}
 
+			@Override
+			public ServerHandshakeBuilder onWebsocketHandshakeReceivedAsServer(WebSocket conn, Draft draft,
+					ClientHandshake request) throws InvalidDataException {
+				var response = super.onWebsocketHandshakeReceivedAsServer(conn, draft, request);
+				AbstractWebsocketServer.this.onHandshake(request, response);
+				return response;
+			}
+
 			@Override
 			public void onError(WebSocket ws, Exception ex) {
 				AbstractWebsocketServer.this.execute(new OnErrorHandler(//
@@ -90,6 +161,7 @@ public abstract class AbstractWebsocketServer<T extends WsData> extends Abstract
 
 			@Override
 			public void onClose(WebSocket ws, int code, String reason, boolean remote) {
+				AbstractWebsocketServer.this.sessionExecutors.remove(ws);
 				AbstractWebsocketServer.this.execute(new OnCloseHandler(//
 						ws, code, reason, remote, //
 						AbstractWebsocketServer.this.getOnClose(), //
@@ -135,15 +207,49 @@ public abstract class AbstractWebsocketServer<T extends WsData> extends Abstract
 		this.ws.setReuseAddr(true);
 	}
 
+	/**
+	 * Decodes a binary message. Called in the order of arrival per connection.
+	 *
+	 * <p>
+	 * By default binary messages are not supported and ignored. If decoding
+	 * fails, the connection is closed.
+	 *
+	 * @param ws      the {@link WebSocket}
+	 * @param message the binary message
+	 * @return the decoded {@link JsonrpcMessage}; null to ignore the message
+	 * @throws OpenemsNamedException on error
+	 */
+	protected JsonrpcMessage decodeBinaryMessage(WebSocket ws, ByteBuffer message) throws OpenemsNamedException {
+		this.logWarn(this.log, "[" + generateWsDataString(ws) + "] Unhandled binary message");
+		return null;
+	}
+
+	/**
+	 * Adds fields to the response of an opening handshake, e.g. to announce
+	 * supported features.
+	 *
+	 * @param request  the {@link ClientHandshake}
+	 * @param response the {@link ServerHandshakeBuilder}
+	 */
+	protected void onHandshake(ClientHandshake request, ServerHandshakeBuilder response) {
+	}
+
 	/**
 	 * Returns a debug log of the current websocket state.
 	 * 
 	 * @return the debug log string
 	 */
 	public String debugLog() {
-		return new StringBuilder("[monitor] ") //
-				.append("Connections: ").append(this.connections.size()).append(", ") //
-				.append(ThreadPoolUtils.debugLog(this.executor)) //
+		var b = new StringBuilder("[monitor] ") //
+				.append("Connections: ").append(this.connections.size()).append(", ");
+		if (this.executor instanceof ThreadPoolExecutor tpe) {
+			b.append(ThreadPoolUtils.debugLog(tpe)).append(", ");
+		} else {
+			b.append("Mode: ").append(this.executionMode).append(", ");
+		}
+		return b //
+				.append("Pending per Session: ").append(this.getPendingPerSession()).append(", ") //
+				.append("Active Requests: ").append(this.requestMetrics.getActive()) //
 				.toString();
 	}
 
@@ -154,11 +260,21 @@ public abstract class AbstractWebsocketServer<T extends WsData> extends Abstract
 	 */
 	public Map<String, Number> debugMetrics() {
 		final var metrics = new HashMap<String, Number>();
-		metrics.putAll(ThreadPoolUtils.debugMetrics(this.executor));
+		if (this.executor instanceof ThreadPoolExecutor tpe) {
+			metrics.putAll(ThreadPoolUtils.debugMetrics(tpe));
+		}
+		metrics.putAll(this.requestMetrics.debugMetrics());
 		metrics.put("Connections", this.connections.size());
+		metrics.put("PendingPerSession", this.getPendingPerSession());
 		return metrics;
 	}
 
+	private int getPendingPerSession() {
+		return this.sessionExecutors.values().stream() //
+				.mapToInt(SessionExecutor::getPending) //
+				.sum();
+	}
+
 	@Override
 	protected OnInternalError getOnInternalError() {
 		return (t, wsDataString) -> {
@@ -218,6 +334,27 @@ public abstract class AbstractWebsocketServer<T extends WsData> extends Abstract
 		this.executor.execute(command);
 	}
 
+	private OnRequest getMeasuredOnRequest() {
+		return this.requestMetrics.wrap(this.getOnRequest());
+	}
+
+	/**
+	 * Execute the handler of a message of a session. Limits the number of
+	 * concurrently handled messages per session, if configured.
+	 *
+	 * @param ws      the {@link WebSocket} of the session
+	 * @param command the {@link Runnable}
+	 */
+	protected void executeMessage(WebSocket ws, Runnable command) {
+		if (this.maxConcurrentMessagesPerSession <= 0) {
+			this.execute(command);
+			return;
+		}
+		this.sessionExecutors
+				.computeIfAbsent(ws, w -> new SessionExecutor(this::execute, this.maxConcurrentMessagesPerSession))
+				.execute(command);
+	}
+
 	/**
 	 * Stops the {@link WebSocketServer}.
 	 */
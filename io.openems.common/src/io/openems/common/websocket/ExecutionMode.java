@@ -0,0 +1,19 @@
+package io.openems.common.websocket;
+
+/**
+ * Defines how an {@link AbstractWebsocketServer} executes the handlers of
+ * incoming messages.
+ */
+public enum ExecutionMode {
+	/**
+	 * A fixed pool of platform threads is shared by all sessions.
+	 */
+	THREAD_POOL, //
+	/**
+	 * Every message is handled in its own thread: a virtual thread if supported
+	 * by the Java runtime (Java 21+), otherwise a thread of a bounded pool of
+	 * platform threads. Blocking handlers do not delay messages of other
+	 * sessions.
+	 */
+	THREAD_PER_MESSAGE;
+}
@@ -16,6 +16,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.function.ThrowingSupplier;
 import io.openems.common.jsonrpc.base.JsonrpcMessage;
 import io.openems.common.jsonrpc.base.JsonrpcNotification;
 import io.openems.common.jsonrpc.base.JsonrpcRequest;
@@ -30,7 +31,7 @@ public final class OnMessageHandler implements Runnable {
 
 	private final Logger log = LoggerFactory.getLogger(OnMessageHandler.class);
 	private final WebSocket ws;
-	private final String message;
+	private final ThrowingSupplier<JsonrpcMessage, OpenemsNamedException> message;
 	private final OnRequest onRequest;
 	private final OnNotification onNotification;
 	private final BiPredicate<WebSocket, JsonrpcMessage> sendMessage;
@@ -44,6 +45,27 @@ public final class OnMessageHandler implements Runnable {
 			BiPredicate<WebSocket, JsonrpcMessage> sendMessage, //
 			BiConsumer<Throwable, String> handleInternalError, //
 			BiConsumer<Logger, String> logWarn) {
+		this(ws, () -> JsonrpcMessage.from(message), onRequest, onNotification, sendMessage, handleInternalError,
+				logWarn);
+	}
+
+	public OnMessageHandler(//
+			WebSocket ws, JsonrpcMessage message, //
+			OnRequest onRequest, //
+			OnNotification onNotification, //
+			BiPredicate<WebSocket, JsonrpcMessage> sendMessage, //
+			BiConsumer<Throwable, String> handleInternalError, //
+			BiConsumer<Logger, String> logWarn) {
+		this(ws, () -> message, onRequest, onNotification, sendMessage, handleInternalError, logWarn);
+	}
+
+	private OnMessageHandler(//
+			WebSocket ws, ThrowingSupplier<JsonrpcMessage, OpenemsNamedException> message, //
+			OnRequest onRequest, //
+			OnNotification onNotification, //
+			BiPredicate<WebSocket, JsonrpcMessage> sendMessage, //
+			BiConsumer<Throwable, String> handleInternalError, //
+			BiConsumer<Logger, String> logWarn) {
 		this.ws = ws;
 		this.message = message;
 		this.onRequest = onRequest;
@@ -56,7 +78,7 @@ public final class OnMessageHandler implements Runnable {
 	@Override
 	public final void run() {
 		try {
-			var message = JsonrpcMessage.from(this.message);
+			var message = this.message.get();
 
 			if (message instanceof JsonrpcRequest request) {
 				this.handleJsonrpcRequest(this.ws, request);
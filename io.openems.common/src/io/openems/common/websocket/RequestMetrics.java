@@ -0,0 +1,112 @@
+package io.openems.common.websocket;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.openems.common.jsonrpc.base.JsonrpcRequest;
+
+/**
+ * Collects latency and concurrency of JSON-RPC Requests per method.
+ *
+ * <p>
+ * The latency is measured from the start of the handler until the response
+ * future completes.
+ */
+final class RequestMetrics {
+
+	/**
+	 * Methods are sent by clients; limit the number of tracked methods.
+	 */
+	private static final int MAX_METHODS = 100;
+	private static final String OTHER_METHODS = "other";
+
+	private static final class Method {
+		private final AtomicLong count = new AtomicLong();
+		private final AtomicLong active = new AtomicLong();
+		private final AtomicLong maxActive = new AtomicLong();
+		private final AtomicLong totalLatency = new AtomicLong(); // [ms]
+		private final AtomicLong maxLatency = new AtomicLong(); // [ms]
+	}
+
+	private final Map<String, Method> methods = new ConcurrentHashMap<>();
+
+	/**
+	 * Wraps an {@link OnRequest} handler to collect its metrics.
+	 *
+	 * @param onRequest the {@link OnRequest}
+	 * @return the wrapped {@link OnRequest}
+	 */
+	public OnRequest wrap(OnRequest onRequest) {
+		return (ws, request) -> {
+			final var method = this.getMethod(request);
+			final var start = System.nanoTime();
+			method.maxActive.accumulateAndGet(method.active.incrementAndGet(), Math::max);
+			try {
+				var future = onRequest.apply(ws, request);
+				if (future != null) {
+					future.whenComplete((r, e) -> this.finish(method, start));
+				} else {
+					this.finish(method, start);
+				}
+				return future;
+			} catch (Throwable t) {
+				this.finish(method, start);
+				throw t;
+			}
+		};
+	}
+
+	private void finish(Method method, long start) {
+		var latency = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+		method.active.decrementAndGet();
+		method.count.incrementAndGet();
+		method.totalLatency.addAndGet(latency);
+		method.maxLatency.accumulateAndGet(latency, Math::max);
+	}
+
+	private Method getMethod(JsonrpcRequest request) {
+		var name = request.getMethod();
+		var method = this.methods.get(name);
+		if (method != null) {
+			return method;
+		}
+		if (this.methods.size() >= MAX_METHODS) {
+			name = OTHER_METHODS;
+		}
+		return this.methods.computeIfAbsent(name, m -> new Method());
+	}
+
+	/**
+	 * Gets the current number of active requests of all methods.
+	 *
+	 * @return the number of active requests
+	 */
+	public long getActive() {
+		return this.methods.values().stream() //
+				.mapToLong(m -> m.active.get()) //
+				.sum();
+	}
+
+	/**
+	 * Returns the metrics per method.
+	 *
+	 * @return the metrics
+	 */
+	public Map<String, Number> debugMetrics() {
+		final var result = new HashMap<String, Number>();
+		this.methods.forEach((name, method) -> {
+			final var prefix = "Request/" + name + "/";
+			final var count = method.count.get();
+			result.put(prefix + "Count", count);
+			result.put(prefix + "Active", method.active.get());
+			result.put(prefix + "MaxActive", method.maxActive.get());
+			result.put(prefix + "AvgLatency", count == 0 ? 0 : method.totalLatency.get() / count);
+			result.put(prefix + "MaxLatency", method.maxLatency.get());
+		});
+		return result;
+	}
+
+}
@@ -0,0 +1,80 @@
+package io.openems.common.websocket;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Executes the tasks of one session on a shared {@link Executor}, but never
+ * more than a given number at the same time. Further tasks are queued in order
+ * of arrival and started as soon as a running task finished.
+ */
+final class SessionExecutor implements Executor {
+
+	private final Logger log = LoggerFactory.getLogger(SessionExecutor.class);
+	private final Executor executor;
+	private final int maxConcurrentTasks;
+	private final Queue<Runnable> queue = new ArrayDeque<>();
+
+	private int running = 0;
+
+	protected SessionExecutor(Executor executor, int maxConcurrentTasks) {
+		this.executor = executor;
+		this.maxConcurrentTasks = maxConcurrentTasks;
+	}
+
+	@Override
+	public void execute(Runnable task) {
+		synchronized (this) {
+			if (this.running >= this.maxConcurrentTasks) {
+				this.queue.add(task);
+				return;
+			}
+			this.running++;
+		}
+		try {
+			this.executor.execute(() -> this.runAll(task));
+		} catch (RuntimeException e) {
+			synchronized (this) {
+				this.running--;
+			}
+			throw e;
+		}
+	}
+
+	/**
+	 * Runs the task and then the queued tasks, until the queue is empty.
+	 *
+	 * @param task the first task
+	 */
+	private void runAll(Runnable task) {
+		var next = task;
+		while (next != null) {
+			try {
+				next.run();
+			} catch (RuntimeException e) {
+				// Continue with the queued tasks
+				this.log.error("Unhandled exception in session task: " + e.getMessage(), e);
+			}
+			synchronized (this) {
+				next = this.queue.poll();
+				if (next == null) {
+					this.running--;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Gets the number of queued tasks.
+	 *
+	 * @return the number of tasks that wait for execution
+	 */
+	public synchronized int getPending() {
+		return this.queue.size();
+	}
+
+}
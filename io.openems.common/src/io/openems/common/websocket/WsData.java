@@ -93,11 +93,22 @@ public abstract class WsData {
 	 * @return true if sending was successful; false otherwise
 	 */
 	private boolean sendMessage(JsonrpcMessage message) {
+		return this.send(message.toString());
+	}
+
+	/**
+	 * Sends an already serialized JSON-RPC message. Allows sharing one
+	 * serialized payload between many WebSockets.
+	 *
+	 * @param message the serialized JSON-RPC Message
+	 * @return true if sending was successful; false otherwise
+	 */
+	public boolean send(String message) {
 		if (!this.websocket.isOpen()) {
 			return false;
 		}
 		try {
-			this.websocket.send(message.toString());
+			this.websocket.send(message);
 			return true;
 		} catch (WebsocketNotConnectedException e) {
 			// handles corner cases
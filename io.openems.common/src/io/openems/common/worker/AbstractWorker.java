@@ -98,6 +98,22 @@ public abstract class AbstractWorker {
 		this.thread.interrupt();
 	}
 
+	/**
+	 * Waits for the worker thread to terminate, e.g. after {@link #deactivate()}.
+	 *
+	 * @param timeout the maximum time to wait; zero or negative to not wait at all
+	 * @param unit    the {@link TimeUnit} of the timeout
+	 * @return true if the worker thread is not running (anymore)
+	 * @throws InterruptedException if interrupted while waiting
+	 */
+	public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+		var millis = unit.toMillis(timeout);
+		if (millis > 0) {
+			this.thread.join(millis);
+		}
+		return !this.thread.isAlive();
+	}
+
 	/**
 	 * This method is called in a loop forever until the Thread gets interrupted.
 	 */
@@ -0,0 +1,82 @@
+package io.openems.common.jsonrpc.base;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.HashMap;
+
+import org.junit.Test;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+
+import io.openems.common.jsonrpc.notification.AggregatedDataNotification;
+import io.openems.common.jsonrpc.notification.CurrentDataNotification;
+import io.openems.common.jsonrpc.notification.EdgeRpcNotification;
+import io.openems.common.jsonrpc.notification.TimestampedDataNotification;
+import io.openems.common.utils.JsonUtils;
+
+public class JsonrpcSerializerTest {
+
+	@Test
+	public void testCurrentDataNotification() {
+		assertSameAsTree(currentData(10));
+		assertSameAsTree(new CurrentDataNotification(new HashMap<>()));
+	}
+
+	@Test
+	public void testEdgeRpcNotification() {
+		assertSameAsTree(new EdgeRpcNotification("edge0", currentData(10)));
+		assertSameAsTree(new EdgeRpcNotification("edge0", new GenericJsonrpcNotification("foo", //
+				JsonUtils.buildJsonObject().addProperty("bar", 1).build())));
+		assertSameAsTree(new EdgeRpcNotification("edge0", //
+				new DeprecatedJsonrpcNotification(JsonUtils.buildJsonObject().addProperty("bar", 1).build())));
+	}
+
+	@Test
+	public void testDataNotification() {
+		var timestamped = new TimestampedDataNotification();
+		timestamped.add(1_700_000_000_000L, "_sum/EssSoc", new JsonPrimitive(50));
+		timestamped.add(1_700_000_000_000L, "meter0/Frequency", new JsonPrimitive(50.01));
+		timestamped.add(1_700_000_000_000L, "meter0/NaN", new JsonPrimitive(Double.NaN));
+		timestamped.add(1_700_000_001_000L, "_meta/Version", new JsonPrimitive("2024.1.0 \"<&>\" ä "));
+		timestamped.add(1_700_000_001_000L, "ess0/Active", new JsonPrimitive(true));
+		timestamped.add(1_700_000_001_000L, "ess0/ActivePower", JsonNull.INSTANCE);
+		timestamped.add(1_700_000_001_000L, "ess0/Json", JsonUtils.buildJsonObject().addProperty("a", 1).build());
+		assertSameAsTree(timestamped);
+
+		var aggregated = new AggregatedDataNotification();
+		aggregated.add(1_700_000_000_000L, "_sum/ProductionActiveEnergy", new JsonPrimitive(123_456_789L));
+		assertSameAsTree(aggregated);
+		assertSameAsTree(new AggregatedDataNotification());
+	}
+
+	@Test
+	public void testReentrant() {
+		var inner = currentData(3);
+		var outer = new GenericJsonrpcNotification("foo", new JsonObject()) {
+			@Override
+			public JsonObject getParams() {
+				// Calls toString() while the thread-local buffer is in use
+				return JsonUtils.buildJsonObject().addProperty("inner", inner.toString()).build();
+			}
+		};
+		assertSameAsTree(outer);
+		assertSameAsTree(inner);
+	}
+
+	private static CurrentDataNotification currentData(int size) {
+		var data = new HashMap<String, JsonElement>();
+		for (var i = 0; i < size; i++) {
+			data.put("component" + i / 20 + "/Channel" + i, //
+					i % 7 == 0 ? JsonNull.INSTANCE : new JsonPrimitive(i * 1.5));
+		}
+		return new CurrentDataNotification(data);
+	}
+
+	private static void assertSameAsTree(JsonrpcMessage message) {
+		assertEquals(message.toJsonObject().toString(), message.toString());
+	}
+
+}
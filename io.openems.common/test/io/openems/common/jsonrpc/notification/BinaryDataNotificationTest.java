@@ -0,0 +1,154 @@
+package io.openems.common.jsonrpc.notification;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.ByteBuffer;
+
+import org.junit.Test;
+
+import com.google.gson.JsonNull;
+import com.google.gson.JsonPrimitive;
+
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.common.utils.JsonUtils;
+
+public class BinaryDataNotificationTest {
+
+	private static byte[] encode(BinaryDataNotification.Encoder encoder, AbstractDataNotification notification) {
+		var result = encoder.encode(notification);
+		encoder.commit();
+		return result;
+	}
+
+	@Test
+	public void testTimestampedData() throws OpenemsException {
+		var encoder = new BinaryDataNotification.Encoder();
+		var decoder = new BinaryDataNotification.Decoder();
+
+		var n1 = new TimestampedDataNotification();
+		n1.add(1_700_000_000_000L, "_sum/EssSoc", new JsonPrimitive(50));
+		n1.add(1_700_000_000_000L, "_sum/State", new JsonPrimitive(0));
+		n1.add(1_700_000_000_000L, "meter0/Frequency", new JsonPrimitive(50.01));
+		n1.add(1_700_000_000_000L, "meter0/Voltage", new JsonPrimitive(230.5F));
+		n1.add(1_700_000_001_000L, "_meta/Version", new JsonPrimitive("2024.1.0"));
+		n1.add(1_700_000_001_000L, "ess0/Active", new JsonPrimitive(true));
+		n1.add(1_700_000_001_000L, "ess0/ActivePower", JsonNull.INSTANCE);
+		n1.add(1_700_000_001_000L, "ess0/Json", JsonUtils.buildJsonObject().addProperty("a", 1).build());
+
+		var d1 = decoder.decode(ByteBuffer.wrap(encode(encoder, n1)));
+		assertTrue(d1 instanceof TimestampedDataNotification);
+		assertEquals(n1.getParams(), d1.getParams());
+
+		// Second message references the dictionary -> smaller
+		var n2 = new TimestampedDataNotification();
+		n2.add(1_700_000_002_000L, "_sum/EssSoc", new JsonPrimitive(-51));
+		var bytes = encode(encoder, n2);
+		assertTrue(bytes.length < 20);
+		assertEquals(n2.getParams(), decoder.decode(ByteBuffer.wrap(bytes)).getParams());
+	}
+
+	@Test
+	public void testAggregatedData() throws OpenemsException {
+		var encoder = new BinaryDataNotification.Encoder();
+		var decoder = new BinaryDataNotification.Decoder();
+
+		var n = new AggregatedDataNotification();
+		n.add(1_700_000_000_000L, "_sum/ProductionActiveEnergy", new JsonPrimitive(123_456_789_012L));
+		var d = decoder.decode(ByteBuffer.wrap(encode(encoder, n)));
+		assertTrue(d instanceof AggregatedDataNotification);
+		assertEquals(n.getParams(), d.getParams());
+	}
+
+	@Test(expected = OpenemsException.class)
+	public void testUnknownDictionaryEntry() throws OpenemsException {
+		var encoder = new BinaryDataNotification.Encoder();
+		var n = new TimestampedDataNotification();
+		n.add(0L, "_sum/EssSoc", new JsonPrimitive(50));
+		encode(encoder, n);
+
+		// Decoder of another session does not know the Channel-Address
+		new BinaryDataNotification.Decoder().decode(ByteBuffer.wrap(encoder.encode(n)));
+	}
+
+	@Test
+	public void testSendFailed() throws OpenemsException {
+		var encoder = new BinaryDataNotification.Encoder();
+		var decoder = new BinaryDataNotification.Decoder();
+		var n1 = new TimestampedDataNotification();
+		n1.add(0L, "_sum/EssSoc", new JsonPrimitive(50));
+		var n2 = new TimestampedDataNotification();
+		n2.add(1000L, "_sum/EssSoc", new JsonPrimitive(51));
+		n2.add(1000L, "_sum/GridActivePower", new JsonPrimitive(-500));
+
+		// Sending n1 failed -> not committed
+		encoder.encode(n1);
+
+		// n2 has to repeat the dictionary entry
+		var d2 = decoder.decode(ByteBuffer.wrap(encode(encoder, n2)));
+		assertEquals(n2.getParams(), d2.getParams());
+		assertEquals(n1.getParams(), decoder.decode(ByteBuffer.wrap(encode(encoder, n1))).getParams());
+	}
+
+	@Test
+	public void testDictionaryLimit() throws OpenemsException {
+		var encoder = new BinaryDataNotification.Encoder();
+		var decoder = new BinaryDataNotification.Decoder();
+		var n = new TimestampedDataNotification();
+		for (var i = 0; i < BinaryDataNotification.MAX_DICTIONARY_SIZE; i++) {
+			n.add(0L, "meter" + i + "/ActivePower", JsonNull.INSTANCE);
+		}
+		decoder.decode(ByteBuffer.wrap(encode(encoder, n)));
+
+		var tooMany = new TimestampedDataNotification();
+		tooMany.add(0L, "meter/ActivePower", JsonNull.INSTANCE);
+		assertNull(encoder.encode(tooMany));
+
+		// Decoder rejects a frame that exceeds the dictionary
+		var other = new BinaryDataNotification.Encoder().encode(tooMany);
+		assertThrows(OpenemsException.class, () -> decoder.decode(ByteBuffer.wrap(other)));
+	}
+
+	@Test
+	public void testInvalidLength() throws OpenemsException {
+		var decoder = new BinaryDataNotification.Decoder();
+
+		// 2^31 - 1 new dictionary entries
+		var tooManyEntries = new byte[] { BinaryDataNotification.VERSION, 1, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF,
+				(byte) 0xFF, 0x07 };
+		assertThrows(OpenemsException.class, () -> decoder.decode(ByteBuffer.wrap(tooManyEntries)));
+
+		// String of length 2^31 - 1
+		var tooLongString = new byte[] { BinaryDataNotification.VERSION, 1, 1, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF,
+				(byte) 0xFF, 0x07 };
+		assertThrows(OpenemsException.class, () -> decoder.decode(ByteBuffer.wrap(tooLongString)));
+
+		// Negative number of values
+		var negativeSize = new byte[] { BinaryDataNotification.VERSION, 1, 0, 1, 0, (byte) 0xFF, (byte) 0xFF,
+				(byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x01 };
+		assertThrows(OpenemsException.class, () -> decoder.decode(ByteBuffer.wrap(negativeSize)));
+	}
+
+	@Test
+	public void testInvalidFrameDoesNotChangeDictionary() throws OpenemsException {
+		var encoder = new BinaryDataNotification.Encoder();
+		var decoder = new BinaryDataNotification.Decoder();
+		var n = new TimestampedDataNotification();
+		n.add(0L, "_sum/EssSoc", new JsonPrimitive(50));
+
+		// Truncated frame with a new dictionary entry
+		var bytes = encoder.encode(n);
+		var truncated = ByteBuffer.wrap(bytes, 0, bytes.length - 1);
+		assertThrows(OpenemsException.class, () -> decoder.decode(truncated));
+
+		// Dictionary entry was not added, i.e. the next frame gets the same index
+		var d = decoder.decode(ByteBuffer.wrap(encode(encoder, n)));
+		assertEquals(n.getParams(), d.getParams());
+		var n2 = new TimestampedDataNotification();
+		n2.add(1000L, "_sum/EssSoc", new JsonPrimitive(51));
+		assertEquals(n2.getParams(), decoder.decode(ByteBuffer.wrap(encode(encoder, n2))).getParams());
+	}
+
+}
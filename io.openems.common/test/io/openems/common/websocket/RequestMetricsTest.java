@@ -0,0 +1,77 @@
+package io.openems.common.websocket;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.Test;
+
+import com.google.gson.JsonObject;
+
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.common.jsonrpc.base.GenericJsonrpcRequest;
+import io.openems.common.jsonrpc.base.GenericJsonrpcResponseSuccess;
+import io.openems.common.jsonrpc.base.JsonrpcResponseSuccess;
+
+public class RequestMetricsTest {
+
+	private static GenericJsonrpcRequest request(String method) {
+		return new GenericJsonrpcRequest(method, new JsonObject());
+	}
+
+	@Test
+	public void testActive() throws OpenemsNamedException {
+		var sut = new RequestMetrics();
+		var future = new CompletableFuture<JsonrpcResponseSuccess>();
+		var onRequest = sut.wrap((ws, request) -> future);
+
+		var request = request("getEdgeConfig");
+		onRequest.apply(null, request);
+		onRequest.apply(null, request("getEdgeConfig"));
+		assertEquals(2, sut.getActive());
+		var metrics = sut.debugMetrics();
+		assertEquals(0L, metrics.get("Request/getEdgeConfig/Count"));
+		assertEquals(2L, metrics.get("Request/getEdgeConfig/Active"));
+		assertEquals(2L, metrics.get("Request/getEdgeConfig/MaxActive"));
+
+		// Latency is measured until the response future completes
+		future.complete(new GenericJsonrpcResponseSuccess(request.getId()));
+		assertEquals(0, sut.getActive());
+		metrics = sut.debugMetrics();
+		assertEquals(2L, metrics.get("Request/getEdgeConfig/Count"));
+		assertEquals(0L, metrics.get("Request/getEdgeConfig/Active"));
+		assertEquals(2L, metrics.get("Request/getEdgeConfig/MaxActive"));
+	}
+
+	@Test
+	public void testFailed() throws OpenemsNamedException {
+		var sut = new RequestMetrics();
+		var onRequest = sut.wrap((ws, request) -> {
+			throw new OpenemsException("Failed");
+		});
+		assertThrows(OpenemsException.class, () -> onRequest.apply(null, request("query")));
+		assertEquals(0, sut.getActive());
+		assertEquals(1L, sut.debugMetrics().get("Request/query/Count"));
+
+		// Completed exceptionally
+		var failing = sut.wrap((ws, request) -> CompletableFuture.failedFuture(new OpenemsException("Failed")));
+		failing.apply(null, request("query"));
+		assertEquals(0, sut.getActive());
+		assertEquals(2L, sut.debugMetrics().get("Request/query/Count"));
+	}
+
+	@Test
+	public void testMaxMethods() throws OpenemsNamedException {
+		var sut = new RequestMetrics();
+		var onRequest = sut.wrap(OnRequest.NO_OP);
+		for (var i = 0; i < 150; i++) {
+			onRequest.apply(null, request("method" + i));
+		}
+		// 100 methods plus 'other', 5 metrics each
+		assertEquals(101 * 5, sut.debugMetrics().size());
+		assertEquals(50L, sut.debugMetrics().get("Request/other/Count"));
+	}
+
+}
@@ -0,0 +1,78 @@
+package io.openems.common.websocket;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import io.openems.common.utils.ThreadPoolUtils;
+
+public class SessionExecutorTest {
+
+	@Test
+	public void testMaxConcurrentTasks() throws InterruptedException {
+		final var executor = ThreadPoolUtils.newThreadPerTaskExecutor("SessionExecutorTest", 10);
+		try {
+			final var sut = new SessionExecutor(executor, 3);
+			final var active = new AtomicInteger();
+			final var maxActive = new AtomicInteger();
+			final var done = new CountDownLatch(50);
+			for (var i = 0; i < 50; i++) {
+				final var fail = i % 5 == 0;
+				sut.execute(() -> {
+					maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+					try {
+						Thread.sleep(2);
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					}
+					active.decrementAndGet();
+					done.countDown();
+					if (fail) {
+						// Must not stop the execution of queued tasks
+						throw new RuntimeException("Test");
+					}
+				});
+			}
+
+			assertTrue(done.await(10, TimeUnit.SECONDS));
+			assertTrue(maxActive.get() <= 3);
+			assertEquals(0, sut.getPending());
+
+		} finally {
+			ThreadPoolUtils.shutdownAndAwaitTermination(executor, 5);
+		}
+	}
+
+	@Test
+	public void testOrder() throws InterruptedException {
+		final var executor = ThreadPoolUtils.newThreadPerTaskExecutor("SessionExecutorTest", 10);
+		try {
+			final var sut = new SessionExecutor(executor, 1);
+			final var result = Collections.synchronizedList(new ArrayList<Integer>());
+			final var done = new CountDownLatch(20);
+			for (var i = 0; i < 20; i++) {
+				final var value = i;
+				sut.execute(() -> {
+					result.add(value);
+					done.countDown();
+				});
+			}
+
+			assertTrue(done.await(10, TimeUnit.SECONDS));
+			for (var i = 0; i < 20; i++) {
+				assertEquals(i, result.get(i).intValue());
+			}
+
+		} finally {
+			ThreadPoolUtils.shutdownAndAwaitTermination(executor, 5);
+		}
+	}
+
+}
@@ -87,14 +87,16 @@ public class BridgeModbusSerialImpl extends AbstractModbusBridge
 	@Activate
 	private void activate(ComponentContext context, ConfigSerial config) {
 		super.activate(context, config.id(), config.alias(), config.enabled(), config.logVerbosity(),
-				config.invalidateElementsAfterReadErrors());
+				config.invalidateElementsAfterReadErrors(), 1, config.readRegistersMaxGap(),
+				config.adaptiveLowPriorityTasks());
 		this.applyConfig(config);
 	}
 
 	@Modified
 	private void modified(ComponentContext context, ConfigSerial config) {
 		super.modified(context, config.id(), config.alias(), config.enabled(), config.logVerbosity(),
-				config.invalidateElementsAfterReadErrors());
+				config.invalidateElementsAfterReadErrors(), 1, config.readRegistersMaxGap(),
+				config.adaptiveLowPriorityTasks());
 		this.applyConfig(config);
 		this.closeModbusConnection();
 	}
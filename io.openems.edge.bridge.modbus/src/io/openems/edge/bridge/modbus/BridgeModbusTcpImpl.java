@@ -2,6 +2,9 @@ package io.openems.edge.bridge.modbus;
 
 import java.net.InetAddress;
 import java.net.UnknownHostException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 import org.osgi.service.component.ComponentContext;
 import org.osgi.service.component.annotations.Activate;
@@ -13,6 +16,7 @@ import org.osgi.service.event.EventHandler;
 import org.osgi.service.event.propertytypes.EventTopics;
 import org.osgi.service.metatype.annotations.Designate;
 
+import com.ghgande.j2mod.modbus.io.AbstractModbusTransport;
 import com.ghgande.j2mod.modbus.io.ModbusTCPTransaction;
 import com.ghgande.j2mod.modbus.io.ModbusTransaction;
 import com.ghgande.j2mod.modbus.net.TCPMasterConnection;
@@ -22,6 +26,8 @@ import io.openems.common.utils.InetAddressUtils;
 import io.openems.edge.bridge.modbus.api.AbstractModbusBridge;
 import io.openems.edge.bridge.modbus.api.BridgeModbus;
 import io.openems.edge.bridge.modbus.api.BridgeModbusTcp;
+import io.openems.edge.bridge.modbus.api.task.ReadTask;
+import io.openems.edge.bridge.modbus.api.task.Task.ExecuteState;
 import io.openems.edge.common.component.OpenemsComponent;
 import io.openems.edge.common.event.EdgeEventConstants;
 
@@ -45,6 +51,9 @@ public class BridgeModbusTcpImpl extends AbstractModbusBridge
 	/** The configured IP address. */
 	private InetAddress ipAddress = null;
 	private int port;
+	private int pipelineDepth = 1;
+
+	private final ModbusTcpPipeline pipeline = new ModbusTcpPipeline();
 
 	public BridgeModbusTcpImpl() {
 		super(//
@@ -56,22 +65,25 @@ public class BridgeModbusTcpImpl extends AbstractModbusBridge
 
 	@Activate
 	private void activate(ComponentContext context, ConfigTcp config) throws UnknownHostException {
-		super.activate(context, config.id(), config.alias(), config.enabled(), config.logVerbosity(),
-				config.invalidateElementsAfterReadErrors());
 		this.applyConfig(config);
+		super.activate(context, config.id(), config.alias(), config.enabled(), config.logVerbosity(),
+				config.invalidateElementsAfterReadErrors(), config.connections(), config.readRegistersMaxGap(),
+				config.adaptiveLowPriorityTasks());
 	}
 
 	@Modified
 	private void modified(ComponentContext context, ConfigTcp config) throws UnknownHostException {
-		super.modified(context, config.id(), config.alias(), config.enabled(), config.logVerbosity(),
-				config.invalidateElementsAfterReadErrors());
 		this.applyConfig(config);
-		this.closeModbusConnection();
+		super.modified(context, config.id(), config.alias(), config.enabled(), config.logVerbosity(),
+				config.invalidateElementsAfterReadErrors(), config.connections(), config.readRegistersMaxGap(),
+				config.adaptiveLowPriorityTasks());
+		this.closeAllModbusConnections();
 	}
 
 	private void applyConfig(ConfigTcp config) {
 		this.setIpAddress(InetAddressUtils.parseOrNull(config.ip()));
 		this.port = config.port();
+		this.pipelineDepth = Math.max(1, config.pipelineDepth());
 	}
 
 	@Override
@@ -82,9 +94,20 @@ public class BridgeModbusTcpImpl extends AbstractModbusBridge
 
 	@Override
 	public void closeModbusConnection() {
-		if (this._connection != null) {
-			this._connection.close();
-			this._connection = null;
+		final TCPMasterConnection connection;
+		synchronized (this._connections) {
+			connection = this._connections.remove(this.getConnectionIndex());
+		}
+		if (connection != null) {
+			connection.close();
+		}
+	}
+
+	@Override
+	protected void closeAllModbusConnections() {
+		synchronized (this._connections) {
+			this._connections.values().forEach(TCPMasterConnection::close);
+			this._connections.clear();
 		}
 	}
 
@@ -96,27 +119,48 @@ public class BridgeModbusTcpImpl extends AbstractModbusBridge
 		return transaction;
 	}
 
-	private TCPMasterConnection _connection = null;
+	@Override
+	protected List<ExecuteState> executeReadTasks(List<ReadTask> tasks) {
+		final AbstractModbusTransport transport;
+		try {
+			transport = this.getModbusConnection().getModbusTransport();
+		} catch (OpenemsException e) {
+			// Sequential execution takes care of logging and retrying
+			return super.executeReadTasks(tasks);
+		}
+		return this.pipeline.execute(this, transport, tasks);
+	}
+
+	@Override
+	protected int getMaxReadTasksPerExecution() {
+		return this.pipelineDepth;
+	}
 
-	private synchronized TCPMasterConnection getModbusConnection() throws OpenemsException {
-		if (this._connection == null) {
-			/*
-			 * create new connection
-			 */
-			var connection = new TCPMasterConnection(this.getIpAddress());
-			connection.setPort(this.port);
-			this._connection = connection;
+	/** Index of connection -> TCPMasterConnection; see getConnectionIndex(). */
+	private final Map<Integer, TCPMasterConnection> _connections = new HashMap<>();
+
+	private TCPMasterConnection getModbusConnection() throws OpenemsException {
+		final TCPMasterConnection connection;
+		synchronized (this._connections) {
+			connection = this._connections.computeIfAbsent(this.getConnectionIndex(), index -> {
+				/*
+				 * create new connection
+				 */
+				var c = new TCPMasterConnection(this.getIpAddress());
+				c.setPort(this.port);
+				return c;
+			});
 		}
-		if (!this._connection.isConnected()) {
+		if (!connection.isConnected()) {
 			try {
-				this._connection.connect();
+				connection.connect();
 			} catch (Exception e) {
 				throw new OpenemsException(
 						"Connection to [" + this.getIpAddress().getHostAddress() + "] failed: " + e.getMessage());
 			}
-			this._connection.getModbusTransport().setTimeout(AbstractModbusBridge.DEFAULT_TIMEOUT);
+			connection.getModbusTransport().setTimeout(AbstractModbusBridge.DEFAULT_TIMEOUT);
 		}
-		return this._connection;
+		return connection;
 	}
 
 	@Override
@@ -51,5 +51,11 @@ import io.openems.edge.bridge.modbus.api.Stopbit;
 	@AttributeDefinition(name = "Invalidate elements after how many read Errors?", description = "Increase this value if modbus read errors happen frequently.")
 	int invalidateElementsAfterReadErrors() default 1;
 
+	@AttributeDefinition(name = "Merge Read-Registers-Tasks with max gap", description = "Merges adjacent FC3/FC4 read tasks of a device into larger requests, if at most this number of unused registers lies in between. Addresses that are rejected by the device are not merged again. -1 disables merging.")
+	int readRegistersMaxGap() default -1;
+
+	@AttributeDefinition(name = "Adaptive scheduling of LOW priority tasks", description = "Executes as many LOW priority read tasks per Cycle as the measured execution times allow, instead of exactly one. Experimental; disabled by default.")
+	boolean adaptiveLowPriorityTasks() default false;
+
 	String webconsole_configurationFactory_nameHint() default "Bridge Modbus/RTU Serial [{id}]";
 }
\ No newline at end of file
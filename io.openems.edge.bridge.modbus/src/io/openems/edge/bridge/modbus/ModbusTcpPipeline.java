@@ -0,0 +1,109 @@
+package io.openems.edge.bridge.modbus;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.ghgande.j2mod.modbus.io.AbstractModbusTransport;
+import com.ghgande.j2mod.modbus.msg.ModbusRequest;
+import com.ghgande.j2mod.modbus.msg.ModbusResponse;
+
+import io.openems.edge.bridge.modbus.api.AbstractModbusBridge;
+import io.openems.edge.bridge.modbus.api.task.AbstractReadTask;
+import io.openems.edge.bridge.modbus.api.task.ReadTask;
+import io.openems.edge.bridge.modbus.api.task.Task.ExecuteState;
+
+/**
+ * Executes multiple {@link ReadTask}s on one Modbus/TCP connection with
+ * multiple outstanding requests.
+ *
+ * <p>
+ * All requests are sent before the first response is read. Responses are
+ * matched to their requests via the MBAP Transaction-ID, so the device may
+ * answer in any order. Tasks that could not be finished this way - e.g. on
+ * timeout or if they do not support pipelining - are executed sequentially
+ * afterwards.
+ */
+public class ModbusTcpPipeline {
+
+	private static final int MAX_TRANSACTION_ID = 0xFFFF;
+
+	private final Logger log = LoggerFactory.getLogger(ModbusTcpPipeline.class);
+
+	private int transactionId = 0;
+
+	private record Pending<REQUEST extends ModbusRequest>(int index, AbstractReadTask<REQUEST, ?, ?, ?> task,
+			REQUEST request) {
+
+		private static <REQUEST extends ModbusRequest> Pending<REQUEST> of(int index,
+				AbstractReadTask<REQUEST, ?, ?, ?> task) {
+			return new Pending<>(index, task, task.createPipelinedRequest());
+		}
+
+		private ExecuteState execute(AbstractModbusBridge bridge, ModbusResponse response) {
+			return this.task.executePipelined(bridge, this.request, response);
+		}
+	}
+
+	/**
+	 * Executes the given {@link ReadTask}s.
+	 *
+	 * @param bridge    the {@link AbstractModbusBridge}
+	 * @param transport the {@link AbstractModbusTransport} of the open connection
+	 * @param tasks     the {@link ReadTask}s
+	 * @return one {@link ExecuteState} per task, in the same order
+	 */
+	public List<ExecuteState> execute(AbstractModbusBridge bridge, AbstractModbusTransport transport,
+			List<ReadTask> tasks) {
+		var results = new ExecuteState[tasks.size()];
+		var pendings = new HashMap<Integer, Pending<?>>();
+		try {
+			// Send all requests
+			for (var i = 0; i < tasks.size(); i++) {
+				if (!(tasks.get(i) instanceof AbstractReadTask<?, ?, ?, ?> task)) {
+					continue;
+				}
+				var pending = Pending.of(i, task);
+				var transactionId = this.nextTransactionId();
+				pending.request().setTransactionID(transactionId);
+				transport.writeRequest(pending.request());
+				pendings.put(transactionId, pending);
+			}
+
+			// Receive all responses
+			while (!pendings.isEmpty()) {
+				var response = transport.readResponse();
+				var pending = pendings.remove(response.getTransactionID());
+				if (pending == null) {
+					this.log.warn("Received Modbus response for unknown Transaction-ID [" //
+							+ response.getTransactionID() + "]");
+					continue;
+				}
+				results[pending.index()] = pending.execute(bridge, response);
+			}
+
+		} catch (Exception e) {
+			this.log.warn("Pipelined Modbus execution failed. Falling back to sequential execution of " //
+					+ pendings.size() + " pending task(s): " + e.getClass().getSimpleName() + ": " + e.getMessage());
+			// Responses of outstanding requests are not reliable anymore
+			bridge.closeModbusConnection();
+		}
+
+		// Execute remaining tasks sequentially
+		for (var i = 0; i < results.length; i++) {
+			if (results[i] == null) {
+				results[i] = tasks.get(i).execute(bridge);
+			}
+		}
+		return Arrays.asList(results);
+	}
+
+	private synchronized int nextTransactionId() {
+		this.transactionId = this.transactionId % MAX_TRANSACTION_ID + 1;
+		return this.transactionId;
+	}
+
+}
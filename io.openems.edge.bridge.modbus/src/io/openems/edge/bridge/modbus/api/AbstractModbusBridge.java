@@ -1,5 +1,8 @@
 package io.openems.edge.bridge.modbus.api;
 
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Stream;
 
@@ -10,7 +13,10 @@ import org.osgi.service.event.EventHandler;
 import com.ghgande.j2mod.modbus.io.ModbusTransaction;
 
 import io.openems.common.exceptions.OpenemsException;
+import io.openems.edge.bridge.modbus.api.task.ReadTask;
+import io.openems.edge.bridge.modbus.api.task.Task.ExecuteState;
 import io.openems.edge.bridge.modbus.api.worker.ModbusWorker;
+import io.openems.edge.bridge.modbus.api.worker.ModbusWorkerPool;
 import io.openems.edge.common.component.AbstractOpenemsComponent;
 import io.openems.edge.common.event.EdgeEventConstants;
 
@@ -37,12 +43,42 @@ public abstract class AbstractModbusBridge extends AbstractOpenemsComponent impl
 
 	private final AtomicReference<LogVerbosity> logVerbosity = new AtomicReference<>(LogVerbosity.NONE);
 	private int invalidateElementsAfterReadErrors = 1;
+	private int readRegistersMaxGap = -1;
+	private volatile boolean adaptiveLowPriorityTasks = false;
 
-	protected final ModbusWorker worker = new ModbusWorker(
-			// Execute Task
-			task -> task.execute(this),
-			// Invalidate ModbusElements
-			elements -> Stream.of(elements).forEach(e -> e.invalidate(this)),
+	/** Source-ID -> ModbusProtocol. */
+	private final Map<String, ModbusProtocol> protocols = new ConcurrentHashMap<>();
+
+	/** Index of the connection that is used by the current worker thread. */
+	private final ThreadLocal<Integer> connectionIndex = ThreadLocal.withInitial(() -> 0);
+
+	protected final ModbusWorkerPool workerPool = new ModbusWorkerPool(
+			// Create ModbusWorker for one connection
+			(index, defectiveComponents, cycleTimeIsTooShort, cycleDelay) -> new ModbusWorker(
+					// Execute Task
+					task -> {
+						this.connectionIndex.set(index);
+						return task.execute(this);
+					},
+					// Execute multiple ReadTasks at once
+					tasks -> {
+						this.connectionIndex.set(index);
+						return this.executeReadTasks(tasks);
+					},
+					// Max number of ReadTasks that are executed at once
+					() -> this.getMaxReadTasksPerExecution(),
+					// Invalidate ModbusElements
+					elements -> Stream.of(elements).forEach(e -> e.invalidate(this)),
+					// Set ChannelId.CYCLE_TIME_IS_TOO_SHORT
+					cycleTimeIsTooShort,
+					// Set ChannelId.CYCLE_DELAY
+					cycleDelay,
+					// LogVerbosity
+					this.logVerbosity,
+					// Shared DefectiveComponents
+					defectiveComponents,
+					// Use AdaptiveTasksSupplier
+					this.adaptiveLowPriorityTasks),
 			// Set ChannelId.CYCLE_TIME_IS_TOO_SHORT
 			state -> this._setCycleTimeIsTooShort(state),
 			// Set ChannelId.CYCLE_DELAY
@@ -64,18 +100,25 @@ public abstract class AbstractModbusBridge extends AbstractOpenemsComponent impl
 
 	protected void activate(ComponentContext context, String id, String alias, boolean enabled,
 			LogVerbosity logVerbosity, int invalidateElementsAfterReadErrors) {
+		this.activate(context, id, alias, enabled, logVerbosity, invalidateElementsAfterReadErrors, 1, -1, false);
+	}
+
+	protected void activate(ComponentContext context, String id, String alias, boolean enabled,
+			LogVerbosity logVerbosity, int invalidateElementsAfterReadErrors, int connections,
+			int readRegistersMaxGap, boolean adaptiveLowPriorityTasks) {
 		super.activate(context, id, alias, enabled);
-		this.applyConfig(logVerbosity, invalidateElementsAfterReadErrors);
+		this.applyConfig(logVerbosity, invalidateElementsAfterReadErrors, readRegistersMaxGap);
+		this.adaptiveLowPriorityTasks = adaptiveLowPriorityTasks;
 		if (enabled) {
-			this.worker.activate(id);
+			this.workerPool.activate(id, connections);
 		}
 	}
 
 	@Override
 	protected void deactivate() {
 		super.deactivate();
-		this.worker.deactivate();
-		this.closeModbusConnection();
+		this.workerPool.deactivate();
+		this.closeAllModbusConnections();
 	}
 
 	@Override
@@ -86,18 +129,32 @@ public abstract class AbstractModbusBridge extends AbstractOpenemsComponent impl
 
 	protected void modified(ComponentContext context, String id, String alias, boolean enabled,
 			LogVerbosity logVerbosity, int invalidateElementsAfterReadErrors) {
+		this.modified(context, id, alias, enabled, logVerbosity, invalidateElementsAfterReadErrors, 1, -1, false);
+	}
+
+	protected void modified(ComponentContext context, String id, String alias, boolean enabled,
+			LogVerbosity logVerbosity, int invalidateElementsAfterReadErrors, int connections,
+			int readRegistersMaxGap, boolean adaptiveLowPriorityTasks) {
 		super.modified(context, id, alias, enabled);
-		this.applyConfig(logVerbosity, invalidateElementsAfterReadErrors);
+		this.applyConfig(logVerbosity, invalidateElementsAfterReadErrors, readRegistersMaxGap);
+		// The TasksSupplier is chosen when the ModbusWorkers are created
+		var recreate = this.adaptiveLowPriorityTasks != adaptiveLowPriorityTasks;
+		this.adaptiveLowPriorityTasks = adaptiveLowPriorityTasks;
 		if (enabled) {
-			this.worker.modified(id);
+			this.workerPool.modified(id, connections, recreate);
 		} else {
-			this.worker.deactivate();
+			this.workerPool.deactivate();
 		}
 	}
 
-	private void applyConfig(LogVerbosity logVerbosity, int invalidateElementsAfterReadErrors) {
+	private void applyConfig(LogVerbosity logVerbosity, int invalidateElementsAfterReadErrors,
+			int readRegistersMaxGap) {
 		this.logVerbosity.set(logVerbosity);
 		this.invalidateElementsAfterReadErrors = invalidateElementsAfterReadErrors;
+		if (this.readRegistersMaxGap != readRegistersMaxGap) {
+			this.readRegistersMaxGap = readRegistersMaxGap;
+			this.protocols.values().forEach(p -> p.setReadRegistersMaxGap(readRegistersMaxGap));
+		}
 	}
 
 	/**
@@ -108,7 +165,11 @@ public abstract class AbstractModbusBridge extends AbstractOpenemsComponent impl
 	 */
 	@Override
 	public void addProtocol(String sourceId, ModbusProtocol protocol) {
-		this.worker.addProtocol(sourceId, protocol);
+		this.protocols.put(sourceId, protocol);
+		if (this.readRegistersMaxGap >= 0) {
+			protocol.setReadRegistersMaxGap(this.readRegistersMaxGap);
+		}
+		this.workerPool.addProtocol(sourceId, protocol);
 		this.retryModbusCommunication(sourceId);
 	}
 
@@ -119,7 +180,8 @@ public abstract class AbstractModbusBridge extends AbstractOpenemsComponent impl
 	 */
 	@Override
 	public void removeProtocol(String sourceId) {
-		this.worker.removeProtocol(sourceId);
+		this.protocols.remove(sourceId);
+		this.workerPool.removeProtocol(sourceId);
 	}
 
 	@Override
@@ -129,10 +191,11 @@ public abstract class AbstractModbusBridge extends AbstractOpenemsComponent impl
 		}
 		switch (event.getTopic()) {
 		case EdgeEventConstants.TOPIC_CYCLE_BEFORE_PROCESS_IMAGE:
-			this.worker.onBeforeProcessImage();
+			this.workerPool.onBeforeProcessImage();
+			this.updateTaskLatencyChannels();
 			break;
 		case EdgeEventConstants.TOPIC_CYCLE_EXECUTE_WRITE:
-			this.worker.onExecuteWrite();
+			this.workerPool.onExecuteWrite();
 			break;
 		}
 	}
@@ -148,6 +211,17 @@ public abstract class AbstractModbusBridge extends AbstractOpenemsComponent impl
 		};
 	}
 
+	/**
+	 * Publishes the maximum and mean of the measured Task execution times.
+	 */
+	private void updateTaskLatencyChannels() {
+		var latencies = this.workerPool.getTaskLatencies();
+		var max = latencies.getMax();
+		var mean = latencies.getMean();
+		this._setTaskLatencyMax(max != null ? max.floatValue() : null);
+		this._setTaskLatencyMean(mean != null ? mean.floatValue() : null);
+	}
+
 	/**
 	 * Creates a new Modbus Transaction on an open Modbus connection.
 	 *
@@ -158,9 +232,59 @@ public abstract class AbstractModbusBridge extends AbstractOpenemsComponent impl
 
 	/**
 	 * Closes the Modbus connection.
+	 *
+	 * <p>
+	 * If multiple connections are used, this closes the connection of the current
+	 * worker thread.
 	 */
 	public abstract void closeModbusConnection();
 
+	/**
+	 * Closes all Modbus connections.
+	 */
+	protected void closeAllModbusConnections() {
+		this.closeModbusConnection();
+	}
+
+	/**
+	 * Gets the index of the connection that is used by the current worker thread.
+	 *
+	 * <p>
+	 * The number of connections is set on activate; see
+	 * {@link ModbusWorkerPool}.
+	 *
+	 * @return the index of the connection
+	 */
+	protected int getConnectionIndex() {
+		return this.connectionIndex.get();
+	}
+
+	/**
+	 * Executes multiple {@link ReadTask}s at once.
+	 *
+	 * <p>
+	 * The default implementation executes the tasks sequentially. Bridges that
+	 * support multiple outstanding requests may override this method.
+	 *
+	 * @param tasks the {@link ReadTask}s
+	 * @return one {@link ExecuteState} per task, in the same order
+	 */
+	protected List<ExecuteState> executeReadTasks(List<ReadTask> tasks) {
+		return tasks.stream() //
+				.map(task -> task.execute(this)) //
+				.toList();
+	}
+
+	/**
+	 * Gets the maximum number of {@link ReadTask}s that are passed to
+	 * {@link #executeReadTasks(List)}.
+	 *
+	 * @return the max number of tasks; 1 disables executing multiple tasks at once
+	 */
+	protected int getMaxReadTasksPerExecution() {
+		return 1;
+	}
+
 	/**
 	 * Gets the configured {@link LogVerbosity}.
 	 * 
@@ -182,6 +306,6 @@ public abstract class AbstractModbusBridge extends AbstractOpenemsComponent impl
 
 	@Override
 	public void retryModbusCommunication(String sourceId) {
-		this.worker.retryModbusCommunication(sourceId);
+		this.workerPool.retryModbusCommunication(sourceId);
 	}
 }
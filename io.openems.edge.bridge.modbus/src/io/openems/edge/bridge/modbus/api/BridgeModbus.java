@@ -7,6 +7,7 @@ import io.openems.common.channel.Level;
 import io.openems.common.channel.Unit;
 import io.openems.common.types.OpenemsType;
 import io.openems.edge.common.channel.Doc;
+import io.openems.edge.common.channel.FloatReadChannel;
 import io.openems.edge.common.channel.LongReadChannel;
 import io.openems.edge.common.channel.StateChannel;
 import io.openems.edge.common.channel.value.Value;
@@ -23,6 +24,16 @@ public interface BridgeModbus extends OpenemsComponent {
 		 * can be reduced by this amount, without causing CYCLE_TIME_IS_TOO_SHORT.
 		 */
 		CYCLE_DELAY(Doc.of(OpenemsType.LONG) //
+				.unit(Unit.MILLISECONDS)), //
+		/**
+		 * Maximum of the average execution times of all Modbus Tasks.
+		 */
+		TASK_LATENCY_MAX(Doc.of(OpenemsType.FLOAT) //
+				.unit(Unit.MILLISECONDS)), //
+		/**
+		 * Mean of the average execution times of all Modbus Tasks.
+		 */
+		TASK_LATENCY_MEAN(Doc.of(OpenemsType.FLOAT) //
 				.unit(Unit.MILLISECONDS)); //
 
 		private final Doc doc;
@@ -94,6 +105,64 @@ public interface BridgeModbus extends OpenemsComponent {
 		this.getCycleDelayChannel().setNextValue(value);
 	}
 
+	/**
+	 * Gets the Channel for {@link ChannelId#TASK_LATENCY_MAX}.
+	 *
+	 * @return the Channel
+	 */
+	public default FloatReadChannel getTaskLatencyMaxChannel() {
+		return this.channel(ChannelId.TASK_LATENCY_MAX);
+	}
+
+	/**
+	 * Gets the maximum Task execution time in [ms], see
+	 * {@link ChannelId#TASK_LATENCY_MAX}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Float> getTaskLatencyMax() {
+		return this.getTaskLatencyMaxChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on
+	 * {@link ChannelId#TASK_LATENCY_MAX} Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setTaskLatencyMax(Float value) {
+		this.getTaskLatencyMaxChannel().setNextValue(value);
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#TASK_LATENCY_MEAN}.
+	 *
+	 * @return the Channel
+	 */
+	public default FloatReadChannel getTaskLatencyMeanChannel() {
+		return this.channel(ChannelId.TASK_LATENCY_MEAN);
+	}
+
+	/**
+	 * Gets the mean Task execution time in [ms], see
+	 * {@link ChannelId#TASK_LATENCY_MEAN}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Float> getTaskLatencyMean() {
+		return this.getTaskLatencyMeanChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on
+	 * {@link ChannelId#TASK_LATENCY_MEAN} Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setTaskLatencyMean(Float value) {
+		this.getTaskLatencyMeanChannel().setNextValue(value);
+	}
+
 	/**
 	 * Adds a Protocol with a source identifier to this Modbus Bridge.
 	 *
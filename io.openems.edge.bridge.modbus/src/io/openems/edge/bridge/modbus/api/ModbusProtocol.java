@@ -1,5 +1,9 @@
 package io.openems.edge.bridge.modbus.api;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import io.openems.edge.bridge.modbus.api.task.ReadRegistersTaskOptimizer;
 import io.openems.edge.bridge.modbus.api.task.Task;
 import io.openems.edge.common.taskmanager.TasksManager;
 
@@ -15,6 +19,27 @@ public class ModbusProtocol {
 	 */
 	private final TasksManager<Task> taskManager = new TasksManager<>();
 
+	/**
+	 * The original Tasks, as added via {@link #addTask(Task)}.
+	 */
+	private final List<Task> tasks = new ArrayList<>();
+
+	/**
+	 * Merged Tasks of the {@link #optimizer} that are currently in the
+	 * {@link #taskManager}.
+	 */
+	private final List<Task> mergedTasks = new ArrayList<>();
+
+	/**
+	 * Optimizer for ReadTasks; null if disabled.
+	 */
+	private ReadRegistersTaskOptimizer optimizer = null;
+
+	/**
+	 * False if Tasks were added or removed since the last optimization.
+	 */
+	private volatile boolean optimized = true;
+
 	/**
 	 * Creates a new {@link ModbusProtocol}.
 	 *
@@ -45,8 +70,14 @@ public class ModbusProtocol {
 	public synchronized void addTask(Task task) {
 		// add the the parent to the Task
 		task.setParent(this.parent);
-		// fill taskManager
-		this.taskManager.addTask(task);
+		this.tasks.add(task);
+		if (this.optimizer == null) {
+			// fill taskManager
+			this.taskManager.addTask(task);
+		} else {
+			// optimize once on next access
+			this.optimized = false;
+		}
 	}
 
 	/**
@@ -55,23 +86,98 @@ public class ModbusProtocol {
 	 * @param task the task
 	 */
 	public synchronized void removeTask(Task task) {
-		this.taskManager.removeTask(task);
+		this.tasks.remove(task);
+		if (this.optimizer == null) {
+			this.taskManager.removeTask(task);
+		} else {
+			this.optimized = false;
+		}
+	}
+
+	/**
+	 * Enables or disables merging of adjacent Read-Register-Tasks via
+	 * {@link ReadRegistersTaskOptimizer}.
+	 *
+	 * @param maxGap the max number of unused registers between two merged tasks;
+	 *               negative to disable merging
+	 */
+	public synchronized void setReadRegistersMaxGap(int maxGap) {
+		if (maxGap < 0) {
+			this.optimizer = null;
+		} else {
+			this.optimizer = new ReadRegistersTaskOptimizer(maxGap, () -> this.optimized = false);
+		}
+		this.updateTaskManager();
+	}
+
+	/**
+	 * Fills the {@link TasksManager} with the (optimized) Tasks.
+	 *
+	 * <p>
+	 * New Tasks are added before obsolete Tasks are removed, so no Task is missed
+	 * by a concurrent reader.
+	 */
+	private synchronized void updateTaskManager() {
+		this.optimized = true;
+		final List<Task> next;
+		if (this.optimizer == null) {
+			next = List.copyOf(this.tasks);
+		} else {
+			next = this.optimizer.optimize(this.tasks);
+		}
+		var previous = List.copyOf(this.taskManager.getTasks());
+		for (var task : next) {
+			if (!previous.contains(task)) {
+				task.setParent(this.parent);
+				this.taskManager.addTask(task);
+			}
+		}
+		for (var task : previous) {
+			if (!next.contains(task)) {
+				this.taskManager.removeTask(task);
+			}
+		}
+		this.mergedTasks.clear();
+		for (var task : next) {
+			if (!this.tasks.contains(task)) {
+				this.mergedTasks.add(task);
+			}
+		}
 	}
 
 	/**
 	 * Gets the Read-Tasks Manager.
 	 *
+	 * <p>
+	 * If Tasks were added or removed since the last optimization, the Tasks are
+	 * optimized again before.
+	 *
 	 * @return a the TaskManager
 	 */
 	public TasksManager<Task> getTaskManager() {
+		if (!this.optimized) {
+			this.updateTaskManager();
+		}
 		return this.taskManager;
 	}
 
+	/**
+	 * Gets the Unit-ID of the parent component.
+	 *
+	 * @return the Unit-ID; null if unknown
+	 */
+	public Integer getUnitId() {
+		if (this.parent == null) {
+			return null;
+		}
+		return this.parent.getUnitId();
+	}
+
 	/**
 	 * Deactivate the {@link ModbusProtocol}.
 	 */
-	public void deactivate() {
-		this.taskManager.getTasks() //
-				.forEach(Task::deactivate);
+	public synchronized void deactivate() {
+		this.tasks.forEach(Task::deactivate);
+		this.mergedTasks.forEach(Task::deactivate);
 	}
 }
@@ -46,33 +46,73 @@ public abstract class AbstractReadTask<//
 		try {
 			var response = this.executeRequest(bridge, this.createModbusRequest());
 			// On error a log message has already been logged
+			return this.processResponse(response);
 
-			try {
-				var result = this.parseResponse(response);
-				validateResponse(result, this.length);
-
-				// NOTE: onExecute has to be called before filling elements; but OK could be
-				// wrong if fillElements throws an exception.
-				this.onExecute.accept(ExecuteState.OK);
-				this.fillElements(result);
+		} catch (Exception e) {
+			return this.processError(bridge, e);
+		}
+	}
 
-				return ExecuteState.OK;
+	/**
+	 * Creates the {@link ModbusRequest} for pipelined execution, i.e. when the
+	 * request is sent together with other requests before any response is
+	 * received. See
+	 * {@link #executePipelined(AbstractModbusBridge, ModbusRequest, ModbusResponse)}.
+	 * 
+	 * @return the {@link ModbusRequest} with Unit-ID
+	 */
+	public REQUEST createPipelinedRequest() {
+		var request = this.createModbusRequest();
+		request.setUnitID(this.getParent().getUnitId());
+		return request;
+	}
 
-			} catch (OpenemsException e1) {
-				logError(this.log, e1, "Parsing Response failed.");
-				throw e1;
-			}
+	/**
+	 * Finishes the pipelined execution of this task with the received
+	 * {@link ModbusResponse}.
+	 * 
+	 * @param bridge   the Modbus-Bridge
+	 * @param request  the request that was created by
+	 *                 {@link #createPipelinedRequest()}
+	 * @param response the received {@link ModbusResponse}
+	 * @return the {@link ExecuteState}
+	 */
+	public ExecuteState executePipelined(AbstractModbusBridge bridge, REQUEST request, ModbusResponse response) {
+		try {
+			return this.processResponse(this.handlePipelinedResponse(bridge, request, response));
 
 		} catch (Exception e) {
-			var executeState = new ExecuteState.Error(e);
-			this.onExecute.accept(executeState);
+			return this.processError(bridge, e);
+		}
+	}
+
+	private ExecuteState processResponse(RESPONSE response) throws OpenemsException {
+		try {
+			var result = this.parseResponse(response);
+			validateResponse(result, this.length);
 
-			// Invalidate Elements
-			Stream.of(this.elements).forEach(el -> el.invalidate(bridge));
-			return executeState;
+			// NOTE: onExecute has to be called before filling elements; but OK could be
+			// wrong if fillElements throws an exception.
+			this.onExecute.accept(ExecuteState.OK);
+			this.fillElements(result);
+
+			return ExecuteState.OK;
+
+		} catch (OpenemsException e1) {
+			logError(this.log, e1, "Parsing Response failed.");
+			throw e1;
 		}
 	}
 
+	private ExecuteState processError(AbstractModbusBridge bridge, Exception e) {
+		var executeState = new ExecuteState.Error(e);
+		this.onExecute.accept(executeState);
+
+		// Invalidate Elements
+		Stream.of(this.elements).forEach(el -> el.invalidate(bridge));
+		return executeState;
+	}
+
 	/**
 	 * Verify length of response array.
 	 * 
@@ -10,6 +10,8 @@ import org.slf4j.LoggerFactory;
 
 import com.ghgande.j2mod.modbus.Modbus;
 import com.ghgande.j2mod.modbus.ModbusSlaveException;
+import com.ghgande.j2mod.modbus.io.ModbusTransaction;
+import com.ghgande.j2mod.modbus.msg.ExceptionResponse;
 import com.ghgande.j2mod.modbus.msg.ModbusRequest;
 import com.ghgande.j2mod.modbus.msg.ModbusResponse;
 import com.google.common.base.Stopwatch;
@@ -132,6 +134,26 @@ public abstract non-sealed class AbstractTask<//
 		FIRST_TRY, SECOND_TRY
 	}
 
+	/**
+	 * Logs the handling of a {@link ModbusResponse} that was received for a
+	 * pipelined {@link ModbusRequest}, i.e. a request that was sent together with
+	 * other requests before any response was received.
+	 * 
+	 * <p>
+	 * Errors are always logged, as there is no second try for pipelined requests.
+	 * 
+	 * @param bridge   the {@link AbstractModbusBridge}
+	 * @param request  the typed {@link ModbusRequest}
+	 * @param response the received {@link ModbusResponse}
+	 * @return the typed {@link ModbusResponse}
+	 * @throws Exception on error
+	 */
+	protected RESPONSE handlePipelinedResponse(AbstractModbusBridge bridge, REQUEST request, ModbusResponse response)
+			throws Exception {
+		return this.logRequest(TryExecute.SECOND_TRY, bridge, this.getLogVerbosity(bridge), request,
+				() -> castResponse(this.responseClazz, response));
+	}
+
 	/**
 	 * Logs the execution of a {@link ModbusRequest}.
 	 * 
@@ -369,9 +391,29 @@ public abstract non-sealed class AbstractTask<//
 		transaction.setRequest(request);
 		transaction.execute();
 
-		var response = transaction.getResponse();
+		return castResponse(clazz, transaction.getResponse());
+	}
+
+	/**
+	 * Casts a {@link ModbusResponse} to the expected type.
+	 * 
+	 * <p>
+	 * An {@link ExceptionResponse} is converted to a {@link ModbusSlaveException},
+	 * like it is done by {@link ModbusTransaction#execute()}.
+	 * 
+	 * @param <RESPONSE> the type of the response
+	 * @param clazz      the class of the response
+	 * @param response   the {@link ModbusResponse}
+	 * @return the typed {@link ModbusResponse}
+	 * @throws Exception on error
+	 */
+	private static <RESPONSE extends ModbusResponse> RESPONSE castResponse(Class<RESPONSE> clazz,
+			ModbusResponse response) throws Exception {
+		if (response instanceof ExceptionResponse e) {
+			throw new ModbusSlaveException(e.getExceptionCode());
+		}
 		if (clazz.isInstance(response)) {
-			return (RESPONSE) clazz.cast(response);
+			return clazz.cast(response);
 		}
 
 		throw new OpenemsException("Unexpected Modbus response. " //
@@ -0,0 +1,188 @@
+package io.openems.edge.bridge.modbus.api.task;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.ghgande.j2mod.modbus.Modbus;
+import com.ghgande.j2mod.modbus.ModbusSlaveException;
+
+import io.openems.edge.bridge.modbus.api.element.DummyRegisterElement;
+import io.openems.edge.bridge.modbus.api.element.ModbusElement;
+import io.openems.edge.bridge.modbus.api.task.Task.ExecuteState;
+import io.openems.edge.common.taskmanager.Priority;
+
+/**
+ * Merges {@link FC3ReadRegistersTask}s and {@link FC4ReadInputRegistersTask}s
+ * with the same {@link Priority} into larger read requests to reduce the number
+ * of Modbus transactions.
+ *
+ * <p>
+ * Two tasks are merged if the gap between them is at most 'maxGap' registers
+ * and the merged request does not exceed {@link #MAX_LENGTH} registers. Gaps are
+ * filled with {@link DummyRegisterElement}s.
+ *
+ * <p>
+ * If the device answers a merged request with an 'Illegal Data Address'
+ * exception, all merged tasks but the first are remembered as
+ * {@link MergePoint}s and never merged with their predecessor again. The
+ * 'onRejected' callback is called, so the tasks can be optimized again.
+ */
+public class ReadRegistersTaskOptimizer {
+
+	/** Max number of registers per FC3/FC4 request. */
+	public static final int MAX_LENGTH = 125;
+
+	private final Logger log = LoggerFactory.getLogger(ReadRegistersTaskOptimizer.class);
+
+	private final int maxGap;
+	private final Runnable onRejected;
+
+	/** Tasks that must not be merged with their predecessor. */
+	private final Set<MergePoint> rejectedMergePoints = ConcurrentHashMap.newKeySet();
+
+	private static record Key(Class<?> clazz, Priority priority) {
+	}
+
+	/**
+	 * Identifies a task that was appended to a merged request.
+	 *
+	 * @param unitId       the Modbus Unit-ID; null if unknown
+	 * @param startAddress the start address of the task
+	 * @param length       the number of registers of the task
+	 */
+	public static record MergePoint(Integer unitId, int startAddress, int length) {
+
+		private static MergePoint of(AbstractTask<?, ?> task) {
+			var parent = task.getParent();
+			return new MergePoint(parent == null ? null : parent.getUnitId(), task.getStartAddress(),
+					task.getLength());
+		}
+	}
+
+	/**
+	 * Constructor for {@link ReadRegistersTaskOptimizer}.
+	 *
+	 * @param maxGap     the max number of unused registers between two merged
+	 *                   tasks
+	 * @param onRejected called if the device rejected a merged request
+	 */
+	public ReadRegistersTaskOptimizer(int maxGap, Runnable onRejected) {
+		this.maxGap = maxGap;
+		this.onRejected = onRejected;
+	}
+
+	/**
+	 * Optimizes the given {@link Task}s. Tasks that cannot be merged are returned
+	 * as they are.
+	 *
+	 * @param tasks the original {@link Task}s
+	 * @return the optimized {@link Task}s
+	 */
+	public List<Task> optimize(List<Task> tasks) {
+		var result = new ArrayList<Task>();
+		var groups = new LinkedHashMap<Key, List<AbstractReadRegistersTask<?, ?>>>();
+		for (var task : tasks) {
+			if (isMergeable(task)) {
+				var t = (AbstractReadRegistersTask<?, ?>) task;
+				groups.computeIfAbsent(new Key(t.getClass(), t.getPriority()), k -> new ArrayList<>()).add(t);
+			} else {
+				result.add(task);
+			}
+		}
+
+		for (var group : groups.values()) {
+			group.sort(Comparator.comparingInt(AbstractTask::getStartAddress));
+			var merge = new ArrayList<AbstractReadRegistersTask<?, ?>>();
+			for (var task : group) {
+				if (!merge.isEmpty() && !this.canAppend(merge, task)) {
+					result.add(this.merge(merge));
+					merge.clear();
+				}
+				merge.add(task);
+			}
+			if (!merge.isEmpty()) {
+				result.add(this.merge(merge));
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Gets the {@link MergePoint}s that were rejected by the device.
+	 *
+	 * @return a copy of the rejected {@link MergePoint}s
+	 */
+	public Set<MergePoint> getRejectedMergePoints() {
+		return Set.copyOf(this.rejectedMergePoints);
+	}
+
+	private static boolean isMergeable(Task task) {
+		return task.getClass() == FC3ReadRegistersTask.class || task.getClass() == FC4ReadInputRegistersTask.class;
+	}
+
+	private boolean canAppend(List<AbstractReadRegistersTask<?, ?>> merge, AbstractReadRegistersTask<?, ?> task) {
+		var first = merge.get(0);
+		var last = merge.get(merge.size() - 1);
+		var end = last.getStartAddress() + last.getLength();
+		var gap = task.getStartAddress() - end;
+		return gap >= 0 // no overlap
+				&& gap <= this.maxGap //
+				&& task.getStartAddress() + task.getLength() - first.getStartAddress() <= MAX_LENGTH //
+				&& !this.rejectedMergePoints.contains(MergePoint.of(task));
+	}
+
+	private Task merge(List<AbstractReadRegistersTask<?, ?>> tasks) {
+		if (tasks.size() == 1) {
+			// Elements might still refer to a previous merged task
+			var task = tasks.get(0);
+			for (var element : task.getElements()) {
+				element.setModbusTask(task);
+			}
+			return task;
+		}
+		var first = tasks.get(0);
+		var elements = new ArrayList<ModbusElement>();
+		var nextAddress = first.getStartAddress();
+		for (var task : tasks) {
+			if (task.getStartAddress() > nextAddress) {
+				elements.add(new DummyRegisterElement(nextAddress, task.getStartAddress() - 1));
+			}
+			Stream.of(task.getElements()).forEach(elements::add);
+			nextAddress = task.getStartAddress() + task.getLength();
+		}
+		var mergedTasks = List.copyOf(tasks);
+		Consumer<ExecuteState> onExecute = state -> this.onExecute(mergedTasks, state);
+		var array = elements.toArray(ModbusElement[]::new);
+		if (first instanceof FC4ReadInputRegistersTask) {
+			return new FC4ReadInputRegistersTask(onExecute, first.getStartAddress(), first.getPriority(), array);
+		}
+		return new FC3ReadRegistersTask(onExecute, first.getStartAddress(), first.getPriority(), array);
+	}
+
+	private void onExecute(List<AbstractReadRegistersTask<?, ?>> tasks, ExecuteState state) {
+		for (var task : tasks) {
+			task.onExecute.accept(state);
+		}
+		if (state instanceof ExecuteState.Error error //
+				&& error.exception() instanceof ModbusSlaveException e //
+				&& e.isType(Modbus.ILLEGAL_ADDRESS_EXCEPTION)) {
+			var mergePoints = tasks.stream() //
+					.skip(1) // first task is not a merge point
+					.map(MergePoint::of) //
+					.toList();
+			this.log.info("Device rejected merged read request. Do not merge at " + mergePoints);
+			this.rejectedMergePoints.addAll(mergePoints);
+			this.onRejected.run();
+		}
+	}
+
+}
@@ -1,8 +1,11 @@
 package io.openems.edge.bridge.modbus.api.worker;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.IntSupplier;
 
 import io.openems.common.worker.AbstractImmediateWorker;
 import io.openems.edge.bridge.modbus.api.BridgeModbus;
@@ -10,11 +13,15 @@ import io.openems.edge.bridge.modbus.api.LogVerbosity;
 import io.openems.edge.bridge.modbus.api.ModbusComponent;
 import io.openems.edge.bridge.modbus.api.ModbusProtocol;
 import io.openems.edge.bridge.modbus.api.element.ModbusElement;
+import io.openems.edge.bridge.modbus.api.task.ReadTask;
 import io.openems.edge.bridge.modbus.api.task.Task;
 import io.openems.edge.bridge.modbus.api.task.Task.ExecuteState;
+import io.openems.edge.bridge.modbus.api.task.WaitTask;
+import io.openems.edge.bridge.modbus.api.worker.internal.AdaptiveTasksSupplier;
 import io.openems.edge.bridge.modbus.api.worker.internal.CycleTasks;
 import io.openems.edge.bridge.modbus.api.worker.internal.CycleTasksManager;
 import io.openems.edge.bridge.modbus.api.worker.internal.DefectiveComponents;
+import io.openems.edge.bridge.modbus.api.worker.internal.TaskLatencies;
 import io.openems.edge.bridge.modbus.api.worker.internal.TasksSupplierImpl;
 
 /**
@@ -27,15 +34,20 @@ import io.openems.edge.bridge.modbus.api.worker.internal.TasksSupplierImpl;
  * have values available exactly when they are needed (i.e. at the
  * TOPIC_CYCLE_BEFORE_PROCESS_IMAGE event). For this it uses a
  * {@link CycleTasksManager} that internally uses a {@link TasksSupplierImpl}
- * that supplies the tasks for one Cycle ({@link CycleTasks}).
+ * that supplies the tasks for one Cycle ({@link CycleTasks}). Optionally an
+ * {@link AdaptiveTasksSupplier} fits as many LOW priority tasks into a Cycle as
+ * the measured execution times allow.
  */
 public class ModbusWorker extends AbstractImmediateWorker {
 
 	// Callbacks
 	private final Function<Task, ExecuteState> execute;
+	private final Function<List<ReadTask>, List<ExecuteState>> executeReads;
+	private final IntSupplier maxReadTasksPerExecution;
 	private final Consumer<ModbusElement[]> invalidate;
 
 	private final DefectiveComponents defectiveComponents;
+	private final TaskLatencies taskLatencies = new TaskLatencies();
 	private final TasksSupplierImpl tasksSupplier;
 	private final CycleTasksManager cycleTasksManager;
 
@@ -44,6 +56,12 @@ public class ModbusWorker extends AbstractImmediateWorker {
 	 * 
 	 * @param execute                    executes a {@link Task}; returns number of
 	 *                                   actually executed subtasks
+	 * @param executeReads               executes multiple {@link ReadTask}s at
+	 *                                   once, e.g. pipelined; returns one
+	 *                                   {@link ExecuteState} per task
+	 * @param maxReadTasksPerExecution   the maximum number of {@link ReadTask}s
+	 *                                   that are passed to 'executeReads'; 1 to
+	 *                                   always use 'execute'
 	 * @param invalidate                 invalidates the given
 	 *                                   {@link ModbusElement}s after read errors
 	 * @param cycleTimeIsTooShortChannel sets the
@@ -54,25 +72,127 @@ public class ModbusWorker extends AbstractImmediateWorker {
 	 *                                   channel
 	 * @param logVerbosity               the configured {@link LogVerbosity}
 	 */
-	public ModbusWorker(Function<Task, ExecuteState> execute, Consumer<ModbusElement[]> invalidate,
-			Consumer<Boolean> cycleTimeIsTooShortChannel, Consumer<Long> cycleDelayChannel,
-			AtomicReference<LogVerbosity> logVerbosity) {
+	public ModbusWorker(Function<Task, ExecuteState> execute,
+			Function<List<ReadTask>, List<ExecuteState>> executeReads, IntSupplier maxReadTasksPerExecution,
+			Consumer<ModbusElement[]> invalidate, Consumer<Boolean> cycleTimeIsTooShortChannel,
+			Consumer<Long> cycleDelayChannel, AtomicReference<LogVerbosity> logVerbosity) {
+		this(execute, executeReads, maxReadTasksPerExecution, invalidate, cycleTimeIsTooShortChannel,
+				cycleDelayChannel, logVerbosity, new DefectiveComponents(logVerbosity));
+	}
+
+	/**
+	 * Constructor for {@link ModbusWorker} with a {@link DefectiveComponents}
+	 * instance that is shared with other {@link ModbusWorker}s.
+	 * 
+	 * @param execute                    executes a {@link Task}
+	 * @param executeReads               executes multiple {@link ReadTask}s at
+	 *                                   once
+	 * @param maxReadTasksPerExecution   the maximum number of {@link ReadTask}s
+	 *                                   that are passed to 'executeReads'
+	 * @param invalidate                 invalidates the given
+	 *                                   {@link ModbusElement}s after read errors
+	 * @param cycleTimeIsTooShortChannel sets the
+	 *                                   {@link BridgeModbus.ChannelId#CYCLE_TIME_IS_TOO_SHORT}
+	 *                                   channel
+	 * @param cycleDelayChannel          sets the
+	 *                                   {@link BridgeModbus.ChannelId#CYCLE_DELAY}
+	 *                                   channel
+	 * @param logVerbosity               the configured {@link LogVerbosity}
+	 * @param defectiveComponents        the shared {@link DefectiveComponents}
+	 */
+	public ModbusWorker(Function<Task, ExecuteState> execute,
+			Function<List<ReadTask>, List<ExecuteState>> executeReads, IntSupplier maxReadTasksPerExecution,
+			Consumer<ModbusElement[]> invalidate, Consumer<Boolean> cycleTimeIsTooShortChannel,
+			Consumer<Long> cycleDelayChannel, AtomicReference<LogVerbosity> logVerbosity,
+			DefectiveComponents defectiveComponents) {
+		this(execute, executeReads, maxReadTasksPerExecution, invalidate, cycleTimeIsTooShortChannel,
+				cycleDelayChannel, logVerbosity, defectiveComponents, false);
+	}
+
+	/**
+	 * Constructor for {@link ModbusWorker} with a {@link DefectiveComponents}
+	 * instance that is shared with other {@link ModbusWorker}s.
+	 * 
+	 * @param execute                    executes a {@link Task}
+	 * @param executeReads               executes multiple {@link ReadTask}s at
+	 *                                   once
+	 * @param maxReadTasksPerExecution   the maximum number of {@link ReadTask}s
+	 *                                   that are passed to 'executeReads'
+	 * @param invalidate                 invalidates the given
+	 *                                   {@link ModbusElement}s after read errors
+	 * @param cycleTimeIsTooShortChannel sets the
+	 *                                   {@link BridgeModbus.ChannelId#CYCLE_TIME_IS_TOO_SHORT}
+	 *                                   channel
+	 * @param cycleDelayChannel          sets the
+	 *                                   {@link BridgeModbus.ChannelId#CYCLE_DELAY}
+	 *                                   channel
+	 * @param logVerbosity               the configured {@link LogVerbosity}
+	 * @param defectiveComponents        the shared {@link DefectiveComponents}
+	 * @param adaptiveLowPriorityTasks   use the {@link AdaptiveTasksSupplier}
+	 *                                   instead of executing one LOW priority
+	 *                                   task per Cycle
+	 */
+	public ModbusWorker(Function<Task, ExecuteState> execute,
+			Function<List<ReadTask>, List<ExecuteState>> executeReads, IntSupplier maxReadTasksPerExecution,
+			Consumer<ModbusElement[]> invalidate, Consumer<Boolean> cycleTimeIsTooShortChannel,
+			Consumer<Long> cycleDelayChannel, AtomicReference<LogVerbosity> logVerbosity,
+			DefectiveComponents defectiveComponents, boolean adaptiveLowPriorityTasks) {
 		this.execute = execute;
+		this.executeReads = executeReads;
+		this.maxReadTasksPerExecution = maxReadTasksPerExecution;
 		this.invalidate = invalidate;
 
-		this.defectiveComponents = new DefectiveComponents(logVerbosity);
-		this.tasksSupplier = new TasksSupplierImpl();
+		this.defectiveComponents = defectiveComponents;
+		this.tasksSupplier = adaptiveLowPriorityTasks //
+				? new AdaptiveTasksSupplier(this.taskLatencies, this::getWaitDelay) //
+				: new TasksSupplierImpl();
 		this.cycleTasksManager = new CycleTasksManager(this.tasksSupplier, this.defectiveComponents,
 				cycleTimeIsTooShortChannel, cycleDelayChannel, logVerbosity);
 	}
 
+	private long getWaitDelay() {
+		return this.cycleTasksManager.getWaitDelay();
+	}
+
 	@Override
 	protected void forever() throws InterruptedException {
 		var task = this.cycleTasksManager.getNextTask();
 
+		var maxReadTasks = this.maxReadTasksPerExecution.getAsInt();
+		if (maxReadTasks > 1 && task instanceof ReadTask readTask) {
+			var furtherTasks = this.cycleTasksManager.pollReadTasks(readTask, maxReadTasks - 1);
+			if (!furtherTasks.isEmpty()) {
+				// execute multiple tasks at once
+				var tasks = new ArrayList<ReadTask>(furtherTasks.size() + 1);
+				tasks.add(readTask);
+				tasks.addAll(furtherTasks);
+				var start = System.nanoTime();
+				var results = this.executeReads.apply(tasks);
+				var duration = (System.nanoTime() - start) / tasks.size();
+				for (var i = 0; i < tasks.size(); i++) {
+					this.taskLatencies.add(tasks.get(i), duration);
+					this.handleExecuteState(tasks.get(i), results.get(i));
+				}
+				return;
+			}
+		}
+
 		// execute the task
+		var start = System.nanoTime();
 		var result = this.execute.apply(task);
+		if (!(task instanceof WaitTask)) {
+			this.taskLatencies.add(task, System.nanoTime() - start);
+		}
+		this.handleExecuteState(task, result);
+	}
 
+	/**
+	 * Handles the {@link ExecuteState} of an executed {@link Task}.
+	 * 
+	 * @param task   the {@link Task}
+	 * @param result the {@link ExecuteState}
+	 */
+	private void handleExecuteState(Task task, ExecuteState result) {
 		// NOTE: with Java 21 LTS this can be refactored to a pattern matching switch
 		// statement
 		if (result instanceof ExecuteState.Ok) {
@@ -125,6 +245,7 @@ public class ModbusWorker extends AbstractImmediateWorker {
 	public void addProtocol(String sourceId, ModbusProtocol protocol) {
 		this.tasksSupplier.addProtocol(sourceId, protocol);
 		this.defectiveComponents.remove(sourceId); // Cleanup
+		this.taskLatencies.retainAll(this.tasksSupplier.getAllTasks()); // Cleanup
 	}
 
 	/**
@@ -135,6 +256,7 @@ public class ModbusWorker extends AbstractImmediateWorker {
 	public void removeProtocol(String sourceId) {
 		this.tasksSupplier.removeProtocol(sourceId);
 		this.defectiveComponents.remove(sourceId); // Cleanup
+		this.taskLatencies.retainAll(this.tasksSupplier.getAllTasks()); // Cleanup
 	}
 
 	/**
@@ -149,6 +271,15 @@ public class ModbusWorker extends AbstractImmediateWorker {
 		this.defectiveComponents.remove(sourceId);
 	}
 
+	/**
+	 * Gets the aggregated execution times of all {@link Task}s.
+	 *
+	 * @return the {@link TaskLatencies.Summary}
+	 */
+	public TaskLatencies.Summary getTaskLatencies() {
+		return this.taskLatencies.getSummary();
+	}
+
 	/**
 	 * Called on EXECUTE_WRITE event.
 	 */
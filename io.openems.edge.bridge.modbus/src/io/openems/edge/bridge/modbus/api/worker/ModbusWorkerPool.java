@@ -0,0 +1,341 @@
+package io.openems.edge.bridge.modbus.api.worker;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.openems.edge.bridge.modbus.api.BridgeModbus;
+import io.openems.edge.bridge.modbus.api.LogVerbosity;
+import io.openems.edge.bridge.modbus.api.ModbusProtocol;
+import io.openems.edge.bridge.modbus.api.task.Task;
+import io.openems.edge.bridge.modbus.api.worker.internal.DefectiveComponents;
+import io.openems.edge.bridge.modbus.api.worker.internal.TaskLatencies;
+
+/**
+ * Distributes the {@link ModbusProtocol}s of one Modbus-Bridge to a pool of
+ * {@link ModbusWorker}s, e.g. one per connection to a Modbus/TCP gateway.
+ *
+ * <p>
+ * All Protocols of Components with the same Unit-ID are handled by the same
+ * {@link ModbusWorker}, so requests to one Unit-ID are never executed in
+ * parallel and keep their order. A new Unit-ID is assigned to the
+ * {@link ModbusWorker} that handles the least Components. All
+ * {@link ModbusWorker}s share one {@link DefectiveComponents} instance.
+ */
+public class ModbusWorkerPool {
+
+	@FunctionalInterface
+	public static interface WorkerFactory {
+
+		/**
+		 * Creates a {@link ModbusWorker}.
+		 *
+		 * @param index                      the index of the {@link ModbusWorker}
+		 *                                   in the pool
+		 * @param defectiveComponents        the shared {@link DefectiveComponents}
+		 * @param cycleTimeIsTooShortChannel sets the aggregated
+		 *                                   {@link BridgeModbus.ChannelId#CYCLE_TIME_IS_TOO_SHORT}
+		 *                                   channel
+		 * @param cycleDelayChannel          sets the aggregated
+		 *                                   {@link BridgeModbus.ChannelId#CYCLE_DELAY}
+		 *                                   channel
+		 * @return the {@link ModbusWorker}
+		 */
+		public ModbusWorker create(int index, DefectiveComponents defectiveComponents,
+				Consumer<Boolean> cycleTimeIsTooShortChannel, Consumer<Long> cycleDelayChannel);
+	}
+
+	/**
+	 * Maximum time to wait for the old {@link ModbusWorker}s to finish their
+	 * current {@link Task} when the pool is resized.
+	 */
+	private static final long TERMINATION_TIMEOUT_MILLIS = 5_000;
+
+	private static record Entry(ModbusWorker worker, AtomicBoolean cycleTimeIsTooShort, AtomicLong cycleDelay) {
+	}
+
+	private final Logger log = LoggerFactory.getLogger(ModbusWorkerPool.class);
+
+	private final WorkerFactory factory;
+	private final Consumer<Boolean> cycleTimeIsTooShortChannel;
+	private final Consumer<Long> cycleDelayChannel;
+	private final DefectiveComponents defectiveComponents;
+
+	/** Source-ID -> ModbusProtocol. */
+	private final Map<String, ModbusProtocol> protocols = new HashMap<>();
+	/** Source-ID -> Index of ModbusWorker. */
+	private final Map<String, Integer> assignments = new HashMap<>();
+
+	private volatile List<Entry> entries = List.of();
+
+	/**
+	 * Constructor for {@link ModbusWorkerPool}.
+	 *
+	 * @param factory                    the {@link WorkerFactory}
+	 * @param cycleTimeIsTooShortChannel sets the
+	 *                                   {@link BridgeModbus.ChannelId#CYCLE_TIME_IS_TOO_SHORT}
+	 *                                   channel; true if it is true for any
+	 *                                   {@link ModbusWorker}
+	 * @param cycleDelayChannel          sets the
+	 *                                   {@link BridgeModbus.ChannelId#CYCLE_DELAY}
+	 *                                   channel; the minimum of all
+	 *                                   {@link ModbusWorker}s
+	 * @param logVerbosity               the configured {@link LogVerbosity}
+	 */
+	public ModbusWorkerPool(WorkerFactory factory, Consumer<Boolean> cycleTimeIsTooShortChannel,
+			Consumer<Long> cycleDelayChannel, AtomicReference<LogVerbosity> logVerbosity) {
+		this.factory = factory;
+		this.cycleTimeIsTooShortChannel = cycleTimeIsTooShortChannel;
+		this.cycleDelayChannel = cycleDelayChannel;
+		this.defectiveComponents = new DefectiveComponents(logVerbosity);
+	}
+
+	/**
+	 * Creates and starts the {@link ModbusWorker}s.
+	 *
+	 * @param id   the Component-ID of the Modbus-Bridge
+	 * @param size the number of {@link ModbusWorker}s
+	 */
+	public synchronized void activate(String id, int size) {
+		this.createWorkers(Math.max(1, size));
+		this.forEachWorker((index, worker) -> worker.activate(getName(id, index)));
+	}
+
+	/**
+	 * Applies a modified configuration. If the number of {@link ModbusWorker}s
+	 * changed, all {@link ModbusWorker}s are recreated and the
+	 * {@link ModbusProtocol}s are distributed again. The new {@link ModbusWorker}s
+	 * are only started after the old ones terminated, so two threads never use
+	 * the same connection at once.
+	 *
+	 * @param id   the Component-ID of the Modbus-Bridge
+	 * @param size the number of {@link ModbusWorker}s
+	 */
+	public synchronized void modified(String id, int size) {
+		this.modified(id, size, false);
+	}
+
+	/**
+	 * Applies a modified configuration. See {@link #modified(String, int)}.
+	 *
+	 * @param id       the Component-ID of the Modbus-Bridge
+	 * @param size     the number of {@link ModbusWorker}s
+	 * @param recreate recreate the {@link ModbusWorker}s even if their number did
+	 *                 not change, e.g. because the {@link WorkerFactory} creates
+	 *                 them differently now
+	 */
+	public synchronized void modified(String id, int size, boolean recreate) {
+		if (recreate || Math.max(1, size) != this.entries.size()) {
+			this.deactivate();
+			this.awaitTermination();
+			this.activate(id, size);
+			return;
+		}
+		this.forEachWorker((index, worker) -> worker.modified(getName(id, index)));
+	}
+
+	/**
+	 * Stops all {@link ModbusWorker}s.
+	 */
+	public synchronized void deactivate() {
+		this.forEachWorker((index, worker) -> worker.deactivate());
+	}
+
+	private void awaitTermination() {
+		var deadline = System.currentTimeMillis() + TERMINATION_TIMEOUT_MILLIS;
+		try {
+			for (var entry : this.entries) {
+				var timeout = deadline - System.currentTimeMillis();
+				if (!entry.worker().awaitTermination(timeout, TimeUnit.MILLISECONDS)) {
+					this.log.warn("ModbusWorker did not terminate within " + TERMINATION_TIMEOUT_MILLIS + " ms");
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Adds the protocol.
+	 *
+	 * @param sourceId Component-ID of the source
+	 * @param protocol the ModbusProtocol
+	 */
+	public synchronized void addProtocol(String sourceId, ModbusProtocol protocol) {
+		this.removeProtocol(sourceId);
+		this.protocols.put(sourceId, protocol);
+		this.assign(sourceId, protocol);
+	}
+
+	/**
+	 * Removes the protocol.
+	 *
+	 * @param sourceId Component-ID of the source
+	 */
+	public synchronized void removeProtocol(String sourceId) {
+		this.protocols.remove(sourceId);
+		var index = this.assignments.remove(sourceId);
+		if (index != null) {
+			this.entries.get(index).worker().removeProtocol(sourceId);
+		}
+	}
+
+	/**
+	 * Retry Modbus communication to given Component-ID.
+	 *
+	 * <p>
+	 * See {@link BridgeModbus#retryModbusCommunication(String)}
+	 *
+	 * @param sourceId Component-ID of the source
+	 */
+	public void retryModbusCommunication(String sourceId) {
+		this.defectiveComponents.remove(sourceId);
+	}
+
+	/**
+	 * Called on EXECUTE_WRITE event.
+	 */
+	public void onExecuteWrite() {
+		for (var entry : this.entries) {
+			entry.worker().onExecuteWrite();
+		}
+	}
+
+	/**
+	 * Called on BEFORE_PROCESS_IMAGE event.
+	 */
+	public void onBeforeProcessImage() {
+		for (var entry : this.entries) {
+			entry.worker().onBeforeProcessImage();
+		}
+	}
+
+	/**
+	 * Gets the aggregated execution times of the {@link Task}s of all
+	 * {@link ModbusWorker}s.
+	 *
+	 * @return the {@link TaskLatencies.Summary}
+	 */
+	public TaskLatencies.Summary getTaskLatencies() {
+		var result = TaskLatencies.Summary.EMPTY;
+		for (var entry : this.entries) {
+			result = result.merge(entry.worker().getTaskLatencies());
+		}
+		return result;
+	}
+
+	/**
+	 * Gets the number of {@link ModbusWorker}s.
+	 *
+	 * @return the size of the pool
+	 */
+	public int size() {
+		return this.entries.size();
+	}
+
+	/**
+	 * Gets the index of the {@link ModbusWorker} that handles the given
+	 * Source-ID.
+	 *
+	 * @param sourceId Component-ID of the source
+	 * @return the index; null if the Source-ID is unknown
+	 */
+	public synchronized Integer getAssignment(String sourceId) {
+		return this.assignments.get(sourceId);
+	}
+
+	private void createWorkers(int size) {
+		var entries = new ArrayList<Entry>(size);
+		for (var i = 0; i < size; i++) {
+			var cycleTimeIsTooShort = new AtomicBoolean();
+			var cycleDelay = new AtomicLong();
+			var worker = this.factory.create(i, this.defectiveComponents, //
+					value -> {
+						cycleTimeIsTooShort.set(value);
+						this.publishCycleTimeIsTooShort();
+					}, //
+					value -> {
+						cycleDelay.set(value);
+						this.publishCycleDelay();
+					});
+			entries.add(new Entry(worker, cycleTimeIsTooShort, cycleDelay));
+		}
+		this.entries = List.copyOf(entries);
+
+		// Distribute existing Protocols
+		this.assignments.clear();
+		this.protocols.forEach(this::assign);
+	}
+
+	private void assign(String sourceId, ModbusProtocol protocol) {
+		if (this.entries.isEmpty()) {
+			// Not activated yet; Protocols are distributed in createWorkers()
+			return;
+		}
+		var unitId = protocol.getUnitId();
+		Integer index = null;
+		if (unitId != null) {
+			// Use the ModbusWorker that already handles this Unit-ID
+			index = this.assignments.entrySet().stream() //
+					.filter(e -> unitId.equals(this.protocols.get(e.getKey()).getUnitId())) //
+					.map(Map.Entry::getValue) //
+					.findFirst() //
+					.orElse(null);
+		}
+		if (index == null) {
+			index = this.getLeastAssignedIndex();
+		}
+		this.assignments.put(sourceId, index);
+		this.entries.get(index).worker().addProtocol(sourceId, protocol);
+	}
+
+	private int getLeastAssignedIndex() {
+		var counts = new int[this.entries.size()];
+		this.assignments.values().forEach(i -> counts[i]++);
+		var result = 0;
+		for (var i = 1; i < counts.length; i++) {
+			if (counts[i] < counts[result]) {
+				result = i;
+			}
+		}
+		return result;
+	}
+
+	private void publishCycleTimeIsTooShort() {
+		this.cycleTimeIsTooShortChannel.accept(this.entries.stream() //
+				.anyMatch(e -> e.cycleTimeIsTooShort().get()));
+	}
+
+	private void publishCycleDelay() {
+		this.cycleDelayChannel.accept(this.entries.stream() //
+				.mapToLong(e -> e.cycleDelay().get()) //
+				.min() //
+				.orElse(0));
+	}
+
+	private void forEachWorker(WorkerConsumer consumer) {
+		var entries = this.entries;
+		for (var i = 0; i < entries.size(); i++) {
+			consumer.accept(i, entries.get(i).worker());
+		}
+	}
+
+	@FunctionalInterface
+	private static interface WorkerConsumer {
+		public void accept(int index, ModbusWorker worker);
+	}
+
+	private static String getName(String id, int index) {
+		return index == 0 ? id : id + "-" + index;
+	}
+
+}
@@ -0,0 +1,135 @@
+package io.openems.edge.bridge.modbus.api.worker.internal;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+import io.openems.edge.bridge.modbus.api.task.ReadTask;
+import io.openems.edge.bridge.modbus.api.task.Task;
+import io.openems.edge.common.taskmanager.Priority;
+import io.openems.edge.common.type.Tuple;
+
+/**
+ * Supplies Tasks and fits as many LOW priority {@link ReadTask}s into a Cycle
+ * as the remaining time allows.
+ *
+ * <p>
+ * LOW priority tasks are ordered by staleness, i.e. the number of Cycles since
+ * they were last scheduled. Tasks are added as long as the sum of their
+ * estimated execution times (see {@link TaskLatencies#getEstimate(Task)}) fits
+ * into the budget.
+ *
+ * <p>
+ * The slack is the current wait delay of the {@link WaitDelayHandler} plus the
+ * cost of the LOW priority tasks of the previous Cycle - which the wait delay
+ * already accounts for. The budget keeps a headroom of {@link #HEADROOM_SHARE}
+ * of the slack plus {@link #HEADROOM_MS}, so that reads still happen as late as
+ * possible and estimation errors do not overrun the Cycle. If the Cycle time
+ * was too short nevertheless, the budget is limited to half of the previous
+ * cost; the limit is then raised by {@link #DEFAULT_LATENCY} per Cycle
+ * (additive increase, multiplicative decrease).
+ *
+ * <p>
+ * If no task fits, the stalest task is still scheduled if it was never executed
+ * before or if it was not scheduled for twice the number of LOW priority tasks
+ * Cycles. So every LOW priority task is read eventually, even on an overloaded
+ * bridge.
+ */
+public class AdaptiveTasksSupplier extends TasksSupplierImpl {
+
+	/** Assumed execution time of a task without measurements, in [ms]. */
+	protected static final double DEFAULT_LATENCY = 20;
+	/** Share of the slack that is not used for LOW priority tasks. */
+	protected static final double HEADROOM_SHARE = 0.25;
+	/** Fixed part of the slack that is not used for LOW priority tasks, in [ms]. */
+	protected static final double HEADROOM_MS = 10;
+
+	private final TaskLatencies latencies;
+	private final LongSupplier waitDelay;
+
+	/** LOW priority ReadTask -> Cycle when it was last scheduled. */
+	private final Map<ReadTask, Long> lastScheduled = new HashMap<>();
+
+	private long cycle = 0;
+	private double previousCost = 0;
+	private double limit = Double.MAX_VALUE;
+
+	/**
+	 * Constructor for {@link AdaptiveTasksSupplier}.
+	 *
+	 * @param latencies the {@link TaskLatencies}
+	 * @param waitDelay supplies the current wait delay in [ms]
+	 */
+	public AdaptiveTasksSupplier(TaskLatencies latencies, LongSupplier waitDelay) {
+		this.latencies = latencies;
+		this.waitDelay = waitDelay;
+	}
+
+	@Override
+	protected synchronized List<Tuple<String, ReadTask>> getLowPriorityReadTasks() {
+		this.cycle++;
+		var candidates = this.getAllLowPriorityReadTasks();
+
+		// Cleanup
+		var readTasks = new HashSet<ReadTask>();
+		candidates.forEach(t -> readTasks.add(t.b()));
+		this.lastScheduled.keySet().retainAll(readTasks);
+		this.latencies.retainAll(this.getAllTasks());
+
+		// Stalest first
+		candidates.sort(Comparator.comparingLong(t -> this.lastScheduled.getOrDefault(t.b(), 0L)));
+
+		var budget = this.getBudget();
+		var defaultLatency = this.latencies.getAverage();
+		if (defaultLatency == null) {
+			defaultLatency = DEFAULT_LATENCY;
+		}
+		var maxStaleness = 2L * candidates.size();
+		var result = new ArrayList<Tuple<String, ReadTask>>();
+		var cost = 0.;
+		for (var candidate : candidates) {
+			var task = candidate.b();
+			var latency = this.latencies.getEstimate(task);
+			var estimate = latency != null ? latency : defaultLatency;
+			var isForced = result.isEmpty() //
+					&& (latency == null || this.cycle - this.lastScheduled.getOrDefault(task, 0L) >= maxStaleness);
+			if (cost + estimate <= budget || isForced) {
+				result.add(candidate);
+				cost += estimate;
+				this.lastScheduled.put(task, this.cycle);
+			}
+		}
+		this.previousCost = cost;
+		return result;
+	}
+
+	private double getBudget() {
+		var waitDelay = this.waitDelay.getAsLong();
+		if (waitDelay <= 0) {
+			// Cycle time was too short -> reduce
+			this.limit = this.previousCost / 2;
+			return this.limit;
+		}
+		if (this.limit < Double.MAX_VALUE) {
+			this.limit += DEFAULT_LATENCY;
+		}
+		var slack = waitDelay + this.previousCost;
+		var budget = slack * (1 - HEADROOM_SHARE) - HEADROOM_MS;
+		return Math.max(0, Math.min(budget, this.limit));
+	}
+
+	/**
+	 * Gets the Cycle in which the given task was last scheduled.
+	 *
+	 * @param task the LOW {@link Priority} {@link ReadTask}
+	 * @return the Cycle; null if it was never scheduled
+	 */
+	protected synchronized Long getLastScheduled(ReadTask task) {
+		return this.lastScheduled.get(task);
+	}
+
+}
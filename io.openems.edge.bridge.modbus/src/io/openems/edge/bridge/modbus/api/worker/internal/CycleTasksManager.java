@@ -1,5 +1,7 @@
 package io.openems.edge.bridge.modbus.api.worker.internal;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 
@@ -7,9 +9,11 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import io.openems.edge.bridge.modbus.api.LogVerbosity;
+import io.openems.edge.bridge.modbus.api.task.ReadTask;
 import io.openems.edge.bridge.modbus.api.task.Task;
 import io.openems.edge.bridge.modbus.api.task.WaitTask;
 import io.openems.edge.bridge.modbus.api.worker.ModbusWorker;
+import io.openems.edge.common.taskmanager.Priority;
 
 /**
  * Manages the Read-, Write- and Wait-Tasks for one Cycle.
@@ -193,6 +197,52 @@ public class CycleTasksManager {
 		return nextTask;
 	}
 
+	/**
+	 * Gets the current wait delay of the {@link WaitDelayHandler}, i.e. the time
+	 * in the Cycle that is not required for executing tasks.
+	 *
+	 * @return the wait delay in [ms]
+	 */
+	public long getWaitDelay() {
+		return this.waitDelayHandler.getWaitDelayTask().initialDelay;
+	}
+
+	/**
+	 * Polls further {@link ReadTask}s that can be executed together with a
+	 * {@link ReadTask} that was returned by {@link #getNextTask()}, e.g. as
+	 * pipelined requests.
+	 * 
+	 * <p>
+	 * Only tasks of the current read phase with the same {@link Priority} as the
+	 * given task are returned, so HIGH priority tasks are still read as late as
+	 * possible. The State-Machine is not changed.
+	 * 
+	 * @param task the {@link ReadTask} returned by {@link #getNextTask()}
+	 * @param max  the maximum number of additional tasks
+	 * @return a list of {@link ReadTask}s; possibly empty
+	 */
+	public List<ReadTask> pollReadTasks(ReadTask task, int max) {
+		var result = new ArrayList<ReadTask>();
+		var cycleTasks = this.cycleTasks;
+		if (cycleTasks == null) {
+			return result;
+		}
+		switch (this.state) {
+		case READ_BEFORE_WRITE, READ_AFTER_WRITE -> {
+			while (result.size() < max) {
+				var next = cycleTasks.reads().peek();
+				if (next == null || next.getPriority() != task.getPriority()) {
+					break;
+				}
+				result.add(cycleTasks.reads().poll());
+			}
+		}
+		case INITIAL_WAIT, WAIT_FOR_WRITE, WRITE, WAIT_BEFORE_READ, FINISHED -> {
+		}
+		}
+		return result;
+	}
+
 	/**
 	 * Waiting in INITIAL_WAIT or WAIT_BEFORE_READ finished.
 	 */
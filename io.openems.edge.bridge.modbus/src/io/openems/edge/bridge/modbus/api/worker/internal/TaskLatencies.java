@@ -0,0 +1,166 @@
+package io.openems.edge.bridge.modbus.api.worker.internal;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+
+import io.openems.edge.bridge.modbus.api.task.Task;
+
+/**
+ * Holds the measured execution time of {@link Task}s as exponential moving
+ * average in [ms].
+ *
+ * <p>
+ * Besides the average, the mean deviation and the last measurement are kept to
+ * get a conservative estimate for scheduling; see {@link #getEstimate(Task)}.
+ */
+public class TaskLatencies {
+
+	/**
+	 * Aggregated average execution times of multiple {@link Task}s.
+	 *
+	 * @param count number of measured {@link Task}s
+	 * @param sum   sum of the averages in [ms]
+	 * @param max   maximum of the averages in [ms]
+	 */
+	public static record Summary(int count, double sum, double max) {
+
+		public static final Summary EMPTY = new Summary(0, 0, 0);
+
+		/**
+		 * Merges this {@link Summary} with another one.
+		 *
+		 * @param other the other {@link Summary}
+		 * @return a new {@link Summary}
+		 */
+		public Summary merge(Summary other) {
+			return new Summary(this.count + other.count, this.sum + other.sum, Math.max(this.max, other.max));
+		}
+
+		/**
+		 * Gets the mean of the averages.
+		 *
+		 * @return the mean in [ms]; null if no task was measured
+		 */
+		public Double getMean() {
+			return this.count > 0 ? this.sum / this.count : null;
+		}
+
+		/**
+		 * Gets the maximum of the averages.
+		 *
+		 * @return the maximum in [ms]; null if no task was measured
+		 */
+		public Double getMax() {
+			return this.count > 0 ? this.max : null;
+		}
+	}
+
+	/** Weight of a new measurement for the average. */
+	private static final double ALPHA = 0.2;
+	/** Weight of a new measurement for the mean deviation. */
+	private static final double BETA = 0.25;
+	/** Number of mean deviations that are added to the average for estimates. */
+	private static final double DEVIATIONS = 2;
+
+	private static class Latency {
+		private double average;
+		private double deviation = 0;
+		private double last;
+
+		private Latency(double millis) {
+			this.average = millis;
+			this.last = millis;
+		}
+
+		private void add(double millis) {
+			this.deviation += BETA * (Math.abs(millis - this.average) - this.deviation);
+			this.average += ALPHA * (millis - this.average);
+			this.last = millis;
+		}
+
+		private double getEstimate() {
+			return Math.max(this.last, this.average + DEVIATIONS * this.deviation);
+		}
+	}
+
+	private final Map<Task, Latency> latencies = new HashMap<>();
+
+	/**
+	 * Adds a measurement.
+	 *
+	 * @param task  the {@link Task}
+	 * @param nanos the execution time in [ns]
+	 */
+	public synchronized void add(Task task, long nanos) {
+		var millis = nanos / 1_000_000.;
+		var latency = this.latencies.get(task);
+		if (latency == null) {
+			this.latencies.put(task, new Latency(millis));
+		} else {
+			latency.add(millis);
+		}
+	}
+
+	/**
+	 * Gets the average execution time of a {@link Task}.
+	 *
+	 * @param task the {@link Task}
+	 * @return the execution time in [ms]; null if the task was never measured
+	 */
+	public synchronized Double get(Task task) {
+		var latency = this.latencies.get(task);
+		return latency != null ? latency.average : null;
+	}
+
+	/**
+	 * Gets a conservative estimate of the execution time of a {@link Task}: the
+	 * average plus twice the mean deviation, but at least the last measurement.
+	 *
+	 * @param task the {@link Task}
+	 * @return the execution time in [ms]; null if the task was never measured
+	 */
+	public synchronized Double getEstimate(Task task) {
+		var latency = this.latencies.get(task);
+		return latency != null ? latency.getEstimate() : null;
+	}
+
+	/**
+	 * Gets the average estimated execution time of all measured {@link Task}s.
+	 *
+	 * @return the average in [ms]; null if no task was measured
+	 */
+	public synchronized Double getAverage() {
+		var average = this.latencies.values().stream() //
+				.mapToDouble(Latency::getEstimate) //
+				.average();
+		return average.isPresent() ? average.getAsDouble() : null;
+	}
+
+	/**
+	 * Gets the {@link Summary} of the average execution times of all measured
+	 * {@link Task}s.
+	 *
+	 * @return the {@link Summary}
+	 */
+	public synchronized Summary getSummary() {
+		var sum = 0.;
+		var max = 0.;
+		for (var latency : this.latencies.values()) {
+			sum += latency.average;
+			max = Math.max(max, latency.average);
+		}
+		return new Summary(this.latencies.size(), sum, max);
+	}
+
+	/**
+	 * Forgets about all {@link Task}s that are not in the given collection.
+	 *
+	 * @param tasks the current {@link Task}s
+	 */
+	public synchronized void retainAll(Collection<? extends Task> tasks) {
+		this.latencies.keySet().retainAll(new HashSet<>(tasks));
+	}
+
+}
@@ -1,8 +1,10 @@
 package io.openems.edge.bridge.modbus.api.worker.internal;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
 import java.util.Queue;
 import java.util.stream.Collectors;
@@ -21,9 +23,13 @@ import io.openems.edge.common.type.Tuple;
 public class TasksSupplierImpl implements TasksSupplier {
 
 	/**
-	 * Source-ID -> TasksManager for {@link Task}s.
+	 * Source-ID -> {@link ModbusProtocol}.
+	 *
+	 * <p>
+	 * The {@link TasksManager} is requested from the protocol on every access,
+	 * because a protocol may optimize its Tasks lazily.
 	 */
-	private final Map<String, TasksManager<Task>> taskManagers = new HashMap<>();
+	private final Map<String, ModbusProtocol> protocols = new HashMap<>();
 
 	/**
 	 * Queue of LOW priority {@link ReadTask}s.
@@ -37,7 +43,7 @@ public class TasksSupplierImpl implements TasksSupplier {
 	 * @param protocol the ModbusProtocol
 	 */
 	public synchronized void addProtocol(String sourceId, ModbusProtocol protocol) {
-		this.taskManagers.put(sourceId, protocol.getTaskManager());
+		this.protocols.put(sourceId, protocol);
 	}
 
 	/**
@@ -46,25 +52,22 @@ public class TasksSupplierImpl implements TasksSupplier {
 	 * @param sourceId Component-ID of the source
 	 */
 	public synchronized void removeProtocol(String sourceId) {
-		this.taskManagers.remove(sourceId);
+		this.protocols.remove(sourceId);
 		this.nextLowPriorityTasks.removeIf(t -> t.a() == sourceId);
 	}
 
 	@Override
 	public synchronized CycleTasks getCycleTasks(DefectiveComponents defectiveComponents) {
 		Map<String, LinkedList<Task>> tasks = new HashMap<>();
-		// One Low Priority ReadTask
-		{
-			var t = this.getOneLowPriorityReadTask();
-			if (t != null) {
-				tasks.computeIfAbsent(t.a(), (ignore) -> new LinkedList<>()) //
-						.add(t.b());
-			}
+		// Low Priority ReadTasks
+		for (var t : this.getLowPriorityReadTasks()) {
+			tasks.computeIfAbsent(t.a(), (ignore) -> new LinkedList<>()) //
+					.add(t.b());
 		}
 		// All High Priority ReadTasks + all WriteTasks
-		this.taskManagers.forEach((id, taskManager) -> {
+		this.protocols.forEach((id, protocol) -> {
 			var list = tasks.computeIfAbsent(id, (ignore) -> new LinkedList<>());
-			taskManager.getTasks().stream() //
+			protocol.getTaskManager().getTasks().stream() //
 					.filter(t -> t instanceof WriteTask || t.getPriority() == Priority.HIGH) //
 					.forEach(list::add);
 		});
@@ -95,6 +98,49 @@ public class TasksSupplierImpl implements TasksSupplier {
 						.collect(Collectors.toCollection(LinkedList::new)));
 	}
 
+	/**
+	 * Gets the LOW priority {@link ReadTask}s for one Cycle.
+	 *
+	 * <p>
+	 * By default this is exactly one task, taken round-robin.
+	 *
+	 * @return a list of tuples of Source-ID and {@link ReadTask}; possibly empty
+	 */
+	protected synchronized List<Tuple<String, ReadTask>> getLowPriorityReadTasks() {
+		var t = this.getOneLowPriorityReadTask();
+		if (t == null) {
+			return List.of();
+		}
+		return List.of(t);
+	}
+
+	/**
+	 * Gets all LOW priority {@link ReadTask}s of all Protocols.
+	 *
+	 * @return a list of tuples of Source-ID and {@link ReadTask}
+	 */
+	protected synchronized List<Tuple<String, ReadTask>> getAllLowPriorityReadTasks() {
+		var result = new ArrayList<Tuple<String, ReadTask>>();
+		this.protocols.forEach((id, protocol) -> {
+			protocol.getTaskManager().getTasks(Priority.LOW).stream() //
+					.filter(ReadTask.class::isInstance).map(ReadTask.class::cast) //
+					.map(t -> new Tuple<String, ReadTask>(id, t)) //
+					.forEach(result::add);
+		});
+		return result;
+	}
+
+	/**
+	 * Gets all {@link Task}s of all Protocols.
+	 *
+	 * @return a list of {@link Task}s
+	 */
+	public synchronized List<Task> getAllTasks() {
+		return this.protocols.values().stream() //
+				.flatMap(p -> p.getTaskManager().getTasks().stream()) //
+				.toList();
+	}
+
 	/**
 	 * Get one LOW priority task.
 	 *
@@ -112,20 +158,15 @@ public class TasksSupplierImpl implements TasksSupplier {
 				return null;
 			}
 			// refill the queue
-			this.taskManagers.forEach((id, taskManager) -> {
-				taskManager.getTasks(Priority.LOW).stream() //
-						.filter(ReadTask.class::isInstance).map(ReadTask.class::cast) //
-						.map(t -> new Tuple<String, ReadTask>(id, t)) //
-						.forEach(this.nextLowPriorityTasks::add);
-			});
+			this.nextLowPriorityTasks.addAll(this.getAllLowPriorityReadTasks());
 			refilledBefore = true;
 		}
 	}
 
 	@Override
 	public synchronized int getTotalNumberOfTasks() {
-		return this.taskManagers.values().stream() //
-				.mapToInt(m -> m.countTasks()) //
+		return this.protocols.values().stream() //
+				.mapToInt(p -> p.getTaskManager().countTasks()) //
 				.sum();
 	}
 }
@@ -20,6 +20,8 @@ public class MyConfigSerial extends AbstractComponentConfig implements ConfigSer
 		private int delayAfterTx;
 		private LogVerbosity logVerbosity;
 		private int invalidateElementsAfterReadErrors;
+		private int readRegistersMaxGap = -1;
+		private boolean adaptiveLowPriorityTasks = false;
 
 		private Builder() {
 		}
@@ -79,6 +81,16 @@ public class MyConfigSerial extends AbstractComponentConfig implements ConfigSer
 			return this;
 		}
 
+		public Builder setReadRegistersMaxGap(int readRegistersMaxGap) {
+			this.readRegistersMaxGap = readRegistersMaxGap;
+			return this;
+		}
+
+		public Builder setAdaptiveLowPriorityTasks(boolean adaptiveLowPriorityTasks) {
+			this.adaptiveLowPriorityTasks = adaptiveLowPriorityTasks;
+			return this;
+		}
+
 		public MyConfigSerial build() {
 			return new MyConfigSerial(this);
 		}
@@ -150,4 +162,14 @@ public class MyConfigSerial extends AbstractComponentConfig implements ConfigSer
 		return this.builder.invalidateElementsAfterReadErrors;
 	}
 
-}
\ No newline at end of file
+	@Override
+	public int readRegistersMaxGap() {
+		return this.builder.readRegistersMaxGap;
+	}
+
+	@Override
+	public boolean adaptiveLowPriorityTasks() {
+		return this.builder.adaptiveLowPriorityTasks;
+	}
+
+}
@@ -12,6 +12,10 @@ public class MyConfigTcp extends AbstractComponentConfig implements ConfigTcp {
 		private int port;
 		private LogVerbosity logVerbosity;
 		private int invalidateElementsAfterReadErrors;
+		private int readRegistersMaxGap = -1;
+		private boolean adaptiveLowPriorityTasks = false;
+		private int pipelineDepth = 1;
+		private int connections = 1;
 
 		private Builder() {
 		}
@@ -41,6 +45,26 @@ public class MyConfigTcp extends AbstractComponentConfig implements ConfigTcp {
 			return this;
 		}
 
+		public Builder setPipelineDepth(int pipelineDepth) {
+			this.pipelineDepth = pipelineDepth;
+			return this;
+		}
+
+		public Builder setConnections(int connections) {
+			this.connections = connections;
+			return this;
+		}
+
+		public Builder setReadRegistersMaxGap(int readRegistersMaxGap) {
+			this.readRegistersMaxGap = readRegistersMaxGap;
+			return this;
+		}
+
+		public Builder setAdaptiveLowPriorityTasks(boolean adaptiveLowPriorityTasks) {
+			this.adaptiveLowPriorityTasks = adaptiveLowPriorityTasks;
+			return this;
+		}
+
 		public MyConfigTcp build() {
 			return new MyConfigTcp(this);
 		}
@@ -82,4 +106,24 @@ public class MyConfigTcp extends AbstractComponentConfig implements ConfigTcp {
 		return this.builder.invalidateElementsAfterReadErrors;
 	}
 
-}
\ No newline at end of file
+	@Override
+	public int pipelineDepth() {
+		return this.builder.pipelineDepth;
+	}
+
+	@Override
+	public int connections() {
+		return this.builder.connections;
+	}
+
+	@Override
+	public int readRegistersMaxGap() {
+		return this.builder.readRegistersMaxGap;
+	}
+
+	@Override
+	public boolean adaptiveLowPriorityTasks() {
+		return this.builder.adaptiveLowPriorityTasks;
+	}
+
+}
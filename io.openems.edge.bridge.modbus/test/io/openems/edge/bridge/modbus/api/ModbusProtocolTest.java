@@ -0,0 +1,41 @@
+package io.openems.edge.bridge.modbus.api;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.edge.bridge.modbus.DummyModbusComponent;
+import io.openems.edge.bridge.modbus.api.element.UnsignedWordElement;
+import io.openems.edge.bridge.modbus.api.task.FC3ReadRegistersTask;
+import io.openems.edge.common.taskmanager.Priority;
+
+public class ModbusProtocolTest {
+
+	@Test
+	public void testOptimize() throws OpenemsException {
+		var sut = new ModbusProtocol(new DummyModbusComponent(), //
+				new FC3ReadRegistersTask(100, Priority.HIGH, new UnsignedWordElement(100)));
+		sut.setReadRegistersMaxGap(5);
+		assertEquals(1, sut.getTaskManager().countTasks());
+
+		// Tasks are merged on next access
+		var t2 = new FC3ReadRegistersTask(102, Priority.HIGH, new UnsignedWordElement(102));
+		sut.addTask(t2);
+		sut.addTask(new FC3ReadRegistersTask(104, Priority.HIGH, new UnsignedWordElement(104)));
+		var tasks = sut.getTaskManager().getTasks();
+		assertEquals(1, tasks.size());
+		assertEquals(5, tasks.get(0).getLength());
+
+		// Gap is filled with a DummyRegisterElement
+		sut.removeTask(t2);
+		tasks = sut.getTaskManager().getTasks();
+		assertEquals(1, tasks.size());
+		assertEquals(3, tasks.get(0).getElements().length);
+
+		// Disable merging
+		sut.setReadRegistersMaxGap(-1);
+		assertEquals(2, sut.getTaskManager().countTasks());
+	}
+
+}
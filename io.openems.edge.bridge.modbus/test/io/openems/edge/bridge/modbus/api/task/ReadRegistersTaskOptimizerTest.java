@@ -0,0 +1,102 @@
+package io.openems.edge.bridge.modbus.api.task;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import com.ghgande.j2mod.modbus.Modbus;
+import com.ghgande.j2mod.modbus.ModbusSlaveException;
+
+import io.openems.edge.bridge.modbus.api.element.DummyRegisterElement;
+import io.openems.edge.bridge.modbus.api.element.UnsignedDoublewordElement;
+import io.openems.edge.bridge.modbus.api.element.UnsignedWordElement;
+import io.openems.edge.bridge.modbus.api.task.ReadRegistersTaskOptimizer.MergePoint;
+import io.openems.edge.bridge.modbus.api.task.Task.ExecuteState;
+import io.openems.edge.common.taskmanager.Priority;
+
+public class ReadRegistersTaskOptimizerTest {
+
+	@Test
+	public void testMerge() {
+		var rejected = new AtomicInteger();
+		var sut = new ReadRegistersTaskOptimizer(5, () -> rejected.incrementAndGet());
+
+		var t1 = new FC3ReadRegistersTask(100, Priority.HIGH, new UnsignedWordElement(100));
+		var t2 = new FC3ReadRegistersTask(103, Priority.HIGH, new UnsignedDoublewordElement(103));
+		var t3 = new FC3ReadRegistersTask(200, Priority.HIGH, new UnsignedWordElement(200)); // gap too large
+		var t4 = new FC3ReadRegistersTask(105, Priority.LOW, new UnsignedWordElement(105)); // other priority
+		var t5 = new FC4ReadInputRegistersTask(101, Priority.HIGH, new UnsignedWordElement(101)); // other FC
+		var t6 = new FC1ReadCoilsTask(100, Priority.HIGH); // not mergeable
+
+		var result = sut.optimize(List.of(t3, t1, t2, t4, t5, t6));
+		assertEquals(5, result.size());
+		assertTrue(result.contains(t3));
+		assertTrue(result.contains(t4));
+		assertTrue(result.contains(t5));
+		assertTrue(result.contains(t6));
+
+		var merged = (FC3ReadRegistersTask) result.stream() //
+				.filter(t -> t instanceof FC3ReadRegistersTask && t.getStartAddress() == 100) //
+				.findFirst().get();
+		assertEquals(5, merged.getLength());
+		assertEquals(3, merged.getElements().length);
+		assertTrue(merged.getElements()[1] instanceof DummyRegisterElement);
+		assertEquals(Priority.HIGH, merged.getPriority());
+	}
+
+	@Test
+	public void testMaxLength() {
+		var sut = new ReadRegistersTaskOptimizer(10, () -> {
+		});
+		var t1 = new FC3ReadRegistersTask(0, Priority.HIGH, new DummyRegisterElement(0, 99));
+		var t2 = new FC3ReadRegistersTask(100, Priority.HIGH, new DummyRegisterElement(100, 124));
+		var t3 = new FC3ReadRegistersTask(125, Priority.HIGH, new UnsignedWordElement(125));
+
+		var result = sut.optimize(List.of(t1, t2, t3));
+		assertEquals(2, result.size());
+		assertEquals(ReadRegistersTaskOptimizer.MAX_LENGTH, result.get(0).getLength());
+		assertSame(t3, result.get(1));
+	}
+
+	@Test
+	public void testRejected() {
+		var rejected = new AtomicInteger();
+		var sut = new ReadRegistersTaskOptimizer(5, () -> rejected.incrementAndGet());
+		var onExecute = new AtomicInteger();
+		var t1 = new FC3ReadRegistersTask(s -> onExecute.incrementAndGet(), 100, Priority.HIGH,
+				new UnsignedWordElement(100));
+		var t2 = new FC3ReadRegistersTask(s -> onExecute.incrementAndGet(), 102, Priority.HIGH,
+				new UnsignedWordElement(102));
+
+		var result = sut.optimize(List.of(t1, t2));
+		assertEquals(1, result.size());
+		var merged = (FC3ReadRegistersTask) result.get(0);
+
+		// Other errors are forwarded, but do not reject
+		merged.onExecute.accept(new ExecuteState.Error(new ModbusSlaveException(Modbus.ILLEGAL_VALUE_EXCEPTION)));
+		assertEquals(2, onExecute.get());
+		assertEquals(0, rejected.get());
+
+		// Illegal Address
+		merged.onExecute.accept(new ExecuteState.Error(new ModbusSlaveException(Modbus.ILLEGAL_ADDRESS_EXCEPTION)));
+		assertEquals(4, onExecute.get());
+		assertEquals(1, rejected.get());
+		assertEquals(Set.of(new MergePoint(null, 102, 1)), sut.getRejectedMergePoints());
+
+		result = sut.optimize(List.of(t1, t2));
+		assertEquals(List.of(t1, t2), result);
+		assertSame(t2, t2.getElements()[0].getModbusTask());
+
+		// Another task at the same start address is still merged
+		var t3 = new FC3ReadRegistersTask(102, Priority.HIGH, new UnsignedDoublewordElement(102));
+		result = sut.optimize(List.of(t1, t3));
+		assertEquals(1, result.size());
+	}
+
+}
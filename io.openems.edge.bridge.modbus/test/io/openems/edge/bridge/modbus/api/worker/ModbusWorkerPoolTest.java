@@ -0,0 +1,130 @@
+package io.openems.edge.bridge.modbus.api.worker;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Test;
+
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.edge.bridge.modbus.DummyModbusComponent;
+import io.openems.edge.bridge.modbus.api.LogVerbosity;
+import io.openems.edge.bridge.modbus.api.ModbusProtocol;
+import io.openems.edge.bridge.modbus.api.task.Task.ExecuteState;
+import io.openems.edge.bridge.modbus.test.DummyModbusBridge;
+import io.openems.edge.common.channel.ChannelId;
+
+public class ModbusWorkerPoolTest {
+
+	private static ModbusProtocol createProtocol(DummyModbusBridge bridge, String id, int unitId)
+			throws OpenemsException {
+		return new ModbusProtocol(new DummyModbusComponent(id, bridge, unitId, new ChannelId[0]));
+	}
+
+	@Test
+	public void test() throws OpenemsException {
+		var logVerbosity = new AtomicReference<>(LogVerbosity.NONE);
+		var sut = new ModbusWorkerPool(//
+				(index, defectiveComponents, cycleTimeIsTooShort, cycleDelay) -> new ModbusWorker(//
+						task -> ExecuteState.NO_OP, //
+						tasks -> List.of(), //
+						() -> 1, //
+						elements -> {
+						}, //
+						cycleTimeIsTooShort, cycleDelay, logVerbosity, defectiveComponents), //
+				cycleTimeIsTooShort -> {
+				}, //
+				cycleDelay -> {
+				}, //
+				logVerbosity);
+		var bridge = new DummyModbusBridge("modbus0");
+
+		sut.activate("modbus0", 3);
+		assertEquals(3, sut.size());
+
+		sut.addProtocol("device0", createProtocol(bridge, "device0", 1));
+		sut.addProtocol("device1", createProtocol(bridge, "device1", 2));
+		sut.addProtocol("device2", createProtocol(bridge, "device2", 1));
+		sut.addProtocol("device3", createProtocol(bridge, "device3", 3));
+		sut.addProtocol("device4", createProtocol(bridge, "device4", 4));
+
+		assertEquals(0, (int) sut.getAssignment("device0"));
+		assertEquals(1, (int) sut.getAssignment("device1"));
+		assertEquals(0, (int) sut.getAssignment("device2")); // same Unit-ID as device0
+		assertEquals(2, (int) sut.getAssignment("device3"));
+		assertEquals(1, (int) sut.getAssignment("device4")); // least assigned
+
+		// Change pool size -> redistribute
+		sut.modified("modbus0", 2);
+		assertEquals(2, sut.size());
+		assertEquals(sut.getAssignment("device0"), sut.getAssignment("device2"));
+
+		sut.removeProtocol("device0");
+		assertNull(sut.getAssignment("device0"));
+
+		sut.deactivate();
+	}
+
+	@Test
+	public void testResizeUnderLoad() throws InterruptedException {
+		var logVerbosity = new AtomicReference<>(LogVerbosity.NONE);
+		var running = new AtomicIntegerArray(3);
+		var overlap = new AtomicBoolean();
+		var workers = Collections.synchronizedList(new ArrayList<ModbusWorker>());
+		var sut = new ModbusWorkerPool(//
+				(index, defectiveComponents, cycleTimeIsTooShort, cycleDelay) -> {
+					var worker = new ModbusWorker(//
+							task -> ExecuteState.NO_OP, //
+							tasks -> List.of(), //
+							() -> 1, //
+							elements -> {
+							}, //
+							cycleTimeIsTooShort, cycleDelay, logVerbosity, defectiveComponents) {
+
+						@Override
+						protected void forever() {
+							if (running.incrementAndGet(index) > 1) {
+								overlap.set(true);
+							}
+							// Simulate a Modbus request that does not react on interrupts
+							var end = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(5);
+							while (System.nanoTime() < end) {
+								Thread.onSpinWait();
+							}
+							running.decrementAndGet(index);
+						}
+					};
+					workers.add(worker);
+					return worker;
+				}, //
+				cycleTimeIsTooShort -> {
+				}, //
+				cycleDelay -> {
+				}, //
+				logVerbosity);
+
+		sut.activate("modbus0", 3);
+		for (var size : new int[] { 2, 3, 1, 3, 2 }) {
+			Thread.sleep(20);
+			var oldWorkers = List.copyOf(workers);
+			sut.modified("modbus0", size);
+			assertEquals(size, sut.size());
+			for (var worker : oldWorkers) {
+				assertTrue(worker.awaitTermination(0, TimeUnit.MILLISECONDS));
+			}
+		}
+		sut.deactivate();
+
+		assertFalse(overlap.get());
+	}
+
+}
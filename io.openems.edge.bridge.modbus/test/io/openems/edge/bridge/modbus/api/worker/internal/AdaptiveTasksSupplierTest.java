@@ -0,0 +1,139 @@
+package io.openems.edge.bridge.modbus.api.worker.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.common.test.TimeLeapClock;
+import io.openems.edge.bridge.modbus.DummyModbusComponent;
+import io.openems.edge.bridge.modbus.api.worker.DummyReadTask;
+import io.openems.edge.common.taskmanager.Priority;
+
+public class AdaptiveTasksSupplierTest {
+
+	private static DummyReadTask RT_H_1;
+	private static DummyReadTask RT_L_1;
+	private static DummyReadTask RT_L_2;
+
+	private TaskLatencies latencies;
+	private AtomicLong waitDelay;
+	private AdaptiveTasksSupplier sut;
+	private DefectiveComponents defectiveComponents;
+
+	@Before
+	public void before() throws OpenemsException {
+		RT_H_1 = new DummyReadTask("RT_H_1", 49, Priority.HIGH);
+		RT_L_1 = new DummyReadTask("RT_L_1", 20, Priority.LOW);
+		RT_L_2 = new DummyReadTask("RT_L_2", 30, Priority.LOW);
+
+		this.latencies = new TaskLatencies();
+		this.waitDelay = new AtomicLong();
+		this.sut = new AdaptiveTasksSupplier(this.latencies, this.waitDelay::get);
+		this.defectiveComponents = new DefectiveComponents(new TimeLeapClock());
+
+		var component = new DummyModbusComponent();
+		var protocol = component.getModbusProtocol();
+		protocol.addTasks(RT_H_1, RT_L_1, RT_L_2);
+		this.sut.addProtocol(component.id(), protocol);
+	}
+
+	@Test
+	public void testLargeBudget() {
+		this.waitDelay.set(1000);
+
+		var tasks = this.sut.getCycleTasks(this.defectiveComponents);
+		assertEquals(3, tasks.reads().size());
+		assertTrue(tasks.reads().contains(RT_L_1));
+		assertTrue(tasks.reads().contains(RT_L_2));
+	}
+
+	@Test
+	public void testNoBudget() {
+		// Unmeasured tasks are forced one per Cycle, stalest first
+		var tasks = this.sut.getCycleTasks(this.defectiveComponents);
+		assertEquals(2, tasks.reads().size());
+		assertEquals(RT_L_1, tasks.reads().get(0));
+
+		tasks = this.sut.getCycleTasks(this.defectiveComponents);
+		assertEquals(2, tasks.reads().size());
+		assertEquals(RT_L_2, tasks.reads().get(0));
+	}
+
+	@Test
+	public void testStaleness() {
+		this.latencies.add(RT_L_1, 100_000_000L);
+		this.latencies.add(RT_L_2, 100_000_000L);
+
+		// Measured tasks do not fit -> only HIGH priority
+		for (var i = 0; i < 3; i++) {
+			var tasks = this.sut.getCycleTasks(this.defectiveComponents);
+			assertEquals(1, tasks.reads().size());
+			assertEquals(RT_H_1, tasks.reads().get(0));
+		}
+
+		// Stale for 2 x 2 Cycles -> forced
+		var tasks = this.sut.getCycleTasks(this.defectiveComponents);
+		assertEquals(2, tasks.reads().size());
+		assertEquals(RT_L_1, tasks.reads().get(0));
+		assertEquals(4L, (long) this.sut.getLastScheduled(RT_L_1));
+
+		tasks = this.sut.getCycleTasks(this.defectiveComponents);
+		assertEquals(2, tasks.reads().size());
+		assertEquals(RT_L_2, tasks.reads().get(0));
+	}
+
+	@Test
+	public void testHeadroom() {
+		this.latencies.add(RT_L_1, 20_000_000L);
+		this.latencies.add(RT_L_2, 20_000_000L);
+
+		// Budget is 50 * 0.75 - 10 = 27.5 ms -> only one task
+		this.waitDelay.set(50);
+		var tasks = this.sut.getCycleTasks(this.defectiveComponents);
+		assertEquals(2, tasks.reads().size());
+	}
+
+	@Test
+	public void testLatencyAboveAverage() {
+		for (var i = 0; i < 10; i++) {
+			this.latencies.add(RT_L_1, 10_000_000L);
+			this.latencies.add(RT_L_2, 10_000_000L);
+		}
+		this.latencies.add(RT_L_1, 50_000_000L);
+		assertEquals(18., this.latencies.get(RT_L_1), 0.001);
+		assertEquals(50., this.latencies.getEstimate(RT_L_1), 0.001);
+
+		// Budget is 60 * 0.75 - 10 = 35 ms: the average of RT_L_1 would fit, but not
+		// its last measurement
+		this.waitDelay.set(60);
+		var tasks = this.sut.getCycleTasks(this.defectiveComponents);
+		assertEquals(2, tasks.reads().size());
+		assertTrue(tasks.reads().contains(RT_L_2));
+		assertFalse(tasks.reads().contains(RT_L_1));
+	}
+
+	@Test
+	public void testCycleTimeTooShort() {
+		this.latencies.add(RT_L_1, 30_000_000L);
+		this.latencies.add(RT_L_2, 30_000_000L);
+
+		this.waitDelay.set(1000);
+		assertEquals(3, this.sut.getCycleTasks(this.defectiveComponents).reads().size());
+
+		// Too short -> limit to half of the previous cost
+		this.waitDelay.set(0);
+		assertEquals(2, this.sut.getCycleTasks(this.defectiveComponents).reads().size());
+
+		// Limit increases additively, not back to the full budget
+		this.waitDelay.set(1000);
+		assertEquals(2, this.sut.getCycleTasks(this.defectiveComponents).reads().size());
+		assertEquals(3, this.sut.getCycleTasks(this.defectiveComponents).reads().size());
+	}
+
+}
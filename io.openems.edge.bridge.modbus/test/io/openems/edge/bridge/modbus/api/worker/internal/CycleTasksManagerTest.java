@@ -3,6 +3,7 @@ package io.openems.edge.bridge.modbus.api.worker.internal;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
+import java.util.List;
 import java.util.function.Consumer;
 
 import org.junit.Before;
@@ -157,6 +158,43 @@ public class CycleTasksManagerTest {
 		sut.onBeforeProcessImage();
 	}
 
+	@Test
+	public void testPollReadTasks() throws OpenemsException, InterruptedException {
+		var cycle1 = CycleTasks.create() //
+				.reads(RT_L_1, RT_L_2, RT_H_1, RT_H_2) //
+				.writes(WT_1) //
+				.build();
+		var tasksSupplier = new DummyTasksSupplier(cycle1);
+		var defectiveComponents = new DefectiveComponents();
+
+		var sut = new CycleTasksManager(tasksSupplier, defectiveComponents, CYCLE_TIME_IS_TOO_SHORT, CYCLE_DELAY);
+
+		// Cycle 1
+		sut.onBeforeProcessImage();
+		var task = sut.getNextTask();
+		assertTrue(task instanceof WaitTask.Delay);
+		assertTrue(sut.pollReadTasks(RT_L_1, 5).isEmpty());
+		task.execute(null);
+
+		task = sut.getNextTask();
+		assertEquals(RT_L_1, task);
+		assertTrue(sut.pollReadTasks(RT_L_1, 0).isEmpty());
+		// Only tasks with same priority
+		assertEquals(List.of(RT_L_2), sut.pollReadTasks(RT_L_1, 5));
+
+		task = sut.getNextTask();
+		assertEquals(RT_H_1, task);
+		assertEquals(List.of(RT_H_2), sut.pollReadTasks(RT_H_1, 1));
+
+		task = sut.getNextTask();
+		assertTrue(task instanceof WaitTask.Mutex);
+
+		sut.onExecuteWrite();
+		task = sut.getNextTask();
+		assertEquals(WT_1, task);
+		assertTrue(sut.pollReadTasks(RT_H_1, 5).isEmpty());
+	}
+
 	@Test
 	public void testNoTasks() throws OpenemsException, InterruptedException {
 		var cycle1 = CycleTasks.create() //
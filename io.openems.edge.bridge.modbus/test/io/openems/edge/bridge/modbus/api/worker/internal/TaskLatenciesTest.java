@@ -0,0 +1,41 @@
+package io.openems.edge.bridge.modbus.api.worker.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.List;
+
+import org.junit.Test;
+
+import io.openems.edge.bridge.modbus.api.worker.DummyReadTask;
+import io.openems.edge.common.taskmanager.Priority;
+
+public class TaskLatenciesTest {
+
+	@Test
+	public void testSummary() {
+		var t1 = new DummyReadTask("T1", 0, Priority.LOW);
+		var t2 = new DummyReadTask("T2", 0, Priority.LOW);
+		var sut = new TaskLatencies();
+
+		var summary = sut.getSummary();
+		assertNull(summary.getMax());
+		assertNull(summary.getMean());
+
+		sut.add(t1, 10_000_000);
+		sut.add(t2, 30_000_000);
+		summary = sut.getSummary();
+		assertEquals(30., summary.getMax(), 0.001);
+		assertEquals(20., summary.getMean(), 0.001);
+
+		summary = summary.merge(TaskLatencies.Summary.EMPTY);
+		assertEquals(30., summary.getMax(), 0.001);
+		assertEquals(20., summary.getMean(), 0.001);
+
+		sut.retainAll(List.of(t1));
+		summary = sut.getSummary();
+		assertEquals(10., summary.getMax(), 0.001);
+		assertEquals(10., summary.getMean(), 0.001);
+	}
+
+}
@@ -3,13 +3,14 @@ package io.openems.edge.common.channel;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.temporal.TemporalAmount;
-import java.util.TreeMap;
+import java.util.NavigableMap;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
 import io.openems.common.types.ChannelAddress;
 import io.openems.common.types.OpenemsType;
 import io.openems.edge.common.channel.internal.AbstractReadChannel;
+import io.openems.edge.common.channel.internal.PastValues;
 import io.openems.edge.common.channel.value.Value;
 import io.openems.edge.common.component.OpenemsComponent;
 import io.openems.edge.common.type.TypeUtils;
@@ -91,6 +92,20 @@ public interface Channel<T> {
 	 */
 	public void nextProcessImage();
 
+	/**
+	 * Are 'onUpdate' or 'onChange' callbacks registered, i.e. does
+	 * {@link #nextProcessImage()} execute code other than switching the value?
+	 *
+	 * <p>
+	 * Channels with callbacks are always switched sequentially on the Cycle
+	 * thread.
+	 *
+	 * @return true if there are callbacks or if it is unknown
+	 */
+	public default boolean hasProcessImageCallbacks() {
+		return true;
+	}
+
 	/**
 	 * Gets the type of this Channel, e.g. INTEGER, BOOLEAN,..
 	 *
@@ -169,10 +184,23 @@ public interface Channel<T> {
 	/**
 	 * Gets the past values for this Channel.
 	 *
-	 * @return a map of recording time and historic value at that time
+	 * <p>
+	 * The map is built on demand and can not be modified; prefer the query
+	 * methods of {@link #pastValues()} for code that runs every Cycle.
+	 *
+	 * @return an unmodifiable map of recording time and historic value at that
+	 *         time
 	 */
 	// TODO this should be a ZonedDateTime
-	public TreeMap<LocalDateTime, Value<T>> getPastValues();
+	public NavigableMap<LocalDateTime, Value<T>> getPastValues();
+
+	/**
+	 * Gets the past values for this Channel as {@link PastValues}, that allow
+	 * range and last-value queries without creating a {@link Value} per entry.
+	 *
+	 * @return the {@link PastValues}
+	 */
+	public PastValues<T> pastValues();
 
 	/**
 	 * Add an onUpdate callback. It is called, after the active value was updated by
@@ -3,7 +3,7 @@ package io.openems.edge.common.channel.internal;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Objects;
-import java.util.TreeMap;
+import java.util.NavigableMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
@@ -34,7 +34,7 @@ public abstract class AbstractReadChannel<D extends AbstractDoc<T>, T> implement
 	private final List<Consumer<Value<T>>> onUpdateCallbacks = new CopyOnWriteArrayList<>();
 	private final List<Consumer<Value<T>>> onSetNextValueCallbacks = new CopyOnWriteArrayList<>();
 	private final List<BiConsumer<Value<T>, Value<T>>> onChangeCallbacks = new CopyOnWriteArrayList<>();
-	private final TreeMap<LocalDateTime, Value<T>> pastValues = new TreeMap<>();
+	private final PastValues<T> pastValues;
 
 	/**
 	 * The 'next' value of the Channel. Copied to 'active' in
@@ -51,6 +51,7 @@ public abstract class AbstractReadChannel<D extends AbstractDoc<T>, T> implement
 		this.parent = parent;
 		this.channelId = channelId;
 		this.channelDoc = channelDoc;
+		this.pastValues = PastValues.of(this, type);
 
 		// validate Type
 		if (!this.validateType(channelDoc.getType(), type)) {
@@ -135,6 +136,11 @@ public abstract class AbstractReadChannel<D extends AbstractDoc<T>, T> implement
 		}
 	}
 
+	@Override
+	public boolean hasProcessImageCallbacks() {
+		return !this.onUpdateCallbacks.isEmpty() || !this.onChangeCallbacks.isEmpty();
+	}
+
 	/**
 	 * Appends a value to `pastValues` and deletes entries that are elder than
 	 * {@link Channel#MAX_AGE_OF_PAST_VALUES}.
@@ -142,10 +148,7 @@ public abstract class AbstractReadChannel<D extends AbstractDoc<T>, T> implement
 	 * @param value a new {@link Value}
 	 */
 	private void appendPastValue(Value<T> value) {
-		final var compareTime = value.getTimestamp().minus(Channel.MAX_AGE_OF_PAST_VALUES);
-		this.pastValues.put(value.getTimestamp(), value);
-		// changes to sub map are also applied to the backed map
-		this.pastValues.headMap(compareTime).clear();
+		this.pastValues.append(value);
 	}
 
 	@Override
@@ -301,10 +304,20 @@ public abstract class AbstractReadChannel<D extends AbstractDoc<T>, T> implement
 	/**
 	 * Gets the past values for this Channel.
 	 *
-	 * @return a map of recording time and historic value at that time
+	 * <p>
+	 * The map is built on demand from a ring buffer and shared until the next
+	 * process image. It can not be modified.
+	 *
+	 * @return an unmodifiable map of recording time and historic value at that
+	 *         time
 	 */
 	@Override
-	public TreeMap<LocalDateTime, Value<T>> getPastValues() {
+	public NavigableMap<LocalDateTime, Value<T>> getPastValues() {
+		return this.pastValues.toMap();
+	}
+
+	@Override
+	public PastValues<T> pastValues() {
 		return this.pastValues;
 	}
 
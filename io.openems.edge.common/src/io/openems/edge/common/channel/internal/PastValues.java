@@ -0,0 +1,567 @@
+package io.openems.edge.common.channel.internal;
+
+import java.lang.reflect.Array;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+import java.util.stream.DoubleStream;
+
+import io.openems.common.types.OpenemsType;
+import io.openems.edge.common.channel.Channel;
+import io.openems.edge.common.channel.value.Value;
+
+/**
+ * Holds the past values of a {@link Channel} in a time-indexed ring buffer.
+ *
+ * <p>
+ * Timestamps are stored as primitive nanoseconds; values of INTEGER, LONG and
+ * DOUBLE Channels are stored in primitive arrays. Values that are older than
+ * {@link Channel#MAX_AGE_OF_PAST_VALUES} compared to the latest value are
+ * dropped. The buffer only grows if all its values are still within that age.
+ *
+ * <p>
+ * Values are kept sorted by timestamp. The query methods, e.g.
+ * {@link #doubles(LocalDateTime, LocalDateTime)} or {@link #getLast()}, work
+ * directly on the buffer. {@link #toMap()} provides an unmodifiable map view
+ * that is built on demand and cached until the next value is appended; it
+ * allocates a {@link Value} per entry and should not be used per Cycle.
+ *
+ * @param <T> the type of the Channel
+ */
+public abstract class PastValues<T> {
+
+	private static final long MAX_AGE_NANOS = Duration.from(Channel.MAX_AGE_OF_PAST_VALUES).toNanos();
+	private static final int INITIAL_CAPACITY = 16;
+
+	/**
+	 * Creates a {@link PastValues} instance that is specialised for the given
+	 * {@link OpenemsType}.
+	 *
+	 * @param <T>     the type of the Channel
+	 * @param channel the {@link Channel}
+	 * @param type    the {@link OpenemsType} of the Channel
+	 * @return a new {@link PastValues}
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public static <T> PastValues<T> of(Channel<T> channel, OpenemsType type) {
+		return switch (type) {
+		case INTEGER -> (PastValues) new IntegerPastValues((Channel) channel);
+		case LONG -> (PastValues) new LongPastValues((Channel) channel);
+		case DOUBLE -> (PastValues) new DoublePastValues((Channel) channel);
+		case BOOLEAN, FLOAT, SHORT, STRING -> new ObjectPastValues<>(channel);
+		};
+	}
+
+	private final Channel<T> channel;
+
+	private long[] timestamps = new long[INITIAL_CAPACITY];
+	private boolean[] defined = new boolean[INITIAL_CAPACITY];
+	private int head = 0;
+	private int size = 0;
+
+	/** The latest appended {@link Value}; used to skip unchanged values. */
+	private Value<T> latest = null;
+	private NavigableMap<LocalDateTime, Value<T>> map = null;
+
+	private PastValues(Channel<T> channel) {
+		this.channel = channel;
+	}
+
+	/**
+	 * Appends a {@link Value} and drops values that are elder than
+	 * {@link Channel#MAX_AGE_OF_PAST_VALUES}.
+	 *
+	 * <p>
+	 * A value with the same timestamp as an existing value replaces it. A value
+	 * that is older than the latest value, e.g. after the system time jumped
+	 * backwards, is inserted at its position.
+	 *
+	 * @param value the {@link Value}
+	 */
+	public synchronized void append(Value<T> value) {
+		if (value == this.latest) {
+			// Value was not updated since last Cycle
+			return;
+		}
+		this.latest = value;
+		this.map = null;
+
+		final var timestamp = toNanos(value.getTimestamp());
+		var position = this.size;
+		if (this.size > 0 && timestamp <= this.timestamps[this.index(this.size - 1)]) {
+			// Same timestamp or system time jumped backwards
+			position = this.lowerBound(timestamp);
+			if (position < this.size && this.timestamps[this.index(position)] == timestamp) {
+				this.set(this.index(position), value.get());
+				return;
+			}
+		}
+
+		// Drop outdated values
+		final var compareTimestamp = timestamp - MAX_AGE_NANOS;
+		while (this.size > 0 && this.timestamps[this.head] < compareTimestamp) {
+			this.clear(this.head);
+			this.head = (this.head + 1) % this.timestamps.length;
+			this.size--;
+			position--;
+		}
+		position = Math.max(position, 0);
+
+		if (this.size == this.timestamps.length) {
+			this.grow();
+		}
+
+		// Shift newer values
+		for (var i = this.size; i > position; i--) {
+			final var from = this.index(i - 1);
+			final var to = this.index(i);
+			this.timestamps[to] = this.timestamps[from];
+			this.defined[to] = this.defined[from];
+			this.move(from, to);
+		}
+
+		final var index = this.index(position);
+		this.timestamps[index] = timestamp;
+		this.set(index, value.get());
+		this.size++;
+	}
+
+	/**
+	 * Gets the number of past values.
+	 *
+	 * @return the size
+	 */
+	public synchronized int size() {
+		return this.size;
+	}
+
+	/**
+	 * Gets the timestamp of the latest value at or before the given timestamp, like
+	 * {@link TreeMap#floorKey(Object)}.
+	 *
+	 * @param timestamp the timestamp
+	 * @return the timestamp of the value; null if there is none
+	 */
+	public synchronized LocalDateTime floorTimestamp(LocalDateTime timestamp) {
+		final var nanos = saturatedToNanos(timestamp);
+		final var position = (nanos == Long.MAX_VALUE ? this.size : this.lowerBound(nanos + 1)) - 1;
+		if (position < 0) {
+			return null;
+		}
+		return toLocalDateTime(this.timestamps[this.index(position)]);
+	}
+
+	/**
+	 * Gets the latest value.
+	 *
+	 * @return the value; empty if there are no values or the latest value is
+	 *         undefined
+	 */
+	public synchronized Optional<T> getLast() {
+		if (this.size == 0) {
+			return Optional.empty();
+		}
+		final var index = this.index(this.size - 1);
+		return this.defined[index] ? Optional.of(this.load(index)) : Optional.empty();
+	}
+
+	/**
+	 * Gets the eldest defined value.
+	 *
+	 * @return the value; empty if there is no defined value
+	 */
+	public synchronized Optional<T> getFirstDefined() {
+		for (var i = 0; i < this.size; i++) {
+			final var index = this.index(i);
+			if (this.defined[index]) {
+				return Optional.of(this.load(index));
+			}
+		}
+		return Optional.empty();
+	}
+
+	/**
+	 * Finds the latest defined value that matches the given {@link Predicate}.
+	 *
+	 * @param predicate the {@link Predicate}
+	 * @return the value; empty if no value matches
+	 */
+	public synchronized Optional<T> findLastDefined(Predicate<? super T> predicate) {
+		for (var i = this.size - 1; i >= 0; i--) {
+			final var index = this.index(i);
+			if (this.defined[index]) {
+				final var value = this.load(index);
+				if (predicate.test(value)) {
+					return Optional.of(value);
+				}
+			}
+		}
+		return Optional.empty();
+	}
+
+	/**
+	 * Counts the values, including undefined values, with a timestamp in the given
+	 * range.
+	 *
+	 * @param from the start timestamp, inclusive
+	 * @param to   the end timestamp, exclusive
+	 * @return the number of values
+	 */
+	public synchronized int count(LocalDateTime from, LocalDateTime to) {
+		return Math.max(0, this.lowerBound(saturatedToNanos(to)) - this.lowerBound(saturatedToNanos(from)));
+	}
+
+	/**
+	 * Gets the defined values with a timestamp in the given range as
+	 * {@link DoubleStream}, without creating a {@link Value} per entry.
+	 *
+	 * <p>
+	 * Numbers are converted via {@link Number#doubleValue()}, Booleans to 1 or 0,
+	 * all other values to 0.
+	 *
+	 * @param from the start timestamp, inclusive
+	 * @param to   the end timestamp, exclusive
+	 * @return the values in order of their timestamps
+	 */
+	public synchronized DoubleStream doubles(LocalDateTime from, LocalDateTime to) {
+		final var start = this.lowerBound(saturatedToNanos(from));
+		final var end = this.lowerBound(saturatedToNanos(to));
+		if (start >= end) {
+			return DoubleStream.empty();
+		}
+		final var result = new double[end - start];
+		var length = 0;
+		for (var i = start; i < end; i++) {
+			final var index = this.index(i);
+			if (this.defined[index]) {
+				result[length++] = this.loadDouble(index);
+			}
+		}
+		return Arrays.stream(result, 0, length);
+	}
+
+	/**
+	 * Gets the defined values with a timestamp in the given range.
+	 *
+	 * @param from the start timestamp, inclusive
+	 * @param to   the end timestamp, exclusive
+	 * @return the values in order of their timestamps
+	 */
+	public synchronized List<T> values(LocalDateTime from, LocalDateTime to) {
+		final var start = this.lowerBound(saturatedToNanos(from));
+		final var end = this.lowerBound(saturatedToNanos(to));
+		final var result = new ArrayList<T>(Math.max(0, end - start));
+		for (var i = start; i < end; i++) {
+			final var index = this.index(i);
+			if (this.defined[index]) {
+				result.add(this.load(index));
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Gets the past values as unmodifiable map of recording time and historic
+	 * value at that time.
+	 *
+	 * <p>
+	 * The returned map is shared until the next value is appended.
+	 *
+	 * @return the unmodifiable {@link NavigableMap}
+	 */
+	public synchronized NavigableMap<LocalDateTime, Value<T>> toMap() {
+		if (this.map != null) {
+			return this.map;
+		}
+		var result = new TreeMap<LocalDateTime, Value<T>>();
+		for (var i = 0; i < this.size; i++) {
+			final var index = this.index(i);
+			final var timestamp = toLocalDateTime(this.timestamps[index]);
+			final var value = this.defined[index] ? this.load(index) : null;
+			result.put(timestamp, new Value<>(this.channel, value, timestamp));
+		}
+		this.map = Collections.unmodifiableNavigableMap(result);
+		return this.map;
+	}
+
+	private void set(int index, T value) {
+		if (value == null) {
+			this.defined[index] = false;
+			this.clear(index);
+		} else {
+			this.defined[index] = true;
+			this.store(index, value);
+		}
+	}
+
+	private int index(int offset) {
+		return (this.head + offset) % this.timestamps.length;
+	}
+
+	/**
+	 * Gets the position of the first value with a timestamp that is not before
+	 * the given timestamp.
+	 *
+	 * @param timestamp the timestamp in [ns]
+	 * @return the position; {@link #size} if there is none
+	 */
+	private int lowerBound(long timestamp) {
+		var low = 0;
+		var high = this.size;
+		while (low < high) {
+			final var middle = (low + high) >>> 1;
+			if (this.timestamps[this.index(middle)] < timestamp) {
+				low = middle + 1;
+			} else {
+				high = middle;
+			}
+		}
+		return low;
+	}
+
+	private void grow() {
+		final var capacity = this.timestamps.length * 2;
+		this.resize(capacity);
+		this.timestamps = this.unroll(this.timestamps, new long[capacity]);
+		this.defined = this.unroll(this.defined, new boolean[capacity]);
+		this.head = 0;
+	}
+
+	/**
+	 * Copies the values of a ring-buffer array in order to the beginning of a new
+	 * array.
+	 *
+	 * @param <A> the type of the array
+	 * @param src the source array
+	 * @param dst the destination array
+	 * @return the destination array
+	 */
+	protected final <A> A unroll(A src, A dst) {
+		final var first = Math.min(this.size, Array.getLength(src) - this.head);
+		System.arraycopy(src, this.head, dst, 0, first);
+		System.arraycopy(src, 0, dst, first, this.size - first);
+		return dst;
+	}
+
+	/**
+	 * Stores a non-null value at the given index.
+	 *
+	 * @param index the index
+	 * @param value the value
+	 */
+	protected abstract void store(int index, T value);
+
+	/**
+	 * Loads the value at the given index.
+	 *
+	 * @param index the index
+	 * @return the value
+	 */
+	protected abstract T load(int index);
+
+	/**
+	 * Loads the non-null value at the given index as double.
+	 *
+	 * @param index the index
+	 * @return the value
+	 */
+	protected double loadDouble(int index) {
+		final var value = this.load(index);
+		if (value instanceof Number n) {
+			return n.doubleValue();
+		}
+		if (value instanceof Boolean b) {
+			return b ? 1 : 0;
+		}
+		return 0;
+	}
+
+	/**
+	 * Moves the value from one index to another.
+	 *
+	 * @param from the source index
+	 * @param to   the target index
+	 */
+	protected abstract void move(int from, int to);
+
+	/**
+	 * Releases the value at the given index.
+	 *
+	 * @param index the index
+	 */
+	protected void clear(int index) {
+	}
+
+	/**
+	 * Resizes the value storage to the given capacity using
+	 * {@link #unroll(Object, Object)}.
+	 *
+	 * @param capacity the new capacity
+	 */
+	protected abstract void resize(int capacity);
+
+	private static long toNanos(LocalDateTime timestamp) {
+		return timestamp.toEpochSecond(ZoneOffset.UTC) * 1_000_000_000L + timestamp.getNano();
+	}
+
+	private static long saturatedToNanos(LocalDateTime timestamp) {
+		final var seconds = timestamp.toEpochSecond(ZoneOffset.UTC);
+		if (seconds >= Long.MAX_VALUE / 1_000_000_000L) {
+			return Long.MAX_VALUE;
+		}
+		if (seconds <= Long.MIN_VALUE / 1_000_000_000L) {
+			return Long.MIN_VALUE;
+		}
+		return seconds * 1_000_000_000L + timestamp.getNano();
+	}
+
+	private static LocalDateTime toLocalDateTime(long nanos) {
+		return LocalDateTime.ofEpochSecond(Math.floorDiv(nanos, 1_000_000_000L),
+				(int) Math.floorMod(nanos, 1_000_000_000L), ZoneOffset.UTC);
+	}
+
+	private static final class IntegerPastValues extends PastValues<Integer> {
+
+		private int[] values = new int[INITIAL_CAPACITY];
+
+		private IntegerPastValues(Channel<Integer> channel) {
+			super(channel);
+		}
+
+		@Override
+		protected void store(int index, Integer value) {
+			this.values[index] = value;
+		}
+
+		@Override
+		protected Integer load(int index) {
+			return this.values[index];
+		}
+
+		@Override
+		protected double loadDouble(int index) {
+			return this.values[index];
+		}
+
+		@Override
+		protected void move(int from, int to) {
+			this.values[to] = this.values[from];
+		}
+
+		@Override
+		protected void resize(int capacity) {
+			this.values = this.unroll(this.values, new int[capacity]);
+		}
+	}
+
+	private static final class LongPastValues extends PastValues<Long> {
+
+		private long[] values = new long[INITIAL_CAPACITY];
+
+		private LongPastValues(Channel<Long> channel) {
+			super(channel);
+		}
+
+		@Override
+		protected void store(int index, Long value) {
+			this.values[index] = value;
+		}
+
+		@Override
+		protected Long load(int index) {
+			return this.values[index];
+		}
+
+		@Override
+		protected double loadDouble(int index) {
+			return this.values[index];
+		}
+
+		@Override
+		protected void move(int from, int to) {
+			this.values[to] = this.values[from];
+		}
+
+		@Override
+		protected void resize(int capacity) {
+			this.values = this.unroll(this.values, new long[capacity]);
+		}
+	}
+
+	private static final class DoublePastValues extends PastValues<Double> {
+
+		private double[] values = new double[INITIAL_CAPACITY];
+
+		private DoublePastValues(Channel<Double> channel) {
+			super(channel);
+		}
+
+		@Override
+		protected void store(int index, Double value) {
+			this.values[index] = value;
+		}
+
+		@Override
+		protected Double load(int index) {
+			return this.values[index];
+		}
+
+		@Override
+		protected double loadDouble(int index) {
+			return this.values[index];
+		}
+
+		@Override
+		protected void move(int from, int to) {
+			this.values[to] = this.values[from];
+		}
+
+		@Override
+		protected void resize(int capacity) {
+			this.values = this.unroll(this.values, new double[capacity]);
+		}
+	}
+
+	private static final class ObjectPastValues<T> extends PastValues<T> {
+
+		private Object[] values = new Object[INITIAL_CAPACITY];
+
+		private ObjectPastValues(Channel<T> channel) {
+			super(channel);
+		}
+
+		@Override
+		protected void store(int index, T value) {
+			this.values[index] = value;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		protected T load(int index) {
+			return (T) this.values[index];
+		}
+
+		@Override
+		protected void move(int from, int to) {
+			this.values[to] = this.values[from];
+		}
+
+		@Override
+		protected void clear(int index) {
+			this.values[index] = null;
+		}
+
+		@Override
+		protected void resize(int capacity) {
+			this.values = this.unroll(this.values, new Object[capacity]);
+		}
+	}
+}
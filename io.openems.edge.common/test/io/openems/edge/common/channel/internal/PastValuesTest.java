@@ -0,0 +1,129 @@
+package io.openems.edge.common.channel.internal;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.Test;
+
+import io.openems.common.types.OpenemsType;
+import io.openems.edge.common.channel.value.Value;
+
+public class PastValuesTest {
+
+	private static final LocalDateTime START = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+	@Test
+	public void testInteger() {
+		final var sut = PastValues.<Integer>of(null, OpenemsType.INTEGER);
+		for (var i = 0; i < 100; i++) {
+			sut.append(new Value<>(null, i % 2 == 0 ? i : null, START.plusSeconds(i)));
+		}
+		assertEquals(100, sut.size());
+
+		var map = sut.toMap();
+		assertEquals(100, map.size());
+		assertEquals(Integer.valueOf(98), map.get(START.plusSeconds(98)).get());
+		assertNull(map.get(START.plusSeconds(99)).get());
+		assertEquals(START.plusSeconds(99), map.lastKey());
+
+		// Cached until next append
+		assertSame(map, sut.toMap());
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void testUnmodifiable() {
+		final var sut = PastValues.<Integer>of(null, OpenemsType.INTEGER);
+		sut.append(new Value<>(null, 1, START));
+		sut.toMap().clear();
+	}
+
+	@Test
+	public void testMaxAge() {
+		final var sut = PastValues.<Long>of(null, OpenemsType.LONG);
+		// 10 minutes of values
+		for (var i = 0; i < 600; i++) {
+			sut.append(new Value<>(null, (long) i, START.plusSeconds(i)));
+		}
+		// Keep 5 minutes and 10 seconds
+		var map = sut.toMap();
+		assertEquals(311, map.size());
+		assertEquals(START.plusSeconds(289), map.firstKey());
+		assertEquals(Long.valueOf(599), map.lastEntry().getValue().get());
+	}
+
+	@Test
+	public void testSameTimestamp() {
+		final var sut = PastValues.<Double>of(null, OpenemsType.DOUBLE);
+		var value = new Value<Double>(null, 1.5, START);
+		sut.append(value);
+		sut.append(value);
+		sut.append(new Value<>(null, 2.5, START));
+		assertEquals(1, sut.size());
+		assertEquals(Double.valueOf(2.5), sut.toMap().get(START).get());
+	}
+
+	@Test
+	public void testTimeJumpBackwards() {
+		final var sut = PastValues.<String>of(null, OpenemsType.STRING);
+		sut.append(new Value<>(null, "a", START.plusSeconds(10)));
+		sut.append(new Value<>(null, "b", START.plusSeconds(11)));
+		sut.append(new Value<>(null, "c", START));
+		sut.append(new Value<>(null, "d", START.plusSeconds(1)));
+		sut.append(new Value<>(null, "e", START.plusSeconds(10)));
+
+		// Sorted by timestamp; history is kept
+		assertEquals(4, sut.size());
+		assertEquals(List.of("c", "d", "e", "b"), sut.values(LocalDateTime.MIN, LocalDateTime.MAX));
+		assertEquals(List.of("c", "d", "e", "b"), List.copyOf(sut.toMap().values()).stream() //
+				.map(Value::get) //
+				.toList());
+
+		// Outdated compared to the inserted value
+		sut.append(new Value<>(null, "f", START.plusSeconds(320)));
+		assertEquals(List.of("e", "b", "f"), sut.values(LocalDateTime.MIN, LocalDateTime.MAX));
+	}
+
+	@Test
+	public void testQueries() {
+		final var sut = PastValues.<Integer>of(null, OpenemsType.INTEGER);
+		assertEquals(Optional.empty(), sut.getLast());
+		assertNull(sut.floorTimestamp(START));
+
+		// 0, null, 2, null, 4, ... at START + 0, 2, 4, ... seconds
+		for (var i = 0; i < 10; i++) {
+			sut.append(new Value<>(null, i % 2 == 0 ? i : null, START.plusSeconds(2L * i)));
+		}
+
+		assertEquals(START.plusSeconds(4), sut.floorTimestamp(START.plusSeconds(5)));
+		assertEquals(START.plusSeconds(6), sut.floorTimestamp(START.plusSeconds(6)));
+		assertNull(sut.floorTimestamp(START.minusSeconds(1)));
+		assertEquals(START.plusSeconds(18), sut.floorTimestamp(LocalDateTime.MAX));
+
+		assertEquals(Optional.empty(), sut.getLast());
+		assertEquals(Optional.of(0), sut.getFirstDefined());
+		assertEquals(Optional.of(4), sut.findLastDefined(v -> v < 5));
+
+		// [START + 4 s, START + 12 s) -> 2, null, 4, null
+		assertEquals(4, sut.count(START.plusSeconds(4), START.plusSeconds(12)));
+		assertArrayEquals(new double[] { 2, 4 }, sut.doubles(START.plusSeconds(4), START.plusSeconds(12)).toArray(),
+				0.001);
+		assertEquals(List.of(2, 4), sut.values(START.plusSeconds(4), START.plusSeconds(12)));
+		assertEquals(0, sut.count(START.plusSeconds(12), START.plusSeconds(4)));
+		assertEquals(10, sut.count(LocalDateTime.MIN, LocalDateTime.MAX));
+
+		sut.append(new Value<>(null, 20, START.plusSeconds(20)));
+		assertEquals(Optional.of(20), sut.getLast());
+
+		final var booleans = PastValues.<Boolean>of(null, OpenemsType.BOOLEAN);
+		booleans.append(new Value<>(null, true, START));
+		booleans.append(new Value<>(null, false, START.plusSeconds(1)));
+		assertArrayEquals(new double[] { 1, 0 }, booleans.doubles(START, START.plusSeconds(2)).toArray(), 0.001);
+	}
+
+}
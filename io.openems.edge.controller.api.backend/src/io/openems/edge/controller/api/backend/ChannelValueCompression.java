@@ -0,0 +1,280 @@
+package io.openems.edge.controller.api.backend;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.google.gson.JsonElement;
+
+import io.openems.common.channel.PersistencePriority;
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.common.jsonrpc.notification.TimestampedDataNotification;
+import io.openems.common.types.OpenemsType;
+import io.openems.edge.common.channel.Channel;
+import io.openems.edge.common.channel.EnumDoc;
+
+/**
+ * Suppresses Channel values that changed only within a relative error bound
+ * since the last sent value, following a {@link CompressionPolicy}.
+ *
+ * <p>
+ * Only numeric, non-cumulated and non-enum Channels are compressed; all other
+ * Channels are handled by the caller. Aggregated data is calculated from the
+ * exact values and is not affected. With
+ * {@link CompressionPolicy#SWINGING_DOOR} the current value at the Backend
+ * may be outdated; see there.
+ *
+ * <p>
+ * Apart from {@link #register(Channel)}, methods are expected to be called
+ * from the single send thread.
+ */
+public class ChannelValueCompression {
+
+	public static enum Decision {
+		/** The Channel is not compressed; the caller decides. */
+		NOT_COMPRESSED,
+		/** The value needs to be sent. */
+		SEND,
+		/** The value is represented within the error bound; do not send it. */
+		SUPPRESS;
+	}
+
+	private static final double NOT_COMPRESSED = -1;
+
+	/**
+	 * Approximate JSON overhead per value: quotes, colon and comma.
+	 */
+	private static final int JSON_OVERHEAD = 4;
+
+	private static class State {
+		private long archiveTime;
+		private double archiveValue;
+		private double errorBound; // absolute
+		private double lowerSlope;
+		private double upperSlope;
+		private boolean hasLast;
+		private long lastTime;
+		private double lastValue;
+		private JsonElement lastJson;
+
+		private State(long time, double value, double relativeErrorBound) {
+			this.archive(time, value, relativeErrorBound);
+		}
+
+		private void archive(long time, double value, double relativeErrorBound) {
+			this.archiveTime = time;
+			this.archiveValue = value;
+			this.errorBound = Math.abs(value) * relativeErrorBound;
+			this.lowerSlope = Double.NEGATIVE_INFINITY;
+			this.upperSlope = Double.POSITIVE_INFINITY;
+			this.hasLast = false;
+			this.lastJson = null;
+		}
+	}
+
+	private final CompressionPolicy policy;
+	private final EnumMap<PersistencePriority, Double> relativeErrorBounds;
+	private final Map<String, Double> channelErrorBounds = new ConcurrentHashMap<>();
+	private final Map<String, State> states = new HashMap<>();
+
+	private long suppressedValues = 0;
+	private long savedBytes = 0;
+
+	/**
+	 * Parses the configured error bounds.
+	 *
+	 * @param policy      the {@link CompressionPolicy}
+	 * @param errorBounds entries like 'HIGH=0.5': max relative error in percent
+	 *                    per {@link PersistencePriority}
+	 * @return a {@link ChannelValueCompression}
+	 * @throws OpenemsException on invalid entries
+	 */
+	public static ChannelValueCompression from(CompressionPolicy policy, String[] errorBounds)
+			throws OpenemsException {
+		var result = new EnumMap<PersistencePriority, Double>(PersistencePriority.class);
+		for (var entry : errorBounds) {
+			if (entry == null || entry.isBlank()) {
+				continue;
+			}
+			var parts = entry.split("=");
+			try {
+				var priority = PersistencePriority.valueOf(parts[0].trim().toUpperCase());
+				var percent = Double.parseDouble(parts[1].trim());
+				if (percent < 0) {
+					throw new IllegalArgumentException("Error bound must not be negative");
+				}
+				if (percent > 0) {
+					result.put(priority, percent / 100.);
+				}
+			} catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+				throw new OpenemsException("Invalid Compression Error Bound [" + entry + "]: " + e.getMessage());
+			}
+		}
+		return new ChannelValueCompression(policy, result);
+	}
+
+	/**
+	 * Creates a {@link ChannelValueCompression} that does not compress any
+	 * Channel.
+	 *
+	 * @return a {@link ChannelValueCompression}
+	 */
+	public static ChannelValueCompression disabled() {
+		return new ChannelValueCompression(CompressionPolicy.DEADBAND,
+				new EnumMap<PersistencePriority, Double>(PersistencePriority.class));
+	}
+
+	public ChannelValueCompression(CompressionPolicy policy,
+			EnumMap<PersistencePriority, Double> relativeErrorBounds) {
+		this.policy = policy;
+		this.relativeErrorBounds = relativeErrorBounds;
+	}
+
+	/**
+	 * Is any error bound configured?.
+	 *
+	 * @return true if compression is enabled
+	 */
+	public boolean isEnabled() {
+		return !this.relativeErrorBounds.isEmpty();
+	}
+
+	/**
+	 * Evaluates once per Channel if and how it is compressed.
+	 *
+	 * @param channel the {@link Channel}
+	 */
+	public void register(Channel<?> channel) {
+		this.channelErrorBounds.computeIfAbsent(channel.address().toString(), a -> {
+			var doc = channel.channelDoc();
+			if (doc instanceof EnumDoc || doc.getUnit().isCumulated() || !isNumeric(channel.getType())) {
+				return NOT_COMPRESSED;
+			}
+			return this.relativeErrorBounds.getOrDefault(doc.getPersistencePriority(), NOT_COMPRESSED);
+		});
+	}
+
+	/**
+	 * Applies the compression to one value.
+	 *
+	 * @param message        the {@link TimestampedDataNotification}; values that
+	 *                       need to be sent for a past timestamp are added here
+	 * @param timestamp      the timestamp of the value
+	 * @param channelAddress the Channel-Address
+	 * @param value          the value
+	 * @param sendAll        true if this value is sent anyway, as part of sending
+	 *                       the values of all Channels
+	 * @return the {@link Decision}
+	 */
+	public Decision apply(TimestampedDataNotification message, long timestamp, String channelAddress,
+			JsonElement value, boolean sendAll) {
+		var relativeErrorBound = this.channelErrorBounds.getOrDefault(channelAddress, NOT_COMPRESSED);
+		if (relativeErrorBound == NOT_COMPRESSED) {
+			return Decision.NOT_COMPRESSED;
+		}
+		if (!value.isJsonPrimitive() || !value.getAsJsonPrimitive().isNumber()) {
+			// e.g. null: send exactly; start again with the next number
+			this.states.remove(channelAddress);
+			return Decision.NOT_COMPRESSED;
+		}
+		var v = value.getAsDouble();
+		var state = this.states.get(channelAddress);
+		if (sendAll || state == null) {
+			this.states.put(channelAddress, new State(timestamp, v, relativeErrorBound));
+			return Decision.SEND;
+		}
+		if (timestamp <= state.archiveTime) {
+			return Decision.SUPPRESS;
+		}
+
+		var suppress = switch (this.policy) {
+		case DEADBAND -> Math.abs(v - state.archiveValue) <= state.errorBound;
+		case SWINGING_DOOR -> this.applySwingingDoor(message, state, channelAddress, timestamp, v,
+				relativeErrorBound);
+		};
+		if (suppress) {
+			state.hasLast = true;
+			state.lastTime = timestamp;
+			state.lastValue = v;
+			state.lastJson = value;
+			this.suppressedValues++;
+			this.savedBytes += getSize(channelAddress, value);
+			return Decision.SUPPRESS;
+		}
+
+		// Send this value
+		state.archive(timestamp, v, relativeErrorBound);
+		return Decision.SEND;
+	}
+
+	/**
+	 * Narrows the door by the new value.
+	 *
+	 * @return true if the new value is suppressed; false if the door was closed
+	 *         and the new value needs to be sent
+	 */
+	private boolean applySwingingDoor(TimestampedDataNotification message, State state, String channelAddress,
+			long timestamp, double v, double relativeErrorBound) {
+		if (this.narrow(state, timestamp, v)) {
+			return true;
+		}
+		if (!state.hasLast) {
+			// Not able to represent; send this value
+			return false;
+		}
+
+		// Door closed: send the last suppressed value and start a new door from there
+		message.add(state.lastTime, channelAddress, state.lastJson);
+		this.suppressedValues--;
+		this.savedBytes -= getSize(channelAddress, state.lastJson);
+		state.archive(state.lastTime, state.lastValue, relativeErrorBound);
+		return this.narrow(state, timestamp, v);
+	}
+
+	private boolean narrow(State state, long timestamp, double v) {
+		var dt = timestamp - state.archiveTime;
+		var lower = Math.max(state.lowerSlope, (v - state.errorBound - state.archiveValue) / dt);
+		var upper = Math.min(state.upperSlope, (v + state.errorBound - state.archiveValue) / dt);
+		if (lower > upper) {
+			return false;
+		}
+		state.lowerSlope = lower;
+		state.upperSlope = upper;
+		return true;
+	}
+
+	/**
+	 * Forgets all sent values, e.g. after sending failed. The next value of every
+	 * Channel is sent.
+	 */
+	public void reset() {
+		this.states.clear();
+	}
+
+	/**
+	 * Forgets how Channels are compressed, e.g. after a configuration update.
+	 */
+	public void resetChannels() {
+		this.channelErrorBounds.clear();
+	}
+
+	public long getSuppressedValues() {
+		return this.suppressedValues;
+	}
+
+	public long getSavedBytes() {
+		return this.savedBytes;
+	}
+
+	private static int getSize(String channelAddress, JsonElement value) {
+		return channelAddress.length() + value.toString().length() + JSON_OVERHEAD;
+	}
+
+	protected static boolean isNumeric(OpenemsType type) {
+		return switch (type) {
+		case SHORT, INTEGER, LONG, FLOAT, DOUBLE -> true;
+		case BOOLEAN, STRING -> false;
+		};
+	}
+}
@@ -0,0 +1,29 @@
+package io.openems.edge.controller.api.backend;
+
+/**
+ * Policies to suppress Channel values that changed only marginally since the
+ * last sent value. See {@link ChannelValueCompression}.
+ */
+public enum CompressionPolicy {
+	/**
+	 * A value is sent once it differs from the last sent value by more than the
+	 * error bound. The last sent value always represents the actual value within
+	 * the error bound.
+	 */
+	DEADBAND,
+	/**
+	 * Swinging-Door-Trending: a value is sent once a straight line from the last
+	 * sent value cannot represent all following values within the error bound.
+	 * The line between two sent values represents every value in between within
+	 * the error bound.
+	 *
+	 * <p>
+	 * This policy only applies to historic data: the latest value is sent with a
+	 * delay, once the door closes, and with its original - past - timestamp. The
+	 * current value at the Backend is only updated by values that are sent with
+	 * the current timestamp, so it stays at the last such value while the door is
+	 * open. Use {@link #DEADBAND} if the current value has to stay within the
+	 * error bound.
+	 */
+	SWINGING_DOOR;
+}
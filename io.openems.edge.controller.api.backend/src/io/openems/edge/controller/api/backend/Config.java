@@ -49,6 +49,21 @@ import io.openems.common.channel.PersistencePriority;
 	@AttributeDefinition(name = "Resend values Persistence Priority", description = "Resend only Channels with a Persistence Priority greater-or-equals this. Should match with the persistence priority configured in your timedata.")
 	PersistencePriority resendPriority() default PersistencePriority.HIGH;
 
+	@AttributeDefinition(name = "Resend Journal Size [MB]", description = "Max disk usage of the journal of values that could not be sent; replayed after reconnect. 0 disables the journal.")
+	int resendJournalSize() default 0;
+
+	@AttributeDefinition(name = "Resend Journal Replay Rate", description = "Max number of journaled values that are replayed per second after reconnect.")
+	int resendJournalReplayRate() default 20_000;
+
+	@AttributeDefinition(name = "Compression Policy", description = "How changed Channel values within the Compression Error Bounds are suppressed. SWINGING_DOOR applies to historic data only; the current value at the Backend may be outdated.")
+	CompressionPolicy compressionPolicy() default CompressionPolicy.DEADBAND;
+
+	@AttributeDefinition(name = "Compression Error Bounds", description = "Max relative error in percent per Persistence Priority, e.g. 'HIGH=0.5'. Empty: send every changed value.")
+	String[] compressionErrorBounds() default {};
+
+	@AttributeDefinition(name = "Binary Data", description = "Send timestamped and aggregated data in the binary columnar format if the OpenEMS Backend supports it.")
+	boolean binaryData() default false;
+
 	@AttributeDefinition(name = "Debug Mode", description = "Activates the debug mode")
 	boolean debugMode() default false;
 
@@ -2,10 +2,12 @@ package io.openems.edge.controller.api.backend;
 
 import static io.openems.common.utils.StringUtils.definedOrElse;
 
+import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.net.Proxy;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.file.Paths;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
@@ -30,9 +32,12 @@ import org.slf4j.LoggerFactory;
 
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 
+import io.openems.common.OpenemsConstants;
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.exceptions.OpenemsException;
 import io.openems.common.jsonrpc.base.JsonrpcRequest;
 import io.openems.common.jsonrpc.base.JsonrpcResponseSuccess;
+import io.openems.common.jsonrpc.notification.BinaryDataNotification;
 import io.openems.common.jsonrpc.notification.EdgeConfigNotification;
 import io.openems.common.oem.OpenemsEdgeOem;
 import io.openems.common.types.EdgeConfig;
@@ -89,6 +94,8 @@ public class ControllerApiBackendImpl extends AbstractOpenemsComponent
 	protected BackendOnRequest requestHandler;
 
 	protected WebsocketClient websocket = null;
+	/** Holds values that could not be sent; null if disabled. */
+	protected ResendJournal resendJournal = null;
 	protected Config config;
 	/** Used for SubscribeSystemLogRequests. */
 	private ScheduledExecutorService executor;
@@ -122,6 +129,27 @@ public class ControllerApiBackendImpl extends AbstractOpenemsComponent
 		// initialize ApiWorker
 		this.apiWorker.setTimeoutSeconds(config.apiTimeout());
 
+		// initialize Compression of sent Channel values
+		try {
+			this.sendChannelValuesWorker.setCompression(
+					ChannelValueCompression.from(config.compressionPolicy(), config.compressionErrorBounds()));
+		} catch (OpenemsException e) {
+			this.log.error(e.getMessage() + "; Compression is disabled");
+			this.sendChannelValuesWorker.setCompression(ChannelValueCompression.disabled());
+		}
+
+		// initialize Resend Journal
+		if (config.resendJournalSize() > 0) {
+			try {
+				this.resendJournal = ResendJournal.open(//
+						Paths.get(OpenemsConstants.getOpenemsDataDir(), "backend-journal", this.id()), //
+						config.resendJournalSize() * 1024L * 1024L, ResendJournal.DEFAULT_SEGMENT_SIZE);
+			} catch (IOException e) {
+				this.log.error("Unable to open Resend Journal: " + e.getMessage());
+			}
+		}
+		this.sendChannelValuesWorker.setResendJournal(this.resendJournal);
+
 		// Get URI
 		URI uri = null;
 		try {
@@ -142,6 +170,9 @@ public class ControllerApiBackendImpl extends AbstractOpenemsComponent
 		// create http headers
 		Map<String, String> httpHeaders = new HashMap<>();
 		httpHeaders.put("apikey", config.apikey());
+		if (config.binaryData()) {
+			httpHeaders.put(BinaryDataNotification.HTTP_HEADER, String.valueOf(BinaryDataNotification.VERSION));
+		}
 
 		// Create Websocket instance
 		this.websocket = new WebsocketClient(this, name, uri, httpHeaders, proxy);
@@ -153,7 +184,11 @@ public class ControllerApiBackendImpl extends AbstractOpenemsComponent
 				this.getLastSuccessFulResendChannel().address(), //
 				config.resendPriority(), //
 				t -> this.getLastSuccessFulResendChannel().setNextValue(t), //
-				t -> this.websocket.sendMessage(t) //
+				t -> this.websocket.sendMessage(t), //
+				this.resendJournal, //
+				config.resendJournalReplayRate(), //
+				// Journal holds all resent Channels
+				config.resendPriority().isAtLeast(config.persistencePriority()) //
 		));
 		this.resendHistoricDataWorker.activate(this.id(), false);
 
@@ -176,6 +211,11 @@ public class ControllerApiBackendImpl extends AbstractOpenemsComponent
 			this.websocket.stop();
 		}
 		ThreadPoolUtils.shutdownAndAwaitTermination(this.executor, 5);
+		if (this.resendJournal != null) {
+			this.sendChannelValuesWorker.setResendJournal(null);
+			this.resendJournal.close();
+			this.resendJournal = null;
+		}
 	}
 
 	@Override
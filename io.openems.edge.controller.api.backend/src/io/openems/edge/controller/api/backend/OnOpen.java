@@ -6,6 +6,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import io.openems.common.exceptions.OpenemsError;
+import io.openems.common.jsonrpc.notification.BinaryDataNotification;
 import io.openems.common.jsonrpc.notification.EdgeConfigNotification;
 
 public class OnOpen implements io.openems.common.websocket.OnOpen {
@@ -21,6 +22,15 @@ public class OnOpen implements io.openems.common.websocket.OnOpen {
 	public OpenemsError apply(WebSocket ws, Handshakedata handshakedata) {
 		this.parent.logInfo(this.log, "Connected to OpenEMS Backend");
 
+		// Use binary data if the Backend accepted it
+		WsData wsData = ws.getAttachment();
+		if (String.valueOf(BinaryDataNotification.VERSION)
+				.equals(handshakedata.getFieldValue(BinaryDataNotification.HTTP_HEADER))) {
+			wsData.setBinaryDataEncoder(new BinaryDataNotification.Encoder());
+		} else {
+			wsData.setBinaryDataEncoder(null);
+		}
+
 		// Immediately send Config
 		var config = this.parent.componentManager.getEdgeConfig();
 		var message = new EdgeConfigNotification(config);
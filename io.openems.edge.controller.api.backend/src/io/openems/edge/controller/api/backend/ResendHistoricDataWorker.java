@@ -40,6 +40,7 @@ import io.openems.common.worker.AbstractWorker;
 import io.openems.edge.common.component.ComponentManager;
 import io.openems.edge.common.type.TypeUtils;
 import io.openems.edge.timedata.api.Timedata;
+import io.openems.edge.timedata.api.Timeranges.Timerange;
 
 @Component(//
 		scope = ServiceScope.PROTOTYPE, //
@@ -52,11 +53,41 @@ public final class ResendHistoricDataWorker extends AbstractWorker {
 			ChannelAddress addressForSuccessfulResend, //
 			PersistencePriority resendPriority, //
 			Consumer<? super Long> onLastSuccessfulResendUpdated, //
-			Function<? super JsonrpcMessage, Boolean> onSendData //
+			Function<? super JsonrpcMessage, Boolean> onSendData, //
+			ResendJournal resendJournal, //
+			int resendJournalReplayRate, //
+			boolean resendJournalCoversResendPriority //
 	) {
 
 	}
 
+	/**
+	 * The period that was replayed from a lossless {@link ResendJournal}.
+	 *
+	 * @param from the first timestamp in epoch seconds
+	 * @param to   the last timestamp in epoch seconds
+	 */
+	protected record ReplayedPeriod(long from, long to) {
+
+		/** Covers no {@link Timerange}. */
+		protected static final ReplayedPeriod NONE = new ReplayedPeriod(Long.MAX_VALUE, Long.MIN_VALUE);
+
+		/**
+		 * Is the {@link Timerange} completely covered by the replayed journal?.
+		 *
+		 * <p>
+		 * The {@link Timerange}s include a buffer before and after the period that
+		 * was not sent. This buffer is not journaled, so it is only covered if the
+		 * journal holds data for it.
+		 *
+		 * @param timerange the {@link Timerange}
+		 * @return true if it does not need to be resent from Timedata
+		 */
+		protected boolean covers(Timerange timerange) {
+			return timerange.getMinTimestamp() >= this.from && timerange.getMaxTimestamp() <= this.to;
+		}
+	}
+
 	protected enum TriggerState {
 		INIT, //
 		AFTER_TRIGGER, //
@@ -73,6 +104,7 @@ public final class ResendHistoricDataWorker extends AbstractWorker {
 	private static final int MAX_RANDOM_DELAY = 3_600_000; // [milliseconds] 1 h
 	private static final int BUFFER_SECONDS = 300; // [seconds] 5 min
 	private static final int MAX_RESEND_TIMESPAN_SECONDS = 300; // [seconds] 5 min
+	private static final int MAX_JOURNAL_BATCH_BYTES = 1024 * 1024; // [bytes] compressed
 
 	private final Logger log = LoggerFactory.getLogger(ResendHistoricDataWorker.class);
 
@@ -127,7 +159,17 @@ public final class ResendHistoricDataWorker extends AbstractWorker {
 				this.log.warn("ResendHistoricDataWorker configuration is not set!");
 				return;
 			}
+		}
 
+		// Replay journaled data first; it has full resolution and avoids querying
+		// Timedata
+		final var replayedPeriod = this.replayJournal(config);
+		if (replayedPeriod == null) {
+			// Unable to send; wait for next trigger
+			return;
+		}
+
+		synchronized (this.triggerState) {
 			timedata = this.timedata;
 			if (timedata == null) {
 				this.triggerState.set(TriggerState.WAITING_FOR_TIMEDATA);
@@ -149,6 +191,11 @@ public final class ResendHistoricDataWorker extends AbstractWorker {
 
 		// maximum of 5 minutes range of resend data
 		for (var timerange : timeranges.maxDataInTime(MAX_RESEND_TIMESPAN_SECONDS)) {
+			if (replayedPeriod.covers(timerange)) {
+				config.onLastSuccessfulResendUpdated().accept(timerange.getMaxTimestamp());
+				continue;
+			}
+
 			final var from = Instant.ofEpochSecond(timerange.getMinTimestamp()).atZone(now.getZone());
 			final var to = Instant.ofEpochSecond(timerange.getMaxTimestamp()).atZone(now.getZone());
 
@@ -179,6 +226,47 @@ public final class ResendHistoricDataWorker extends AbstractWorker {
 
 	}
 
+	/**
+	 * Replays the {@link ResendJournal} in batches, limited to the configured
+	 * rate.
+	 *
+	 * @param config the {@link Config}
+	 * @return the {@link ReplayedPeriod} if all journaled data was replayed and no
+	 *         data was lost; {@link ReplayedPeriod#NONE} if nothing or not all data
+	 *         was replayed; null if sending failed
+	 * @throws InterruptedException on interrupt while waiting
+	 */
+	private ReplayedPeriod replayJournal(Config config) throws InterruptedException {
+		final var journal = config.resendJournal();
+		if (journal == null) {
+			return ReplayedPeriod.NONE;
+		}
+		var lossless = config.resendJournalCoversResendPriority();
+		var from = Long.MAX_VALUE;
+		var to = Long.MIN_VALUE;
+		ResendJournal.Batch batch;
+		while ((batch = journal.read(MAX_JOURNAL_BATCH_BYTES)) != null) {
+			final var data = batch.data();
+			if (!data.isEmpty()) {
+				if (!config.onSendData().apply(new ResendDataNotification(data))) {
+					this.log.warn("Unable to replay journal!");
+					return null;
+				}
+				from = Math.min(from, data.rowKeySet().first());
+				to = Math.max(to, data.rowKeySet().last());
+			}
+			lossless &= batch.lossless();
+			journal.commit(batch);
+
+			// Limit the rate
+			Thread.sleep(Math.max(1, data.size() * 1000L / Math.max(1, config.resendJournalReplayRate())));
+		}
+		if (!lossless || from > to) {
+			return ReplayedPeriod.NONE;
+		}
+		return new ReplayedPeriod(from / 1000, to / 1000);
+	}
+
 	@Reference(//
 			policy = ReferencePolicy.DYNAMIC, //
 			policyOption = ReferencePolicyOption.GREEDY, //
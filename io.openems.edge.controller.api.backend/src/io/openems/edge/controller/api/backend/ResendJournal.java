@@ -0,0 +1,442 @@
+package io.openems.edge.controller.api.backend;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.collect.TreeBasedTable;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import io.openems.common.jsonrpc.notification.AbstractDataNotification;
+
+/**
+ * An append-only journal of data notifications that could not be sent to the
+ * Backend.
+ *
+ * <p>
+ * Records are stored deflate-compressed in memory-mapped segment files of fixed
+ * size. Disk usage is bounded by a maximum number of segments; if it is
+ * exceeded, the oldest segment is evicted and the journal is marked as not
+ * lossless. Fully replayed segments are deleted. The read position is stored
+ * in an offset file, so records are not replayed again after a restart. A
+ * segment is forced to disk when the next segment is started and on
+ * {@link #close()}.
+ *
+ * <p>
+ * Record format: length (int), CRC32 (int), compressed JSON params. A length of
+ * zero marks the end of a segment. Offset file format: segment id (long), read
+ * position (int).
+ */
+public class ResendJournal {
+
+	public static final int DEFAULT_SEGMENT_SIZE = 8 * 1024 * 1024; // [bytes] 8 MiB
+
+	private static final int HEADER_SIZE = 2 * Integer.BYTES;
+	private static final String SUFFIX = ".journal";
+	private static final String OFFSET_FILE = "read.offset";
+	private static final int OFFSET_SIZE = Long.BYTES + Integer.BYTES;
+
+	/**
+	 * A replayable batch of records.
+	 *
+	 * @param data     the merged data of all records
+	 * @param lossless true if no record was lost before reading this batch
+	 * @param segment  the id of the segment of the end position
+	 * @param position the end position within the segment
+	 */
+	public record Batch(TreeBasedTable<Long, String, JsonElement> data, boolean lossless, long segment,
+			int position) {
+	}
+
+	private static class Segment {
+		private final long id;
+		private final Path path;
+		private final MappedByteBuffer buffer;
+		private int writePosition = 0;
+		private int readPosition = 0;
+
+		private Segment(long id, Path path, int size) throws IOException {
+			this.id = id;
+			this.path = path;
+			try (var channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+					StandardOpenOption.WRITE)) {
+				// The mapping stays valid after closing the channel
+				this.buffer = channel.map(MapMode.READ_WRITE, 0, size);
+			}
+		}
+	}
+
+	private final Logger log = LoggerFactory.getLogger(ResendJournal.class);
+
+	private final Path directory;
+	private final int segmentSize;
+	private final int maxSegments;
+	private final Deque<Segment> segments = new ArrayDeque<>();
+
+	private long nextSegmentId = 0;
+	private boolean lossless = true;
+	private boolean closed = false;
+
+	/**
+	 * Opens the journal in the given directory and recovers existing records.
+	 *
+	 * @param directory   the directory
+	 * @param maxBytes    the max disk usage in bytes
+	 * @param segmentSize the size of one segment file in bytes
+	 * @return the {@link ResendJournal}
+	 * @throws IOException on error
+	 */
+	public static ResendJournal open(Path directory, long maxBytes, int segmentSize) throws IOException {
+		var maxSegments = (int) Math.max(2, Math.min(Integer.MAX_VALUE, maxBytes / segmentSize));
+		var result = new ResendJournal(directory, segmentSize, maxSegments);
+		result.recover();
+		return result;
+	}
+
+	private ResendJournal(Path directory, int segmentSize, int maxSegments) {
+		this.directory = directory;
+		this.segmentSize = segmentSize;
+		this.maxSegments = maxSegments;
+	}
+
+	private void recover() throws IOException {
+		Files.createDirectories(this.directory);
+		var offsetSegment = -1L;
+		var offsetPosition = 0;
+		var offsetFile = this.directory.resolve(OFFSET_FILE);
+		if (Files.exists(offsetFile)) {
+			var offset = Files.readAllBytes(offsetFile);
+			if (offset.length == OFFSET_SIZE) {
+				var buffer = ByteBuffer.wrap(offset);
+				offsetSegment = buffer.getLong();
+				offsetPosition = buffer.getInt();
+				this.nextSegmentId = offsetSegment + 1;
+			}
+		}
+		var files = new ArrayList<Path>();
+		try (var stream = Files.newDirectoryStream(this.directory, "*" + SUFFIX)) {
+			stream.forEach(files::add);
+		}
+		files.sort(null);
+		for (var file : files) {
+			var name = file.getFileName().toString();
+			long id;
+			try {
+				id = Long.parseLong(name.substring(0, name.length() - SUFFIX.length()));
+			} catch (NumberFormatException e) {
+				continue;
+			}
+			if (id < offsetSegment) {
+				// Replayed before restart
+				Files.delete(file);
+				continue;
+			}
+			if (Files.size(file) != this.segmentSize) {
+				// Written with a different segment size
+				Files.delete(file);
+				this.lossless = false;
+				continue;
+			}
+			var segment = new Segment(id, file, this.segmentSize);
+			segment.writePosition = this.scan(segment);
+			if (id == offsetSegment) {
+				segment.readPosition = Math.min(offsetPosition, segment.writePosition);
+			}
+			this.segments.addLast(segment);
+			this.nextSegmentId = Math.max(this.nextSegmentId, id + 1);
+		}
+	}
+
+	/**
+	 * Finds the end of the valid records of a segment.
+	 *
+	 * @param segment the {@link Segment}
+	 * @return the write position
+	 */
+	private int scan(Segment segment) {
+		var buffer = segment.buffer;
+		var position = 0;
+		while (position + HEADER_SIZE <= this.segmentSize) {
+			var length = buffer.getInt(position);
+			if (length == 0) {
+				break;
+			}
+			if (length < 0 || position + HEADER_SIZE + length > this.segmentSize
+					|| buffer.getInt(position + Integer.BYTES) != crc(buffer, position + HEADER_SIZE, length)) {
+				this.log.warn("Journal segment [" + segment.path + "] is corrupt at position [" + position + "]");
+				this.lossless = false;
+				break;
+			}
+			position += HEADER_SIZE + length;
+		}
+		return position;
+	}
+
+	/**
+	 * Appends a data notification.
+	 *
+	 * @param message the {@link AbstractDataNotification}
+	 */
+	public void append(AbstractDataNotification message) {
+		var payload = compress(message.getParams().toString().getBytes(StandardCharsets.UTF_8));
+		var length = HEADER_SIZE + payload.length;
+		synchronized (this) {
+			if (this.closed) {
+				return;
+			}
+			if (length + Integer.BYTES > this.segmentSize) {
+				this.log.warn("Unable to journal data notification of [" + payload.length + "] bytes");
+				this.lossless = false;
+				return;
+			}
+			try {
+				var segment = this.segments.peekLast();
+				if (segment == null || segment.writePosition + length + Integer.BYTES > this.segmentSize) {
+					segment = this.newSegment();
+				}
+				var buffer = segment.buffer;
+				var position = segment.writePosition;
+				buffer.put(position + HEADER_SIZE, payload);
+				buffer.putInt(position + Integer.BYTES, crc(buffer, position + HEADER_SIZE, payload.length));
+				buffer.putInt(position + length, 0);
+				// Length is written last; it marks the record as complete
+				buffer.putInt(position, payload.length);
+				segment.writePosition += length;
+
+			} catch (IOException e) {
+				this.log.warn("Unable to journal data notification: " + e.getMessage());
+				this.lossless = false;
+			}
+		}
+	}
+
+	private Segment newSegment() throws IOException {
+		var previous = this.segments.peekLast();
+		if (previous != null) {
+			previous.buffer.force();
+		}
+		while (this.segments.size() >= this.maxSegments) {
+			var evicted = this.segments.removeFirst();
+			this.log.warn("Journal is full. Evicting [" + evicted.path + "]");
+			this.lossless = false;
+			Files.deleteIfExists(evicted.path);
+		}
+		var id = this.nextSegmentId++;
+		var segment = new Segment(id, this.directory.resolve(String.format("%019d%s", id, SUFFIX)),
+				this.segmentSize);
+		this.segments.addLast(segment);
+		return segment;
+	}
+
+	/**
+	 * Reads the next records without consuming them; see {@link #commit(Batch)}.
+	 *
+	 * @param maxBytes the max compressed size of the read records
+	 * @return the {@link Batch} or null if the journal is empty
+	 */
+	public Batch read(int maxBytes) {
+		final var payloads = new ArrayList<byte[]>();
+		final boolean lossless;
+		long endSegment = -1;
+		var endPosition = 0;
+		synchronized (this) {
+			if (this.closed) {
+				return null;
+			}
+			lossless = this.lossless;
+			var bytes = 0;
+			for (var segment : this.segments) {
+				var position = segment.readPosition;
+				while (position < segment.writePosition && bytes < maxBytes) {
+					var length = segment.buffer.getInt(position);
+					var payload = new byte[length];
+					segment.buffer.get(position + HEADER_SIZE, payload);
+					payloads.add(payload);
+					bytes += length;
+					position += HEADER_SIZE + length;
+				}
+				endSegment = segment.id;
+				endPosition = position;
+				if (bytes >= maxBytes) {
+					break;
+				}
+			}
+		}
+		if (payloads.isEmpty()) {
+			return null;
+		}
+
+		// Decompress and merge outside of the lock
+		final var data = TreeBasedTable.<Long, String, JsonElement>create();
+		for (var payload : payloads) {
+			try {
+				merge(data, JsonParser.parseString(new String(decompress(payload), StandardCharsets.UTF_8)));
+			} catch (DataFormatException | RuntimeException e) {
+				this.log.warn("Unable to read journal record: " + e.getMessage());
+			}
+		}
+		return new Batch(data, lossless, endSegment, endPosition);
+	}
+
+	/**
+	 * Consumes the records of a {@link Batch} after it was sent successfully.
+	 *
+	 * @param batch the {@link Batch}
+	 */
+	public synchronized void commit(Batch batch) {
+		if (this.closed) {
+			return;
+		}
+		try {
+			while (!this.segments.isEmpty() && this.segments.peekFirst().id < batch.segment()) {
+				Files.deleteIfExists(this.segments.removeFirst().path);
+			}
+			var first = this.segments.peekFirst();
+			if (first == null || first.id != batch.segment()) {
+				return;
+			}
+			first.readPosition = Math.max(first.readPosition, batch.position());
+			if (this.segments.size() == 1 && first.readPosition >= first.writePosition) {
+				// Everything was replayed
+				Files.deleteIfExists(this.segments.removeFirst().path);
+				Files.deleteIfExists(this.directory.resolve(OFFSET_FILE));
+				this.lossless = true;
+				return;
+			}
+			this.writeOffset(first.id, first.readPosition);
+		} catch (IOException e) {
+			this.log.warn("Unable to commit journal: " + e.getMessage());
+		}
+	}
+
+	private void writeOffset(long segment, int position) throws IOException {
+		var offset = ByteBuffer.allocate(OFFSET_SIZE).putLong(segment).putInt(position).array();
+		var file = this.directory.resolve(OFFSET_FILE);
+		var tmp = this.directory.resolve(OFFSET_FILE + ".tmp");
+		Files.write(tmp, offset);
+		Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	/**
+	 * Forces all segments to disk. The journal can not be used anymore
+	 * afterwards.
+	 *
+	 * <p>
+	 * The mappings are released by the garbage collector once the segments are
+	 * not referenced anymore; there is no supported API to unmap a
+	 * {@link MappedByteBuffer} explicitly.
+	 */
+	public synchronized void close() {
+		if (this.closed) {
+			return;
+		}
+		this.closed = true;
+		for (var segment : this.segments) {
+			segment.buffer.force();
+		}
+		this.segments.clear();
+	}
+
+	/**
+	 * Is the journal empty?.
+	 *
+	 * @return true if there is nothing to replay
+	 */
+	public synchronized boolean isEmpty() {
+		for (var segment : this.segments) {
+			if (segment.readPosition < segment.writePosition) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Gets the disk usage.
+	 *
+	 * @return the size of all segment files in bytes
+	 */
+	public synchronized long getDiskUsage() {
+		return (long) this.segments.size() * this.segmentSize;
+	}
+
+	private static void merge(TreeBasedTable<Long, String, JsonElement> data, JsonElement params) {
+		for (var row : params.getAsJsonObject().entrySet()) {
+			var timestamp = Long.parseLong(row.getKey());
+			for (var cell : ((JsonObject) row.getValue()).entrySet()) {
+				data.put(timestamp, cell.getKey(), cell.getValue());
+			}
+		}
+	}
+
+	private static int crc(MappedByteBuffer buffer, int position, int length) {
+		var crc = new CRC32();
+		crc.update(buffer.slice(position, length));
+		return (int) crc.getValue();
+	}
+
+	private static byte[] compress(byte[] input) {
+		var deflater = new Deflater(Deflater.BEST_SPEED);
+		try {
+			deflater.setInput(input);
+			deflater.finish();
+			var out = new ByteArrayOutputStream(input.length / 4 + 64);
+			var buffer = new byte[8192];
+			while (!deflater.finished()) {
+				out.write(buffer, 0, deflater.deflate(buffer));
+			}
+			return out.toByteArray();
+		} finally {
+			deflater.end();
+		}
+	}
+
+	private static byte[] decompress(byte[] input) throws DataFormatException {
+		var inflater = new Inflater();
+		try {
+			inflater.setInput(input);
+			var out = new ByteArrayOutputStream(input.length * 4);
+			var buffer = new byte[8192];
+			while (!inflater.finished()) {
+				var n = inflater.inflate(buffer);
+				if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+					throw new DataFormatException("Truncated record");
+				}
+				out.write(buffer, 0, n);
+			}
+			return out.toByteArray();
+		} finally {
+			inflater.end();
+		}
+	}
+
+	/**
+	 * Lists the journal files; for testing.
+	 *
+	 * @return the paths
+	 */
+	protected synchronized List<Path> getSegmentPaths() {
+		return this.segments.stream().map(s -> s.path).toList();
+	}
+}
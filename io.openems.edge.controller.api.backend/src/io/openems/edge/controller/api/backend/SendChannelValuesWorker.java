@@ -81,18 +81,53 @@ public class SendChannelValuesWorker {
 	 */
 	private Map<String, JsonElement> lastAllValues = ImmutableMap.of();
 
+	/**
+	 * Keeps the values of the last journaled send; null if the last send was
+	 * successful.
+	 */
+	private Map<String, JsonElement> lastJournaledValues = null;
+
 	private Instant lastSendAggregatedDataTimestamp;
 
+	/**
+	 * Suppresses changed values within the configured error bounds.
+	 */
+	private volatile ChannelValueCompression compression = ChannelValueCompression.disabled();
+
+	/**
+	 * Journals values that could not be sent; null if disabled.
+	 */
+	private volatile ResendJournal resendJournal = null;
+
 	protected SendChannelValuesWorker(ControllerApiBackendImpl parent) {
 		this.parent = parent;
 	}
 
+	/**
+	 * Sets the {@link ChannelValueCompression} for sent Channel values.
+	 *
+	 * @param compression the {@link ChannelValueCompression}
+	 */
+	public void setCompression(ChannelValueCompression compression) {
+		this.compression = compression;
+	}
+
+	/**
+	 * Sets the {@link ResendJournal} for values that could not be sent.
+	 *
+	 * @param resendJournal the {@link ResendJournal}; null to disable
+	 */
+	public void setResendJournal(ResendJournal resendJournal) {
+		this.resendJournal = resendJournal;
+	}
+
 	/**
 	 * Triggers sending all Channel values once.
 	 */
 	public synchronized void sendValuesOfAllChannelsOnce() {
 		this.sendValuesOfAllChannels.set(true);
 		this.sendValuesOfAllChannelsAggregated.set(true);
+		this.compression.resetChannels();
 	}
 
 	/**
@@ -131,14 +166,20 @@ public class SendChannelValuesWorker {
 	 * @return collected data
 	 */
 	private ImmutableMap<String, JsonElement> collectData(List<OpenemsComponent> enabledComponents) {
+		final var compression = this.compression;
 		try {
+			if (compression.isEnabled()) {
+				for (var component : enabledComponents) {
+					for (var channel : component.channels()) {
+						if (this.isPersisted(channel)) {
+							compression.register(channel);
+						}
+					}
+				}
+			}
 			return enabledComponents.parallelStream() //
 					.flatMap(component -> component.channels().parallelStream()) //
-					.filter(channel -> // Ignore WRITE_ONLY Channels
-					channel.channelDoc().getAccessMode() != AccessMode.WRITE_ONLY //
-							// Ignore Low-Priority Channels
-							&& channel.channelDoc().getPersistencePriority()
-									.isAtLeast(this.parent.config.persistencePriority()))
+					.filter(this::isPersisted) //
 					.collect(//
 							ImmutableMap.toImmutableMap(//
 									c -> c.address().toString(), //
@@ -157,6 +198,13 @@ public class SendChannelValuesWorker {
 		}
 	}
 
+	private boolean isPersisted(Channel<?> channel) {
+		// Ignore WRITE_ONLY Channels
+		return channel.channelDoc().getAccessMode() != AccessMode.WRITE_ONLY //
+				// Ignore Low-Priority Channels
+				&& channel.channelDoc().getPersistencePriority().isAtLeast(this.parent.config.persistencePriority());
+	}
+
 	private TreeBasedTable<Long, String, JsonElement> collectAggregatedData(List<OpenemsComponent> enabledComponents) {
 		final var now = LocalDateTime.now(this.parent.componentManager.getClock());
 		final var endTime = now.truncatedTo(DurationUnit.ofMinutes(AGGREGATION_MINUTES));
@@ -189,15 +237,13 @@ public class SendChannelValuesWorker {
 						// This is the highest timestamp before `startTime`. If existing it is used for
 						// the tailMap to make sure we get a Value even for Channels where the value has
 						// not changed within the last 5 minutes.
-						var channelStartTime = Optional.ofNullable(channel.getPastValues().floorKey(startTime))
+						var channelStartTime = Optional
+								.ofNullable(channel.pastValues().floorTimestamp(startTime)) //
 								.orElse(startTime);
 
-						var value = channel.getPastValues() //
-								.tailMap(channelStartTime, true) //
-								.entrySet() //
+						var value = channel.pastValues() //
+								.values(channelStartTime, endTime) //
 								.stream() //
-								.filter(e -> e.getKey().isBefore(endTime)) //
-								.filter(e -> e.getValue().isDefined()).map(e -> e.getValue().get()) //
 								.collect(aggregateCollector(channel.channelDoc().getUnit().isCumulated(), //
 										channel.getType()));
 
@@ -229,13 +275,9 @@ public class SendChannelValuesWorker {
 		if (!(doc instanceof EnumDoc)) {
 			return JsonNull.INSTANCE;
 		}
-		final var numberOfValuesPerOption = channel.getPastValues() //
-				.tailMap(channelStartTime, true) //
-				.entrySet() //
-				.stream() //
-				.filter(e -> e.getKey().isBefore(endTime)) //
-				.filter(e -> e.getValue().isDefined()) //
-				.map(e -> (Integer) e.getValue().get()) //
+		final var pastValues = channel.pastValues();
+		final var numberOfValuesPerOption = pastValues.doubles(channelStartTime, endTime) //
+				.mapToObj(value -> (int) value) //
 				.collect(groupingBy(Function.identity(), counting()));
 
 		final var values = numberOfValuesPerOption.entrySet().stream() //
@@ -257,19 +299,10 @@ public class SendChannelValuesWorker {
 			maxValues.add(entry.getKey());
 		}
 
-		// pick first value with most appearances
-		for (var entry : channel.getPastValues().descendingMap().entrySet()) {
-			for (var optionValue : maxValues) {
-				if (!entry.getValue().isDefined()) {
-					continue;
-				}
-				final var entryValue = entry.getValue().get();
-				if (((Integer) entryValue).intValue() == optionValue) {
-					return new JsonPrimitive(optionValue);
-				}
-			}
-		}
-		return JsonNull.INSTANCE;
+		// pick latest value with most appearances
+		return pastValues.findLastDefined(value -> maxValues.contains(value)) //
+				.<JsonElement>map(value -> new JsonPrimitive((Integer) value)) //
+				.orElse(JsonNull.INSTANCE);
 	}
 
 	protected static Collector<Object, ?, JsonElement> aggregateCollector(//
@@ -371,6 +404,11 @@ public class SendChannelValuesWorker {
 			final var cycleTime = this.parent.parent.cycle.getCycleTime();
 			final var timestampMillis = this.timestamp.toEpochMilli() / cycleTime * cycleTime;
 
+			// Create JSON-RPC notification; the compression might add values of past
+			// timestamps
+			final var compression = this.parent.compression;
+			var message = new TimestampedDataNotification();
+
 			// Prepare message values
 			var sendValuesMap = new HashMap<String, JsonElement>();
 
@@ -378,13 +416,17 @@ public class SendChannelValuesWorker {
 			for (var entry : this.allValues.entrySet()) {
 				var channelAddress = entry.getKey();
 				var value = entry.getValue();
-				if (!Objects.equals(value, lastAllValues.get(channelAddress))) {
-					sendValuesMap.put(channelAddress, value);
+				switch (compression.apply(message, timestampMillis, channelAddress, value, lastAllValues.isEmpty())) {
+				case SEND -> sendValuesMap.put(channelAddress, value);
+				case SUPPRESS -> {
+				}
+				case NOT_COMPRESSED -> {
+					if (!Objects.equals(value, lastAllValues.get(channelAddress))) {
+						sendValuesMap.put(channelAddress, value);
+					}
+				}
 				}
 			}
-
-			// Create JSON-RPC notification
-			var message = new TimestampedDataNotification();
 			message.add(timestampMillis, sendValuesMap);
 
 			// Debug-Log
@@ -394,15 +436,43 @@ public class SendChannelValuesWorker {
 			}
 
 			// Try to send
-			var wasSent = this.parent.parent.websocket.sendMessage(message);
+			var wasSent = this.parent.parent.websocket.sendDataNotification(message);
 
 			if (wasSent) {
 				// Successfully sent: update information for next runs
 				this.parent.lastAllValues = this.allValues;
+				this.parent.lastJournaledValues = null;
 				if (lastAllValues.isEmpty()) {
 					// 'lastSentValues' was empty, i.e. all values were sent
 					this.parent.lastSendValuesOfAllChannels = this.timestamp;
 				}
+			} else {
+				// Suppressed values were never represented in the Backend
+				compression.reset();
+
+				// Keep the values for replay after reconnect
+				var resendJournal = this.parent.resendJournal;
+				if (resendJournal != null) {
+					// Also journal values that changed since the last journaled values, but are
+					// equal to the last successfully sent values
+					var lastJournaledValues = this.parent.lastJournaledValues;
+					if (lastJournaledValues != null) {
+						for (var entry : this.allValues.entrySet()) {
+							if (!sendValuesMap.containsKey(entry.getKey())
+									&& !Objects.equals(entry.getValue(), lastJournaledValues.get(entry.getKey()))) {
+								message.add(timestampMillis, entry.getKey(), entry.getValue());
+							}
+						}
+					}
+					resendJournal.append(message);
+					this.parent.lastJournaledValues = this.allValues;
+				}
+			}
+
+			if (compression.isEnabled()) {
+				this.parent.parent.getCompressionSuppressedValuesChannel()
+						.setNextValue(compression.getSuppressedValues());
+				this.parent.parent.getCompressionSavedBytesChannel().setNextValue(compression.getSavedBytes());
 			}
 
 		}
@@ -428,7 +498,7 @@ public class SendChannelValuesWorker {
 			final var message = new AggregatedDataNotification();
 			message.add(this.timestamp.toEpochMilli(), this.allValues);
 
-			final var wasSent = this.parent.parent.websocket.sendMessage(message);
+			final var wasSent = this.parent.parent.websocket.sendDataNotification(message);
 
 			// Set the UNABLE_TO_SEND channel
 			this.parent.parent.getUnableToSendChannel().setNextValue(!wasSent);
@@ -11,6 +11,7 @@ import org.java_websocket.WebSocket;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.openems.common.jsonrpc.notification.AbstractDataNotification;
 import io.openems.common.websocket.AbstractWebsocketClient;
 import io.openems.common.websocket.OnClose;
 
@@ -35,6 +36,8 @@ public class WebsocketClient extends AbstractWebsocketClient<WsData> {
 			this.log.error("Disconnected from OpenEMS Backend [" + serverUri.toString() //
 					+ (proxy != AbstractWebsocketClient.NO_PROXY ? " via Proxy" : "") + "]");
 			this.parent.getUnableToSendChannel().setNextValue(true);
+			WsData wsData = ws.getAttachment();
+			wsData.setBinaryDataEncoder(null);
 		};
 	}
 
@@ -83,6 +86,34 @@ public class WebsocketClient extends AbstractWebsocketClient<WsData> {
 		this.parent.logError(log, message);
 	}
 
+	/**
+	 * Sends a {@link AbstractDataNotification}; in binary format if it was
+	 * negotiated for the current connection.
+	 *
+	 * @param message the {@link AbstractDataNotification}
+	 * @return true if sending was successful
+	 */
+	public boolean sendDataNotification(AbstractDataNotification message) {
+		WsData wsData = this.ws.getAttachment();
+		var encoder = wsData.getBinaryDataEncoder();
+		if (encoder == null) {
+			return this.sendMessage(message);
+		}
+		// Keep order of encoding and sending
+		synchronized (encoder) {
+			var data = encoder.encode(message);
+			if (data == null) {
+				// Dictionary is full
+				return this.sendMessage(message);
+			}
+			if (!this.sendBinary(data)) {
+				return false;
+			}
+			encoder.commit();
+			return true;
+		}
+	}
+
 	public boolean isConnected() {
 		return this.ws.isOpen();
 	}
@@ -2,12 +2,36 @@ package io.openems.edge.controller.api.backend;
 
 import org.java_websocket.WebSocket;
 
+import io.openems.common.jsonrpc.notification.BinaryDataNotification;
+
 public class WsData extends io.openems.common.websocket.WsData {
 
+	private BinaryDataNotification.Encoder binaryDataEncoder = null;
+
 	public WsData(WebSocket ws) {
 		super(ws);
 	}
 
+	/**
+	 * Sets the {@link BinaryDataNotification.Encoder} of the current connection.
+	 *
+	 * @param binaryDataEncoder the {@link BinaryDataNotification.Encoder}; null if
+	 *                          binary data is not supported
+	 */
+	public synchronized void setBinaryDataEncoder(BinaryDataNotification.Encoder binaryDataEncoder) {
+		this.binaryDataEncoder = binaryDataEncoder;
+	}
+
+	/**
+	 * Gets the {@link BinaryDataNotification.Encoder} of the current connection.
+	 *
+	 * @return the {@link BinaryDataNotification.Encoder}; null if binary data is
+	 *         not supported
+	 */
+	public synchronized BinaryDataNotification.Encoder getBinaryDataEncoder() {
+		return this.binaryDataEncoder;
+	}
+
 	@Override
 	public String toString() {
 		return "BackendApi.WsData []";
@@ -31,6 +31,10 @@ public interface ControllerApiBackend extends Controller, OpenemsComponent, Even
 				// Make sure this is always persisted, as it is required for resending
 				.persistencePriority(PersistencePriority.VERY_HIGH) //
 				.text("Latest timestamp of successfully resent data")), //
+		COMPRESSION_SUPPRESSED_VALUES(Doc.of(OpenemsType.LONG) //
+				.text("Number of changed values that were not sent because of the compression")), //
+		COMPRESSION_SAVED_BYTES(Doc.of(OpenemsType.LONG) //
+				.text("Approximate number of bytes that were not sent because of the compression")), //
 		;
 
 		private final Doc doc;
@@ -72,6 +76,24 @@ public interface ControllerApiBackend extends Controller, OpenemsComponent, Even
 		return this.channel(ChannelId.LAST_SUCCESSFUL_RESEND);
 	}
 
+	/**
+	 * Gets the Channel for {@link ChannelId#COMPRESSION_SUPPRESSED_VALUES}.
+	 *
+	 * @return the Channel
+	 */
+	public default LongReadChannel getCompressionSuppressedValuesChannel() {
+		return this.channel(ChannelId.COMPRESSION_SUPPRESSED_VALUES);
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#COMPRESSION_SAVED_BYTES}.
+	 *
+	 * @return the Channel
+	 */
+	public default LongReadChannel getCompressionSavedBytesChannel() {
+		return this.channel(ChannelId.COMPRESSION_SAVED_BYTES);
+	}
+
 	/**
 	 * Gets if the edge is currently connected to the backend.
 	 * 
@@ -0,0 +1,168 @@
+package io.openems.edge.controller.api.backend;
+
+import static io.openems.edge.controller.api.backend.ChannelValueCompression.Decision.NOT_COMPRESSED;
+import static io.openems.edge.controller.api.backend.ChannelValueCompression.Decision.SEND;
+import static io.openems.edge.controller.api.backend.ChannelValueCompression.Decision.SUPPRESS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import com.google.gson.JsonNull;
+import com.google.gson.JsonPrimitive;
+
+import io.openems.common.channel.PersistencePriority;
+import io.openems.common.channel.Unit;
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.common.jsonrpc.notification.TimestampedDataNotification;
+import io.openems.common.types.OpenemsType;
+import io.openems.edge.common.channel.Doc;
+import io.openems.edge.common.component.AbstractOpenemsComponent;
+import io.openems.edge.common.component.OpenemsComponent;
+import io.openems.edge.controller.api.backend.SendChannelValuesWorkerTest.DummyComponent.DummyEnum;
+
+public class ChannelValueCompressionTest {
+
+	private static final String POWER = "component0/Power";
+	private static final String ENERGY = "component0/Energy";
+	private static final String ENUM = "component0/Enum";
+
+	@Test
+	public void testFrom() throws OpenemsException {
+		assertFalse(ChannelValueCompression.from(CompressionPolicy.DEADBAND, new String[0]).isEnabled());
+		assertFalse(ChannelValueCompression.from(CompressionPolicy.DEADBAND, new String[] { "HIGH=0" }).isEnabled());
+		assertTrue(
+				ChannelValueCompression.from(CompressionPolicy.DEADBAND, new String[] { " high = 0.5 " }).isEnabled());
+	}
+
+	@Test(expected = OpenemsException.class)
+	public void testFromInvalidPriority() throws OpenemsException {
+		ChannelValueCompression.from(CompressionPolicy.DEADBAND, new String[] { "FOO=1" });
+	}
+
+	@Test(expected = OpenemsException.class)
+	public void testFromMissingValue() throws OpenemsException {
+		ChannelValueCompression.from(CompressionPolicy.DEADBAND, new String[] { "HIGH" });
+	}
+
+	@Test(expected = OpenemsException.class)
+	public void testFromNegativeValue() throws OpenemsException {
+		ChannelValueCompression.from(CompressionPolicy.DEADBAND, new String[] { "HIGH=-1" });
+	}
+
+	@Test
+	public void testNotCompressed() throws OpenemsException {
+		var sut = create(CompressionPolicy.DEADBAND);
+		var message = new TimestampedDataNotification();
+
+		assertEquals(NOT_COMPRESSED, sut.apply(message, 0, ENERGY, new JsonPrimitive(1000), false));
+		assertEquals(NOT_COMPRESSED, sut.apply(message, 0, ENUM, new JsonPrimitive(1), false));
+		assertEquals(NOT_COMPRESSED, sut.apply(message, 0, "component0/Unknown", new JsonPrimitive(1), false));
+		assertEquals(NOT_COMPRESSED, sut.apply(message, 0, POWER, JsonNull.INSTANCE, false));
+	}
+
+	@Test
+	public void testDeadband() throws OpenemsException {
+		var sut = create(CompressionPolicy.DEADBAND);
+		var message = new TimestampedDataNotification();
+
+		// 1 % of 1000
+		assertEquals(SEND, sut.apply(message, 0, POWER, new JsonPrimitive(1000), false));
+		assertEquals(SUPPRESS, sut.apply(message, 1000, POWER, new JsonPrimitive(1010), false));
+		assertEquals(SUPPRESS, sut.apply(message, 2000, POWER, new JsonPrimitive(990), false));
+		assertEquals(SEND, sut.apply(message, 3000, POWER, new JsonPrimitive(1011), false));
+
+		// Bound is relative to the new archived value
+		assertEquals(SUPPRESS, sut.apply(message, 4000, POWER, new JsonPrimitive(1021), false));
+		assertEquals(3, sut.getSuppressedValues());
+		assertTrue(sut.getSavedBytes() > 0);
+
+		// Sending all values always sends
+		assertEquals(SEND, sut.apply(message, 5000, POWER, new JsonPrimitive(1011), true));
+
+		// After reset the next value is sent
+		sut.reset();
+		assertEquals(SEND, sut.apply(message, 6000, POWER, new JsonPrimitive(1011), false));
+
+		// Nothing was added for past timestamps
+		assertTrue(message.getData().isEmpty());
+	}
+
+	@Test
+	public void testSwingingDoor() throws OpenemsException {
+		var sut = create(CompressionPolicy.SWINGING_DOOR);
+		var message = new TimestampedDataNotification();
+
+		// A linear ramp is represented by its start point
+		assertEquals(SEND, sut.apply(message, 0, POWER, new JsonPrimitive(1000), false));
+		assertEquals(SUPPRESS, sut.apply(message, 1000, POWER, new JsonPrimitive(1100), false));
+		assertEquals(SUPPRESS, sut.apply(message, 2000, POWER, new JsonPrimitive(1200), false));
+		assertEquals(SUPPRESS, sut.apply(message, 3000, POWER, new JsonPrimitive(1300), false));
+		assertTrue(message.getData().isEmpty());
+
+		// Leaving the ramp closes the door: the end of the ramp is sent
+		assertEquals(SUPPRESS, sut.apply(message, 4000, POWER, new JsonPrimitive(1000), false));
+		assertEquals(1, message.getData().size());
+		assertEquals(1300, message.getData().get(3000L, POWER).getAsInt());
+		assertEquals(3, sut.getSuppressedValues());
+
+		// Values before the archived timestamp are suppressed
+		assertEquals(SUPPRESS, sut.apply(message, 3000, POWER, new JsonPrimitive(2000), false));
+	}
+
+	@Test
+	public void testSwingingDoorJump() throws OpenemsException {
+		var sut = create(CompressionPolicy.SWINGING_DOOR);
+		var message = new TimestampedDataNotification();
+
+		assertEquals(SEND, sut.apply(message, 0, POWER, new JsonPrimitive(1000), false));
+		assertEquals(SUPPRESS, sut.apply(message, 1000, POWER, new JsonPrimitive(1000), false));
+
+		// The jump closes the door: the last suppressed value is sent
+		assertEquals(SUPPRESS, sut.apply(message, 2000, POWER, new JsonPrimitive(5000), false));
+		assertEquals(1000, message.getData().get(1000L, POWER).getAsInt());
+	}
+
+	private static ChannelValueCompression create(CompressionPolicy policy) throws OpenemsException {
+		var sut = ChannelValueCompression.from(policy, new String[] { "HIGH=1" });
+		var component = new DummyComponent("component0");
+		component.channels().forEach(sut::register);
+		return sut;
+	}
+
+	private static class DummyComponent extends AbstractOpenemsComponent implements OpenemsComponent {
+
+		public enum ChannelId implements io.openems.edge.common.channel.ChannelId {
+			POWER(Doc.of(OpenemsType.INTEGER) //
+					.persistencePriority(PersistencePriority.HIGH)), //
+			ENERGY(Doc.of(OpenemsType.LONG) //
+					.unit(Unit.CUMULATED_WATT_HOURS) //
+					.persistencePriority(PersistencePriority.HIGH)), //
+			ENUM(Doc.of(DummyEnum.values()) //
+					.persistencePriority(PersistencePriority.HIGH)), //
+			;
+
+			private final Doc doc;
+
+			private ChannelId(Doc doc) {
+				this.doc = doc;
+			}
+
+			@Override
+			public Doc doc() {
+				return this.doc;
+			}
+		}
+
+		public DummyComponent(String id) {
+			super(//
+					OpenemsComponent.ChannelId.values(), //
+					ChannelId.values() //
+			);
+			super.activate(null, id, "", true);
+		}
+
+	}
+
+}
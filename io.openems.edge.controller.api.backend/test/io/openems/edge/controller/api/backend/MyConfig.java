@@ -20,6 +20,11 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 		private PersistencePriority aggregationPriority;
 		private PersistencePriority resendPriority;
 		private boolean debugMode;
+		private boolean binaryData;
+		private int resendJournalSize = 0;
+		private int resendJournalReplayRate = 20_000;
+		private CompressionPolicy compressionPolicy = CompressionPolicy.DEADBAND;
+		private String[] compressionErrorBounds = {};
 
 		private Builder() {
 		}
@@ -79,6 +84,31 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 			return this;
 		}
 
+		public Builder setBinaryData(boolean binaryData) {
+			this.binaryData = binaryData;
+			return this;
+		}
+
+		public Builder setResendJournalSize(int resendJournalSize) {
+			this.resendJournalSize = resendJournalSize;
+			return this;
+		}
+
+		public Builder setResendJournalReplayRate(int resendJournalReplayRate) {
+			this.resendJournalReplayRate = resendJournalReplayRate;
+			return this;
+		}
+
+		public Builder setCompressionPolicy(CompressionPolicy compressionPolicy) {
+			this.compressionPolicy = compressionPolicy;
+			return this;
+		}
+
+		public Builder setCompressionErrorBounds(String... compressionErrorBounds) {
+			this.compressionErrorBounds = compressionErrorBounds;
+			return this;
+		}
+
 		public MyConfig build() {
 			return new MyConfig(this);
 		}
@@ -150,4 +180,29 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 		return this.builder.debugMode;
 	}
 
-}
\ No newline at end of file
+	@Override
+	public boolean binaryData() {
+		return this.builder.binaryData;
+	}
+
+	@Override
+	public int resendJournalSize() {
+		return this.builder.resendJournalSize;
+	}
+
+	@Override
+	public int resendJournalReplayRate() {
+		return this.builder.resendJournalReplayRate;
+	}
+
+	@Override
+	public CompressionPolicy compressionPolicy() {
+		return this.builder.compressionPolicy;
+	}
+
+	@Override
+	public String[] compressionErrorBounds() {
+		return this.builder.compressionErrorBounds;
+	}
+
+}
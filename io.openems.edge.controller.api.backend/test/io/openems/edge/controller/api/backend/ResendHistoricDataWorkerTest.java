@@ -1,6 +1,7 @@
 package io.openems.edge.controller.api.backend;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 import java.util.SortedMap;
@@ -12,7 +13,9 @@ import com.google.gson.JsonElement;
 import com.google.gson.JsonPrimitive;
 
 import io.openems.common.types.ChannelAddress;
+import io.openems.edge.controller.api.backend.ResendHistoricDataWorker.ReplayedPeriod;
 import io.openems.edge.controller.api.backend.ResendHistoricDataWorker.TriggerState;
+import io.openems.edge.timedata.api.Timeranges.Timerange;
 
 public class ResendHistoricDataWorkerTest {
 
@@ -40,4 +43,23 @@ public class ResendHistoricDataWorkerTest {
 		assertEquals(testValue, mapped.get(testTimestamp, testChannel.toString()));
 	}
 
+	@Test
+	public void testReplayedPeriodCovers() {
+		var sut = new ReplayedPeriod(1000, 2000);
+		assertTrue(sut.covers(timerange(1000, 2000)));
+		assertTrue(sut.covers(timerange(1200, 1500)));
+
+		// Buffer before and after the journaled period is not covered
+		assertFalse(sut.covers(timerange(700, 1200)));
+		assertFalse(sut.covers(timerange(1900, 2300)));
+
+		assertFalse(ReplayedPeriod.NONE.covers(timerange(1000, 2000)));
+	}
+
+	private static Timerange timerange(long from, long to) {
+		var result = new Timerange(from);
+		result.insert(to);
+		return result;
+	}
+
 }
@@ -0,0 +1,187 @@
+package io.openems.edge.controller.api.backend;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.util.UUID;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.google.gson.JsonPrimitive;
+
+import io.openems.common.jsonrpc.notification.TimestampedDataNotification;
+
+public class ResendJournalTest {
+
+	private static final int SEGMENT_SIZE = 4096;
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testAppendReadCommit() throws IOException {
+		var sut = ResendJournal.open(this.folder.getRoot().toPath(), 10 * SEGMENT_SIZE, SEGMENT_SIZE);
+		assertTrue(sut.isEmpty());
+		assertNull(sut.read(Integer.MAX_VALUE));
+
+		sut.append(notification(1000, "foo0/Bar", 1));
+		sut.append(notification(2000, "foo0/Bar", 2));
+		assertFalse(sut.isEmpty());
+
+		var batch = sut.read(Integer.MAX_VALUE);
+		assertTrue(batch.lossless());
+		assertEquals(1, batch.data().get(1000L, "foo0/Bar").getAsInt());
+		assertEquals(2, batch.data().get(2000L, "foo0/Bar").getAsInt());
+
+		// Not consumed before commit
+		assertFalse(sut.isEmpty());
+		assertNotNull(sut.read(Integer.MAX_VALUE));
+
+		sut.commit(batch);
+		assertTrue(sut.isEmpty());
+		assertEquals(0, sut.getDiskUsage());
+		try (var files = Files.list(this.folder.getRoot().toPath())) {
+			assertEquals(0, files.count());
+		}
+	}
+
+	@Test
+	public void testReadPartially() throws IOException {
+		var sut = ResendJournal.open(this.folder.getRoot().toPath(), 10 * SEGMENT_SIZE, SEGMENT_SIZE);
+		sut.append(notification(1000, "foo0/Bar", 1));
+		sut.append(notification(2000, "foo0/Bar", 2));
+
+		var batch = sut.read(1);
+		assertEquals(1, batch.data().size());
+		assertEquals(1, batch.data().get(1000L, "foo0/Bar").getAsInt());
+		sut.commit(batch);
+
+		batch = sut.read(1);
+		assertEquals(1, batch.data().size());
+		assertEquals(2, batch.data().get(2000L, "foo0/Bar").getAsInt());
+		sut.commit(batch);
+
+		assertTrue(sut.isEmpty());
+	}
+
+	@Test
+	public void testRecover() throws IOException {
+		var path = this.folder.getRoot().toPath();
+		var sut = ResendJournal.open(path, 10 * SEGMENT_SIZE, SEGMENT_SIZE);
+		sut.append(notification(1000, "foo0/Bar", 1));
+
+		sut = ResendJournal.open(path, 10 * SEGMENT_SIZE, SEGMENT_SIZE);
+		var batch = sut.read(Integer.MAX_VALUE);
+		assertTrue(batch.lossless());
+		assertEquals(1, batch.data().get(1000L, "foo0/Bar").getAsInt());
+
+		// Appends to the recovered segment
+		sut.append(notification(2000, "foo0/Bar", 2));
+		assertEquals(1, sut.getSegmentPaths().size());
+	}
+
+	@Test
+	public void testRecoverReadPosition() throws IOException {
+		var path = this.folder.getRoot().toPath();
+		var sut = ResendJournal.open(path, 10 * SEGMENT_SIZE, SEGMENT_SIZE);
+		sut.append(notification(1000, "foo0/Bar", 1));
+		sut.append(notification(2000, "foo0/Bar", 2));
+		sut.commit(sut.read(1));
+		sut.close();
+
+		// Committed records are not replayed again
+		sut = ResendJournal.open(path, 10 * SEGMENT_SIZE, SEGMENT_SIZE);
+		var batch = sut.read(Integer.MAX_VALUE);
+		assertEquals(1, batch.data().size());
+		assertEquals(2, batch.data().get(2000L, "foo0/Bar").getAsInt());
+		sut.commit(batch);
+		assertTrue(sut.isEmpty());
+		sut.close();
+
+		// New segments after everything was replayed
+		sut = ResendJournal.open(path, 10 * SEGMENT_SIZE, SEGMENT_SIZE);
+		assertTrue(sut.isEmpty());
+		sut.append(notification(3000, "foo0/Bar", 3));
+		sut.close();
+		sut = ResendJournal.open(path, 10 * SEGMENT_SIZE, SEGMENT_SIZE);
+		assertEquals(3, sut.read(Integer.MAX_VALUE).data().get(3000L, "foo0/Bar").getAsInt());
+		sut.close();
+	}
+
+	@Test
+	public void testClose() throws IOException {
+		var sut = ResendJournal.open(this.folder.getRoot().toPath(), 10 * SEGMENT_SIZE, SEGMENT_SIZE);
+		sut.append(notification(1000, "foo0/Bar", 1));
+		sut.close();
+		sut.close();
+
+		sut.append(notification(2000, "foo0/Bar", 2));
+		assertNull(sut.read(Integer.MAX_VALUE));
+		assertTrue(sut.isEmpty());
+	}
+
+	@Test
+	public void testRecoverCorrupt() throws IOException {
+		var path = this.folder.getRoot().toPath();
+		var sut = ResendJournal.open(path, 10 * SEGMENT_SIZE, SEGMENT_SIZE);
+		sut.append(notification(1000, "foo0/Bar", 1));
+
+		try (var file = new RandomAccessFile(sut.getSegmentPaths().get(0).toFile(), "rw")) {
+			file.seek(12);
+			file.write(file.read() ^ 0xFF);
+		}
+
+		sut = ResendJournal.open(path, 10 * SEGMENT_SIZE, SEGMENT_SIZE);
+		assertTrue(sut.isEmpty());
+
+		sut.append(notification(2000, "foo0/Bar", 2));
+		var batch = sut.read(Integer.MAX_VALUE);
+		assertFalse(batch.lossless());
+		assertNull(batch.data().get(1000L, "foo0/Bar"));
+		assertEquals(2, batch.data().get(2000L, "foo0/Bar").getAsInt());
+	}
+
+	@Test
+	public void testEvict() throws IOException {
+		var sut = ResendJournal.open(this.folder.getRoot().toPath(), 2 * SEGMENT_SIZE, SEGMENT_SIZE);
+		for (var i = 0; i < 50; i++) {
+			sut.append(randomNotification(i * 1000L));
+		}
+		assertEquals(2, sut.getSegmentPaths().size());
+		assertEquals(2 * SEGMENT_SIZE, sut.getDiskUsage());
+
+		var batch = sut.read(Integer.MAX_VALUE);
+		assertFalse(batch.lossless());
+		assertNull(batch.data().row(0L).get("foo0/Bar0"));
+		assertNotNull(batch.data().row(49_000L).get("foo0/Bar0"));
+
+		// Lossless again after everything was replayed
+		sut.commit(batch);
+		assertTrue(sut.isEmpty());
+		sut.append(notification(1000, "foo0/Bar", 1));
+		assertTrue(sut.read(Integer.MAX_VALUE).lossless());
+	}
+
+	private static TimestampedDataNotification notification(long timestamp, String address, int value) {
+		var result = new TimestampedDataNotification();
+		result.add(timestamp, address, new JsonPrimitive(value));
+		return result;
+	}
+
+	private static TimestampedDataNotification randomNotification(long timestamp) {
+		var result = new TimestampedDataNotification();
+		for (var i = 0; i < 10; i++) {
+			result.add(timestamp, "foo0/Bar" + i, new JsonPrimitive(UUID.randomUUID().toString()));
+		}
+		return result;
+	}
+
+}
@@ -0,0 +1,212 @@
+package io.openems.edge.controller.api.rest;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import io.openems.common.types.ChannelAddress;
+import io.openems.edge.common.channel.Channel;
+import io.openems.edge.common.component.ComponentManager;
+import io.openems.edge.common.component.OpenemsComponent;
+
+/**
+ * Resolves {@link ChannelAddress}es with regular expressions to
+ * {@link Channel}s.
+ *
+ * <p>
+ * Components are indexed in a sorted map by Component-ID. Literal IDs are
+ * looked up directly; for regular expressions only the Components that start
+ * with the literal prefix of the expression are matched. Compiled
+ * {@link Pattern}s and resolved results are cached. The index and the results
+ * are rebuilt when the list of Components changes, i.e. when
+ * {@link ComponentManager#getEnabledComponents()} returns another instance, and
+ * a result is recalculated when a Channel was added to or removed from one of
+ * its Components.
+ */
+public class ChannelIndex {
+
+	/** The caches are cleared when they grow beyond this size. */
+	private static final int MAX_CACHE_SIZE = 256;
+
+	private static final String META_CHARACTERS = "\\^$.|?*+()[]{}";
+
+	private record Entry(int ordinal, OpenemsComponent component) {
+	}
+
+	private record Result(List<OpenemsComponent> components, int[] channelCounts, List<Channel<?>> channels) {
+
+		private boolean isValid() {
+			for (var i = 0; i < this.channelCounts.length; i++) {
+				if (this.components.get(i).channels().size() != this.channelCounts[i]) {
+					return false;
+				}
+			}
+			return true;
+		}
+	}
+
+	private record Index(List<OpenemsComponent> components, NavigableMap<String, List<Entry>> byId,
+			Map<ChannelAddress, Result> results) {
+	}
+
+	private final Map<String, Pattern> patterns = new ConcurrentHashMap<>();
+
+	private volatile Index index = null;
+
+	/**
+	 * Gets a list of Channels that match the {@link ChannelAddress}; regular
+	 * expressions are allowed.
+	 *
+	 * @param components     a list of {@link OpenemsComponent}s
+	 * @param channelAddress the {@link ChannelAddress}
+	 * @return an unmodifiable list of matching {@link Channel}s, in the order of
+	 *         the Components
+	 * @throws PatternSyntaxException on regular expression error
+	 */
+	public List<Channel<?>> getChannels(List<OpenemsComponent> components, ChannelAddress channelAddress)
+			throws PatternSyntaxException {
+		var index = this.index;
+		if (index == null || index.components() != components) {
+			index = buildIndex(components);
+			this.index = index;
+		}
+
+		var result = index.results().get(channelAddress);
+		if (result != null && result.isValid()) {
+			return result.channels();
+		}
+
+		result = this.resolve(index, channelAddress);
+		if (index.results().size() >= MAX_CACHE_SIZE) {
+			index.results().clear();
+		}
+		index.results().put(channelAddress, result);
+		return result.channels();
+	}
+
+	private static Index buildIndex(List<OpenemsComponent> components) {
+		var byId = new TreeMap<String, List<Entry>>();
+		var ordinal = 0;
+		for (var component : components) {
+			byId.computeIfAbsent(component.id(), k -> new ArrayList<>(1)).add(new Entry(ordinal++, component));
+		}
+		return new Index(components, byId, new ConcurrentHashMap<>());
+	}
+
+	@SuppressWarnings("deprecation")
+	private Result resolve(Index index, ChannelAddress channelAddress) throws PatternSyntaxException {
+		// Compile both patterns first to throw on any syntax error
+		var componentPattern = this.getPattern(channelAddress.getComponentId());
+		var channelPattern = this.getPattern(channelAddress.getChannelId());
+
+		var components = getComponents(index.byId(), componentPattern);
+		var channelCounts = new int[components.size()];
+		var channels = new ArrayList<Channel<?>>();
+		var isChannelLiteral = isLiteral(channelPattern.pattern());
+		for (var i = 0; i < components.size(); i++) {
+			var component = components.get(i);
+			var componentChannels = component.channels();
+			channelCounts[i] = componentChannels.size();
+			if (isChannelLiteral) {
+				var channel = component._channel(channelPattern.pattern());
+				if (channel != null) {
+					channels.add(channel);
+				}
+			} else {
+				for (var channel : componentChannels) {
+					if (channelPattern.matcher(channel.channelId().id()).matches()) {
+						channels.add(channel);
+					}
+				}
+			}
+		}
+		return new Result(components, channelCounts, Collections.unmodifiableList(channels));
+	}
+
+	private static List<OpenemsComponent> getComponents(NavigableMap<String, List<Entry>> byId, Pattern pattern) {
+		var regex = pattern.pattern();
+		if (isLiteral(regex)) {
+			var entries = byId.get(regex);
+			if (entries == null) {
+				return Collections.emptyList();
+			}
+			return entries.stream().map(Entry::component).toList();
+		}
+
+		var prefix = getLiteralPrefix(regex);
+		Collection<List<Entry>> candidates = prefix.isEmpty() //
+				? byId.values() //
+				: byId.tailMap(prefix, true).values();
+		var result = new ArrayList<Entry>();
+		for (var entries : candidates) {
+			var id = entries.get(0).component().id();
+			if (!id.startsWith(prefix)) {
+				break;
+			}
+			if (pattern.matcher(id).matches()) {
+				result.addAll(entries);
+			}
+		}
+		// Keep the order of the list of Components
+		result.sort(Comparator.comparingInt(Entry::ordinal));
+		return result.stream().map(Entry::component).toList();
+	}
+
+	private Pattern getPattern(String regex) throws PatternSyntaxException {
+		var pattern = this.patterns.get(regex);
+		if (pattern == null) {
+			pattern = Pattern.compile(regex);
+			if (this.patterns.size() >= MAX_CACHE_SIZE) {
+				this.patterns.clear();
+			}
+			this.patterns.put(regex, pattern);
+		}
+		return pattern;
+	}
+
+	/**
+	 * Is the regular expression a literal String without meta characters?.
+	 *
+	 * @param regex the regular expression
+	 * @return true if it only matches itself
+	 */
+	protected static boolean isLiteral(String regex) {
+		for (var i = 0; i < regex.length(); i++) {
+			if (META_CHARACTERS.indexOf(regex.charAt(i)) != -1) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Gets a prefix that every String matching the regular expression starts with.
+	 *
+	 * @param regex the regular expression
+	 * @return the prefix; possibly empty
+	 */
+	protected static String getLiteralPrefix(String regex) {
+		if (regex.indexOf('|') != -1) {
+			// Alternations might not share a prefix
+			return "";
+		}
+		var end = 0;
+		while (end < regex.length() && META_CHARACTERS.indexOf(regex.charAt(end)) == -1) {
+			end++;
+		}
+		if (end < regex.length() && end > 0 && "?*{".indexOf(regex.charAt(end)) != -1) {
+			// Last character is optional, e.g. "meter0?"
+			end--;
+		}
+		return regex.substring(0, end);
+	}
+
+}
@@ -11,8 +11,6 @@ import java.util.List;
 import java.util.StringTokenizer;
 import java.util.UUID;
 import java.util.concurrent.ExecutionException;
-import java.util.regex.Pattern;
-import java.util.regex.PatternSyntaxException;
 
 import org.eclipse.jetty.server.Request;
 import org.eclipse.jetty.server.handler.AbstractHandler;
@@ -38,7 +36,6 @@ import io.openems.common.utils.JsonUtils;
 import io.openems.common.utils.StringUtils;
 import io.openems.common.utils.UuidUtils;
 import io.openems.edge.common.channel.Channel;
-import io.openems.edge.common.component.OpenemsComponent;
 import io.openems.edge.common.user.User;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -48,6 +45,7 @@ public class RestHandler extends AbstractHandler {
 	private final Logger log = LoggerFactory.getLogger(RestHandler.class);
 
 	private final AbstractRestApi parent;
+	private final ChannelIndex channelIndex = new ChannelIndex();
 
 	public RestHandler(AbstractRestApi parent) {
 		this.parent = parent;
@@ -202,7 +200,7 @@ public class RestHandler extends AbstractHandler {
 		user.assertRoleIsAtLeast("HTTP GET", Role.GUEST);
 
 		var components = this.parent.getComponentManager().getEnabledComponents();
-		var channels = getChannels(components, channelAddress);
+		var channels = this.channelIndex.getChannels(components, channelAddress);
 
 		// Return with error when no matching channel was found
 		if (channels.size() == 0) {
@@ -248,24 +246,6 @@ public class RestHandler extends AbstractHandler {
 		return this.sendOkResponse(baseRequest, response, result);
 	}
 
-	/**
-	 * Gets a list of Channels that match the {@link ChannelAddress}; regular
-	 * expressions are allowed.
-	 * 
-	 * @param components     a list of {@link OpenemsComponent}s
-	 * @param channelAddress the {@link ChannelAddress} of the GET request
-	 * @return a list of matching {@link Channel}s
-	 * @throws PatternSyntaxException on regular expression error
-	 */
-	protected static List<Channel<?>> getChannels(List<OpenemsComponent> components, ChannelAddress channelAddress)
-			throws PatternSyntaxException {
-		return components.stream() //
-				.filter(component -> Pattern.matches(channelAddress.getComponentId(), component.id())) //
-				.flatMap(component -> component.channels().stream()) //
-				.filter(channel -> Pattern.matches(channelAddress.getChannelId(), channel.channelId().id())) //
-				.toList();
-	}
-
 	private void sendErrorResponse(Request baseRequest, HttpServletResponse response, UUID jsonrpcId, Throwable ex) {
 		try {
 			response.setContentType("application/json");
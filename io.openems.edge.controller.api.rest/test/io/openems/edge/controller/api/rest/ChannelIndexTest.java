@@ -0,0 +1,100 @@
+package io.openems.edge.controller.api.rest;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.List;
+import java.util.regex.PatternSyntaxException;
+
+import org.junit.Test;
+
+import io.openems.common.types.ChannelAddress;
+import io.openems.edge.common.component.OpenemsComponent;
+
+public class ChannelIndexTest {
+
+	@Test
+	public void testGetChannels() {
+		var foo0 = new DummyComponent("foo0");
+		var bar0 = new DummyComponent("bar0");
+		var dummyComponent = new DummyComponent("dummyComponent");
+		var components = List.<OpenemsComponent>of(foo0, bar0, dummyComponent);
+		var sut = new ChannelIndex();
+
+		{
+			var channelAddress = new ChannelAddress("foo0", "DummyChannel");
+			var result = sut.getChannels(components, channelAddress);
+			assertEquals(1, result.size());
+			assertEquals(foo0.channel("DummyChannel"), result.get(0));
+		}
+
+		{
+			var channelAddress = new ChannelAddress(".*0", "Dummy.*");
+			var result = sut.getChannels(components, channelAddress);
+			assertEquals(2, result.size());
+			assertEquals(foo0.channel("DummyChannel"), result.get(0));
+			assertEquals(bar0.channel("DummyChannel"), result.get(1));
+		}
+
+		{
+			var channelAddress = new ChannelAddress(".*0", "DummyXY.*");
+			var result = sut.getChannels(components, channelAddress);
+			assertEquals(0, result.size());
+		}
+
+		{
+			var channelAddress = new ChannelAddress("dummyComponent", "Dummy.*");
+			var result = sut.getChannels(components, channelAddress);
+			assertEquals(1, result.size());
+			assertEquals(dummyComponent.channel("DummyChannel"), result.get(0));
+		}
+
+		{
+			var channelAddress = new ChannelAddress("*", "");
+			try {
+				sut.getChannels(components, channelAddress);
+				fail();
+			} catch (PatternSyntaxException e) {
+				// ignore
+			}
+		}
+	}
+
+	@Test
+	public void testCache() {
+		var foo0 = new DummyComponent("foo0");
+		var bar0 = new DummyComponent("bar0");
+		var sut = new ChannelIndex();
+		var channelAddress = new ChannelAddress(".*", "DummyChannel");
+
+		var components = List.<OpenemsComponent>of(foo0);
+		var result = sut.getChannels(components, channelAddress);
+		assertEquals(List.of(foo0.channel("DummyChannel")), result);
+		assertSame(result, sut.getChannels(components, channelAddress));
+
+		// Another list of Components invalidates the cache
+		components = List.<OpenemsComponent>of(bar0, foo0);
+		result = sut.getChannels(components, channelAddress);
+		assertEquals(List.of(bar0.channel("DummyChannel"), foo0.channel("DummyChannel")), result);
+	}
+
+	@Test
+	public void testGetLiteralPrefix() {
+		assertTrue(ChannelIndex.isLiteral("meter0"));
+		assertFalse(ChannelIndex.isLiteral("meter.*"));
+		assertFalse(ChannelIndex.isLiteral("meter\\d"));
+
+		assertEquals("meter", ChannelIndex.getLiteralPrefix("meter.*"));
+		assertEquals("meter", ChannelIndex.getLiteralPrefix("meter[0-9]"));
+		assertEquals("mete", ChannelIndex.getLiteralPrefix("meter?"));
+		assertEquals("mete", ChannelIndex.getLiteralPrefix("meter*"));
+		assertEquals("meter", ChannelIndex.getLiteralPrefix("meter+"));
+		assertEquals("", ChannelIndex.getLiteralPrefix("meter0|ess0"));
+		assertEquals("", ChannelIndex.getLiteralPrefix(".*0"));
+		assertEquals("", ChannelIndex.getLiteralPrefix("(?i)meter0"));
+	}
+
+}
@@ -15,7 +15,6 @@ import org.slf4j.LoggerFactory;
 
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.edge.common.channel.IntegerReadChannel;
-import io.openems.edge.common.channel.value.Value;
 import io.openems.edge.common.component.AbstractOpenemsComponent;
 import io.openems.edge.common.component.ComponentManager;
 import io.openems.edge.common.component.OpenemsComponent;
@@ -185,10 +184,7 @@ public class ControllerEssEmergencyCapacityReserveImpl extends AbstractOpenemsCo
 	 */
 	private OptionalInt getLastValidSoc(IntegerReadChannel channel) {
 		// get first defined value
-		return channel.getPastValues().values() //
-				.stream() //
-				.filter(Value::isDefined) //
-				.mapToInt(Value::get) //
-				.findFirst();
+		var value = channel.pastValues().getFirstDefined();
+		return value.isPresent() ? OptionalInt.of(value.get()) : OptionalInt.empty();
 	}
 }
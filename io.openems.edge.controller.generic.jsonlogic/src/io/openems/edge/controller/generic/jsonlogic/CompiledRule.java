@@ -0,0 +1,401 @@
+package io.openems.edge.controller.generic.jsonlogic;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import com.google.gson.JsonElement;
+
+import io.github.meiskalt7.jsonlogic.JsonLogic;
+import io.github.meiskalt7.jsonlogic.JsonLogicException;
+import io.github.meiskalt7.jsonlogic.ast.JsonLogicArray;
+import io.github.meiskalt7.jsonlogic.ast.JsonLogicNode;
+import io.github.meiskalt7.jsonlogic.ast.JsonLogicOperation;
+import io.github.meiskalt7.jsonlogic.ast.JsonLogicParser;
+import io.github.meiskalt7.jsonlogic.ast.JsonLogicPrimitive;
+import io.github.meiskalt7.jsonlogic.ast.JsonLogicString;
+import io.github.meiskalt7.jsonlogic.ast.JsonLogicVariable;
+import io.github.meiskalt7.jsonlogic.evaluator.JsonLogicEvaluator;
+import io.github.meiskalt7.jsonlogic.evaluator.expressions.ConcatenateExpression;
+import io.github.meiskalt7.jsonlogic.evaluator.expressions.EqualityExpression;
+import io.github.meiskalt7.jsonlogic.evaluator.expressions.InExpression;
+import io.github.meiskalt7.jsonlogic.evaluator.expressions.MathExpression;
+import io.github.meiskalt7.jsonlogic.evaluator.expressions.NotExpression;
+import io.github.meiskalt7.jsonlogic.evaluator.expressions.NumericComparisonExpression;
+import io.github.meiskalt7.jsonlogic.evaluator.expressions.PreEvaluatedArgumentsExpression;
+import io.github.meiskalt7.jsonlogic.evaluator.expressions.StrictEqualityExpression;
+import io.github.meiskalt7.jsonlogic.evaluator.expressions.SubstringExpression;
+import io.github.meiskalt7.jsonlogic.utils.ArrayLike;
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.types.ChannelAddress;
+import io.openems.common.utils.JsonUtils;
+import io.openems.edge.common.channel.Channel;
+import io.openems.edge.common.component.ComponentManager;
+import io.openems.edge.common.component.OpenemsComponent;
+
+/**
+ * A JsonLogic rule that is compiled once into a tree of evaluable nodes.
+ *
+ * <p>
+ * Variables are bound to their Channels at compile time, so evaluation needs
+ * neither parsing nor a data map. Operators with pre-evaluated arguments reuse
+ * the implementations of the JsonLogic library; 'if', '?:', 'and', 'or' and
+ * 'var' follow the semantics of the library. Rules with other operators (e.g.
+ * 'map', 'reduce' or 'missing') are not compiled.
+ *
+ * <p>
+ * Like the data map of the interpreted rule, the variables found by
+ * {@link #getVariables(JsonElement)} are read from their Channels once at the
+ * start of every evaluation; all other variables evaluate to their default
+ * value.
+ */
+public class CompiledRule {
+
+	private static final Map<String, PreEvaluatedArgumentsExpression> EXPRESSIONS = new HashMap<>();
+
+	static {
+		Stream.of(MathExpression.ADD, MathExpression.SUBTRACT, MathExpression.MULTIPLY, MathExpression.DIVIDE,
+				MathExpression.MODULO, MathExpression.MIN, MathExpression.MAX, //
+				NumericComparisonExpression.GT, NumericComparisonExpression.GTE, NumericComparisonExpression.LT,
+				NumericComparisonExpression.LTE, //
+				EqualityExpression.INSTANCE, StrictEqualityExpression.INSTANCE, //
+				NotExpression.SINGLE, NotExpression.DOUBLE, //
+				InExpression.INSTANCE, ConcatenateExpression.INSTANCE, SubstringExpression.INSTANCE) //
+				.forEach(e -> EXPRESSIONS.put(e.key(), e));
+	}
+
+	private static final Set<String> OPERATORS = Set.of("if", "?:", "and", "or", "!=", "!==");
+
+	private static final JsonLogicEvaluator CONSTANT_EVALUATOR = new JsonLogicEvaluator(Collections.emptyList());
+
+	private interface Node {
+		Object evaluate() throws JsonLogicException, OpenemsNamedException;
+	}
+
+	private static class UnsupportedRuleException extends Exception {
+		private static final long serialVersionUID = 1L;
+
+		private UnsupportedRuleException(String message) {
+			super(message);
+		}
+	}
+
+	/**
+	 * A Channel reference that is resolved via the {@link ComponentManager} and
+	 * cached as long as the Component instance does not change.
+	 */
+	public static class ChannelRef {
+
+		private final ComponentManager componentManager;
+		private final ChannelAddress address;
+
+		private OpenemsComponent component = null;
+		private Channel<?> channel = null;
+
+		public ChannelRef(ComponentManager componentManager, ChannelAddress address) {
+			this.componentManager = componentManager;
+			this.address = address;
+		}
+
+		/**
+		 * Gets the {@link Channel}.
+		 *
+		 * @param <T> the type of the {@link Channel}
+		 * @return the {@link Channel}
+		 * @throws OpenemsNamedException    if the Component does not exist
+		 * @throws IllegalArgumentException if the Channel does not exist
+		 */
+		@SuppressWarnings("unchecked")
+		public <T extends Channel<?>> T get() throws OpenemsNamedException, IllegalArgumentException {
+			OpenemsComponent component = this.componentManager.getComponent(this.address.getComponentId());
+			if (component != this.component) {
+				this.channel = component.channel(this.address.getChannelId());
+				this.component = component;
+			}
+			return (T) this.channel;
+		}
+	}
+
+	private static class Context {
+
+		/** Variable -> index in {@link #values}. */
+		private final Map<String, Integer> variables = new LinkedHashMap<>();
+		/** The values of the variables; read at the start of every evaluation. */
+		private final Object[] values;
+		private final List<ChannelAddress> channelAddresses = new ArrayList<>();
+
+		private Context(Set<String> variables) {
+			for (var variable : variables) {
+				this.variables.put(variable, this.variables.size());
+			}
+			this.values = new Object[variables.size()];
+		}
+	}
+
+	private final Node root;
+	private final ChannelRef[] channels;
+	private final Object[] values;
+	private final List<ChannelAddress> channelAddresses;
+
+	private CompiledRule(Node root, ChannelRef[] channels, Context context) {
+		this.root = root;
+		this.channels = channels;
+		this.values = context.values;
+		this.channelAddresses = Collections.unmodifiableList(context.channelAddresses);
+	}
+
+	/**
+	 * Compiles a JsonLogic rule.
+	 *
+	 * @param rule             the JsonLogic rule
+	 * @param componentManager the {@link ComponentManager}
+	 * @return the {@link CompiledRule}; empty if the rule uses operators that are
+	 *         not supported by the compiler
+	 * @throws JsonLogicException    if the rule is invalid
+	 * @throws OpenemsNamedException if a variable is not a valid
+	 *                               {@link ChannelAddress}
+	 */
+	public static Optional<CompiledRule> compile(String rule, ComponentManager componentManager)
+			throws JsonLogicException, OpenemsNamedException {
+		var node = JsonLogicParser.parse(rule);
+		var context = new Context(getVariables(JsonUtils.parse(rule)));
+		final Node root;
+		try {
+			root = compile(node, context);
+		} catch (UnsupportedRuleException e) {
+			return Optional.empty();
+		}
+		var channels = new ChannelRef[context.values.length];
+		for (var entry : context.variables.entrySet()) {
+			channels[entry.getValue()] = new ChannelRef(componentManager,
+					ChannelAddress.fromString(entry.getKey()));
+		}
+		return Optional.of(new CompiledRule(root, channels, context));
+	}
+
+	private static Node compile(JsonLogicNode node, Context context)
+			throws JsonLogicException, OpenemsNamedException, UnsupportedRuleException {
+		if (isConstant(node)) {
+			// Evaluate once; arrays are shared between evaluations
+			final var value = CONSTANT_EVALUATOR.evaluate(node, null);
+			return () -> value;
+		}
+		switch (node.getType()) {
+		case PRIMITIVE:
+			// Handled by isConstant()
+			throw new UnsupportedRuleException("Primitive");
+
+		case ARRAY: {
+			var elements = compileAll((JsonLogicArray) node, context);
+			return () -> {
+				var result = new ArrayList<Object>(elements.length);
+				for (var element : elements) {
+					result.add(element.evaluate());
+				}
+				return result;
+			};
+		}
+
+		case VARIABLE:
+			return compileVariable((JsonLogicVariable) node, context);
+
+		case OPERATION:
+			return compileOperation((JsonLogicOperation) node, context);
+		}
+		throw new UnsupportedRuleException("Unknown node type [" + node.getType() + "]");
+	}
+
+	private static Node[] compileAll(JsonLogicArray array, Context context)
+			throws JsonLogicException, OpenemsNamedException, UnsupportedRuleException {
+		var result = new Node[array.size()];
+		for (var i = 0; i < result.length; i++) {
+			result[i] = compile(array.get(i), context);
+		}
+		return result;
+	}
+
+	private static Node compileVariable(JsonLogicVariable variable, Context context)
+			throws JsonLogicException, OpenemsNamedException, UnsupportedRuleException {
+		if (!(variable.getKey() instanceof JsonLogicString key) || key.getValue().contains(".")
+				|| !isConstant(variable.getDefaultValue())) {
+			// Number keys, nested keys and dynamic defaults
+			throw new UnsupportedRuleException("Variable");
+		}
+		final var defaultValue = CONSTANT_EVALUATOR.evaluate(variable.getDefaultValue(), null);
+		final var index = context.variables.get(key.getValue());
+		if (index == null) {
+			// Not part of the data map
+			return () -> defaultValue;
+		}
+		context.channelAddresses.add(ChannelAddress.fromString(key.getValue()));
+		final var values = context.values;
+		return () -> {
+			var value = values[index];
+			if (value == null) {
+				return defaultValue;
+			}
+			if (value instanceof Integer i) {
+				// Like JsonLogicEvaluator
+				return i.doubleValue();
+			}
+			return value;
+		};
+	}
+
+	private static Node compileOperation(JsonLogicOperation operation, Context context)
+			throws JsonLogicException, OpenemsNamedException, UnsupportedRuleException {
+		// Check the operator before compiling the arguments; unsupported operators
+		// may use variables that are no Channel-Addresses, e.g. in 'map'
+		var expression = EXPRESSIONS.get(operation.getOperator());
+		if (expression == null && !OPERATORS.contains(operation.getOperator())) {
+			throw new UnsupportedRuleException("Operator '" + operation.getOperator() + "'");
+		}
+
+		final var args = compileAll(operation.getArguments(), context);
+		switch (operation.getOperator()) {
+		case "if", "?:":
+			return () -> {
+				if (args.length == 0) {
+					return null;
+				}
+				if (args.length == 1) {
+					return args[0].evaluate();
+				}
+				for (var i = 0; i < args.length - 1; i += 2) {
+					if (JsonLogic.truthy(args[i].evaluate())) {
+						return args[i + 1].evaluate();
+					}
+				}
+				if (args.length % 2 == 0) {
+					return null;
+				}
+				return args[args.length - 1].evaluate();
+			};
+
+		case "and", "or": {
+			if (args.length == 0) {
+				throw new UnsupportedRuleException("Empty '" + operation.getOperator() + "'");
+			}
+			final var isAnd = operation.getOperator().equals("and");
+			return () -> {
+				Object result = null;
+				for (var arg : args) {
+					result = arg.evaluate();
+					if (isAnd != JsonLogic.truthy(result)) {
+						return result;
+					}
+				}
+				return result;
+			};
+		}
+
+		case "!=":
+			return negate(preEvaluated(EqualityExpression.INSTANCE, args));
+
+		case "!==":
+			return negate(preEvaluated(StrictEqualityExpression.INSTANCE, args));
+		}
+
+		return preEvaluated(expression, args);
+	}
+
+	private static Node preEvaluated(PreEvaluatedArgumentsExpression expression, Node[] args) {
+		// Reused between evaluations; none of the supported expressions keeps a
+		// reference to its arguments
+		final var values = new ArrayList<Object>(args.length);
+		return () -> {
+			values.clear();
+			for (var arg : args) {
+				values.add(arg.evaluate());
+			}
+			if (values.size() == 1 && ArrayLike.isEligible(values.get(0))) {
+				// Like PreEvaluatedArgumentsExpression
+				return expression.evaluate(new ArrayLike(values.get(0)), null);
+			}
+			return expression.evaluate(values, null);
+		};
+	}
+
+	private static Node negate(Node node) {
+		return () -> !(Boolean) node.evaluate();
+	}
+
+	private static boolean isConstant(JsonLogicNode node) {
+		if (node instanceof JsonLogicPrimitive) {
+			return true;
+		}
+		if (node instanceof JsonLogicArray array) {
+			for (var element : array) {
+				if (!isConstant(element)) {
+					return false;
+				}
+			}
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Finds the "var" entries of a JsonLogic rule that are read from Channels.
+	 *
+	 * @param json the JsonLogic rule
+	 * @return the variables in order of appearance
+	 */
+	public static Set<String> getVariables(JsonElement json) {
+		var result = new LinkedHashSet<String>();
+		getVariables(json, result);
+		return result;
+	}
+
+	private static void getVariables(JsonElement json, Set<String> result) {
+		if (json.isJsonObject()) {
+			for (var entry : json.getAsJsonObject().entrySet()) {
+				if (entry.getKey().equals("var") && entry.getValue().isJsonPrimitive()) {
+					var var = entry.getValue().getAsJsonPrimitive();
+					if (var.isString()) {
+						result.add(var.getAsString());
+					}
+				}
+				getVariables(entry.getValue(), result);
+			}
+		} else if (json.isJsonArray()) {
+			for (var entry : json.getAsJsonArray()) {
+				getVariables(entry, result);
+			}
+		}
+	}
+
+	/**
+	 * Evaluates the rule with the current values of the Channels.
+	 *
+	 * @return the result
+	 * @throws JsonLogicException       on evaluation error
+	 * @throws OpenemsNamedException    if a Component does not exist
+	 * @throws IllegalArgumentException if a Channel does not exist
+	 */
+	public Object evaluate() throws JsonLogicException, OpenemsNamedException, IllegalArgumentException {
+		// Like the data map: read all Channels, even if the rule does not evaluate
+		// them
+		for (var i = 0; i < this.channels.length; i++) {
+			this.values[i] = this.channels[i].get().value().get();
+		}
+		return this.root.evaluate();
+	}
+
+	/**
+	 * Gets the addresses of all variables.
+	 *
+	 * @return a list of {@link ChannelAddress}es
+	 */
+	public List<ChannelAddress> getChannelAddresses() {
+		return this.channelAddresses;
+	}
+
+}
@@ -4,7 +4,6 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 
 import org.osgi.service.component.ComponentContext;
 import org.osgi.service.component.annotations.Activate;
@@ -13,8 +12,8 @@ import org.osgi.service.component.annotations.ConfigurationPolicy;
 import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Reference;
 import org.osgi.service.metatype.annotations.Designate;
-
-import com.google.gson.JsonElement;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import io.github.meiskalt7.jsonlogic.JsonLogic;
 import io.github.meiskalt7.jsonlogic.JsonLogicException;
@@ -22,6 +21,7 @@ import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.exceptions.OpenemsException;
 import io.openems.common.types.ChannelAddress;
 import io.openems.common.utils.JsonUtils;
+import io.openems.edge.common.channel.Channel;
 import io.openems.edge.common.channel.WriteChannel;
 import io.openems.edge.common.component.AbstractOpenemsComponent;
 import io.openems.edge.common.component.ComponentManager;
@@ -37,13 +37,16 @@ import io.openems.edge.controller.api.Controller;
 public class ControllerGenericJsonLogicImpl extends AbstractOpenemsComponent
 		implements ControllerGenericJsonLogic, Controller, OpenemsComponent {
 
+	private final Logger log = LoggerFactory.getLogger(ControllerGenericJsonLogicImpl.class);
 	private final JsonLogic jsonLogic = new JsonLogic();
 	private final List<ChannelAddress> channelAddresses = new ArrayList<>();
+	private final Map<String, CompiledRule.ChannelRef> writeChannels = new HashMap<>();
 
 	@Reference
 	private ComponentManager componentManager;
 
 	private Config config = null;
+	private CompiledRule compiledRule = null;
 
 	public ControllerGenericJsonLogicImpl() {
 		super(//
@@ -58,7 +61,18 @@ public class ControllerGenericJsonLogicImpl extends AbstractOpenemsComponent
 		super.activate(context, config.id(), config.alias(), config.enabled());
 		this.config = config;
 
-		this.recursivelyParseVars(JsonUtils.parse(config.rule()));
+		try {
+			this.compiledRule = CompiledRule.compile(config.rule(), this.componentManager).orElse(null);
+		} catch (JsonLogicException e) {
+			throw new OpenemsException("JsonLogicException: " + e.getMessage());
+		}
+		if (this.compiledRule == null) {
+			this.logInfo(this.log, "Rule uses operators that are not supported by the compiler. "
+					+ "Falling back to interpreting the rule on every cycle.");
+			for (var variable : CompiledRule.getVariables(JsonUtils.parse(config.rule()))) {
+				this.channelAddresses.add(ChannelAddress.fromString(variable));
+			}
+		}
 	}
 
 	@Override
@@ -67,49 +81,16 @@ public class ControllerGenericJsonLogicImpl extends AbstractOpenemsComponent
 		super.deactivate();
 	}
 
-	/**
-	 * Parse the JsonLogic rule and try to find "var" entries.
-	 *
-	 * @param json the JsonLogic rule
-	 * @throws OpenemsNamedException on error
-	 */
-	private void recursivelyParseVars(JsonElement json) throws OpenemsNamedException {
-		if (json.isJsonObject()) {
-			// Found a JsonObject
-			for (Entry<String, JsonElement> entry : json.getAsJsonObject().entrySet()) {
-				// Is there any key "var"
-				if (entry.getKey().equals("var") && entry.getValue().isJsonPrimitive()) {
-					var var = entry.getValue().getAsJsonPrimitive();
-					if (var.isString()) {
-						// Parse as ChannelAddress and add to list
-						this.channelAddresses.add(ChannelAddress.fromString(var.getAsString()));
-					}
-				}
-				// Recursive call
-				this.recursivelyParseVars(entry.getValue());
-			}
-		} else if (json.isJsonArray()) {
-			// Found a JsonArray
-			for (JsonElement entry : json.getAsJsonArray()) {
-				// Recursive call
-				this.recursivelyParseVars(entry);
-			}
-		}
-	}
-
 	@Override
 	public void run() throws OpenemsNamedException {
-		// Read JsonLogic data from Channels
-		Map<String, Object> data = new HashMap<>();
-		for (ChannelAddress channelAddress : this.channelAddresses) {
-			Object value = this.componentManager.getChannel(channelAddress).value().get();
-			data.put(channelAddress.toString(), value);
-		}
-
 		// Apply JsonLogic rule
 		List<?> result;
 		try {
-			result = (List<?>) this.jsonLogic.apply(this.config.rule(), data);
+			if (this.compiledRule != null) {
+				result = (List<?>) this.compiledRule.evaluate();
+			} else {
+				result = (List<?>) this.jsonLogic.apply(this.config.rule(), this.readChannels());
+			}
 		} catch (JsonLogicException e) {
 			throw new OpenemsException("JsonLogicException: " + e.getMessage());
 		} catch (ClassCastException e) {
@@ -119,12 +100,35 @@ public class ControllerGenericJsonLogicImpl extends AbstractOpenemsComponent
 		// Get Set-Channel requests
 		for (Object entry : result) {
 			List<?> request = (List<?>) entry;
-			var channelAddress = ChannelAddress.fromString((String) request.get(0));
-			WriteChannel<?> channel = this.componentManager.getChannel(channelAddress);
+			WriteChannel<?> channel = this.getWriteChannel((String) request.get(0)).get();
 			Object value = request.get(1);
 			channel.setNextWriteValueFromObject(value);
 		}
 	}
+
+	/**
+	 * Reads JsonLogic data from Channels; used if the rule could not be compiled.
+	 *
+	 * @return a map of Channel-Address to value
+	 * @throws OpenemsNamedException on error
+	 */
+	private Map<String, Object> readChannels() throws OpenemsNamedException {
+		Map<String, Object> data = new HashMap<>();
+		for (ChannelAddress channelAddress : this.channelAddresses) {
+			Channel<?> channel = this.componentManager.getChannel(channelAddress);
+			data.put(channelAddress.toString(), channel.value().get());
+		}
+		return data;
+	}
+
+	private CompiledRule.ChannelRef getWriteChannel(String channelAddress) throws OpenemsNamedException {
+		var result = this.writeChannels.get(channelAddress);
+		if (result == null) {
+			result = new CompiledRule.ChannelRef(this.componentManager, ChannelAddress.fromString(channelAddress));
+			this.writeChannels.put(channelAddress, result);
+		}
+		return result;
+	}
 }
 
 // TODO: once gson version 2.8.6 or higher is compatible with OSGi on Java 8: use json-logic library
@@ -0,0 +1,166 @@
+package io.openems.edge.controller.generic.jsonlogic;
+
+import static io.openems.edge.common.test.TestUtils.withValue;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+import io.github.meiskalt7.jsonlogic.JsonLogic;
+import io.openems.common.types.ChannelAddress;
+import io.openems.common.utils.JsonUtils;
+import io.openems.edge.common.sum.DummySum;
+import io.openems.edge.common.sum.Sum;
+import io.openems.edge.common.test.DummyComponentManager;
+
+public class CompiledRuleTest {
+
+	private static final ChannelAddress SUM_SOC = new ChannelAddress(Sum.SINGLETON_COMPONENT_ID,
+			Sum.ChannelId.ESS_SOC.id());
+	private static final ChannelAddress SUM_GRID = new ChannelAddress(Sum.SINGLETON_COMPONENT_ID,
+			Sum.ChannelId.GRID_ACTIVE_POWER.id());
+
+	private static final ChannelAddress SUM_CHARGE_ENERGY = new ChannelAddress(Sum.SINGLETON_COMPONENT_ID,
+			Sum.ChannelId.ESS_ACTIVE_CHARGE_ENERGY.id());
+
+	private static final String RULE = "{" //
+			+ "  \"if\": [" //
+			+ "    { \"and\": [" //
+			+ "      { \"<\": [{ \"var\": \"" + SUM_SOC + "\" }, 50] }," //
+			+ "      { \">\": [{ \"var\": [\"" + SUM_GRID + "\", 0] }, 2000] }" //
+			+ "    ] }," //
+			+ "    [[\"ess0/SetActivePowerEquals\", { \"-\": [{ \"var\": \"" + SUM_GRID + "\" }, 2000] }]]," //
+			+ "    { \"!=\": [{ \"var\": \"" + SUM_SOC + "\" }, null] }," //
+			+ "    [[\"ess0/SetActivePowerEquals\", -2000]]," //
+			+ "    []" //
+			+ "  ]" //
+			+ "}";
+
+	@Test
+	public void testCompile() throws Exception {
+		var sut = CompiledRule.compile(RULE, new DummyComponentManager());
+		assertTrue(sut.isPresent());
+		assertEquals(List.of(SUM_SOC, SUM_GRID, SUM_GRID, SUM_SOC), sut.get().getChannelAddresses());
+
+		// Variables that are only used with a default value are not read
+		assertEquals(List.of(), CompiledRule.compile("{\"var\": [\"" + SUM_SOC + "\", 1]}", //
+				new DummyComponentManager()).get().getChannelAddresses());
+
+		// Not supported by the compiler
+		assertFalse(CompiledRule.compile("{\"map\": [[1, 2], {\"+\": [{\"var\": \"\"}, 1]}]}",
+				new DummyComponentManager()).isPresent());
+	}
+
+	@Test
+	public void testSameAsInterpreter() throws Exception {
+		var sum = new DummySum();
+		var componentManager = new DummyComponentManager() //
+				.addComponent(sum);
+		var sut = CompiledRule.compile(RULE, componentManager).get();
+		var jsonLogic = new JsonLogic();
+
+		Integer[][] inputs = { //
+				{ 40, 3000 }, //
+				{ 40, 1000 }, //
+				{ 60, 3000 }, //
+				{ null, 3000 }, //
+				{ 40, null }, //
+				{ null, null } };
+		for (var input : inputs) {
+			withValue(sum, Sum.ChannelId.ESS_SOC, input[0]);
+			withValue(sum, Sum.ChannelId.GRID_ACTIVE_POWER, input[1]);
+			var data = new HashMap<String, Object>();
+			data.put(SUM_SOC.toString(), input[0]);
+			data.put(SUM_GRID.toString(), input[1]);
+
+			assertEquals(jsonLogic.apply(RULE, data), sut.evaluate());
+		}
+	}
+
+	/**
+	 * Compares randomly generated rules with interpreting the rule via
+	 * {@link JsonLogic#apply(String, Object)}.
+	 */
+	@Test
+	public void testRandomRules() throws Exception {
+		var sum = new DummySum();
+		var componentManager = new DummyComponentManager() //
+				.addComponent(sum);
+		var jsonLogic = new JsonLogic();
+		var random = new Random(1);
+
+		var compiled = 0;
+		for (var i = 0; i < 10_000; i++) {
+			var rule = randomRule(random, 0);
+			var sut = CompiledRule.compile(rule, componentManager);
+			if (sut.isEmpty()) {
+				continue;
+			}
+			compiled++;
+			for (var j = 0; j < 3; j++) {
+				withValue(sum, Sum.ChannelId.ESS_SOC, random.nextBoolean() ? null : random.nextInt(5) - 2);
+				withValue(sum, Sum.ChannelId.GRID_ACTIVE_POWER, random.nextBoolean() ? null : random.nextInt(5) - 2);
+				withValue(sum, Sum.ChannelId.ESS_ACTIVE_CHARGE_ENERGY, random.nextBoolean() ? null : random.nextLong(5));
+
+				// Like ControllerGenericJsonLogicImpl if the rule is not compiled
+				var data = new HashMap<String, Object>();
+				for (var variable : CompiledRule.getVariables(JsonUtils.parse(rule))) {
+					data.put(variable, componentManager.getChannel(ChannelAddress.fromString(variable)).value().get());
+				}
+				assertEquals(rule + " " + data, //
+						result(() -> jsonLogic.apply(rule, data)), result(() -> sut.get().evaluate()));
+			}
+		}
+		assertTrue(compiled > 5_000);
+	}
+
+	private static final String[] OPERATORS = { "if", "?:", "and", "or", "!", "!!", "<", "<=", ">", ">=", "==",
+			"!=", "===", "!==", "+", "-", "*", "/", "%", "min", "max", "in", "cat", "map" };
+	private static final String[] VARIABLES = { SUM_SOC.toString(), SUM_GRID.toString(),
+			SUM_CHARGE_ENERGY.toString() };
+	private static final String[] LITERALS = { "null", "true", "false", "-2", "0", "1", "3", "\"0\"", "\"1\"",
+			"\"ab\"", "[1, \"x\"]" };
+
+	private static String randomRule(Random random, int depth) {
+		var type = depth > 3 ? 0 : random.nextInt(9);
+		switch (type) {
+		case 0, 1:
+			return LITERALS[random.nextInt(LITERALS.length)];
+		case 2:
+			return "{\"var\": \"" + VARIABLES[random.nextInt(VARIABLES.length)] + "\"}";
+		case 3:
+			return "{\"var\": [\"" + VARIABLES[random.nextInt(VARIABLES.length)] + "\", "
+					+ LITERALS[random.nextInt(LITERALS.length)] + "]}";
+		default:
+			var result = new StringBuilder("{\"") //
+					.append(OPERATORS[random.nextInt(OPERATORS.length)]) //
+					.append("\": [");
+			var args = random.nextInt(4);
+			for (var i = 0; i < args; i++) {
+				if (i > 0) {
+					result.append(", ");
+				}
+				result.append(randomRule(random, depth + 1));
+			}
+			return result.append("]}").toString();
+		}
+	}
+
+	private interface Evaluation {
+		Object evaluate() throws Exception;
+	}
+
+	private static String result(Evaluation evaluation) {
+		try {
+			return String.valueOf(evaluation.evaluate());
+		} catch (Exception e) {
+			return e.getClass().getSimpleName();
+		}
+	}
+
+}
@@ -5,6 +5,7 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.OptionalDouble;
 import java.util.Set;
 
 import org.osgi.service.component.ComponentContext;
@@ -26,7 +27,6 @@ import io.openems.common.exceptions.OpenemsException;
 import io.openems.common.types.ChannelAddress;
 import io.openems.edge.common.channel.IntegerReadChannel;
 import io.openems.edge.common.channel.WriteChannel;
-import io.openems.edge.common.channel.value.Value;
 import io.openems.edge.common.component.AbstractOpenemsComponent;
 import io.openems.edge.common.component.ComponentManager;
 import io.openems.edge.common.component.OpenemsComponent;
@@ -156,19 +156,17 @@ public class ControllerIoChannelSingleThresholdImpl extends AbstractOpenemsCompo
 
 		// Get average input value of the last 'minimumSwitchingTime' seconds
 		IntegerReadChannel inputChannel = this.componentManager.getChannel(inputChannelAddress);
-		var values = inputChannel.getPastValues().tailMap(
-				LocalDateTime.now(this.componentManager.getClock()).minusSeconds(this.config.minimumSwitchingTime()),
-				true).values();
-
-		// make sure we have at least one value
-		if (values.isEmpty()) {
-			values = new ArrayList<>();
-			values.add(inputChannel.value());
+		var pastValues = inputChannel.pastValues();
+		var from = LocalDateTime.now(this.componentManager.getClock())
+				.minusSeconds(this.config.minimumSwitchingTime());
+		final OptionalDouble inputValueOpt;
+		if (pastValues.count(from, LocalDateTime.MAX) > 0) {
+			inputValueOpt = pastValues.doubles(from, LocalDateTime.MAX).average();
+		} else {
+			// make sure we have at least one value
+			var value = inputChannel.value();
+			inputValueOpt = value.isDefined() ? OptionalDouble.of(value.get()) : OptionalDouble.empty();
 		}
-
-		var inputValueOpt = values.stream().filter(Value::isDefined) //
-				.mapToInt(Value::get) //
-				.average();
 		int inputValue;
 		if (inputValueOpt.isPresent()) {
 			inputValue = (int) Math.round(inputValueOpt.getAsDouble());
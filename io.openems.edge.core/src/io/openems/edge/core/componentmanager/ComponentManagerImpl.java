@@ -90,6 +90,7 @@ public class ComponentManagerImpl extends AbstractOpenemsComponent
 	private final EdgeConfigWorker edgeConfigWorker;
 
 	protected BundleContext bundleContext;
+	private volatile ComponentSnapshotRegistry componentRegistry = null;
 
 	@Reference(cardinality = ReferenceCardinality.OPTIONAL)
 	private volatile ClockProvider clockProvider = null;
@@ -121,6 +122,7 @@ public class ComponentManagerImpl extends AbstractOpenemsComponent
 	private void activate(ComponentContext componentContext, BundleContext bundleContext) throws OpenemsException {
 		super.activate(componentContext, SINGLETON_COMPONENT_ID, SINGLETON_SERVICE_PID, true);
 		this.bundleContext = bundleContext;
+		this.updateComponentRegistry(bundleContext);
 
 		for (ComponentManagerWorker worker : this.workers) {
 			worker.activate(this.id());
@@ -134,6 +136,9 @@ public class ComponentManagerImpl extends AbstractOpenemsComponent
 	@Modified
 	private void modified(ComponentContext componentContext, BundleContext bundleContext) {
 		super.modified(componentContext, SINGLETON_COMPONENT_ID, SINGLETON_SERVICE_PID, true);
+		if (this.bundleContext != bundleContext) {
+			this.updateComponentRegistry(bundleContext);
+		}
 		this.bundleContext = bundleContext;
 
 		for (ComponentManagerWorker worker : this.workers) {
@@ -149,31 +154,72 @@ public class ComponentManagerImpl extends AbstractOpenemsComponent
 	@Deactivate
 	protected void deactivate() {
 		super.deactivate();
+		this.updateComponentRegistry(null);
 
 		for (ComponentManagerWorker worker : this.workers) {
 			worker.deactivate();
 		}
 	}
 
+	private synchronized void updateComponentRegistry(BundleContext bundleContext) {
+		if (this.componentRegistry != null) {
+			this.componentRegistry.close();
+			this.componentRegistry = null;
+		}
+		if (bundleContext == null) {
+			// Can be null in JUnit tests
+			return;
+		}
+		var registry = new ComponentSnapshotRegistry(bundleContext);
+		registry.open();
+		this.componentRegistry = registry;
+	}
+
+	/**
+	 * Gets the current {@link ComponentSnapshotRegistry.Snapshot}.
+	 *
+	 * @return the snapshot; null if the registry is not available
+	 */
+	private ComponentSnapshotRegistry.Snapshot getSnapshot() {
+		var registry = this.componentRegistry;
+		if (registry == null) {
+			return null;
+		}
+		return registry.get();
+	}
+
 	@Override
 	public List<OpenemsComponent> getEnabledComponents() {
-		return this.getComponentsViaService("(&(enabled=true)(!(service.factoryPid=Core.ComponentManager)))");
+		var snapshot = this.getSnapshot();
+		if (snapshot == null) {
+			return Collections.emptyList();
+		}
+		return snapshot.enabled();
 	}
 
 	@Override
 	public <T extends OpenemsComponent> List<T> getEnabledComponentsOfType(Class<T> clazz) {
-		return this.getComponentsViaService(clazz, "(enabled=true)");
+		var snapshot = this.getSnapshot();
+		if (snapshot == null) {
+			return Collections.emptyList();
+		}
+		return snapshot.getEnabledComponentsOfType(clazz);
 	}
 
 	@Override
 	public List<OpenemsComponent> getAllComponents() {
-		return this.getComponentsViaService("(!(service.factoryPid=" + ComponentManager.SINGLETON_SERVICE_PID + "))");
+		var snapshot = this.getSnapshot();
+		if (snapshot == null) {
+			return Collections.emptyList();
+		}
+		return snapshot.all();
 	}
 
 	@Override
 	@SuppressWarnings("unchecked")
 	public <T extends OpenemsComponent> T getComponent(String componentId) throws OpenemsNamedException {
-		var component = this.getComponentViaService(componentId, true);
+		var snapshot = this.getSnapshot();
+		var component = snapshot == null ? null : snapshot.enabledById().get(componentId);
 		if (component != null) {
 			return (T) component;
 		}
@@ -184,95 +230,14 @@ public class ComponentManagerImpl extends AbstractOpenemsComponent
 	@SuppressWarnings("unchecked")
 	public <T extends OpenemsComponent> T getPossiblyDisabledComponent(String componentId)
 			throws OpenemsNamedException {
-		var component = this.getComponentViaService(componentId);
+		var snapshot = this.getSnapshot();
+		var component = snapshot == null ? null : snapshot.allById().get(componentId);
 		if (component != null) {
 			return (T) component;
 		}
 		throw OpenemsError.EDGE_NO_COMPONENT_WITH_ID.exception(componentId);
 	}
 
-	/**
-	 * Gets the components via OSGi service reference.
-	 *
-	 * @param filter the filter for the components
-	 * @return the components matching the filter
-	 */
-	private List<OpenemsComponent> getComponentsViaService(String filter) {
-		return this.getComponentsViaService(OpenemsComponent.class, filter);
-	}
-
-	/**
-	 * Gets the components via OSGi service reference.
-	 * 
-	 * @param <T>    the class type
-	 * @param clazz  The class under whose name the service was registered. Must not
-	 *               be {@code null}.
-	 * @param filter the filter for the components
-	 * @return the components matching the filter
-	 */
-	private <T> List<T> getComponentsViaService(Class<T> clazz, String filter) {
-		if (this.bundleContext == null) {
-			// Can be null in JUnit tests
-			return Collections.emptyList();
-		}
-
-		try {
-			var serviceReferences = this.bundleContext.getServiceReferences(clazz, filter);
-
-			var allComponents = new ArrayList<T>(serviceReferences.size());
-			for (var reference : serviceReferences) {
-				var component = this.bundleContext.getService(reference);
-				if (component == null) {
-					continue;
-				}
-				allComponents.add(component);
-				this.bundleContext.ungetService(reference);
-			}
-			return allComponents;
-
-		} catch (InvalidSyntaxException e) {
-			// filter invalid
-			e.printStackTrace();
-			return Collections.emptyList();
-		} catch (RuntimeException e) {
-			e.printStackTrace();
-			return Collections.emptyList();
-		}
-	}
-
-	/**
-	 * Gets the component via OSGi service reference. Be careful, that the Component
-	 * might not be 'enabled'.
-	 *
-	 * @param <T>         the type of the component
-	 * @param componentId the id of the component
-	 * @return the component or null if not found
-	 */
-	private <T extends OpenemsComponent> T getComponentViaService(String componentId) {
-		return this.getComponentViaService(componentId, false);
-	}
-
-	/**
-	 * Gets the component via OSGi service reference.
-	 *
-	 * @param <T>            the type of the component
-	 * @param componentId    the id of the component
-	 * @param hasToBeEnabled if the component has to be enabled
-	 * @return the component or null if not found
-	 */
-	@SuppressWarnings("unchecked")
-	private <T extends OpenemsComponent> T getComponentViaService(String componentId, boolean hasToBeEnabled) {
-		var filter = "(id=" + componentId + ")";
-		if (hasToBeEnabled) {
-			filter = "(&(enabled=true)" + filter + ")";
-		}
-		var components = this.getComponentsViaService(filter);
-		if (components.isEmpty()) {
-			return null;
-		}
-		return (T) components.get(0);
-	}
-
 	@Override
 	public String debugLog() {
 		final List<String> logs = new ArrayList<>();
@@ -737,6 +702,10 @@ public class ComponentManagerImpl extends AbstractOpenemsComponent
 
 	@Override
 	public void configurationEvent(ConfigurationEvent event) {
+		var registry = this.componentRegistry;
+		if (registry != null) {
+			registry.invalidate();
+		}
 		for (ComponentManagerWorker worker : this.workers) {
 			worker.configurationEvent(event);
 		}
@@ -0,0 +1,231 @@
+package io.openems.edge.core.componentmanager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.osgi.framework.BundleContext;
+import org.osgi.framework.Constants;
+import org.osgi.framework.InvalidSyntaxException;
+import org.osgi.framework.ServiceEvent;
+import org.osgi.framework.ServiceListener;
+import org.osgi.framework.ServiceReference;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.openems.edge.common.component.ComponentManager;
+import io.openems.edge.common.component.OpenemsComponent;
+
+/**
+ * Keeps an immutable snapshot of all OpenEMS-Components, indexed by
+ * Component-ID and by service interface.
+ *
+ * <p>
+ * The set of {@link ServiceReference}s is maintained from OSGi
+ * {@link ServiceEvent}s. Every service event and every configuration event
+ * invalidates the snapshot; it is rebuilt on the next access and published via
+ * a volatile reference. Lookups are therefore plain map reads without filter
+ * parsing and without locking the service registry.
+ */
+public class ComponentSnapshotRegistry implements ServiceListener {
+
+	private static final String FILTER = "(" + Constants.OBJECTCLASS + "=" + OpenemsComponent.class.getName() + ")";
+	private static final Comparator<ServiceReference<?>> BY_SERVICE_ID = Comparator
+			.comparingLong(r -> (Long) r.getProperty(Constants.SERVICE_ID));
+
+	/**
+	 * An immutable snapshot of the OpenEMS-Components.
+	 *
+	 * @param version              the version of the registry when the snapshot
+	 *                             was built
+	 * @param enabled              the enabled Components, without the
+	 *                             {@link ComponentManager}
+	 * @param all                  all Components, without the
+	 *                             {@link ComponentManager}
+	 * @param enabledById          the enabled Components by Component-ID
+	 * @param allById              all Components by Component-ID
+	 * @param enabledByObjectClass the enabled Components by name of the service
+	 *                             interface
+	 */
+	public record Snapshot(long version, List<OpenemsComponent> enabled, List<OpenemsComponent> all,
+			Map<String, OpenemsComponent> enabledById, Map<String, OpenemsComponent> allById,
+			Map<String, List<OpenemsComponent>> enabledByObjectClass) {
+
+		/**
+		 * Gets the enabled Components of the given type.
+		 *
+		 * @param <T>   the type
+		 * @param clazz the service interface
+		 * @return an unmodifiable List of Components
+		 */
+		@SuppressWarnings("unchecked")
+		public <T extends OpenemsComponent> List<T> getEnabledComponentsOfType(Class<T> clazz) {
+			return (List<T>) this.enabledByObjectClass.getOrDefault(clazz.getName(), Collections.emptyList());
+		}
+	}
+
+	private final Logger log = LoggerFactory.getLogger(ComponentSnapshotRegistry.class);
+
+	private final BundleContext bundleContext;
+	private final AtomicLong version = new AtomicLong();
+
+	/** Replaced on every change; guarded by this. */
+	private Set<ServiceReference<?>> references = Collections.emptySet();
+
+	private volatile Snapshot snapshot = null;
+
+	public ComponentSnapshotRegistry(BundleContext bundleContext) {
+		this.bundleContext = bundleContext;
+	}
+
+	/**
+	 * Starts listening for service events and reads the currently registered
+	 * Components.
+	 */
+	public void open() {
+		try {
+			// Add listener first to not miss any registration
+			this.bundleContext.addServiceListener(this, FILTER);
+			var references = this.bundleContext.getServiceReferences(OpenemsComponent.class, null);
+			synchronized (this) {
+				var result = new HashSet<>(this.references);
+				result.addAll(references);
+				this.references = result;
+				this.version.incrementAndGet();
+			}
+		} catch (InvalidSyntaxException e) {
+			this.log.error("Unable to open Component registry: " + e.getMessage());
+		}
+	}
+
+	/**
+	 * Stops listening for service events.
+	 */
+	public void close() {
+		this.bundleContext.removeServiceListener(this);
+		synchronized (this) {
+			this.references = Collections.emptySet();
+			this.version.incrementAndGet();
+		}
+		this.snapshot = null;
+	}
+
+	@Override
+	public void serviceChanged(ServiceEvent event) {
+		var reference = event.getServiceReference();
+		synchronized (this) {
+			var result = new HashSet<>(this.references);
+			switch (event.getType()) {
+			case ServiceEvent.UNREGISTERING, ServiceEvent.MODIFIED_ENDMATCH -> result.remove(reference);
+			default -> result.add(reference);
+			}
+			this.references = result;
+			this.version.incrementAndGet();
+		}
+	}
+
+	/**
+	 * Invalidates the current snapshot, e.g. on a configuration event.
+	 */
+	public void invalidate() {
+		this.version.incrementAndGet();
+	}
+
+	/**
+	 * Gets the current {@link Snapshot}; rebuilds it if it was invalidated.
+	 *
+	 * @return the {@link Snapshot}
+	 */
+	public Snapshot get() {
+		var snapshot = this.snapshot;
+		if (snapshot != null && snapshot.version() == this.version.get()) {
+			return snapshot;
+		}
+
+		final long version;
+		final Collection<ServiceReference<?>> references;
+		synchronized (this) {
+			version = this.version.get();
+			references = this.references;
+		}
+		snapshot = this.build(version, references);
+		if (this.version.get() == version) {
+			// Not published if there was a change in the meantime
+			this.snapshot = snapshot;
+		}
+		return snapshot;
+	}
+
+	private Snapshot build(long version, Collection<ServiceReference<?>> references) {
+		var enabled = new ArrayList<OpenemsComponent>();
+		var all = new ArrayList<OpenemsComponent>();
+		var enabledById = new HashMap<String, OpenemsComponent>();
+		var allById = new HashMap<String, OpenemsComponent>();
+		var enabledByObjectClass = new HashMap<String, List<OpenemsComponent>>();
+
+		var sorted = new ArrayList<>(references);
+		sorted.sort(BY_SERVICE_ID);
+		for (var reference : sorted) {
+			if (reference.getBundle() == null) {
+				// Already unregistered
+				continue;
+			}
+			final OpenemsComponent component;
+			try {
+				component = (OpenemsComponent) this.bundleContext.getService(reference);
+				if (component == null) {
+					continue;
+				}
+				this.bundleContext.ungetService(reference);
+			} catch (RuntimeException e) {
+				this.log.warn("Unable to get Component service: " + e.getMessage());
+				continue;
+			}
+
+			var isEnabled = isEnabled(reference.getProperty("enabled"));
+			var isComponentManager = ComponentManager.SINGLETON_SERVICE_PID
+					.equals(reference.getProperty(Constants.SERVICE_PID))
+					|| ComponentManager.SINGLETON_SERVICE_PID.equals(reference.getProperty("service.factoryPid"));
+			if (!isComponentManager) {
+				all.add(component);
+				if (isEnabled) {
+					enabled.add(component);
+				}
+			}
+			if (reference.getProperty("id") instanceof String id) {
+				allById.putIfAbsent(id, component);
+				if (isEnabled) {
+					enabledById.putIfAbsent(id, component);
+				}
+			}
+			if (isEnabled && reference.getProperty(Constants.OBJECTCLASS) instanceof String[] objectClasses) {
+				for (var objectClass : objectClasses) {
+					enabledByObjectClass.computeIfAbsent(objectClass, k -> new ArrayList<>()).add(component);
+				}
+			}
+		}
+
+		enabledByObjectClass.replaceAll((k, v) -> Collections.unmodifiableList(v));
+		return new Snapshot(version, //
+				Collections.unmodifiableList(enabled), //
+				Collections.unmodifiableList(all), //
+				Collections.unmodifiableMap(enabledById), //
+				Collections.unmodifiableMap(allById), //
+				Collections.unmodifiableMap(enabledByObjectClass));
+	}
+
+	private static boolean isEnabled(Object value) {
+		if (value instanceof Boolean b) {
+			return b;
+		}
+		return value != null && Boolean.parseBoolean(value.toString().trim());
+	}
+
+}
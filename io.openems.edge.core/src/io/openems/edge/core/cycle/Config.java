@@ -13,6 +13,12 @@ import io.openems.edge.common.cycle.Cycle;
 	@AttributeDefinition(name = "Cycle-Time", description = "The duration of one global OpenEMS Cycle in [ms]")
 	int cycleTime() default Cycle.DEFAULT_CYCLE_TIME;
 
+	@AttributeDefinition(name = "Cycle-Profiler", description = "Measure the durations of the Cycle phases and Controllers?")
+	boolean profilerEnabled() default false;
+
+	@AttributeDefinition(name = "Parallel Process-Image", description = "Switch the Channels of all Components to the next process image in parallel on all CPU cores?")
+	boolean parallelProcessImage() default false;
+
 	String webconsole_configurationFactory_nameHint() default "Core Cycle";
 
 }
\ No newline at end of file
@@ -20,11 +20,17 @@ import org.slf4j.Logger;
 
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.exceptions.OpenemsException;
+import io.openems.common.jsonrpc.base.GenericJsonrpcResponseSuccess;
+import io.openems.common.session.Role;
 import io.openems.edge.common.component.AbstractOpenemsComponent;
 import io.openems.edge.common.component.ComponentManager;
 import io.openems.edge.common.component.OpenemsComponent;
 import io.openems.edge.common.cycle.Cycle;
+import io.openems.edge.common.jsonapi.ComponentJsonApi;
+import io.openems.edge.common.jsonapi.EdgeKeys;
+import io.openems.edge.common.jsonapi.JsonApiBuilder;
 import io.openems.edge.common.sum.Sum;
+import io.openems.edge.core.cycle.jsonrpc.GetCycleProfileRequest;
 import io.openems.edge.scheduler.api.Scheduler;
 
 @Designate(ocd = Config.class, factory = false)
@@ -35,10 +41,33 @@ import io.openems.edge.scheduler.api.Scheduler;
 		property = { //
 				"enabled=true" //
 		})
-public class CycleImpl extends AbstractOpenemsComponent implements OpenemsComponent, Cycle {
+public class CycleImpl extends AbstractOpenemsComponent implements OpenemsComponent, Cycle, ComponentJsonApi {
 
 	private final CycleWorker worker = new CycleWorker(this);
 
+	protected final CycleProfiler profiler = new CycleProfiler();
+
+	/** Adds and removes the per-Controller Channels of the {@link #profiler}. */
+	protected final CycleProfiler.ControllerChannels profilerControllerChannels = new CycleProfiler.ControllerChannels() {
+
+		@Override
+		public void add(io.openems.edge.common.channel.ChannelId channelId) {
+			CycleImpl.this.addChannel(channelId);
+		}
+
+		@Override
+		public void remove(io.openems.edge.common.channel.ChannelId channelId) {
+			CycleImpl.this.removeChannel(CycleImpl.this.channel(channelId));
+		}
+	};
+
+	/**
+	 * Switch the process image in parallel? See
+	 * {@link Config#parallelProcessImage()}. The {@link CycleWorker} owns the
+	 * pool and applies a change at the start of the next Cycle.
+	 */
+	protected volatile boolean parallelProcessImage = false;
+
 	@Reference
 	private ConfigurationAdmin cm;
 
@@ -81,12 +110,19 @@ public class CycleImpl extends AbstractOpenemsComponent implements OpenemsCompon
 				OpenemsComponent.ChannelId.values(), //
 				Cycle.ChannelId.values() //
 		);
+		for (var phase : CycleProfiler.Phase.values()) {
+			this.addChannel(phase.p50);
+			this.addChannel(phase.p99);
+			this.addChannel(phase.max);
+		}
 	}
 
 	@Activate
 	private void activate(ComponentContext context, Config config) throws OpenemsException {
 		super.activate(context, SINGLETON_COMPONENT_ID, SINGLETON_SERVICE_PID, true);
 		this.config = config;
+		this.profiler.setEnabled(config.profilerEnabled());
+		this.parallelProcessImage = config.parallelProcessImage();
 		this.worker.activate(this.id());
 
 		if (OpenemsComponent.validateSingleton(this.cm, SINGLETON_SERVICE_PID, SINGLETON_COMPONENT_ID)) {
@@ -98,6 +134,8 @@ public class CycleImpl extends AbstractOpenemsComponent implements OpenemsCompon
 	private void modified(ComponentContext context, Config config) throws OpenemsNamedException {
 		super.modified(context, SINGLETON_COMPONENT_ID, SINGLETON_SERVICE_PID, true);
 		this.config = config;
+		this.profiler.setEnabled(config.profilerEnabled());
+		this.parallelProcessImage = config.parallelProcessImage();
 		this.worker.modified(this.id());
 
 		if (OpenemsComponent.validateSingleton(this.cm, SINGLETON_SERVICE_PID, SINGLETON_COMPONENT_ID)) {
@@ -109,6 +147,7 @@ public class CycleImpl extends AbstractOpenemsComponent implements OpenemsCompon
 	@Deactivate
 	protected void deactivate() {
 		super.deactivate();
+		this.parallelProcessImage = false;
 		this.worker.deactivate();
 	}
 
@@ -131,4 +170,12 @@ public class CycleImpl extends AbstractOpenemsComponent implements OpenemsCompon
 		return Cycle.DEFAULT_CYCLE_TIME;
 	}
 
+	@Override
+	public void buildJsonApiRoutes(JsonApiBuilder builder) {
+		builder.handleRequest(GetCycleProfileRequest.METHOD, call -> {
+			call.get(EdgeKeys.USER_KEY).assertRoleIsAtLeast("getCycleProfile", Role.ADMIN);
+			return new GenericJsonrpcResponseSuccess(call.getRequest().getId(), this.profiler.toJson());
+		});
+	}
+
 }
@@ -0,0 +1,387 @@
+package io.openems.edge.core.cycle;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.google.gson.JsonObject;
+
+import io.openems.common.channel.Unit;
+import io.openems.common.types.OpenemsType;
+import io.openems.common.utils.JsonUtils;
+import io.openems.edge.common.channel.ChannelId;
+import io.openems.edge.common.channel.ChannelId.ChannelIdImpl;
+import io.openems.edge.common.channel.Doc;
+import io.openems.edge.common.component.OpenemsComponent;
+
+/**
+ * Measures the durations of the phases of the global OpenEMS Cycle and of every
+ * executed Controller.
+ *
+ * <p>
+ * For every {@link Phase} and every Controller a {@link RollingHistogram} of the
+ * last {@link #WINDOW_SIZE} measurements is kept. Median (p50), 99th percentile
+ * (p99) and maximum of each {@link Phase} and each Controller are published via
+ * Channels every {@link #PUBLISH_INTERVAL} Cycles; detailed results are
+ * calculated on demand via {@link #toJson()}.
+ *
+ * <p>
+ * The Channels of a Controller, e.g. "ProfilerControllerCtrl0P50", are added
+ * when the Controller is published for the first time and removed once it was
+ * not executed within the last {@link #WINDOW_SIZE} Cycles or the profiler is
+ * disabled.
+ */
+public class CycleProfiler {
+
+	/** Number of measurements that are kept per {@link RollingHistogram}. */
+	public static final int WINDOW_SIZE = 300;
+
+	/** Number of Cycles between two updates of the Channels. */
+	public static final int PUBLISH_INTERVAL = 10;
+
+	public static enum Phase {
+		/** Handling of {@code TOPIC_CYCLE_BEFORE_PROCESS_IMAGE} event. */
+		BEFORE_PROCESS_IMAGE,
+		/** Switching all Channels to the next process image. */
+		PROCESS_IMAGE,
+		/** Handling of {@code TOPIC_CYCLE_AFTER_PROCESS_IMAGE} event. */
+		AFTER_PROCESS_IMAGE,
+		/** Handling of {@code TOPIC_CYCLE_BEFORE_CONTROLLERS} event. */
+		BEFORE_CONTROLLERS,
+		/** Execution of all Schedulers and their Controllers. */
+		CONTROLLERS,
+		/** Handling of {@code TOPIC_CYCLE_AFTER_CONTROLLERS} event. */
+		AFTER_CONTROLLERS,
+		/** Handling of {@code TOPIC_CYCLE_BEFORE_WRITE} event. */
+		BEFORE_WRITE,
+		/** Handling of {@code TOPIC_CYCLE_EXECUTE_WRITE} event. */
+		EXECUTE_WRITE,
+		/** Handling of {@code TOPIC_CYCLE_AFTER_WRITE} event. */
+		AFTER_WRITE;
+
+		protected final ChannelIdImpl p50;
+		protected final ChannelIdImpl p99;
+		protected final ChannelIdImpl max;
+
+		private Phase() {
+			this.p50 = createChannelId(this, "P50");
+			this.p99 = createChannelId(this, "P99");
+			this.max = createChannelId(this, "MAX");
+		}
+
+		private static ChannelIdImpl createChannelId(Phase phase, String suffix) {
+			return CycleProfiler.createChannelId(phase.name(), suffix);
+		}
+	}
+
+	/**
+	 * Adds and removes the Channels of Controllers at the component that holds the
+	 * Cycle-Profiler Channels.
+	 */
+	public static interface ControllerChannels {
+
+		/**
+		 * Adds a Channel.
+		 *
+		 * @param channelId the {@link ChannelId}
+		 */
+		public void add(ChannelId channelId);
+
+		/**
+		 * Removes a Channel.
+		 *
+		 * @param channelId the {@link ChannelId}
+		 */
+		public void remove(ChannelId channelId);
+	}
+
+	/**
+	 * The Channel-IDs of one Controller.
+	 */
+	protected static record ControllerChannelIds(ChannelIdImpl p50, ChannelIdImpl p99, ChannelIdImpl max) {
+
+		protected static ControllerChannelIds of(String controllerId) {
+			var name = "CONTROLLER_" + controllerId.toUpperCase().replaceAll("[^A-Z0-9]", "_");
+			return new ControllerChannelIds(createChannelId(name, "P50"), createChannelId(name, "P99"),
+					createChannelId(name, "MAX"));
+		}
+
+		private ChannelIdImpl[] all() {
+			return new ChannelIdImpl[] { this.p50, this.p99, this.max };
+		}
+	}
+
+	private static ChannelIdImpl createChannelId(String name, String suffix) {
+		return new ChannelIdImpl("PROFILER_" + name + "_" + suffix, //
+				Doc.of(OpenemsType.FLOAT) //
+						.unit(Unit.MILLISECONDS));
+	}
+
+	/**
+	 * A fixed-size ring of duration measurements in [ns].
+	 */
+	public static class RollingHistogram {
+
+		private final long[] values;
+		private int next = 0;
+		private int size = 0;
+		private long lastCycle = 0;
+
+		public RollingHistogram(int capacity) {
+			this.values = new long[capacity];
+		}
+
+		/**
+		 * Adds a measurement, possibly overwriting the oldest one.
+		 *
+		 * @param nanos the duration in [ns]
+		 */
+		public synchronized void add(long nanos) {
+			this.values[this.next] = nanos;
+			this.next = (this.next + 1) % this.values.length;
+			if (this.size < this.values.length) {
+				this.size++;
+			}
+		}
+
+		/**
+		 * Builds a {@link Snapshot} of the current measurements.
+		 *
+		 * @return the {@link Snapshot}; null if there are no measurements
+		 */
+		public synchronized Snapshot snapshot() {
+			if (this.size == 0) {
+				return null;
+			}
+			var sorted = Arrays.copyOf(this.values, this.size);
+			Arrays.sort(sorted);
+			return new Snapshot(this.size, percentile(sorted, 0.5), percentile(sorted, 0.99),
+					sorted[sorted.length - 1]);
+		}
+
+		private static long percentile(long[] sorted, double p) {
+			var index = (int) Math.ceil(p * sorted.length) - 1;
+			return sorted[Math.max(0, index)];
+		}
+	}
+
+	/**
+	 * Statistics of a {@link RollingHistogram}. All durations are in [ns].
+	 */
+	public static record Snapshot(int count, long p50, long p99, long max) {
+
+		/**
+		 * Serializes this {@link Snapshot} to a {@link JsonObject}. Durations are
+		 * converted to [µs].
+		 *
+		 * @return the {@link JsonObject}
+		 */
+		public JsonObject toJson() {
+			return JsonUtils.buildJsonObject() //
+					.addProperty("count", this.count) //
+					.addProperty("p50", this.p50 / 1_000) //
+					.addProperty("p99", this.p99 / 1_000) //
+					.addProperty("max", this.max / 1_000) //
+					.build();
+		}
+	}
+
+	private final Map<Phase, RollingHistogram> phases = new ConcurrentHashMap<>();
+	private final Map<String, RollingHistogram> controllers = new ConcurrentHashMap<>();
+
+	/** Controller-ID -> published Channel-IDs; only accessed in finishCycle(). */
+	private final Map<String, ControllerChannelIds> publishedControllers = new HashMap<>();
+
+	private volatile boolean enabled = false;
+	private long cycle = 0;
+
+	public CycleProfiler() {
+		for (var phase : Phase.values()) {
+			this.phases.put(phase, new RollingHistogram(WINDOW_SIZE));
+		}
+	}
+
+	/**
+	 * Enables or disables the profiler. Disabling clears all measurements.
+	 *
+	 * @param enabled true to enable
+	 */
+	public void setEnabled(boolean enabled) {
+		if (!enabled) {
+			for (var phase : Phase.values()) {
+				this.phases.put(phase, new RollingHistogram(WINDOW_SIZE));
+			}
+			this.controllers.clear();
+		}
+		this.enabled = enabled;
+	}
+
+	public boolean isEnabled() {
+		return this.enabled;
+	}
+
+	/**
+	 * Gets the current time in [ns] if the profiler is enabled.
+	 *
+	 * @return the value of {@link System#nanoTime()}; zero if disabled
+	 */
+	public long start() {
+		return this.enabled ? System.nanoTime() : 0;
+	}
+
+	/**
+	 * Records the duration of a {@link Phase} that was started with
+	 * {@link #start()}.
+	 *
+	 * @param phase the {@link Phase}
+	 * @param start the start time in [ns]
+	 */
+	public void stop(Phase phase, long start) {
+		if (!this.enabled) {
+			return;
+		}
+		this.phases.get(phase).add(System.nanoTime() - start);
+	}
+
+	/**
+	 * Records the duration of a Controller run that was started with
+	 * {@link #start()}.
+	 *
+	 * @param controllerId the Controller-ID
+	 * @param start        the start time in [ns]
+	 */
+	public void stop(String controllerId, long start) {
+		if (!this.enabled) {
+			return;
+		}
+		var duration = System.nanoTime() - start;
+		var histogram = this.controllers.computeIfAbsent(controllerId, id -> new RollingHistogram(WINDOW_SIZE));
+		histogram.lastCycle = this.cycle;
+		histogram.add(duration);
+	}
+
+	/**
+	 * Finishes a Cycle. Every {@link #PUBLISH_INTERVAL} Cycles the {@link Phase}
+	 * and Controller statistics are published to the Channels of the given
+	 * component and Controllers that were not executed within the last
+	 * {@link #WINDOW_SIZE} Cycles are forgotten.
+	 *
+	 * @param component          the {@link OpenemsComponent} holding the Channels
+	 * @param controllerChannels adds and removes the Channels of Controllers at
+	 *                           the component
+	 */
+	public void finishCycle(OpenemsComponent component, ControllerChannels controllerChannels) {
+		if (!this.enabled) {
+			if (!this.publishedControllers.isEmpty()) {
+				this.publishedControllers.values().forEach(ids -> removeChannels(controllerChannels, ids));
+				this.publishedControllers.clear();
+			}
+			return;
+		}
+		this.cycle++;
+		if (this.cycle % PUBLISH_INTERVAL != 0) {
+			return;
+		}
+		this.controllers.values().removeIf(h -> this.cycle - h.lastCycle > WINDOW_SIZE);
+
+		for (var entry : this.phases.entrySet()) {
+			var phase = entry.getKey();
+			var snapshot = entry.getValue().snapshot();
+			if (snapshot == null) {
+				continue;
+			}
+			component.channel(phase.p50).setNextValue(toMillis(snapshot.p50()));
+			component.channel(phase.p99).setNextValue(toMillis(snapshot.p99()));
+			component.channel(phase.max).setNextValue(toMillis(snapshot.max()));
+		}
+
+		// Remove Channels of forgotten Controllers
+		this.publishedControllers.entrySet().removeIf(e -> {
+			if (this.controllers.containsKey(e.getKey())) {
+				return false;
+			}
+			removeChannels(controllerChannels, e.getValue());
+			return true;
+		});
+
+		for (var entry : this.controllers.entrySet()) {
+			var snapshot = entry.getValue().snapshot();
+			if (snapshot == null) {
+				continue;
+			}
+			var ids = this.publishedControllers.get(entry.getKey());
+			if (ids == null) {
+				ids = ControllerChannelIds.of(entry.getKey());
+				if (component._channel(ids.p50().id()) != null) {
+					// Channel-ID is already used, e.g. by a Controller-ID that differs only in
+					// case
+					continue;
+				}
+				for (var id : ids.all()) {
+					controllerChannels.add(id);
+				}
+				this.publishedControllers.put(entry.getKey(), ids);
+			}
+			component.channel(ids.p50()).setNextValue(toMillis(snapshot.p50()));
+			component.channel(ids.p99()).setNextValue(toMillis(snapshot.p99()));
+			component.channel(ids.max()).setNextValue(toMillis(snapshot.max()));
+		}
+	}
+
+	private static void removeChannels(ControllerChannels controllerChannels, ControllerChannelIds ids) {
+		for (var id : ids.all()) {
+			controllerChannels.remove(id);
+		}
+	}
+
+	/**
+	 * Serializes the current statistics of all {@link Phase}s and Controllers.
+	 *
+	 * <pre>
+	 * {
+	 *   "enabled": boolean,
+	 *   "windowSize": number,
+	 *   "phases": {
+	 *     [phase]: { "count": number, "p50": number, "p99": number, "max": number }
+	 *   },
+	 *   "controllers": {
+	 *     [controllerId]: { "count": number, "p50": number, "p99": number, "max": number }
+	 *   }
+	 * }
+	 * </pre>
+	 *
+	 * <p>
+	 * Durations are in [µs].
+	 *
+	 * @return the {@link JsonObject}
+	 */
+	public JsonObject toJson() {
+		var phases = new JsonObject();
+		for (var phase : Phase.values()) {
+			var snapshot = this.phases.get(phase).snapshot();
+			if (snapshot != null) {
+				phases.add(phase.name(), snapshot.toJson());
+			}
+		}
+		var controllers = new JsonObject();
+		for (var entry : new TreeMap<>(this.controllers).entrySet()) {
+			var snapshot = entry.getValue().snapshot();
+			if (snapshot != null) {
+				controllers.add(entry.getKey(), snapshot.toJson());
+			}
+		}
+		return JsonUtils.buildJsonObject() //
+				.addProperty("enabled", this.enabled) //
+				.addProperty("windowSize", WINDOW_SIZE) //
+				.add("phases", phases) //
+				.add("controllers", controllers) //
+				.build();
+	}
+
+	private static float toMillis(long nanos) {
+		return nanos / 1_000_000F;
+	}
+
+}
@@ -1,5 +1,9 @@
 package io.openems.edge.core.cycle;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 
 import org.slf4j.Logger;
@@ -11,9 +15,12 @@ import info.faljse.SDNotify.SDNotify;
 import io.openems.common.event.EventBuilder;
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.worker.AbstractWorker;
+import io.openems.edge.common.channel.Channel;
+import io.openems.edge.common.component.OpenemsComponent;
 import io.openems.edge.common.event.EdgeEventConstants;
 import io.openems.edge.common.sum.Sum;
 import io.openems.edge.controller.api.Controller;
+import io.openems.edge.core.cycle.CycleProfiler.Phase;
 import io.openems.edge.scheduler.api.Scheduler;
 
 public class CycleWorker extends AbstractWorker {
@@ -21,10 +28,27 @@ public class CycleWorker extends AbstractWorker {
 	private final Logger log = LoggerFactory.getLogger(CycleWorker.class);
 	private final CycleImpl parent;
 
+	/**
+	 * Pool for switching the process image in parallel. Only created and shut
+	 * down by the Cycle thread between two Cycles and on deactivate.
+	 */
+	private volatile ForkJoinPool processImagePool = null;
+
 	public CycleWorker(CycleImpl parent) {
 		this.parent = parent;
 	}
 
+	@Override
+	public void deactivate() {
+		super.deactivate();
+		var pool = this.processImagePool;
+		this.processImagePool = null;
+		if (pool != null) {
+			// A Cycle that is still running falls back to a sequential switch
+			pool.shutdown();
+		}
+	}
+
 	@Override
 	protected int getCycleTime() {
 		return this.parent.getCycleTime();
@@ -34,6 +58,8 @@ public class CycleWorker extends AbstractWorker {
 	protected void forever() {
 		// Prepare Cycle-Time measurement
 		var stopwatch = Stopwatch.createStarted();
+		final var profiler = this.parent.profiler;
+		final var processImagePool = this.updateProcessImagePool();
 
 		// Kick Operating System Watchdog
 		var socketName = System.getenv().get("NOTIFY_SOCKET");
@@ -47,18 +73,15 @@ public class CycleWorker extends AbstractWorker {
 			/*
 			 * Trigger BEFORE_PROCESS_IMAGE event
 			 */
-			EventBuilder.send(this.parent.eventAdmin, EdgeEventConstants.TOPIC_CYCLE_BEFORE_PROCESS_IMAGE);
+			this.sendEvent(Phase.BEFORE_PROCESS_IMAGE, EdgeEventConstants.TOPIC_CYCLE_BEFORE_PROCESS_IMAGE);
 
 			/*
 			 * Before Controllers start: switch to next process image for each channel
 			 */
-			this.parent.componentManager.getEnabledComponents().stream() //
+			var start = profiler.start();
+			switchProcessImage(this.parent.componentManager.getEnabledComponents().stream() //
 					.filter(c -> c.isEnabled() && !(c instanceof Sum)) //
-					.forEach(component -> {
-						component.channels().forEach(channel -> {
-							channel.nextProcessImage();
-						});
-					});
+					.toList(), processImagePool);
 			this.parent.channels().forEach(channel -> {
 				channel.nextProcessImage();
 			});
@@ -70,22 +93,24 @@ public class CycleWorker extends AbstractWorker {
 			this.parent.sumComponent.channels().forEach(channel -> {
 				channel.nextProcessImage();
 			});
+			profiler.stop(Phase.PROCESS_IMAGE, start);
 
 			/*
 			 * Trigger AFTER_PROCESS_IMAGE event
 			 */
-			EventBuilder.send(this.parent.eventAdmin, EdgeEventConstants.TOPIC_CYCLE_AFTER_PROCESS_IMAGE);
+			this.sendEvent(Phase.AFTER_PROCESS_IMAGE, EdgeEventConstants.TOPIC_CYCLE_AFTER_PROCESS_IMAGE);
 
 			/*
 			 * Trigger BEFORE_CONTROLLERS event
 			 */
-			EventBuilder.send(this.parent.eventAdmin, EdgeEventConstants.TOPIC_CYCLE_BEFORE_CONTROLLERS);
+			this.sendEvent(Phase.BEFORE_CONTROLLERS, EdgeEventConstants.TOPIC_CYCLE_BEFORE_CONTROLLERS);
 
 			var hasDisabledController = false;
 
 			/*
 			 * Execute Schedulers and their Controllers
 			 */
+			start = profiler.start();
 			if (this.parent.schedulers.isEmpty()) {
 				this.parent.logWarn(this.log, "There are no Schedulers configured!");
 			} else {
@@ -109,6 +134,7 @@ public class CycleWorker extends AbstractWorker {
 							continue;
 						}
 
+						var controllerStart = profiler.start();
 						try {
 							// Execute Controller logic
 							controller.run();
@@ -133,6 +159,7 @@ public class CycleWorker extends AbstractWorker {
 							// announce running failed
 							controller._setRunFailed(true);
 						}
+						profiler.stop(controller.id(), controllerStart);
 					}
 
 					// announce Scheduler Controller is missing
@@ -140,28 +167,30 @@ public class CycleWorker extends AbstractWorker {
 				}
 			}
 
+			profiler.stop(Phase.CONTROLLERS, start);
+
 			// announce ignoring disabled Controllers.
 			this.parent._setIgnoreDisabledController(hasDisabledController);
 
 			/*
 			 * Trigger AFTER_CONTROLLERS event
 			 */
-			EventBuilder.send(this.parent.eventAdmin, EdgeEventConstants.TOPIC_CYCLE_AFTER_CONTROLLERS);
+			this.sendEvent(Phase.AFTER_CONTROLLERS, EdgeEventConstants.TOPIC_CYCLE_AFTER_CONTROLLERS);
 
 			/*
 			 * Trigger BEFORE_WRITE event
 			 */
-			EventBuilder.send(this.parent.eventAdmin, EdgeEventConstants.TOPIC_CYCLE_BEFORE_WRITE);
+			this.sendEvent(Phase.BEFORE_WRITE, EdgeEventConstants.TOPIC_CYCLE_BEFORE_WRITE);
 
 			/*
 			 * Trigger EXECUTE_WRITE event
 			 */
-			EventBuilder.send(this.parent.eventAdmin, EdgeEventConstants.TOPIC_CYCLE_EXECUTE_WRITE);
+			this.sendEvent(Phase.EXECUTE_WRITE, EdgeEventConstants.TOPIC_CYCLE_EXECUTE_WRITE);
 
 			/*
 			 * Trigger AFTER_WRITE event
 			 */
-			EventBuilder.send(this.parent.eventAdmin, EdgeEventConstants.TOPIC_CYCLE_AFTER_WRITE);
+			this.sendEvent(Phase.AFTER_WRITE, EdgeEventConstants.TOPIC_CYCLE_AFTER_WRITE);
 
 		} catch (Throwable t) {
 			this.parent.logWarn(this.log,
@@ -171,8 +200,90 @@ public class CycleWorker extends AbstractWorker {
 			}
 		}
 
+		// Publish Cycle-Profiler results
+		profiler.finishCycle(this.parent, this.parent.profilerControllerChannels);
+
 		// Measure actual Cycle-Time
 		this.parent._setMeasuredCycleTime(stopwatch.elapsed(TimeUnit.MILLISECONDS));
 	}
 
+	/**
+	 * Creates or shuts down the pool for the parallel process-image switch
+	 * according to the configuration of the parent.
+	 *
+	 * @return the {@link ForkJoinPool}; null for sequential execution
+	 */
+	private ForkJoinPool updateProcessImagePool() {
+		var pool = this.processImagePool;
+		if (this.parent.parallelProcessImage) {
+			if (pool == null) {
+				pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+				this.processImagePool = pool;
+			}
+			return pool;
+		}
+		if (pool != null) {
+			this.processImagePool = null;
+			pool.shutdown();
+		}
+		return null;
+	}
+
+	/**
+	 * Switches all Channels of the given Components to the next process image.
+	 *
+	 * <p>
+	 * If a {@link ForkJoinPool} is given, Channels without 'onUpdate' and
+	 * 'onChange' callbacks (see {@link Channel#hasProcessImageCallbacks()}) are
+	 * split across its threads. Channels with callbacks are switched afterwards,
+	 * sequentially on the calling thread and in the order of the Components, so
+	 * callbacks never run concurrently and they see the next process image of
+	 * all Channels without callbacks. The method returns only after all Channels
+	 * have been switched.
+	 *
+	 * @param components the {@link OpenemsComponent}s
+	 * @param pool       the {@link ForkJoinPool}; null for sequential execution
+	 */
+	protected static void switchProcessImage(List<OpenemsComponent> components, ForkJoinPool pool) {
+		if (pool == null) {
+			components.forEach(CycleWorker::nextProcessImage);
+			return;
+		}
+		var withCallbacks = new ArrayList<Channel<?>>();
+		var withoutCallbacks = new ArrayList<Channel<?>>();
+		for (var component : components) {
+			for (var channel : component.channels()) {
+				if (channel.hasProcessImageCallbacks()) {
+					withCallbacks.add(channel);
+				} else {
+					withoutCallbacks.add(channel);
+				}
+			}
+		}
+		try {
+			pool.submit(() -> withoutCallbacks.parallelStream().forEach(Channel::nextProcessImage)).join();
+		} catch (RejectedExecutionException e) {
+			// Pool was shut down on deactivate
+			withoutCallbacks.forEach(Channel::nextProcessImage);
+		}
+		withCallbacks.forEach(Channel::nextProcessImage);
+	}
+
+	private static void nextProcessImage(OpenemsComponent component) {
+		component.channels().forEach(Channel::nextProcessImage);
+	}
+
+	/**
+	 * Synchronously sends an Event and measures the duration of its handling.
+	 *
+	 * @param phase the {@link Phase} of the Cycle-Profiler
+	 * @param topic the Event topic
+	 */
+	private void sendEvent(Phase phase, String topic) {
+		var profiler = this.parent.profiler;
+		var start = profiler.start();
+		EventBuilder.send(this.parent.eventAdmin, topic);
+		profiler.stop(phase, start);
+	}
+
 }
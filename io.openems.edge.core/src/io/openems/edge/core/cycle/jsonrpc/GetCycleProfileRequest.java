@@ -0,0 +1,48 @@
+package io.openems.edge.core.cycle.jsonrpc;
+
+import com.google.gson.JsonObject;
+
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.jsonrpc.base.JsonrpcRequest;
+
+/**
+ * Gets the statistics of the Cycle-Profiler.
+ *
+ * <pre>
+ * {
+ *   "jsonrpc": "2.0",
+ *   "id": "UUID",
+ *   "method": "getCycleProfile",
+ *   "params": {}
+ * }
+ * </pre>
+ */
+public class GetCycleProfileRequest extends JsonrpcRequest {
+
+	public static final String METHOD = "getCycleProfile";
+
+	/**
+	 * Parses a generic {@link JsonrpcRequest} to a {@link GetCycleProfileRequest}.
+	 *
+	 * @param r the {@link JsonrpcRequest}
+	 * @return the {@link GetCycleProfileRequest}
+	 * @throws OpenemsNamedException on error
+	 */
+	public static GetCycleProfileRequest from(JsonrpcRequest r) throws OpenemsNamedException {
+		return new GetCycleProfileRequest(r);
+	}
+
+	public GetCycleProfileRequest() {
+		super(METHOD);
+	}
+
+	private GetCycleProfileRequest(JsonrpcRequest request) {
+		super(request, METHOD);
+	}
+
+	@Override
+	public JsonObject getParams() {
+		return new JsonObject();
+	}
+
+}
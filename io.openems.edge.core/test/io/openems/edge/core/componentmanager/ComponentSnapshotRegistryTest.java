@@ -0,0 +1,140 @@
+package io.openems.edge.core.componentmanager;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.List;
+
+import org.junit.Test;
+import org.osgi.framework.Constants;
+import org.osgi.framework.ServiceEvent;
+
+import io.openems.edge.common.component.ComponentManager;
+import io.openems.edge.common.host.DummyHost;
+import io.openems.edge.common.host.Host;
+import io.openems.edge.common.sum.DummySum;
+import io.openems.edge.common.sum.Sum;
+import io.openems.edge.common.test.DummyComponentManager;
+import io.openems.edge.common.test.DummyCycle;
+
+public class ComponentSnapshotRegistryTest {
+
+	@Test
+	public void testRegister() {
+		var context = new DummyBundleContext();
+		var sum = new DummyServiceReference(2, new DummySum(), Sum.class);
+		context.register(sum);
+		var componentManager = new DummyServiceReference(1, new DummyComponentManager(), ComponentManager.class) //
+				.setProperty(Constants.SERVICE_PID, ComponentManager.SINGLETON_SERVICE_PID);
+		context.register(componentManager);
+		var sut = new ComponentSnapshotRegistry(context);
+		sut.open();
+
+		var snapshot = sut.get();
+		assertEquals(List.of(sum.getComponent()), snapshot.enabled());
+		assertEquals(List.of(sum.getComponent()), snapshot.all());
+		assertSame(sum.getComponent(), snapshot.enabledById().get("_sum"));
+		assertSame(componentManager.getComponent(), snapshot.enabledById().get("_componentManager"));
+		assertEquals(List.of(sum.getComponent()), snapshot.getEnabledComponentsOfType(Sum.class));
+		assertSame(snapshot, sut.get());
+
+		// Registration is sorted by service ID
+		var host = new DummyServiceReference(0, new DummyHost(), Host.class);
+		context.register(host);
+		snapshot = sut.get();
+		assertEquals(List.of(host.getComponent(), sum.getComponent()), snapshot.enabled());
+		assertEquals(List.of(host.getComponent()), snapshot.getEnabledComponentsOfType(Host.class));
+
+		sut.close();
+		assertEquals(List.of(), sut.get().all());
+	}
+
+	@Test
+	public void testUnregister() {
+		var context = new DummyBundleContext();
+		var sum = new DummyServiceReference(0, new DummySum(), Sum.class);
+		var cycle = new DummyServiceReference(1, new DummyCycle(1000));
+		context.register(sum);
+		context.register(cycle);
+		var sut = new ComponentSnapshotRegistry(context);
+		sut.open();
+		assertEquals(2, sut.get().all().size());
+
+		context.unregister(sum);
+		var snapshot = sut.get();
+		assertEquals(List.of(cycle.getComponent()), snapshot.all());
+		assertNull(snapshot.allById().get("_sum"));
+		assertEquals(List.of(), snapshot.getEnabledComponentsOfType(Sum.class));
+
+		// Unregistered in the meantime, before the event arrived
+		cycle.unregister();
+		sut.invalidate();
+		assertEquals(List.of(), sut.get().all());
+	}
+
+	@Test
+	public void testModifiedEnabled() {
+		var context = new DummyBundleContext();
+		var sum = new DummyServiceReference(0, new DummySum(), Sum.class);
+		context.register(sum);
+		var sut = new ComponentSnapshotRegistry(context);
+		sut.open();
+		assertEquals(1, sut.get().enabled().size());
+
+		sum.setProperty("enabled", "false");
+		context.fireServiceEvent(ServiceEvent.MODIFIED, sum);
+		var snapshot = sut.get();
+		assertEquals(List.of(), snapshot.enabled());
+		assertEquals(List.of(sum.getComponent()), snapshot.all());
+		assertNull(snapshot.enabledById().get("_sum"));
+		assertSame(sum.getComponent(), snapshot.allById().get("_sum"));
+		assertEquals(List.of(), snapshot.getEnabledComponentsOfType(Sum.class));
+
+		sum.setProperty("enabled", true);
+		context.fireServiceEvent(ServiceEvent.MODIFIED, sum);
+		assertEquals(List.of(sum.getComponent()), sut.get().enabled());
+	}
+
+	@Test
+	public void testInvalidate() {
+		var context = new DummyBundleContext();
+		var sum = new DummyServiceReference(0, new DummySum(), Sum.class);
+		context.register(sum);
+		var sut = new ComponentSnapshotRegistry(context);
+		sut.open();
+		var snapshot = sut.get();
+
+		// Without event the snapshot is kept
+		sum.setProperty("enabled", false);
+		assertSame(snapshot, sut.get());
+
+		// e.g. on a configuration event
+		sut.invalidate();
+		assertNotSame(snapshot, sut.get());
+		assertEquals(List.of(), sut.get().enabled());
+	}
+
+	@Test
+	public void testNoStaleSnapshot() {
+		var context = new DummyBundleContext();
+		var sum = new DummyServiceReference(0, new DummySum(), Sum.class);
+		var host = new DummyServiceReference(1, new DummyHost(), Host.class);
+		context.register(sum);
+		var sut = new ComponentSnapshotRegistry(context);
+		sut.open();
+
+		// Registration while the snapshot is being built
+		context.setOnGetService(() -> context.register(host));
+		var stale = sut.get();
+		assertEquals(List.of(sum.getComponent()), stale.all());
+
+		// Stale snapshot was not published
+		var snapshot = sut.get();
+		assertNotSame(stale, snapshot);
+		assertEquals(List.of(sum.getComponent(), host.getComponent()), snapshot.all());
+		assertSame(snapshot, sut.get());
+	}
+
+}
@@ -0,0 +1,232 @@
+package io.openems.edge.core.componentmanager;
+
+import java.io.File;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Dictionary;
+import java.util.List;
+
+import org.osgi.framework.Bundle;
+import org.osgi.framework.BundleContext;
+import org.osgi.framework.BundleListener;
+import org.osgi.framework.Filter;
+import org.osgi.framework.FrameworkListener;
+import org.osgi.framework.ServiceEvent;
+import org.osgi.framework.ServiceFactory;
+import org.osgi.framework.ServiceListener;
+import org.osgi.framework.ServiceObjects;
+import org.osgi.framework.ServiceReference;
+import org.osgi.framework.ServiceRegistration;
+
+import io.openems.edge.common.component.OpenemsComponent;
+
+/**
+ * Simulates a {@link BundleContext} that holds {@link DummyServiceReference}s
+ * and notifies {@link ServiceListener}s.
+ */
+public class DummyBundleContext implements BundleContext {
+
+	private final List<DummyServiceReference> references = new ArrayList<>();
+	private final List<ServiceListener> listeners = new ArrayList<>();
+
+	private Runnable onGetService = null;
+
+	/**
+	 * Registers a service and notifies the listeners.
+	 *
+	 * @param reference the {@link DummyServiceReference}
+	 */
+	public void register(DummyServiceReference reference) {
+		this.references.add(reference);
+		this.fireServiceEvent(ServiceEvent.REGISTERED, reference);
+	}
+
+	/**
+	 * Unregisters a service and notifies the listeners.
+	 *
+	 * @param reference the {@link DummyServiceReference}
+	 */
+	public void unregister(DummyServiceReference reference) {
+		this.fireServiceEvent(ServiceEvent.UNREGISTERING, reference);
+		this.references.remove(reference);
+		reference.unregister();
+	}
+
+	/**
+	 * Notifies the listeners.
+	 *
+	 * @param type      the type of the {@link ServiceEvent}
+	 * @param reference the {@link DummyServiceReference}
+	 */
+	public void fireServiceEvent(int type, DummyServiceReference reference) {
+		for (var listener : List.copyOf(this.listeners)) {
+			listener.serviceChanged(new ServiceEvent(type, reference));
+		}
+	}
+
+	/**
+	 * Sets a callback that is executed once on the next
+	 * {@link #getService(ServiceReference)}.
+	 *
+	 * @param onGetService the callback
+	 */
+	public void setOnGetService(Runnable onGetService) {
+		this.onGetService = onGetService;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <S> S getService(ServiceReference<S> reference) {
+		var onGetService = this.onGetService;
+		if (onGetService != null) {
+			this.onGetService = null;
+			onGetService.run();
+		}
+		return (S) ((DummyServiceReference) reference).getComponent();
+	}
+
+	@Override
+	public boolean ungetService(ServiceReference<?> reference) {
+		return true;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <S> Collection<ServiceReference<S>> getServiceReferences(Class<S> clazz, String filter) {
+		var result = new ArrayList<ServiceReference<S>>();
+		if (clazz == OpenemsComponent.class) {
+			for (var reference : this.references) {
+				result.add((ServiceReference<S>) reference);
+			}
+		}
+		return result;
+	}
+
+	@Override
+	public void addServiceListener(ServiceListener listener, String filter) {
+		this.listeners.add(listener);
+	}
+
+	@Override
+	public void addServiceListener(ServiceListener listener) {
+		this.listeners.add(listener);
+	}
+
+	@Override
+	public void removeServiceListener(ServiceListener listener) {
+		this.listeners.remove(listener);
+	}
+
+	@Override
+	public String getProperty(String key) {
+		return null;
+	}
+
+	@Override
+	public Bundle getBundle() {
+		return null;
+	}
+
+	@Override
+	public Bundle installBundle(String location, InputStream input) {
+		return null;
+	}
+
+	@Override
+	public Bundle installBundle(String location) {
+		return null;
+	}
+
+	@Override
+	public Bundle getBundle(long id) {
+		return null;
+	}
+
+	@Override
+	public Bundle[] getBundles() {
+		return new Bundle[] {};
+	}
+
+	@Override
+	public void addBundleListener(BundleListener listener) {
+
+	}
+
+	@Override
+	public void removeBundleListener(BundleListener listener) {
+
+	}
+
+	@Override
+	public void addFrameworkListener(FrameworkListener listener) {
+
+	}
+
+	@Override
+	public void removeFrameworkListener(FrameworkListener listener) {
+
+	}
+
+	@Override
+	public ServiceRegistration<?> registerService(String[] clazzes, Object service, Dictionary<String, ?> properties) {
+		return null;
+	}
+
+	@Override
+	public ServiceRegistration<?> registerService(String clazz, Object service, Dictionary<String, ?> properties) {
+		return null;
+	}
+
+	@Override
+	public <S> ServiceRegistration<S> registerService(Class<S> clazz, S service, Dictionary<String, ?> properties) {
+		return null;
+	}
+
+	@Override
+	public <S> ServiceRegistration<S> registerService(Class<S> clazz, ServiceFactory<S> factory,
+			Dictionary<String, ?> properties) {
+		return null;
+	}
+
+	@Override
+	public ServiceReference<?>[] getServiceReferences(String clazz, String filter) {
+		return null;
+	}
+
+	@Override
+	public ServiceReference<?>[] getAllServiceReferences(String clazz, String filter) {
+		return null;
+	}
+
+	@Override
+	public ServiceReference<?> getServiceReference(String clazz) {
+		return null;
+	}
+
+	@Override
+	public <S> ServiceReference<S> getServiceReference(Class<S> clazz) {
+		return null;
+	}
+
+	@Override
+	public <S> ServiceObjects<S> getServiceObjects(ServiceReference<S> reference) {
+		return null;
+	}
+
+	@Override
+	public File getDataFile(String filename) {
+		return null;
+	}
+
+	@Override
+	public Filter createFilter(String filter) {
+		return null;
+	}
+
+	@Override
+	public Bundle getBundle(String location) {
+		return null;
+	}
+
+}
@@ -0,0 +1,107 @@
+package io.openems.edge.core.componentmanager;
+
+import java.lang.reflect.Proxy;
+import java.util.Collections;
+import java.util.Dictionary;
+import java.util.Hashtable;
+
+import org.osgi.framework.Bundle;
+import org.osgi.framework.Constants;
+import org.osgi.framework.ServiceReference;
+
+import io.openems.edge.common.component.OpenemsComponent;
+
+/**
+ * Simulates a {@link ServiceReference} of an {@link OpenemsComponent} with
+ * modifiable properties.
+ */
+public class DummyServiceReference implements ServiceReference<OpenemsComponent> {
+
+	/** Marks the reference as registered; no method is ever called. */
+	private static final Bundle BUNDLE = (Bundle) Proxy.newProxyInstance(Bundle.class.getClassLoader(),
+			new Class<?>[] { Bundle.class }, (proxy, method, args) -> {
+				throw new UnsupportedOperationException(method.getName());
+			});
+
+	private final OpenemsComponent component;
+	private final Hashtable<String, Object> properties = new Hashtable<>();
+	private boolean registered = true;
+
+	public DummyServiceReference(long serviceId, OpenemsComponent component, Class<?>... objectClasses) {
+		this.component = component;
+		var names = new String[objectClasses.length + 1];
+		names[0] = OpenemsComponent.class.getName();
+		for (var i = 0; i < objectClasses.length; i++) {
+			names[i + 1] = objectClasses[i].getName();
+		}
+		this.properties.put(Constants.SERVICE_ID, serviceId);
+		this.properties.put(Constants.OBJECTCLASS, names);
+		this.properties.put("id", component.id());
+		this.properties.put("enabled", true);
+	}
+
+	/**
+	 * Sets a service property.
+	 *
+	 * @param key   the key
+	 * @param value the value
+	 * @return myself
+	 */
+	public DummyServiceReference setProperty(String key, Object value) {
+		this.properties.put(key, value);
+		return this;
+	}
+
+	/**
+	 * Marks the service as unregistered.
+	 */
+	public void unregister() {
+		this.registered = false;
+	}
+
+	public OpenemsComponent getComponent() {
+		return this.component;
+	}
+
+	@Override
+	public Object getProperty(String key) {
+		return this.properties.get(key);
+	}
+
+	@Override
+	public String[] getPropertyKeys() {
+		return this.properties.keySet().toArray(new String[0]);
+	}
+
+	@Override
+	public Bundle getBundle() {
+		return this.registered ? BUNDLE : null;
+	}
+
+	@Override
+	public Bundle[] getUsingBundles() {
+		return null;
+	}
+
+	@Override
+	public boolean isAssignableTo(Bundle bundle, String className) {
+		return true;
+	}
+
+	@Override
+	public int compareTo(Object reference) {
+		return Long.compare((Long) ((ServiceReference<?>) reference).getProperty(Constants.SERVICE_ID),
+				(Long) this.getProperty(Constants.SERVICE_ID));
+	}
+
+	@Override
+	public Dictionary<String, Object> getProperties() {
+		return new Hashtable<>(Collections.unmodifiableMap(this.properties));
+	}
+
+	@Override
+	public <A> A adapt(Class<A> type) {
+		return null;
+	}
+
+}
@@ -0,0 +1,144 @@
+package io.openems.edge.core.cycle;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import io.openems.edge.common.component.OpenemsComponent;
+import io.openems.edge.common.test.AbstractDummyOpenemsComponent;
+import io.openems.edge.core.cycle.CycleProfiler.Phase;
+import io.openems.edge.core.cycle.CycleProfiler.RollingHistogram;
+
+public class CycleProfilerTest {
+
+	@Test
+	public void testRollingHistogram() {
+		var sut = new RollingHistogram(100);
+		assertNull(sut.snapshot());
+
+		for (var i = 1; i <= 100; i++) {
+			sut.add(i);
+		}
+		var snapshot = sut.snapshot();
+		assertEquals(100, snapshot.count());
+		assertEquals(50, snapshot.p50());
+		assertEquals(99, snapshot.p99());
+		assertEquals(100, snapshot.max());
+
+		// Overwrite oldest values
+		for (var i = 0; i < 50; i++) {
+			sut.add(1000);
+		}
+		snapshot = sut.snapshot();
+		assertEquals(100, snapshot.count());
+		assertEquals(100, snapshot.p50());
+		assertEquals(1000, snapshot.p99());
+		assertEquals(1000, snapshot.max());
+	}
+
+	@Test
+	public void testProfiler() {
+		var sut = new CycleProfiler();
+		assertEquals(0, sut.start());
+		sut.stop(Phase.CONTROLLERS, 0);
+		sut.stop("ctrl0", 0);
+		assertFalse(sut.toJson().getAsJsonObject("phases").has("CONTROLLERS"));
+
+		sut.setEnabled(true);
+		sut.stop(Phase.CONTROLLERS, sut.start());
+		sut.stop("ctrl0", sut.start());
+		var json = sut.toJson();
+		assertTrue(json.get("enabled").getAsBoolean());
+		assertEquals(1, json.getAsJsonObject("phases").getAsJsonObject("CONTROLLERS").get("count").getAsInt());
+		assertEquals(1, json.getAsJsonObject("controllers").getAsJsonObject("ctrl0").get("count").getAsInt());
+
+		sut.setEnabled(false);
+		assertFalse(sut.toJson().getAsJsonObject("controllers").has("ctrl0"));
+	}
+
+	@Test
+	public void testPublishInterval() {
+		var component = new DummyProfiledComponent();
+		var sut = new CycleProfiler();
+		sut.setEnabled(true);
+		sut.stop(Phase.CONTROLLERS, sut.start());
+
+		for (var i = 1; i < CycleProfiler.PUBLISH_INTERVAL; i++) {
+			sut.finishCycle(component, component);
+			assertFalse(component.channel(Phase.CONTROLLERS.max).getNextValue().isDefined());
+		}
+		sut.finishCycle(component, component);
+		assertTrue(component.channel(Phase.CONTROLLERS.max).getNextValue().isDefined());
+		assertFalse(component.channel(Phase.PROCESS_IMAGE.max).getNextValue().isDefined());
+	}
+
+	@Test
+	public void testControllerChannels() {
+		var component = new DummyProfiledComponent();
+		var sut = new CycleProfiler();
+		sut.setEnabled(true);
+		sut.stop("ctrl0", sut.start());
+		sut.stop("ctrl.1", sut.start());
+
+		for (var i = 1; i < CycleProfiler.PUBLISH_INTERVAL; i++) {
+			sut.finishCycle(component, component);
+		}
+		assertNull(component._channel("ProfilerControllerCtrl0P50"));
+
+		sut.finishCycle(component, component);
+		assertTrue(component.channel("ProfilerControllerCtrl0P50").getNextValue().isDefined());
+		assertTrue(component.channel("ProfilerControllerCtrl0P99").getNextValue().isDefined());
+		assertTrue(component.channel("ProfilerControllerCtrl0Max").getNextValue().isDefined());
+		assertTrue(component.channel("ProfilerControllerCtrl1Max").getNextValue().isDefined());
+
+		// ctrl.1 is not executed anymore and gets forgotten
+		for (var i = 0; i <= CycleProfiler.WINDOW_SIZE; i++) {
+			sut.stop("ctrl0", sut.start());
+			sut.finishCycle(component, component);
+		}
+		assertNotNull(component._channel("ProfilerControllerCtrl0Max"));
+		assertNull(component._channel("ProfilerControllerCtrl1Max"));
+
+		// Disabling removes all Controller Channels
+		sut.setEnabled(false);
+		sut.finishCycle(component, component);
+		assertNull(component._channel("ProfilerControllerCtrl0P50"));
+		assertNull(component._channel("ProfilerControllerCtrl0P99"));
+		assertNull(component._channel("ProfilerControllerCtrl0Max"));
+		assertNotNull(component._channel(Phase.CONTROLLERS.max.id()));
+	}
+
+	private static class DummyProfiledComponent extends AbstractDummyOpenemsComponent<DummyProfiledComponent>
+			implements CycleProfiler.ControllerChannels {
+
+		private DummyProfiledComponent() {
+			super("cycle0", //
+					OpenemsComponent.ChannelId.values(), //
+					Arrays.stream(Phase.values()) //
+							.flatMap(p -> Arrays.stream(new io.openems.edge.common.channel.ChannelId[] { p.p50, p.p99, p.max })) //
+							.toArray(io.openems.edge.common.channel.ChannelId[]::new));
+		}
+
+		@Override
+		protected DummyProfiledComponent self() {
+			return this;
+		}
+
+		@Override
+		public void add(io.openems.edge.common.channel.ChannelId channelId) {
+			this.addChannel(channelId);
+		}
+
+		@Override
+		public void remove(io.openems.edge.common.channel.ChannelId channelId) {
+			this.removeChannel(this.channel(channelId));
+		}
+	}
+
+}
@@ -0,0 +1,101 @@
+package io.openems.edge.core.cycle;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Test;
+
+import io.openems.common.types.OpenemsType;
+import io.openems.edge.common.channel.ChannelId.ChannelIdImpl;
+import io.openems.edge.common.channel.Doc;
+import io.openems.edge.common.component.OpenemsComponent;
+import io.openems.edge.common.test.AbstractDummyOpenemsComponent;
+
+public class ProcessImageTest {
+
+	private static final int CHANNELS_PER_COMPONENT = 100;
+
+	private static class DummyComponent extends AbstractDummyOpenemsComponent<DummyComponent> {
+
+		public DummyComponent(String id) {
+			super(id, //
+					OpenemsComponent.ChannelId.values() //
+			);
+			for (var i = 0; i < CHANNELS_PER_COMPONENT; i++) {
+				this.addChannel(new ChannelIdImpl("CHANNEL_" + i, Doc.of(OpenemsType.INTEGER)));
+			}
+		}
+
+		@Override
+		protected DummyComponent self() {
+			return this;
+		}
+	}
+
+	private static List<OpenemsComponent> createComponents(int numberOfComponents) {
+		var result = new ArrayList<OpenemsComponent>();
+		for (var i = 0; i < numberOfComponents; i++) {
+			result.add(new DummyComponent("component" + i));
+		}
+		return result;
+	}
+
+	@Test
+	public void testParallel() {
+		var components = createComponents(10);
+		components.forEach(c -> c.channels().stream() //
+				.filter(channel -> channel.channelId() instanceof ChannelIdImpl) //
+				.forEach(channel -> channel.setNextValue(1)));
+
+		var pool = new ForkJoinPool(2);
+		CycleWorker.switchProcessImage(components, pool);
+		pool.shutdown();
+
+		components.forEach(c -> c.channels().stream() //
+				.filter(channel -> channel.channelId() instanceof ChannelIdImpl) //
+				.forEach(channel -> assertEquals(1, channel.value().get())));
+	}
+
+	@Test
+	public void testCallbacksOnCallingThread() {
+		var components = createComponents(10);
+		var threads = ConcurrentHashMap.<Thread>newKeySet();
+		var order = new ArrayList<String>();
+		components.forEach(c -> {
+			var channel = c.channel("Channel0");
+			channel.onUpdate(value -> {
+				threads.add(Thread.currentThread());
+				order.add(c.id());
+			});
+			channel.setNextValue(1);
+		});
+
+		var pool = new ForkJoinPool(4);
+		CycleWorker.switchProcessImage(components, pool);
+		pool.shutdown();
+
+		assertEquals(Set.of(Thread.currentThread()), threads);
+		assertEquals(components.stream().map(OpenemsComponent::id).toList(), order);
+		components.forEach(c -> assertEquals(1, c.channel("Channel0").value().get()));
+	}
+
+	@Test
+	public void testPoolShutDown() {
+		var components = createComponents(2);
+		components.forEach(c -> c.channel("Channel1").setNextValue(1));
+
+		var pool = new ForkJoinPool(2);
+		pool.shutdown();
+		CycleWorker.switchProcessImage(components, pool);
+
+		assertTrue(pool.isShutdown());
+		components.forEach(c -> assertEquals(1, c.channel("Channel1").value().get()));
+	}
+
+}
@@ -11,5 +11,11 @@ import org.osgi.service.metatype.annotations.ObjectClassDefinition;
 	@AttributeDefinition(name = "Is enabled?", description = "Is this Component enabled?")
 	boolean enabled() default true;
 
+	@AttributeDefinition(name = "Optimizer Islands", description = "Number of sub-populations the Optimizer evolves in parallel threads. '1' runs a single population.")
+	int optimizerIslands() default 1;
+
+	@AttributeDefinition(name = "Incremental Optimization", description = "Keep or only shortly re-optimize the existing Schedule if prices, predictions and SoC barely changed.")
+	boolean optimizerIncremental() default false;
+
 	String webconsole_configurationFactory_nameHint() default "Core Energy Scheduler";
 }
\ No newline at end of file
@@ -130,6 +130,9 @@ public class EnergySchedulerImpl extends AbstractOpenemsComponent
 			return false;
 		}
 
+		this.optimizer.setIslands(config.optimizerIslands());
+		this.optimizer.setIncremental(config.optimizerIncremental());
+
 		return true;
 	}
 
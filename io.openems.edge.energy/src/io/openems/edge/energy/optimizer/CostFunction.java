@@ -0,0 +1,181 @@
+package io.openems.edge.energy.optimizer;
+
+import static io.openems.edge.energy.optimizer.Simulator.EFFICIENCY_FACTOR;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+
+import io.jenetics.Genotype;
+import io.jenetics.IntegerGene;
+import io.openems.edge.controller.ess.timeofusetariff.StateMachine;
+
+/**
+ * Allocation-free variant of {@link Simulator#calculateCost(Params,
+ * StateMachine[])} for the fitness evaluation of the Optimizer.
+ *
+ * <p>
+ * All values of the {@link Params.OptimizePeriod}s are copied to primitive
+ * arrays once. The {@link EnergyFlow} of a period is then calculated on local
+ * variables only, i.e. without creating {@link EnergyFlow} or
+ * {@link StateMachine} array objects per evaluation. Results are identical to
+ * {@link Simulator#calculateCost(Params, StateMachine[])}.
+ *
+ * <p>
+ * Instances are immutable and can be shared between threads.
+ */
+public class CostFunction {
+
+	private static final byte BALANCING = 0;
+	private static final byte DELAY_DISCHARGE = 1;
+	private static final byte CHARGE_GRID = 2;
+
+	private final int essTotalEnergy;
+	private final int essMinSocEnergy;
+	private final int essMaxSocEnergy;
+	private final int essInitialEnergy;
+
+	/** Gene value -> BALANCING, DELAY_DISCHARGE or CHARGE_GRID. */
+	private final byte[] states;
+
+	private final int[] essMaxChargeEnergy;
+	private final int[] essMaxDischargeEnergy;
+	private final int[] essChargeInChargeGrid;
+	private final int[] maxBuyFromGrid;
+	private final int[] production;
+	private final int[] consumption;
+	private final double[] price;
+
+	public CostFunction(Params p) {
+		this.essTotalEnergy = p.essTotalEnergy();
+		this.essMinSocEnergy = p.essMinSocEnergy();
+		this.essMaxSocEnergy = p.essMaxSocEnergy();
+		this.essInitialEnergy = p.essInitialEnergy();
+
+		this.states = new byte[p.states().length];
+		for (var i = 0; i < this.states.length; i++) {
+			this.states[i] = switch (p.states()[i]) {
+			case BALANCING -> BALANCING;
+			case DELAY_DISCHARGE -> DELAY_DISCHARGE;
+			case CHARGE_GRID -> CHARGE_GRID;
+			};
+		}
+
+		var size = p.optimizePeriods().size();
+		this.essMaxChargeEnergy = new int[size];
+		this.essMaxDischargeEnergy = new int[size];
+		this.essChargeInChargeGrid = new int[size];
+		this.maxBuyFromGrid = new int[size];
+		this.production = new int[size];
+		this.consumption = new int[size];
+		this.price = new double[size];
+		for (var i = 0; i < size; i++) {
+			var op = p.optimizePeriods().get(i);
+			this.essMaxChargeEnergy[i] = op.essMaxChargeEnergy();
+			this.essMaxDischargeEnergy[i] = op.essMaxDischargeEnergy();
+			this.essChargeInChargeGrid[i] = op.essChargeInChargeGrid();
+			this.maxBuyFromGrid[i] = op.maxBuyFromGrid();
+			this.production[i] = op.production();
+			this.consumption[i] = op.consumption();
+			this.price[i] = op.price();
+		}
+	}
+
+	/**
+	 * Gets the number of periods.
+	 *
+	 * @return number of periods
+	 */
+	public int size() {
+		return this.price.length;
+	}
+
+	/**
+	 * Calculates the cost of a Schedule given as {@link Genotype}.
+	 *
+	 * @param gt the {@link Genotype}; one chromosome per period, each holding the
+	 *           index of the state in {@link Params#states()}
+	 * @return the cost, lower is better; always positive
+	 */
+	public double calculateCost(Genotype<IntegerGene> gt) {
+		var nextEssInitial = this.essInitialEnergy;
+		var sum = 0.;
+		for (var i = 0; i < this.price.length; i++) {
+			var essInitial = max(0, nextEssInitial); // always at least '0'
+			var ess = this.calculateEss(i, this.states[gt.get(i).get(0).intValue()], essInitial);
+			nextEssInitial = essInitial - ess;
+			sum += this.calculatePeriodCost(i, ess);
+		}
+		return sum;
+	}
+
+	/**
+	 * Calculates the cost of a Schedule given as indexes.
+	 *
+	 * @param schedule the index of the state in {@link Params#states()} per period
+	 * @return the cost, lower is better; always positive
+	 */
+	public double calculateCost(int[] schedule) {
+		var nextEssInitial = this.essInitialEnergy;
+		var sum = 0.;
+		for (var i = 0; i < this.price.length; i++) {
+			var essInitial = max(0, nextEssInitial); // always at least '0'
+			var ess = this.calculateEss(i, this.states[schedule[i]], essInitial);
+			nextEssInitial = essInitial - ess;
+			sum += this.calculatePeriodCost(i, ess);
+		}
+		return sum;
+	}
+
+	/**
+	 * Same as {@link EnergyFlow#create(Params, Params.OptimizePeriod, int, int,
+	 * int)}, but only calculates the ESS charge/discharge energy.
+	 */
+	private int calculateEss(int i, byte state, int essInitial) {
+		final var balance = this.consumption[i] - this.production[i];
+		final int essMaxSocEnergy;
+		final int essTarget;
+		switch (state) {
+		case DELAY_DISCHARGE -> {
+			essMaxSocEnergy = this.essTotalEnergy;
+			essTarget = min(0, balance);
+		}
+		case CHARGE_GRID -> {
+			essMaxSocEnergy = this.essMaxSocEnergy;
+			essTarget = min(0, balance) - this.essChargeInChargeGrid[i];
+		}
+		default -> {
+			essMaxSocEnergy = this.essTotalEnergy;
+			essTarget = balance;
+		}
+		}
+		var essMaxDischarge = max(0, essInitial - this.essMinSocEnergy);
+		var essMaxCharge = max(0, essMaxSocEnergy - essInitial);
+
+		var ess = max(balance - this.maxBuyFromGrid[i], essTarget);
+		ess = max(-essMaxCharge, min(essMaxDischarge, ess));
+		return max(-this.essMaxChargeEnergy[i], min(this.essMaxDischargeEnergy[i], ess));
+	}
+
+	/**
+	 * Same as the cost calculation in {@link Simulator#simulatePeriod}.
+	 */
+	private double calculatePeriodCost(int i, int ess) {
+		final var production = this.production[i];
+		final var consumption = this.consumption[i];
+		final var grid = consumption - production - ess;
+		if (grid <= 0) {
+			// Sell-to-Grid
+			return 0.;
+		}
+		var productionToConsumption = min(production, consumption);
+		var productionToEss = max(0, min(-ess, production - productionToConsumption));
+		var productionToGrid = max(0, production - productionToConsumption - productionToEss);
+		var essToConsumption = max(0, min(consumption - productionToConsumption, ess - productionToGrid));
+		var gridToConsumption = max(0, consumption - essToConsumption - productionToConsumption);
+		var gridToEss = grid - gridToConsumption + productionToGrid;
+
+		// Filter negative prices
+		var price = max(0, this.price[i]);
+		return gridToConsumption * price //
+				+ gridToEss * price * EFFICIENCY_FACTOR;
+	}
+}
@@ -0,0 +1,192 @@
+package io.openems.edge.energy.optimizer;
+
+import static io.jenetics.engine.Limits.byExecutionTime;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.random.RandomGenerator;
+import java.util.stream.Collectors;
+
+import io.jenetics.Genotype;
+import io.jenetics.IntegerGene;
+import io.jenetics.Phenotype;
+import io.jenetics.engine.Engine;
+import io.jenetics.engine.EvolutionStart;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.RandomRegistry;
+
+/**
+ * Runs several sub-populations (islands) of the same {@link Engine} in
+ * parallel.
+ *
+ * <p>
+ * Islands evolve independently for a number of generations (an 'epoch').
+ * Between epochs the best individuals of every island replace the worst
+ * individuals of the next island (ring topology). Every island uses its own
+ * random generator, so islands explore different regions of the search space
+ * while good schedules still spread over all islands.
+ *
+ * <p>
+ * The {@link Engine} has to be minimizing and built with a synchronous
+ * executor; parallelism comes from evolving the islands on the given
+ * {@link Executor}.
+ */
+public class IslandModel {
+
+	/** Default number of generations between two migrations. */
+	public static final int DEFAULT_MIGRATION_INTERVAL = 25;
+
+	/** Default number of individuals that migrate to the next island. */
+	public static final int DEFAULT_MIGRANTS = 2;
+
+	private final int islands;
+	private final int migrationInterval;
+	private final int migrants;
+	private final Executor executor;
+
+	/**
+	 * Constructor for {@link IslandModel} with default migration settings.
+	 *
+	 * @param islands  the number of islands
+	 * @param executor the {@link Executor} that evolves the islands
+	 */
+	public IslandModel(int islands, Executor executor) {
+		this(islands, DEFAULT_MIGRATION_INTERVAL, DEFAULT_MIGRANTS, executor);
+	}
+
+	/**
+	 * Constructor for {@link IslandModel}.
+	 *
+	 * @param islands           the number of islands
+	 * @param migrationInterval the number of generations between two migrations
+	 * @param migrants          the number of individuals that migrate
+	 * @param executor          the {@link Executor} that evolves the islands
+	 */
+	public IslandModel(int islands, int migrationInterval, int migrants, Executor executor) {
+		if (islands < 1 || migrationInterval < 1 || migrants < 0) {
+			throw new IllegalArgumentException("Invalid IslandModel [islands=" + islands + ", migrationInterval="
+					+ migrationInterval + ", migrants=" + migrants + "]");
+		}
+		this.islands = islands;
+		this.migrationInterval = migrationInterval;
+		this.migrants = migrants;
+		this.executor = executor;
+	}
+
+	public int getIslands() {
+		return this.islands;
+	}
+
+	/**
+	 * Evolves the islands and returns the best {@link Genotype} that was found
+	 * on any island.
+	 *
+	 * @param engine            the {@link Engine}
+	 * @param initialPopulation the initial {@link Genotype}s; every island starts
+	 *                          with them
+	 * @param executionLimit    the wall-clock limit
+	 * @param generationLimit   optional limit of generations per island; null for
+	 *                          no limit
+	 * @return the best {@link Genotype}
+	 */
+	public Genotype<IntegerGene> evolve(Engine<IntegerGene, Double> engine,
+			Iterable<Genotype<IntegerGene>> initialPopulation, Duration executionLimit, Integer generationLimit) {
+		final var deadline = Instant.now().plus(executionLimit);
+		final var initial = new ArrayList<Phenotype<IntegerGene, Double>>();
+		initialPopulation.forEach(gt -> initial.add(Phenotype.of(gt, 1)));
+
+		final var seeds = RandomRegistry.random();
+		final var islands = new ArrayList<Island>(this.islands);
+		for (var i = 0; i < this.islands; i++) {
+			islands.add(new Island(new SplittableRandom(seeds.nextLong()),
+					EvolutionStart.of(ISeq.of(initial), 1)));
+		}
+
+		var generations = 0L;
+		do {
+			var remaining = Duration.between(Instant.now(), deadline);
+			var epoch = generationLimit == null //
+					? this.migrationInterval //
+					: (int) Math.min(this.migrationInterval, generationLimit - generations);
+			CompletableFuture.allOf(islands.stream() //
+					.map(island -> CompletableFuture.runAsync(() -> island.evolve(engine, epoch, remaining),
+							this.executor)) //
+					.toArray(CompletableFuture[]::new)) //
+					.join();
+			generations += epoch;
+			this.migrate(islands);
+
+		} while (Instant.now().isBefore(deadline) //
+				&& (generationLimit == null || generations < generationLimit));
+
+		return islands.stream() //
+				.map(island -> island.best) //
+				.min(Comparator.comparing(Phenotype::fitness)) //
+				.get() //
+				.genotype();
+	}
+
+	/**
+	 * Copies the best individuals of every island to the next island, replacing
+	 * its worst individuals.
+	 *
+	 * @param islands the {@link Island}s
+	 */
+	private void migrate(List<Island> islands) {
+		if (islands.size() < 2 || this.migrants == 0) {
+			return;
+		}
+		var emigrants = islands.stream() //
+				.map(island -> island.start.population().stream() //
+						.filter(Phenotype::isEvaluated) //
+						.sorted(Comparator.comparing(Phenotype::fitness)) //
+						.limit(this.migrants) //
+						.toList()) //
+				.toList();
+		for (var i = 0; i < islands.size(); i++) {
+			var target = islands.get((i + 1) % islands.size());
+			var immigrants = emigrants.get(i);
+			var residents = target.start.population().stream() //
+					.sorted(Comparator.comparing((Phenotype<IntegerGene, Double> pt) -> pt.isEvaluated() //
+							? pt.fitness() //
+							: Double.MAX_VALUE)) //
+					.limit(Math.max(0, target.start.population().size() - immigrants.size())) //
+					.collect(Collectors.toCollection(ArrayList::new));
+			residents.addAll(immigrants);
+			target.start = EvolutionStart.of(ISeq.of(residents), target.start.generation());
+		}
+	}
+
+	private static final class Island {
+
+		private final RandomGenerator random;
+
+		private EvolutionStart<IntegerGene, Double> start;
+		private Phenotype<IntegerGene, Double> best = null;
+
+		private Island(RandomGenerator random, EvolutionStart<IntegerGene, Double> start) {
+			this.random = random;
+			this.start = start;
+		}
+
+		private void evolve(Engine<IntegerGene, Double> engine, int generations, Duration executionLimit) {
+			RandomRegistry.using(this.random, r -> engine //
+					.stream(this.start) //
+					.limit(byExecutionTime(executionLimit)) //
+					.limit(generations) //
+					.forEach(result -> {
+						var candidate = result.bestPhenotype();
+						if (this.best == null || candidate.fitness() < this.best.fitness()) {
+							this.best = candidate;
+						}
+						this.start = result.next();
+					}));
+		}
+	}
+}
@@ -2,12 +2,17 @@ package io.openems.edge.energy.optimizer;
 
 import static com.google.common.collect.ImmutableMap.toImmutableMap;
 import static com.google.common.collect.ImmutableSortedMap.toImmutableSortedMap;
+import static io.openems.edge.energy.optimizer.ParamsUtils.PARAMS_DELTA_SHORTEN;
+import static io.openems.edge.energy.optimizer.ParamsUtils.PARAMS_DELTA_SKIP;
+import static io.openems.edge.energy.optimizer.ParamsUtils.calculateParamsDelta;
+import static io.openems.edge.energy.optimizer.ParamsUtils.getExistingSchedule;
 import static io.openems.edge.energy.optimizer.Simulator.simulate;
 import static io.openems.edge.energy.optimizer.Utils.calculateExecutionLimitSeconds;
 import static io.openems.edge.energy.optimizer.Utils.createSimulatorParams;
 import static io.openems.edge.energy.optimizer.Utils.initializeRandomRegistryForProduction;
 import static io.openems.edge.energy.optimizer.Utils.logSchedule;
 import static io.openems.edge.energy.optimizer.Utils.updateSchedule;
+import static java.lang.Math.min;
 import static java.lang.Thread.sleep;
 
 import java.time.Duration;
@@ -15,16 +20,19 @@ import java.time.Instant;
 import java.time.ZonedDateTime;
 import java.util.Map.Entry;
 import java.util.TreeMap;
+import java.util.concurrent.Executors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.google.common.collect.ImmutableSortedMap;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 
 import io.openems.common.exceptions.OpenemsException;
 import io.openems.common.function.ThrowingSupplier;
 import io.openems.common.test.TimeLeapClock;
 import io.openems.common.worker.AbstractImmediateWorker;
+import io.openems.edge.controller.ess.timeofusetariff.StateMachine;
 import io.openems.edge.energy.api.EnergyScheduleHandler;
 import io.openems.edge.energy.optimizer.Simulator.Period;
 
@@ -39,7 +47,17 @@ public class Optimizer extends AbstractImmediateWorker {
 	private final ThrowingSupplier<GlobalContext, OpenemsException> globalContext;
 	private final TreeMap<ZonedDateTime, Period> schedule = new TreeMap<>();
 
+	/** Execution limit of the first run without existing Schedule. */
+	private static final long QUICK_EXECUTION_LIMIT_SECONDS = 30;
+
+	/** Execution limit if {@link Params} changed only slightly. */
+	private static final long SHORTENED_EXECUTION_LIMIT_SECONDS = 60;
+
 	private Params params = null;
+	/** The {@link Params} of the last full optimization. */
+	private Params optimizedParams = null;
+	private volatile int islands = 1;
+	private volatile boolean incremental = false;
 
 	public Optimizer(ThrowingSupplier<GlobalContext, OpenemsException> globalContext) {
 		this.globalContext = globalContext;
@@ -64,7 +82,11 @@ public class Optimizer extends AbstractImmediateWorker {
 		executionLimitSeconds = calculateExecutionLimitSeconds(globalContext.clock());
 
 		// Find best Schedule
-		var schedule = Simulator.getBestSchedule(this.params, executionLimitSeconds);
+		var run = this.planRun(this.params, executionLimitSeconds);
+		var schedule = run.existingSchedule();
+		if (schedule == null) {
+			schedule = this.getBestSchedule(run.executionLimitSeconds());
+		}
 
 		// Re-Simulate and keep best Schedule
 		var newSchedule = simulate(this.params, schedule);
@@ -85,7 +107,7 @@ public class Optimizer extends AbstractImmediateWorker {
 								e.getValue().op().essChargeInChargeGrid()))));
 
 		// Sleep remaining time
-		if (!(globalContext.clock() instanceof TimeLeapClock)) {
+		if (run.sleepAfterwards() && !(globalContext.clock() instanceof TimeLeapClock)) {
 			var remainingExecutionLimit = Duration
 					.between(Instant.now(globalContext.clock()), start.plusSeconds(executionLimitSeconds)).getSeconds();
 			if (remainingExecutionLimit > 0) {
@@ -95,6 +117,94 @@ public class Optimizer extends AbstractImmediateWorker {
 		}
 	}
 
+	/**
+	 * Defines how a run of the Optimizer finds its Schedule.
+	 * 
+	 * @param existingSchedule      the existing Schedule that is kept; null to
+	 *                              run the optimization
+	 * @param executionLimitSeconds the execution limit of the optimization
+	 * @param sleepAfterwards       sleep till the next quarter after the run
+	 */
+	protected record Run(StateMachine[] existingSchedule, long executionLimitSeconds, boolean sleepAfterwards) {
+	}
+
+	/**
+	 * Plans the next run in incremental mode; otherwise always a full run.
+	 * 
+	 * @param params                the {@link Params}
+	 * @param executionLimitSeconds the execution limit till the next quarter
+	 * @return the {@link Run}
+	 */
+	protected Run planRun(Params params, long executionLimitSeconds) {
+		if (this.incremental) {
+			var delta = calculateParamsDelta(this.optimizedParams, params);
+			var existingSchedule = getExistingSchedule(params);
+			if (delta < PARAMS_DELTA_SKIP && existingSchedule != null) {
+				this.log.info("# Keep existing Schedule. Params delta [" + String.format("%.4f", delta) + "]");
+				return new Run(existingSchedule, 0, true);
+
+			} else if (delta < PARAMS_DELTA_SHORTEN) {
+				this.log.info("# Shorten Optimizer run. Params delta [" + String.format("%.4f", delta) + "]");
+				return new Run(null, min(executionLimitSeconds, SHORTENED_EXECUTION_LIMIT_SECONDS), true);
+
+			} else if (existingSchedule == null) {
+				// No Schedule yet, e.g. after startup: provide a quick result, then refine it
+				// in the next run, warm-started from this result
+				return new Run(null, min(executionLimitSeconds, QUICK_EXECUTION_LIMIT_SECONDS), false);
+			}
+		}
+
+		// Only full runs serve as reference for the Params delta
+		this.optimizedParams = params;
+		return new Run(null, executionLimitSeconds, true);
+	}
+
+	private StateMachine[] getBestSchedule(long executionLimitSeconds) {
+		final var islands = this.islands;
+		if (islands <= 1) {
+			return Simulator.getBestSchedule(this.params, executionLimitSeconds);
+		}
+
+		// Evolve islands in parallel; threads are only alive during optimization
+		var executor = Executors.newFixedThreadPool(islands, new ThreadFactoryBuilder() //
+				.setNameFormat("Energy-Optimizer-Island-%d") //
+				.setPriority(Thread.MIN_PRIORITY) //
+				.setDaemon(true) //
+				.build());
+		try {
+			return Simulator.getBestSchedule(this.params, executionLimitSeconds, null, null,
+					new IslandModel(islands, executor));
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	/**
+	 * Sets the number of islands, i.e. sub-populations that are evolved in
+	 * parallel. Applies from the next run of the Optimizer.
+	 * 
+	 * @param islands number of islands; values below '2' disable parallel mode
+	 */
+	public void setIslands(int islands) {
+		this.islands = islands;
+	}
+
+	/**
+	 * Enables the incremental mode.
+	 * 
+	 * <p>
+	 * The existing Schedule is kept if the inputs changed only slightly since the
+	 * last full optimization, and the optimization is shortened on moderate
+	 * changes. Without existing Schedule (e.g. after startup) a quick result is
+	 * provided first and refined in the next run. Every run is warm-started from
+	 * the existing Schedule (see {@link InitialPopulationUtils}).
+	 * 
+	 * @param incremental true to enable
+	 */
+	public void setIncremental(boolean incremental) {
+		this.incremental = incremental;
+	}
+
 	/**
 	 * Try forever till all data is available (e.g. ESS Capacity)
 	 * 
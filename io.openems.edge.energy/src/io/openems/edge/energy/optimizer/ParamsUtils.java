@@ -11,15 +11,26 @@ import static java.lang.Math.round;
 import static java.util.Arrays.stream;
 
 import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
 import java.util.stream.IntStream;
 
 import com.google.common.primitives.ImmutableIntArray;
 
 import io.openems.edge.controller.ess.timeofusetariff.StateMachine;
+import io.openems.edge.energy.optimizer.Params.OptimizePeriod;
+import io.openems.edge.energy.optimizer.Params.QuarterPeriod;
 import io.openems.edge.energy.optimizer.Simulator.Period;
 
 public class ParamsUtils {
 
+	/** Relative input delta below which the existing Schedule is kept. */
+	public static final double PARAMS_DELTA_SKIP = 0.01;
+
+	/** Relative input delta below which the optimization is shortened. */
+	public static final double PARAMS_DELTA_SHORTEN = 0.05;
+
 	private ParamsUtils() {
 	}
 
@@ -102,4 +113,105 @@ public class ParamsUtils {
 		}
 		return 6 * 4 + (60 - minute) / 15;
 	}
+
+	/**
+	 * Calculates the relative change of the inputs of the optimization between
+	 * two {@link Params}.
+	 * 
+	 * <p>
+	 * Only Quarters that are available in both {@link Params} are compared:
+	 * 
+	 * <ul>
+	 * <li>Energy: deviation of the initial ESS energy plus the mean production and
+	 * consumption deviation per Quarter, relative to the ESS total energy
+	 * <li>Price: max price deviation, relative to the price spread of the current
+	 * {@link Params}
+	 * </ul>
+	 * 
+	 * <p>
+	 * Any change of the ESS limits or allowed states, or Quarters that are new in
+	 * the current {@link Params} (e.g. new day-ahead prices), result in
+	 * {@link Double#POSITIVE_INFINITY}.
+	 * 
+	 * @param previous the previous {@link Params}; possibly null
+	 * @param current  the current {@link Params}
+	 * @return the max of energy and price delta
+	 */
+	public static double calculateParamsDelta(Params previous, Params current) {
+		if (previous == null //
+				|| previous.essTotalEnergy() != current.essTotalEnergy() //
+				|| previous.essMinSocEnergy() != current.essMinSocEnergy() //
+				|| previous.essMaxSocEnergy() != current.essMaxSocEnergy() //
+				|| !Arrays.equals(previous.states(), current.states()) //
+				|| current.essTotalEnergy() <= 0) {
+			return Double.POSITIVE_INFINITY;
+		}
+
+		var previousQuarters = new HashMap<ZonedDateTime, QuarterPeriod>();
+		for (var op : previous.optimizePeriods()) {
+			for (var qp : op.quarterPeriods()) {
+				previousQuarters.put(qp.time(), qp);
+			}
+		}
+
+		var energy = 0L;
+		var quarters = 0;
+		var price = 0.;
+		var minPrice = Double.MAX_VALUE;
+		var maxPrice = -Double.MAX_VALUE;
+		for (var op : current.optimizePeriods()) {
+			for (var qp : op.quarterPeriods()) {
+				var pqp = previousQuarters.get(qp.time());
+				if (pqp == null //
+						|| pqp.essMaxChargeEnergy() != qp.essMaxChargeEnergy() //
+						|| pqp.essMaxDischargeEnergy() != qp.essMaxDischargeEnergy() //
+						|| pqp.maxBuyFromGrid() != qp.maxBuyFromGrid()) {
+					return Double.POSITIVE_INFINITY;
+				}
+				energy += Math.abs(qp.production() - pqp.production()) //
+						+ Math.abs(qp.consumption() - pqp.consumption());
+				quarters++;
+				price = max(price, Math.abs(qp.price() - pqp.price()));
+				minPrice = min(minPrice, qp.price());
+				maxPrice = max(maxPrice, qp.price());
+			}
+		}
+
+		// Normalize per Quarter, so that the delta does not depend on the length of
+		// the horizon
+		var energyDelta = (Math.abs(current.essInitialEnergy() - previous.essInitialEnergy()) //
+				+ (quarters == 0 ? 0. : (double) energy / quarters)) / current.essTotalEnergy();
+		var priceSpread = maxPrice - minPrice;
+		final double priceDelta;
+		if (price == 0.) {
+			priceDelta = 0.;
+		} else if (priceSpread > 0.) {
+			priceDelta = price / priceSpread;
+		} else {
+			priceDelta = Double.POSITIVE_INFINITY;
+		}
+		return max(energyDelta, priceDelta);
+	}
+
+	/**
+	 * Gets the states of {@link Params#existingSchedule()} for every
+	 * {@link OptimizePeriod}, i.e. the previous best Schedule shifted to the
+	 * current time.
+	 * 
+	 * @param p the {@link Params}
+	 * @return the existing Schedule; null if it does not cover all periods or
+	 *         contains states that are not allowed anymore
+	 */
+	public static StateMachine[] getExistingSchedule(Params p) {
+		var states = List.of(p.states());
+		var result = new StateMachine[p.optimizePeriods().size()];
+		for (var i = 0; i < result.length; i++) {
+			var state = p.existingSchedule().get(p.optimizePeriods().get(i).time());
+			if (state == null || !states.contains(state)) {
+				return null;
+			}
+			result[i] = state;
+		}
+		return result;
+	}
 }
@@ -140,6 +140,23 @@ public class Simulator {
 
 	protected static StateMachine[] getBestSchedule(Params p, long executionLimitSeconds, Integer populationSize,
 			Integer limit) {
+		return getBestSchedule(p, executionLimitSeconds, populationSize, limit, null);
+	}
+
+	/**
+	 * Runs the optimization.
+	 * 
+	 * @param p                     the {@link Params}
+	 * @param executionLimitSeconds limit.byExecutionTime.ofSeconds
+	 * @param populationSize        optional population size (per island)
+	 * @param limit                 optional limit of generations
+	 * @param islandModel           optional {@link IslandModel} for parallel
+	 *                              execution; null to run a single population in
+	 *                              the current thread
+	 * @return the best schedule
+	 */
+	protected static StateMachine[] getBestSchedule(Params p, long executionLimitSeconds, Integer populationSize,
+			Integer limit, IslandModel islandModel) {
 		// Return pure BALANCING Schedule if no predictions are available
 		if (!paramsAreValid(p)) {
 			return p.optimizePeriods().stream() //
@@ -148,13 +165,8 @@ public class Simulator {
 		}
 
 		var gtf = Genotype.of(IntegerChromosome.of(IntegerGene.of(0, p.states().length)), p.optimizePeriods().size()); //
-		var eval = (Function<Genotype<IntegerGene>, Double>) (gt) -> {
-			var modes = new StateMachine[p.optimizePeriods().size()];
-			for (var i = 0; i < modes.length; i++) {
-				modes[i] = p.states()[gt.get(i).get(0).intValue()];
-			}
-			return calculateCost(p, modes);
-		};
+		var costFunction = new CostFunction(p);
+		var eval = (Function<Genotype<IntegerGene>, Double>) costFunction::calculateCost;
 		var engine = Engine //
 				.builder(eval, gtf) //
 				.executor(Runnable::run) // current thread
@@ -162,14 +174,22 @@ public class Simulator {
 		if (populationSize != null) {
 			engine.populationSize(populationSize); //
 		}
-		Stream<EvolutionResult<IntegerGene, Double>> stream = engine.build() //
-				.stream(buildInitialPopulation(p)) //
-				.limit(byExecutionTime(ofSeconds(executionLimitSeconds))); //
-		if (limit != null) {
-			stream = stream.limit(limit); // apply optional limit
+
+		final Genotype<IntegerGene> bestGt;
+		if (islandModel != null) {
+			bestGt = islandModel.evolve(engine.build(), buildInitialPopulation(p), ofSeconds(executionLimitSeconds),
+					limit);
+
+		} else {
+			Stream<EvolutionResult<IntegerGene, Double>> stream = engine.build() //
+					.stream(buildInitialPopulation(p)) //
+					.limit(byExecutionTime(ofSeconds(executionLimitSeconds))); //
+			if (limit != null) {
+				stream = stream.limit(limit); // apply optional limit
+			}
+			bestGt = stream //
+					.collect(toBestGenotype());
 		}
-		var bestGt = stream //
-				.collect(toBestGenotype());
 		return IntStream.range(0, p.optimizePeriods().size()) //
 				.mapToObj(period -> p.states()[bestGt.get(period).get(0).intValue()]) //
 				.toArray(StateMachine[]::new);
@@ -0,0 +1,43 @@
+package io.openems.edge.energy.optimizer;
+
+import static io.openems.edge.energy.optimizer.Simulator.calculateCost;
+import static io.openems.edge.energy.optimizer.SimulatorTest.createParams888d20231106;
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+import org.junit.Test;
+
+import io.jenetics.Genotype;
+import io.jenetics.IntegerChromosome;
+import io.jenetics.IntegerGene;
+import io.openems.edge.controller.ess.timeofusetariff.ControlMode;
+import io.openems.edge.controller.ess.timeofusetariff.StateMachine;
+
+public class CostFunctionTest {
+
+	@Test
+	public void testSameAsSimulator() {
+		var random = new Random(315);
+		for (var controlMode : ControlMode.values()) {
+			var p = createParams888d20231106(controlMode.states);
+			var sut = new CostFunction(p);
+			assertEquals(p.optimizePeriods().size(), sut.size());
+
+			for (var run = 0; run < 100; run++) {
+				var indexes = random.ints(sut.size(), 0, p.states().length).toArray();
+				var schedule = new StateMachine[indexes.length];
+				var chromosomes = new ArrayList<IntegerChromosome>();
+				for (var i = 0; i < indexes.length; i++) {
+					schedule[i] = p.states()[indexes[i]];
+					chromosomes.add(IntegerChromosome.of(IntegerGene.of(indexes[i], 0, p.states().length)));
+				}
+				var expected = calculateCost(p, schedule);
+				assertEquals(expected, sut.calculateCost(indexes), 0.);
+				assertEquals(expected, sut.calculateCost(Genotype.of(chromosomes)), 0.);
+			}
+		}
+	}
+
+}
@@ -0,0 +1,46 @@
+package io.openems.edge.energy.optimizer;
+
+import static io.openems.edge.energy.optimizer.Simulator.calculateCost;
+import static io.openems.edge.energy.optimizer.Simulator.getBestSchedule;
+import static io.openems.edge.energy.optimizer.SimulatorTest.createParams888d20231106;
+import static io.openems.edge.energy.optimizer.Utils.initializeRandomRegistryForUnitTest;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import io.openems.edge.controller.ess.timeofusetariff.ControlMode;
+import io.openems.edge.controller.ess.timeofusetariff.StateMachine;
+
+public class IslandModelTest {
+
+	@Before
+	public void before() {
+		initializeRandomRegistryForUnitTest();
+	}
+
+	@Test
+	public void testGetBestSchedule() {
+		var p = createParams888d20231106(ControlMode.CHARGE_CONSUMPTION.states);
+		var balancing = p.optimizePeriods().stream() //
+				.map(op -> StateMachine.BALANCING) //
+				.toArray(StateMachine[]::new);
+
+		// Runnable::run evolves the islands one after the other
+		var sut = new IslandModel(3, 5, 2, Runnable::run);
+		var schedule = getBestSchedule(p, //
+				/* executionLimitSeconds */ 30, //
+				/* populationSize */ 20, //
+				/* limit */ 20, //
+				sut);
+
+		assertEquals(p.optimizePeriods().size(), schedule.length);
+		assertTrue(calculateCost(p, schedule) <= calculateCost(p, balancing));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testInvalid() {
+		new IslandModel(0, Runnable::run);
+	}
+}
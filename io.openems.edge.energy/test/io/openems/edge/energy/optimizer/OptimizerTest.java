@@ -1,16 +1,31 @@
 package io.openems.edge.energy.optimizer;
 
+import static io.openems.edge.controller.ess.timeofusetariff.StateMachine.BALANCING;
+import static io.openems.edge.controller.ess.timeofusetariff.StateMachine.CHARGE_GRID;
 import static io.openems.edge.energy.EnergySchedulerImplTest.CLOCK;
 import static io.openems.edge.energy.EnergySchedulerImplTest.getOptimizer;
+import static io.openems.edge.energy.optimizer.ParamsUtilsTest.createParams;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
+import java.time.ZonedDateTime;
+
 import org.junit.Test;
 
+import io.openems.edge.controller.ess.timeofusetariff.StateMachine;
 import io.openems.edge.energy.EnergySchedulerImplTest;
 
 public class OptimizerTest {
 
+	private static final ZonedDateTime TIME = ZonedDateTime.parse("2020-03-04T14:00:00.00Z");
+	private static final int[] PRODUCTIONS = new int[] { 0, 100, 200, 300 };
+	private static final double[] PRICES = new double[] { 100, 200, 300, 400 };
+	private static final StateMachine[] SCHEDULE = new StateMachine[] { CHARGE_GRID, BALANCING, BALANCING,
+			BALANCING };
+
 	@Test
 	public void testEmpty() throws Exception {
 		var sut = getOptimizer(EnergySchedulerImplTest.create(CLOCK));
@@ -18,4 +33,58 @@ public class OptimizerTest {
 		assertTrue(sut.getSchedule().isEmpty());
 	}
 
+	@Test
+	public void testPlanRun() {
+		var sut = new Optimizer(() -> null);
+		var params = createParams(TIME, 5000, PRODUCTIONS, PRICES, SCHEDULE);
+
+		// Not incremental: always a full run
+		assertFullRun(sut.planRun(params, 600));
+		assertFullRun(sut.planRun(params, 600));
+	}
+
+	@Test
+	public void testPlanRunIncremental() {
+		var sut = new Optimizer(() -> null);
+		sut.setIncremental(true);
+
+		// No existing Schedule: quick run without sleep
+		var run = sut.planRun(createParams(TIME, 5000, PRODUCTIONS, PRICES), 600);
+		assertNull(run.existingSchedule());
+		assertEquals(30, run.executionLimitSeconds());
+		assertFalse(run.sleepAfterwards());
+
+		// Existing Schedule, but no full run yet
+		var params = createParams(TIME, 5000, PRODUCTIONS, PRICES, SCHEDULE);
+		assertFullRun(sut.planRun(params, 600));
+
+		// Params did not change: skip
+		run = sut.planRun(params, 600);
+		assertArrayEquals(SCHEDULE, run.existingSchedule());
+		assertTrue(run.sleepAfterwards());
+
+		// Energy delta 200 / 10000: shorten
+		run = sut.planRun(createParams(TIME, 5200, PRODUCTIONS, PRICES, SCHEDULE), 600);
+		assertNull(run.existingSchedule());
+		assertEquals(60, run.executionLimitSeconds());
+		assertTrue(run.sleepAfterwards());
+
+		// Shortened run does not exceed the execution limit
+		assertEquals(45, sut.planRun(createParams(TIME, 5200, PRODUCTIONS, PRICES, SCHEDULE), 45) //
+				.executionLimitSeconds());
+
+		// Price delta 100 / 200: full run
+		var changed = createParams(TIME, 5000, PRODUCTIONS, new double[] { 100, 200, 300, 300 }, SCHEDULE);
+		assertFullRun(sut.planRun(changed, 600));
+
+		// Compared to the last full run
+		assertArrayEquals(SCHEDULE, sut.planRun(changed, 600).existingSchedule());
+	}
+
+	private static void assertFullRun(Optimizer.Run run) {
+		assertNull(run.existingSchedule());
+		assertEquals(600, run.executionLimitSeconds());
+		assertTrue(run.sleepAfterwards());
+	}
+
 }
@@ -1,13 +1,23 @@
 package io.openems.edge.energy.optimizer;
 
+import static io.openems.edge.controller.ess.timeofusetariff.StateMachine.BALANCING;
+import static io.openems.edge.controller.ess.timeofusetariff.StateMachine.CHARGE_GRID;
+import static io.openems.edge.controller.ess.timeofusetariff.StateMachine.DELAY_DISCHARGE;
 import static io.openems.edge.energy.optimizer.ParamsUtils.calculateChargeEnergyInChargeGrid;
+import static io.openems.edge.energy.optimizer.ParamsUtils.calculateParamsDelta;
 import static io.openems.edge.energy.optimizer.ParamsUtils.calculatePeriodLengthHourFromIndex;
+import static io.openems.edge.energy.optimizer.ParamsUtils.getExistingSchedule;
+import static io.openems.edge.energy.optimizer.UtilsTest.prepareExistingSchedule;
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 
 import java.time.ZonedDateTime;
 
 import org.junit.Test;
 
+import io.openems.edge.controller.ess.timeofusetariff.StateMachine;
+
 public class ParamsUtilsTest {
 
 	@Test
@@ -38,4 +48,63 @@ public class ParamsUtilsTest {
 		assertEquals(24 + 1, calculatePeriodLengthHourFromIndex(ZonedDateTime.parse("2020-03-04T14:45:00.00Z")));
 		assertEquals(24, calculatePeriodLengthHourFromIndex(ZonedDateTime.parse("2020-03-04T15:00:00.00Z")));
 	}
+
+	protected static Params createParams(ZonedDateTime time, int essInitial, int[] productions, double[] prices,
+			StateMachine... existingSchedule) {
+		return Params.create() //
+				.setTime(time) //
+				.setEssTotalEnergy(10000) //
+				.setEssMinSocEnergy(0) //
+				.setEssMaxSocEnergy(9000) //
+				.setEssInitialEnergy(essInitial) //
+				.setEssMaxChargeEnergy(1000) //
+				.setEssMaxDischargeEnergy(1000) //
+				.seMaxBuyFromGrid(4000) //
+				.setProductions(productions) //
+				.setConsumptions(new int[] { 500, 500, 500, 500 }) //
+				.setPrices(prices) //
+				.setStates(BALANCING, DELAY_DISCHARGE, CHARGE_GRID) //
+				.setExistingSchedule(prepareExistingSchedule(time, existingSchedule)) //
+				.build();
+	}
+
+	@Test
+	public void testCalculateParamsDelta() {
+		var time = ZonedDateTime.parse("2020-03-04T14:00:00.00Z");
+		var productions = new int[] { 0, 100, 200, 300 };
+		var prices = new double[] { 100, 200, 300, 400 };
+		var p = createParams(time, 5000, productions, prices);
+
+		assertEquals(Double.POSITIVE_INFINITY, calculateParamsDelta(null, p), 0.);
+		assertEquals(0., calculateParamsDelta(p, p), 0.);
+
+		// Energy: (50 + 50 / 4 Quarters) / 10000
+		assertEquals(0.00625, calculateParamsDelta(p,
+				createParams(time, 5050, new int[] { 0, 100, 200, 350 }, prices)), 0.0001);
+
+		// Price: 30 / (370 - 100)
+		assertEquals(30. / 270, calculateParamsDelta(p,
+				createParams(time, 5000, productions, new double[] { 100, 200, 300, 370 })), 0.0001);
+
+		// Shifted by one Quarter: compare only overlapping Quarters
+		assertEquals(0., calculateParamsDelta(p, createParams(time.plusMinutes(15), 5000, //
+				new int[] { 100, 200, 300 }, new double[] { 200, 300, 400 })), 0.);
+
+		// New Quarters
+		assertEquals(Double.POSITIVE_INFINITY, calculateParamsDelta(p, createParams(time.plusMinutes(15), 5000, //
+				new int[] { 100, 200, 300, 400 }, new double[] { 200, 300, 400, 500 })), 0.);
+	}
+
+	@Test
+	public void testGetExistingSchedule() {
+		var time = ZonedDateTime.parse("2020-03-04T14:00:00.00Z");
+		var productions = new int[] { 0, 100, 200, 300 };
+		var prices = new double[] { 100, 200, 300, 400 };
+
+		assertNull(getExistingSchedule(createParams(time, 5000, productions, prices)));
+		assertNull(getExistingSchedule(createParams(time, 5000, productions, prices, CHARGE_GRID)));
+		assertArrayEquals(new StateMachine[] { CHARGE_GRID, BALANCING, DELAY_DISCHARGE, BALANCING }, //
+				getExistingSchedule(createParams(time, 5000, productions, prices, //
+						CHARGE_GRID, BALANCING, DELAY_DISCHARGE, BALANCING)));
+	}
 }
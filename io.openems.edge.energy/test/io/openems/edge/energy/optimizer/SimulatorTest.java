@@ -185,6 +185,7 @@ public class SimulatorTest {
 				.setConsumptions(stream(interpolateArray(CONSUMPTION_888_20231106)).map(v -> toEnergy(v)).toArray()) //
 				.setPrices(hourlyToQuarterly(interpolateArray(PRICES_888_20231106))) //
 				.setStates(states) //
+				.setExistingSchedule(ImmutableSortedMap.of()) //
 				.build();
 	}
 
@@ -1,6 +1,9 @@
 package io.openems.edge.ess.core.power.solver;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
 
 import org.apache.commons.math3.optim.PointValuePair;
 import org.apache.commons.math3.optim.linear.NoFeasibleSolutionException;
@@ -12,9 +15,21 @@ import io.openems.edge.ess.power.api.Constraint;
 
 public class ConstraintSolver {
 
+	/**
+	 * One {@link SolutionCache} per {@link Coefficients}, i.e. per Ess.Power
+	 * instance. Released together with the {@link Coefficients}.
+	 */
+	private static final Map<Coefficients, SolutionCache> CACHES = Collections
+			.synchronizedMap(new WeakHashMap<>());
+
 	/**
 	 * Solves the problem with the given list of Constraints.
 	 *
+	 * <p>
+	 * Problems that were solved recently with the same {@link Coefficients} are
+	 * answered from their {@link SolutionCache}; the LinearConstraints are only built if the
+	 * problem actually needs to be solved.
+	 *
 	 * @param coefficients the {@link Coefficients}
 	 * @param constraints  a list of Constraints
 	 * @return a solution
@@ -23,8 +38,20 @@ public class ConstraintSolver {
 	 */
 	public static PointValuePair solve(Coefficients coefficients, List<Constraint> constraints)
 			throws NoFeasibleSolutionException, UnboundedSolutionException {
-		var linearConstraints = LinearSolverUtil.convertToLinearConstraints(coefficients, constraints);
-		return LinearConstraintsSolver.solve(coefficients, linearConstraints);
+		return getCache(coefficients).get(SolutionCache.Problem.from(coefficients, constraints), () -> {
+			var linearConstraints = LinearSolverUtil.convertToLinearConstraints(coefficients, constraints);
+			return LinearConstraintsSolver.solve(coefficients, linearConstraints);
+		});
+	}
+
+	/**
+	 * Gets the {@link SolutionCache} of the given {@link Coefficients}.
+	 *
+	 * @param coefficients the {@link Coefficients}
+	 * @return the {@link SolutionCache}
+	 */
+	public static SolutionCache getCache(Coefficients coefficients) {
+		return CACHES.computeIfAbsent(coefficients, c -> new SolutionCache(SolutionCache.DEFAULT_SIZE));
 	}
 
 }
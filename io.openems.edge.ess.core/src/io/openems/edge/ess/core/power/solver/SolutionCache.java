@@ -0,0 +1,168 @@
+package io.openems.edge.ess.core.power.solver;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.apache.commons.math3.optim.PointValuePair;
+import org.apache.commons.math3.optim.linear.NoFeasibleSolutionException;
+import org.apache.commons.math3.optim.linear.UnboundedSolutionException;
+
+import io.openems.edge.ess.power.api.Coefficients;
+import io.openems.edge.ess.power.api.Constraint;
+
+/**
+ * Remembers the results of recently solved linear problems.
+ *
+ * <p>
+ * The same problems are solved again and again: within one Cycle by the
+ * different strategies and optimizers, and across Cycles as long as the
+ * constraints do not change. A problem is identified by its dense constraint
+ * matrix, relationships and values, i.e. exactly the input of the
+ * {@link LinearConstraintsSolver}. Because the simplex solver is
+ * deterministic, a cached result is identical to a freshly solved one.
+ */
+public class SolutionCache {
+
+	public static final int DEFAULT_SIZE = 512;
+
+	/**
+	 * A linear problem in a flat array: per constraint the coefficients, the
+	 * relationship ordinal and the value.
+	 */
+	protected static final class Problem {
+
+		private final double[] matrix;
+		private final int hashCode;
+
+		private Problem(double[] matrix) {
+			this.matrix = matrix;
+			this.hashCode = Arrays.hashCode(matrix);
+		}
+
+		/**
+		 * Builds the {@link Problem} for the given Constraints. Follows the same rules
+		 * as {@code LinearSolverUtil#convertToLinearConstraints()}.
+		 *
+		 * @param coefficients the {@link Coefficients}
+		 * @param constraints  a list of Constraints
+		 * @return the {@link Problem}
+		 */
+		protected static Problem from(Coefficients coefficients, List<Constraint> constraints) {
+			final var noOfCoefficients = coefficients.getNoOfCoefficients();
+			final var rowLength = noOfCoefficients + 2;
+			var noOfRows = 0;
+			for (var c : constraints) {
+				if (c.getValue().isPresent()) {
+					noOfRows++;
+				}
+			}
+			var matrix = new double[1 + noOfRows * rowLength];
+			matrix[0] = noOfCoefficients;
+			var offset = 1;
+			for (var c : constraints) {
+				var value = c.getValue();
+				if (value.isEmpty()) {
+					continue;
+				}
+				for (var co : c.getCoefficients()) {
+					matrix[offset + co.getCoefficient().getIndex()] = co.getValue();
+				}
+				matrix[offset + noOfCoefficients] = c.getRelationship().ordinal();
+				matrix[offset + noOfCoefficients + 1] = value.get();
+				offset += rowLength;
+			}
+			return new Problem(matrix);
+		}
+
+		@Override
+		public int hashCode() {
+			return this.hashCode;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof Problem)) {
+				return false;
+			}
+			var other = (Problem) obj;
+			return this.hashCode == other.hashCode && Arrays.equals(this.matrix, other.matrix);
+		}
+	}
+
+	private static enum Failure {
+		NO_FEASIBLE_SOLUTION, UNBOUNDED_SOLUTION;
+	}
+
+	private final Map<Problem, Object> results;
+
+	private long hits = 0;
+	private long misses = 0;
+
+	public SolutionCache(int size) {
+		this.results = new LinkedHashMap<>(16, 0.75F, true /* access-order */) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Problem, Object> eldest) {
+				return this.size() > size;
+			}
+		};
+	}
+
+	/**
+	 * Gets the cached result of the {@link Problem} or solves it.
+	 *
+	 * @param problem the {@link Problem}
+	 * @param solver  solves the problem on a cache miss
+	 * @return the solution
+	 * @throws NoFeasibleSolutionException if not solvable
+	 * @throws UnboundedSolutionException  if not solvable
+	 */
+	protected synchronized PointValuePair get(Problem problem, Supplier<PointValuePair> solver)
+			throws NoFeasibleSolutionException, UnboundedSolutionException {
+		var result = this.results.get(problem);
+		if (result != null) {
+			this.hits++;
+		} else {
+			this.misses++;
+			try {
+				result = solver.get();
+			} catch (NoFeasibleSolutionException e) {
+				result = Failure.NO_FEASIBLE_SOLUTION;
+			} catch (UnboundedSolutionException e) {
+				result = Failure.UNBOUNDED_SOLUTION;
+			}
+			this.results.put(problem, result);
+		}
+
+		if (result == Failure.NO_FEASIBLE_SOLUTION) {
+			throw new NoFeasibleSolutionException();
+		}
+		if (result == Failure.UNBOUNDED_SOLUTION) {
+			throw new UnboundedSolutionException();
+		}
+		return (PointValuePair) result;
+	}
+
+	/**
+	 * Removes all cached results.
+	 */
+	public synchronized void clear() {
+		this.results.clear();
+	}
+
+	public synchronized long getHits() {
+		return this.hits;
+	}
+
+	public synchronized long getMisses() {
+		return this.misses;
+	}
+
+}
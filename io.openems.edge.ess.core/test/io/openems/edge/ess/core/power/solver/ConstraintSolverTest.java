@@ -0,0 +1,141 @@
+package io.openems.edge.ess.core.power.solver;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import org.apache.commons.math3.optim.linear.NoFeasibleSolutionException;
+import org.junit.Test;
+
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.edge.ess.core.power.data.LinearSolverUtil;
+import io.openems.edge.ess.power.api.Coefficients;
+import io.openems.edge.ess.power.api.Constraint;
+import io.openems.edge.ess.power.api.LinearCoefficient;
+import io.openems.edge.ess.power.api.Phase;
+import io.openems.edge.ess.power.api.Pwr;
+import io.openems.edge.ess.power.api.Relationship;
+
+public class ConstraintSolverTest {
+
+	private static Coefficients createCoefficients(int noOfEss) {
+		var essIds = new LinkedHashSet<String>();
+		for (var i = 0; i < noOfEss; i++) {
+			essIds.add("ess" + i);
+		}
+		var coefficients = new Coefficients();
+		coefficients.initialize(true, essIds);
+		return coefficients;
+	}
+
+	/**
+	 * Creates the typical constraints of a cluster: allowed charge/discharge power
+	 * per ESS and a setpoint for the sum of all ESS.
+	 *
+	 * @param coefficients the {@link Coefficients}
+	 * @param noOfEss      the number of ESS
+	 * @param setpoint     the active power setpoint for the cluster
+	 * @return a list of Constraints
+	 * @throws OpenemsException on error
+	 */
+	private static List<Constraint> createConstraints(Coefficients coefficients, int noOfEss, int setpoint)
+			throws OpenemsException {
+		var result = new ArrayList<Constraint>();
+		var sum = new ArrayList<LinearCoefficient>();
+		for (var i = 0; i < noOfEss; i++) {
+			var essId = "ess" + i;
+			var p = coefficients.of(essId, Phase.ALL, Pwr.ACTIVE);
+			var q = coefficients.of(essId, Phase.ALL, Pwr.REACTIVE);
+			result.add(new Constraint(essId + ": Allowed Charge", //
+					new LinearCoefficient[] { new LinearCoefficient(p, 1) }, Relationship.GREATER_OR_EQUALS,
+					-10_000 - i * 1_000));
+			result.add(new Constraint(essId + ": Allowed Discharge", //
+					new LinearCoefficient[] { new LinearCoefficient(p, 1) }, Relationship.LESS_OR_EQUALS,
+					10_000 + i * 1_000));
+			result.add(new Constraint(essId + ": Reactive", //
+					new LinearCoefficient[] { new LinearCoefficient(q, 1) }, Relationship.EQUALS, 0));
+			sum.add(new LinearCoefficient(p, 1));
+		}
+		result.add(new Constraint("Setpoint", sum, Relationship.EQUALS, setpoint));
+		return result;
+	}
+
+	@Test
+	public void testSameAsLinearConstraintsSolver() throws Exception {
+		var coefficients = createCoefficients(4);
+		for (var setpoint : new int[] { -30_000, 0, 12_345, 40_000 }) {
+			var constraints = createConstraints(coefficients, 4, setpoint);
+			var expected = LinearConstraintsSolver
+					.solve(coefficients, LinearSolverUtil.convertToLinearConstraints(coefficients, constraints))
+					.getPoint();
+			// Solved
+			assertArrayEquals(expected, ConstraintSolver.solve(coefficients, constraints).getPoint(), 0.);
+			// Cached
+			assertArrayEquals(expected, ConstraintSolver.solve(coefficients, constraints).getPoint(), 0.);
+		}
+	}
+
+	@Test
+	public void testCache() throws Exception {
+		var sut = new SolutionCache(2);
+		var coefficients = createCoefficients(2);
+		var constraints = createConstraints(coefficients, 2, 1_000);
+		var solver = new int[1];
+		var problem = SolutionCache.Problem.from(coefficients, constraints);
+
+		sut.get(problem, () -> {
+			solver[0]++;
+			return LinearConstraintsSolver.solve(coefficients,
+					LinearSolverUtil.convertToLinearConstraints(coefficients, constraints));
+		});
+		sut.get(SolutionCache.Problem.from(coefficients, constraints), () -> {
+			solver[0]++;
+			return null;
+		});
+		assertEquals(1, solver[0]);
+		assertEquals(1, sut.getHits());
+		assertEquals(1, sut.getMisses());
+
+		// Changed value -> different problem
+		constraints.get(0).setValue(-500);
+		assertEquals(false, problem.equals(SolutionCache.Problem.from(coefficients, constraints)));
+	}
+
+	@Test
+	public void testCachePerCoefficients() throws Exception {
+		var coefficients0 = createCoefficients(2);
+		var coefficients1 = createCoefficients(2);
+		var cache0 = ConstraintSolver.getCache(coefficients0);
+		var cache1 = ConstraintSolver.getCache(coefficients1);
+		assertNotSame(cache0, cache1);
+		assertSame(cache0, ConstraintSolver.getCache(coefficients0));
+
+		ConstraintSolver.solve(coefficients0, createConstraints(coefficients0, 2, 1_000));
+		ConstraintSolver.solve(coefficients1, createConstraints(coefficients1, 2, 1_000));
+		ConstraintSolver.solve(coefficients1, createConstraints(coefficients1, 2, 1_000));
+		assertEquals(1, cache0.getMisses());
+		assertEquals(0, cache0.getHits());
+		assertEquals(1, cache1.getMisses());
+		assertEquals(1, cache1.getHits());
+	}
+
+	@Test
+	public void testInfeasible() throws Exception {
+		var coefficients = createCoefficients(2);
+		var constraints = createConstraints(coefficients, 2, 1_000_000);
+		for (var i = 0; i < 2; i++) {
+			try {
+				ConstraintSolver.solve(coefficients, constraints);
+			} catch (NoFeasibleSolutionException e) {
+				continue;
+			}
+			throw new AssertionError("Expected NoFeasibleSolutionException");
+		}
+	}
+
+}
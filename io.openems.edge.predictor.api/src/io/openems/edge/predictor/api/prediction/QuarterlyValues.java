@@ -0,0 +1,199 @@
+package io.openems.edge.predictor.api.prediction;
+
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.SortedMap;
+
+import com.google.gson.JsonElement;
+
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.common.types.ChannelAddress;
+
+/**
+ * Holds the quarterly (15 minutes) historic values of one Channel in a ring
+ * buffer of primitive ints.
+ *
+ * <p>
+ * The slot of a quarter is derived from its epoch time, so with a capacity of
+ * a multiple of one week every slot always holds the same quarter of the same
+ * weekday. The buffer is filled once from Timedata and afterwards only the
+ * quarters since the last update are queried, plus recent quarters that are
+ * still without value.
+ */
+public class QuarterlyValues {
+
+	/** Marks a quarter without value. */
+	public static final int NO_VALUE = Integer.MIN_VALUE;
+
+	public static final int QUARTERS_PER_DAY = 24 * 4;
+	public static final int QUARTERS_PER_WEEK = 7 * QUARTERS_PER_DAY;
+
+	/**
+	 * The last stored quarter is queried again on every update, in case it was not
+	 * yet complete in Timedata.
+	 */
+	private static final int REFRESH_QUARTERS = 1;
+
+	/**
+	 * Quarters without value within this many quarters before the last update are
+	 * queried again, because Timedata might write them late, e.g. rrd4j with a
+	 * 'Write Window'.
+	 */
+	private static final int MISSING_REFRESH_QUARTERS = QUARTERS_PER_DAY;
+
+	private static final long QUARTER_SECONDS = 15 * 60;
+
+	@FunctionalInterface
+	public interface Query {
+
+		/**
+		 * Queries historic data in 15 minutes resolution.
+		 *
+		 * @param fromDate the From-Date
+		 * @param toDate   the To-Date (exclusive)
+		 * @return the query result
+		 * @throws OpenemsNamedException on error
+		 */
+		public SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> apply(ZonedDateTime fromDate,
+				ZonedDateTime toDate) throws OpenemsNamedException;
+	}
+
+	private final ChannelAddress channelAddress;
+	private final int[] values;
+
+	/** Index of the first quarter that is not stored yet; exclusive end. */
+	private long endQuarter = Long.MIN_VALUE;
+
+	public QuarterlyValues(ChannelAddress channelAddress, int capacity) {
+		if (capacity < 1) {
+			throw new IllegalArgumentException("Capacity must be at least 1");
+		}
+		this.channelAddress = channelAddress;
+		this.values = new int[capacity];
+		Arrays.fill(this.values, NO_VALUE);
+	}
+
+	/**
+	 * Brings the values up to the quarter of `now`.
+	 *
+	 * @param now   the current time; the current quarter is not yet stored
+	 * @param query the {@link Query} for historic data
+	 * @throws OpenemsNamedException on error
+	 */
+	public synchronized void update(ZonedDateTime now, Query query) throws OpenemsNamedException {
+		final var toQuarter = toQuarter(now);
+		final var capacity = this.values.length;
+		if (toQuarter <= this.endQuarter) {
+			// Still the same quarter
+			return;
+		}
+		final long fromQuarter;
+		if (this.endQuarter == Long.MIN_VALUE || toQuarter - this.endQuarter >= capacity) {
+			// Initial or too old: fill all slots
+			fromQuarter = toQuarter - capacity;
+		} else {
+			fromQuarter = Math.max(toQuarter - capacity, this.getRefreshQuarter());
+		}
+
+		var result = query.apply(toDateTime(fromQuarter, now), toDateTime(toQuarter, now));
+		if (result == null) {
+			throw new OpenemsException("Query result is null");
+		}
+
+		for (var quarter = fromQuarter; quarter < toQuarter; quarter++) {
+			this.values[this.slot(quarter)] = NO_VALUE;
+		}
+		for (var entry : result.entrySet()) {
+			var quarter = toQuarter(entry.getKey());
+			if (quarter < fromQuarter || quarter >= toQuarter) {
+				continue;
+			}
+			var value = entry.getValue().get(this.channelAddress);
+			this.values[this.slot(quarter)] = value == null || value.isJsonNull() ? NO_VALUE : value.getAsInt();
+		}
+		this.endQuarter = toQuarter;
+	}
+
+	/**
+	 * Gets the first stored quarter that is queried again: the oldest recent
+	 * quarter without value or the last stored quarter.
+	 *
+	 * @return the quarter
+	 */
+	private long getRefreshQuarter() {
+		final var result = this.endQuarter - REFRESH_QUARTERS;
+		final var from = this.endQuarter - Math.min(MISSING_REFRESH_QUARTERS, this.values.length);
+		for (var quarter = from; quarter < result; quarter++) {
+			if (this.values[this.slot(quarter)] == NO_VALUE) {
+				return quarter;
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Gets the value of the quarter of the given time.
+	 *
+	 * @param time the time
+	 * @return the value or {@link #NO_VALUE}
+	 */
+	public synchronized int get(ZonedDateTime time) {
+		return this.get(toQuarter(time));
+	}
+
+	/**
+	 * Gets the value of the quarter that is `offset` quarters after the quarter of
+	 * the given time, e.g. `-QUARTERS_PER_WEEK` for the same quarter one week
+	 * before.
+	 *
+	 * @param time   the reference time
+	 * @param offset the offset in quarters; negative for the past
+	 * @return the value or {@link #NO_VALUE}
+	 */
+	public synchronized int get(ZonedDateTime time, int offset) {
+		return this.get(toQuarter(time) + offset);
+	}
+
+	private int get(long quarter) {
+		if (quarter >= this.endQuarter || quarter < this.endQuarter - this.values.length) {
+			return NO_VALUE;
+		}
+		return this.values[this.slot(quarter)];
+	}
+
+	/**
+	 * Gets the values of consecutive quarters.
+	 *
+	 * @param from     the time of the first quarter
+	 * @param quarters the number of quarters
+	 * @return the values; null for {@link #NO_VALUE}
+	 */
+	public synchronized Integer[] toArray(ZonedDateTime from, int quarters) {
+		final var fromQuarter = toQuarter(from);
+		var result = new Integer[quarters];
+		for (var i = 0; i < quarters; i++) {
+			var value = this.get(fromQuarter + i);
+			result[i] = value == NO_VALUE ? null : value;
+		}
+		return result;
+	}
+
+	public int getCapacity() {
+		return this.values.length;
+	}
+
+	private int slot(long quarter) {
+		return (int) Math.floorMod(quarter, (long) this.values.length);
+	}
+
+	private static long toQuarter(ZonedDateTime time) {
+		return Math.floorDiv(time.toEpochSecond(), QUARTER_SECONDS);
+	}
+
+	private static ZonedDateTime toDateTime(long quarter, ZonedDateTime zone) {
+		return Instant.ofEpochSecond(quarter * QUARTER_SECONDS).atZone(zone.getZone());
+	}
+
+}
@@ -0,0 +1,120 @@
+package io.openems.edge.predictor.api.prediction;
+
+import static io.openems.edge.predictor.api.prediction.QuarterlyValues.NO_VALUE;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import org.junit.Test;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonPrimitive;
+
+import io.openems.common.types.ChannelAddress;
+
+public class QuarterlyValuesTest {
+
+	private static final ChannelAddress CHANNEL = new ChannelAddress("meter0", "ActivePower");
+	private static final ZonedDateTime START = ZonedDateTime.of(2020, 1, 1, 0, 0, 0, 0, ZoneId.of("UTC"));
+
+	/**
+	 * Simulates Timedata: the value of a quarter is its index since
+	 * {@link #START}; every fifth quarter has no value.
+	 */
+	private static class Timedata implements QuarterlyValues.Query {
+
+		private final List<ZonedDateTime[]> queries = new ArrayList<>();
+
+		@Override
+		public SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> apply(ZonedDateTime fromDate,
+				ZonedDateTime toDate) {
+			this.queries.add(new ZonedDateTime[] { fromDate, toDate });
+			var result = new TreeMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>>();
+			for (var time = fromDate; time.isBefore(toDate); time = time.plusMinutes(15)) {
+				var index = (int) (time.toEpochSecond() - START.toEpochSecond()) / 900;
+				var values = new TreeMap<ChannelAddress, JsonElement>();
+				values.put(CHANNEL, index % 5 == 0 ? JsonNull.INSTANCE : new JsonPrimitive(index));
+				result.put(time, values);
+			}
+			return result;
+		}
+	}
+
+	@Test
+	public void test() throws Exception {
+		var timedata = new Timedata();
+		var sut = new QuarterlyValues(CHANNEL, 8);
+
+		// Initial: query full capacity
+		var now = START.plusMinutes(10 * 15 + 7);
+		sut.update(now, timedata);
+		assertEquals(1, timedata.queries.size());
+		assertEquals(START.plusMinutes(2 * 15), timedata.queries.get(0)[0]);
+		assertEquals(START.plusMinutes(10 * 15), timedata.queries.get(0)[1]);
+
+		assertEquals(NO_VALUE, sut.get(START.plusMinutes(1 * 15))); // too old
+		assertEquals(2, sut.get(START.plusMinutes(2 * 15)));
+		assertEquals(NO_VALUE, sut.get(START.plusMinutes(5 * 15))); // null
+		assertEquals(9, sut.get(START.plusMinutes(9 * 15)));
+		assertEquals(NO_VALUE, sut.get(START.plusMinutes(10 * 15))); // current quarter
+		assertEquals(9, sut.get(now, -1));
+
+		// Same quarter: no query
+		sut.update(now.plusMinutes(5), timedata);
+		assertEquals(1, timedata.queries.size());
+
+		// Next quarters: query new quarters and stored quarters from the oldest one
+		// without value
+		now = now.plusMinutes(2 * 15);
+		sut.update(now, timedata);
+		assertEquals(2, timedata.queries.size());
+		assertEquals(START.plusMinutes(5 * 15), timedata.queries.get(1)[0]);
+		assertEquals(START.plusMinutes(12 * 15), timedata.queries.get(1)[1]);
+
+		assertArrayEquals(new Integer[] { 4, null, 6, 7, 8, 9, null, 11, null }, //
+				sut.toArray(START.plusMinutes(4 * 15), 9));
+
+		// Long gap: query full capacity again
+		now = now.plusDays(1);
+		sut.update(now, timedata);
+		assertEquals(3, timedata.queries.size());
+		assertEquals(now.minusMinutes(7 + 8 * 15), timedata.queries.get(2)[0]);
+	}
+
+	@Test
+	public void testLateWrite() throws Exception {
+		// Timedata writes values with a delay of two hours
+		var writtenUntil = new ZonedDateTime[] { START };
+		var timedata = new Timedata() {
+			@Override
+			public SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> apply(ZonedDateTime fromDate,
+					ZonedDateTime toDate) {
+				var result = super.apply(fromDate, toDate);
+				result.tailMap(writtenUntil[0]).clear();
+				return result;
+			}
+		};
+		var sut = new QuarterlyValues(CHANNEL, QuarterlyValues.QUARTERS_PER_WEEK);
+
+		var now = START.plusHours(4);
+		writtenUntil[0] = now.minusHours(2);
+		sut.update(now, timedata);
+		assertEquals(7, sut.get(START.plusMinutes(7 * 15)));
+		assertEquals(NO_VALUE, sut.get(START.plusMinutes(9 * 15)));
+
+		// Quarters that were missing are queried again
+		now = now.plusMinutes(15);
+		writtenUntil[0] = now;
+		sut.update(now, timedata);
+		assertEquals(9, sut.get(START.plusMinutes(9 * 15)));
+		assertEquals(16, sut.get(now, -1));
+	}
+
+}
@@ -1,13 +1,15 @@
 package io.openems.edge.predictor.persistencemodel;
 
+import static io.openems.common.utils.DateUtils.roundDownToQuarter;
 import static io.openems.edge.predictor.api.prediction.Prediction.EMPTY_PREDICTION;
 
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
-import java.util.Collection;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-import java.util.SortedMap;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.IntStream;
 
@@ -26,7 +28,6 @@ import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
 import com.google.common.collect.Streams;
 import com.google.common.util.concurrent.AtomicDouble;
-import com.google.gson.JsonElement;
 
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.timedata.Resolution;
@@ -39,6 +40,7 @@ import io.openems.edge.controller.api.Controller;
 import io.openems.edge.predictor.api.prediction.AbstractPredictor;
 import io.openems.edge.predictor.api.prediction.Prediction;
 import io.openems.edge.predictor.api.prediction.Predictor;
+import io.openems.edge.predictor.api.prediction.QuarterlyValues;
 import io.openems.edge.timedata.api.Timedata;
 
 @Designate(ocd = Config.class, factory = true)
@@ -59,9 +61,13 @@ public class PredictorPersistenceModelImpl extends AbstractPredictor implements
 	private static final int SMOOTH_APPLY_QUARTERS = 3 /* hours */ * 4 /* quarters */;
 
 	private static final int EXTRA_QUERY_QUARTERS = Math.max(SMOOTH_QUERY_QUARTERS, REGRESSION_QUERY_QUARTERS);
+	/** Use that many quarters of historic data in total. */
+	private static final int QUERY_QUARTERS = QuarterlyValues.QUARTERS_PER_DAY + EXTRA_QUERY_QUARTERS;
 
 	private final Logger log = LoggerFactory.getLogger(PredictorPersistenceModelImpl.class);
 
+	private final Map<ChannelAddress, QuarterlyValues> quarterlyValues = new HashMap<>();
+
 	@Reference
 	private Sum sum;
 
@@ -81,6 +87,7 @@ public class PredictorPersistenceModelImpl extends AbstractPredictor implements
 
 	@Activate
 	private void activate(ComponentContext context, Config config) throws OpenemsNamedException {
+		this.quarterlyValues.clear();
 		super.activate(context, config.id(), config.alias(), config.enabled(), config.channelAddresses(),
 				config.logVerbosity());
 	}
@@ -93,36 +100,23 @@ public class PredictorPersistenceModelImpl extends AbstractPredictor implements
 
 	@Override
 	protected Prediction createNewPrediction(ChannelAddress channelAddress) {
-		var now = ZonedDateTime.now(this.componentManager.getClock());
+		var now = roundDownToQuarter(ZonedDateTime.now(this.componentManager.getClock()));
 		var fromDate = now.minus(24 * 60 + EXTRA_QUERY_QUARTERS * 15, ChronoUnit.MINUTES);
 
-		// Query database
-		final SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> queryResult;
+		// Fetch the quarters since the last prediction; the full day only once
+		var values = this.quarterlyValues.computeIfAbsent(channelAddress,
+				c -> new QuarterlyValues(c, QUERY_QUARTERS));
 		try {
-			queryResult = this.timedata.queryHistoricData(null, fromDate, now, Sets.newHashSet(channelAddress),
-					new Resolution(15, ChronoUnit.MINUTES));
+			values.update(now, (from, to) -> this.timedata.queryHistoricData(null, from, to,
+					Sets.newHashSet(channelAddress), new Resolution(15, ChronoUnit.MINUTES)));
 		} catch (OpenemsNamedException e) {
 			this.logError(this.log, "Historic data is not available: " + e.getMessage());
 			e.printStackTrace();
 			return EMPTY_PREDICTION;
 		}
-		if (queryResult == null) {
-			this.logError(this.log, "Historic data is not available: query result is null");
-			return EMPTY_PREDICTION;
-		}
 		// Extract data
-		var data = queryResult.values().stream() //
-				.map(SortedMap::values) //
-				// extract JsonElement values as flat stream
-				.flatMap(Collection::stream) //
-				// convert JsonElement to Integer
-				.map(v -> {
-					if (v.isJsonNull()) {
-						return (Integer) null;
-					}
-					return v.getAsInt();
-				}).toList();
-		if (data.isEmpty()) {
+		var data = Arrays.asList(values.toArray(fromDate, QUERY_QUARTERS));
+		if (data.stream().allMatch(Objects::isNull)) {
 			this.logError(this.log, "Historic data is not available: query result is empty");
 			return EMPTY_PREDICTION;
 		}
@@ -2,13 +2,13 @@ package io.openems.edge.predictor.similardaymodel;
 
 import static io.openems.common.utils.DateUtils.roundDownToQuarter;
 import static io.openems.edge.predictor.api.prediction.Prediction.EMPTY_PREDICTION;
+import static io.openems.edge.predictor.api.prediction.QuarterlyValues.QUARTERS_PER_DAY;
+import static io.openems.edge.predictor.api.prediction.QuarterlyValues.QUARTERS_PER_WEEK;
 
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.List;
-import java.util.SortedMap;
+import java.util.HashMap;
+import java.util.Map;
 
 import org.osgi.service.component.ComponentContext;
 import org.osgi.service.component.annotations.Activate;
@@ -21,7 +21,6 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.google.common.collect.Sets;
-import com.google.gson.JsonElement;
 
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.timedata.Resolution;
@@ -34,6 +33,7 @@ import io.openems.edge.controller.api.Controller;
 import io.openems.edge.predictor.api.prediction.AbstractPredictor;
 import io.openems.edge.predictor.api.prediction.Prediction;
 import io.openems.edge.predictor.api.prediction.Predictor;
+import io.openems.edge.predictor.api.prediction.QuarterlyValues;
 import io.openems.edge.timedata.api.Timedata;
 
 @Designate(ocd = Config.class, factory = true)
@@ -55,6 +55,8 @@ public class PredictorSimilardayModelImpl extends AbstractPredictor implements P
 	public static final int PREDCTION_FOR_SIX_DAY = 5;
 	public static final int PREDCTION_FOR_SEVEN_DAY = 6;
 
+	private final Map<ChannelAddress, QuarterlyValues> quarterlyValues = new HashMap<>();
+
 	@Reference
 	private Sum sum;
 
@@ -77,6 +79,7 @@ public class PredictorSimilardayModelImpl extends AbstractPredictor implements P
 	@Activate
 	private void activate(ComponentContext context, Config config) throws OpenemsNamedException {
 		this.config = config;
+		this.quarterlyValues.clear();
 		super.activate(context, this.config.id(), this.config.alias(), this.config.enabled(),
 				this.config.channelAddresses(), config.logVerbosity());
 	}
@@ -95,132 +98,39 @@ public class PredictorSimilardayModelImpl extends AbstractPredictor implements P
 	@Override
 	protected Prediction createNewPrediction(ChannelAddress channelAddress) {
 		var now = roundDownToQuarter(ZonedDateTime.now(this.componentManager.getClock()));
-		// From now time to Last 4 weeks
-		var fromDate = now.minus(this.config.numOfWeeks(), ChronoUnit.WEEKS);
-
-		final SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> queryResult;
+		var numOfWeeks = this.config.numOfWeeks();
 
-		// Query database
+		// Fetch the quarters since the last prediction; the full weeks only once
+		var values = this.quarterlyValues.computeIfAbsent(channelAddress,
+				c -> new QuarterlyValues(c, numOfWeeks * QUARTERS_PER_WEEK));
 		try {
-			queryResult = this.timedata.queryHistoricData(null, fromDate, now, Sets.newHashSet(channelAddress),
-					new Resolution(15, ChronoUnit.MINUTES));
+			values.update(now, (fromDate, toDate) -> this.timedata.queryHistoricData(null, fromDate, toDate,
+					Sets.newHashSet(channelAddress), new Resolution(15, ChronoUnit.MINUTES)));
 		} catch (OpenemsNamedException e) {
 			this.logError(this.log, e.getMessage());
 			e.printStackTrace();
 			return EMPTY_PREDICTION;
 		}
 
-		// Extract data
-		List<Integer> result = queryResult.values().stream() //
-				.map(SortedMap::values) //
-				// extract JsonElement values as flat stream
-				.flatMap(Collection::stream) //
-				// convert JsonElement to Integer
-				.map(v -> {
-					if (v.isJsonNull()) {
-						return (Integer) null;
-					}
-					return v.getAsInt();
-				})
-				// get as Array
-				.toList();
-
-		// Num of Data per day
-		// TODO change this variable based on the resolution which is 900 in query
-		var numOfDataPerDay = 96;
-
-		var mainData = getSlicedArrayList(result, numOfDataPerDay);
-
-		// Getting the indexes of the last four similar days
-		var lastFourSimilarDays = getCorrectIndexes(mainData, NUM_OF_DAYS_OF_WEEK, PREDCTION_FOR_ONE_DAY);
-
-		// Getting the average predictions
-		var nextOneDayPredictions = getAverage(lastFourSimilarDays);
-
-		return Prediction.from(Prediction.getValueRange(this.sum, channelAddress), now,
-				nextOneDayPredictions.stream().toArray(Integer[]::new));
-	}
-
-	/**
-	 * This methods takes a List of integers and returns a 2dimension List of
-	 * integers, specific to correct days.
-	 *
-	 * @param arrlist array list of all data.
-	 * @param n       number of data per day.
-	 * @return 2dimension array list
-	 */
-	private static List<List<Integer>> getSlicedArrayList(List<Integer> arrlist, int n) {
-		List<List<Integer>> twoDimensionalArrayList = new ArrayList<>();
-		for (var i = 0; i < arrlist.size(); i = i + n) {
-			twoDimensionalArrayList.add(arrlist.subList(i, i + n));
-		}
-		return twoDimensionalArrayList;
-
-	}
-
-	/**
-	 * This methods get the average of data based on the indexes.
-	 *
-	 * @param twoDimensionalArrayList The actual data.
-	 * @return Average values of the last four days.
-	 */
-	private static List<Integer> getAverage(List<List<Integer>> twoDimensionalArrayList) {
-		List<Integer> averageList = new ArrayList<>();
-		var rows = twoDimensionalArrayList.size();
-		var cols = twoDimensionalArrayList.get(0).size();
-		for (var i = 0; i < cols; i++) {
+		// Average of the same quarter of the same weekday in the last weeks
+		var nextOneDayPredictions = new Integer[QUARTERS_PER_DAY];
+		var hasValue = false;
+		for (var quarter = 0; quarter < QUARTERS_PER_DAY; quarter++) {
 			var sumRow = 0;
-			for (var j = 0; j < rows; j++) {
-				if (twoDimensionalArrayList.get(j).get(i) != null) {
-					sumRow += twoDimensionalArrayList.get(j).get(i);
+			for (var week = 1; week <= numOfWeeks; week++) {
+				var value = values.get(now, quarter - week * QUARTERS_PER_WEEK);
+				if (value != QuarterlyValues.NO_VALUE) {
+					sumRow += value;
+					hasValue = true;
 				}
 			}
-			averageList.add(sumRow / twoDimensionalArrayList.size());
-		}
-		return averageList;
-
-	}
-
-	/**
-	 * Data manipulation, to get the proper indexes.
-	 *
-	 * @param mainData      all data points.
-	 * @param numDaysOfWeek total number of days of week.
-	 * @param whichDay      current actual day.
-	 * @return proper indexed days.
-	 */
-	private static List<List<Integer>> getCorrectIndexes(List<List<Integer>> mainData, int numDaysOfWeek,
-			int whichDay) {
-		List<Integer> indexes = new ArrayList<>();
-		List<List<Integer>> days = new ArrayList<>();
-		for (var i = 0; i < mainData.size(); i++) {
-			if (isMember(whichDay, numDaysOfWeek, i)) {
-				indexes.add(i);
-			}
-		}
-
-		for (Integer i : indexes) {
-			days.add(mainData.get(i));
+			nextOneDayPredictions[quarter] = sumRow / numOfWeeks;
 		}
-
-		return days;
-
-	}
-
-	/**
-	 * Check if the day belongs to correct day.
-	 *
-	 * @param whichDay      current actual day.
-	 * @param numDaysOfWeek total number of days of week.
-	 * @param nthTerm       nthterm
-	 * @return boolean value to represent is value member of correct day
-	 */
-	private static boolean isMember(int whichDay, int numDaysOfWeek, int nthTerm) {
-		if (numDaysOfWeek == 0) {
-			return nthTerm == whichDay;
+		if (!hasValue) {
+			return EMPTY_PREDICTION;
 		}
-		return (nthTerm - whichDay) % numDaysOfWeek == 0 && (nthTerm - whichDay) / numDaysOfWeek >= 0;
 
+		return Prediction.from(Prediction.getValueRange(this.sum, channelAddress), now, nextOneDayPredictions);
 	}
 
 }
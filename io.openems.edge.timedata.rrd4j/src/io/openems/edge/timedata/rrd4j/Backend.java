@@ -0,0 +1,33 @@
+package io.openems.edge.timedata.rrd4j;
+
+import java.util.function.Supplier;
+
+import org.rrd4j.core.RrdBackendFactory;
+import org.rrd4j.core.RrdNioBackendFactory;
+import org.rrd4j.core.RrdRandomAccessFileBackendFactory;
+
+public enum Backend {
+	/**
+	 * Reads and writes RRD files via {@link java.io.RandomAccessFile}.
+	 */
+	FILE(RrdRandomAccessFileBackendFactory::new),
+	/**
+	 * Memory-maps RRD files; changes are synced to disk periodically.
+	 */
+	NIO(RrdNioBackendFactory::new);
+
+	private final Supplier<RrdBackendFactory> factory;
+
+	private Backend(Supplier<RrdBackendFactory> factory) {
+		this.factory = factory;
+	}
+
+	/**
+	 * Creates a new {@link RrdBackendFactory} for this {@link Backend}.
+	 *
+	 * @return the {@link RrdBackendFactory}
+	 */
+	public RrdBackendFactory createFactory() {
+		return this.factory.get();
+	}
+}
@@ -22,6 +22,15 @@ import io.openems.common.channel.PersistencePriority;
 	@AttributeDefinition(name = "Persistence Priority", description = "Store only Channels with a Persistence Priority above this. Be aware that too many writes can wear-out your flash storage.")
 	PersistencePriority persistencePriority() default PersistencePriority.HIGH;
 
+	@AttributeDefinition(name = "Write Window [s]", description = "Collects samples for this duration and writes them in one batch per RRD file. Larger values reduce writes to the flash storage. Buffered samples can not be queried before they are written. 0 writes every 5 minutes.")
+	int writeWindow() default 0;
+
+	@AttributeDefinition(name = "Backend", description = "FILE reads and writes RRD files directly; NIO memory-maps them. All RRD4J Timedata components must use the same Backend.")
+	Backend backend() default Backend.FILE;
+
+	@AttributeDefinition(name = "Open Database Cache Size", description = "Max number of RRD files that are kept open and shared by reads and writes. 0 disables the cache.")
+	int cacheSize() default 0;
+
 	@AttributeDefinition(name = "Read-Only mode", description = "Activates the read-only mode. Then no data is written to rrd4j.")
 	boolean isReadOnly() default false;
 
@@ -7,21 +7,21 @@ import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
-import java.util.Map.Entry;
-import java.util.Objects;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.OptionalDouble;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.function.Function;
-import java.util.function.ToDoubleFunction;
 
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Reference;
 import org.osgi.service.component.annotations.ServiceScope;
+import org.rrd4j.core.Sample;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -34,11 +34,9 @@ import io.openems.common.channel.PersistencePriority;
 import io.openems.common.channel.Unit;
 import io.openems.common.timedata.DurationUnit;
 import io.openems.common.types.ChannelAddress;
-import io.openems.common.types.OpenemsType;
 import io.openems.common.worker.AbstractImmediateWorker;
 import io.openems.edge.common.channel.Channel;
 import io.openems.edge.common.channel.EnumDoc;
-import io.openems.edge.common.channel.value.Value;
 import io.openems.edge.common.component.ComponentManager;
 
 @Component(//
@@ -52,18 +50,86 @@ public class RecordWorker extends AbstractImmediateWorker {
 			boolean readOnly, //
 			boolean debugMode, //
 			PersistencePriority persistencePriority, //
+			int writeWindowSeconds, //
 			Consumer<? super Boolean> onQueueFull, //
 			Consumer<? super Boolean> onUnableToInsert //
 	) {
 
 	}
 
-	private static record DataRecord(//
-			long timestamp, //
-			ChannelAddress address, //
-			Unit unit, //
-			double value //
-	) {
+	/**
+	 * Max number of buffered samples per Channel, i.e. one day of
+	 * {@link Rrd4jConstants#DEFAULT_HEARTBEAT_SECONDS}.
+	 */
+	protected static final int MAX_SAMPLES_PER_SERIES = 24 * 60 * 60 / Rrd4jConstants.DEFAULT_HEARTBEAT_SECONDS;
+
+	/**
+	 * Maximum time to wait for the worker thread to finish its current flush on
+	 * deactivate.
+	 */
+	private static final long TERMINATION_TIMEOUT_MILLIS = 10_000;
+
+	/**
+	 * Buffers the samples of one Channel, i.e. one RRD file. The arrays are reused
+	 * between flushes.
+	 */
+	protected static final class Series {
+
+		private final ChannelAddress address;
+		private Unit unit;
+		private long[] timestamps = new long[4];
+		private double[] values = new double[4];
+		private int size = 0;
+
+		protected Series(ChannelAddress address, Unit unit) {
+			this.address = address;
+			this.unit = unit;
+		}
+
+		/**
+		 * Adds a sample. A sample with the same timestamp as the last one overwrites
+		 * its value.
+		 *
+		 * @param unit      the current {@link Unit} of the Channel
+		 * @param timestamp the timestamp in [s]
+		 * @param value     the value
+		 * @return false if the buffer is full and the sample was dropped
+		 */
+		protected boolean add(Unit unit, long timestamp, double value) {
+			this.unit = unit;
+			if (this.size > 0 && this.timestamps[this.size - 1] == timestamp) {
+				this.values[this.size - 1] = value;
+				return true;
+			}
+			if (this.size == MAX_SAMPLES_PER_SERIES) {
+				return false;
+			}
+			if (this.size == this.timestamps.length) {
+				var length = Math.min(this.size * 2, MAX_SAMPLES_PER_SERIES);
+				this.timestamps = Arrays.copyOf(this.timestamps, length);
+				this.values = Arrays.copyOf(this.values, length);
+			}
+			this.timestamps[this.size] = timestamp;
+			this.values[this.size] = value;
+			this.size++;
+			return true;
+		}
+
+		protected int size() {
+			return this.size;
+		}
+
+		protected long getTimestamp(int index) {
+			return this.timestamps[index];
+		}
+
+		protected double getValue(int index) {
+			return this.values[index];
+		}
+
+		private void clear() {
+			this.size = 0;
+		}
 	}
 
 	private final Logger log = LoggerFactory.getLogger(RecordWorker.class);
@@ -80,8 +146,22 @@ public class RecordWorker extends AbstractImmediateWorker {
 		this.config = config;
 	}
 
-	// Record queue
-	private final BlockingQueue<DataRecord> records = new LinkedBlockingQueue<>();
+	private final Object lock = new Object();
+
+	// Samples that are currently collected; guarded by lock
+	private Map<ChannelAddress, Series> collecting = new HashMap<>();
+
+	// Samples that are currently written; only accessed by the worker thread
+	private Map<ChannelAddress, Series> writing = new HashMap<>();
+
+	// Is 'writing' not completely written yet?; only accessed by the worker thread
+	private boolean writingPending = false;
+
+	// Timestamp of the first collection since the last flush; guarded by lock
+	private long windowStart = Long.MIN_VALUE;
+
+	// Is a flush pending?; guarded by lock
+	private boolean flushRequested = false;
 
 	// keeps the last recorded timestamp
 	private Instant lastTimestamp = Instant.MIN;
@@ -94,12 +174,39 @@ public class RecordWorker extends AbstractImmediateWorker {
 	@Deactivate
 	public void deactivate() {
 		super.deactivate();
+
+		// Wait for the worker thread, so that RRD files are never written by two
+		// threads at once
+		try {
+			if (!this.awaitTermination(TERMINATION_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+				this.log.warn("RecordWorker did not terminate within " + TERMINATION_TIMEOUT_MILLIS
+						+ " ms. Remaining samples are not written.");
+				return;
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return;
+		}
+
+		// Write remaining samples
+		if (this.config != null) {
+			if (this.writingPending) {
+				// Flush was interrupted; already written samples are skipped
+				this.flush(this.writing);
+				this.writingPending = false;
+			}
+			synchronized (this.lock) {
+				this.flush(this.collecting);
+				this.collecting.clear();
+			}
+		}
 	}
 
 	/**
 	 * Collects the data from Channels. This is called synchronously by the main
-	 * OpenEMS cycle. On finish it triggers a next async task to write the data to
-	 * RRD4J.
+	 * OpenEMS cycle. Samples are buffered per Channel; once the configured write
+	 * window has passed, the next async task to write the data to RRD4J is
+	 * triggered.
 	 * 
 	 * <p>
 	 * Cumulated Channels are collected with a timestamp rounded to the current
@@ -135,131 +242,154 @@ public class RecordWorker extends AbstractImmediateWorker {
 
 		this.lastTimestamp = timestamp;
 
-		this.componentManager.getEnabledComponents().stream() //
-				.flatMap(component -> component.channels().stream()) //
-				.filter(channel -> {
+		synchronized (this.lock) {
+			var dropped = false;
+			for (var component : this.componentManager.getEnabledComponents()) {
+				for (var channel : component.channels()) {
 					final var doc = channel.channelDoc();
-					return Optional.of(this.config.persistencePriority) //
-							.map(p -> doc.getPersistencePriority().isAtLeast(p)
-									&& doc.getAccessMode() != AccessMode.WRITE_ONLY) //
-							.orElse(false);
-				}).map(channel -> {
-					final var channelMapFunction = getChannelMapFunction(channel.channelDoc().getType());
-					final var channelAggregateFunction = channel.channelDoc().getUnit().getChannelAggregateFunction();
-
-					final long writeSeconds;
-					if (channel.channelDoc().getUnit().isCumulated()) {
-						// Write every 1h
-						writeSeconds = timestamp.truncatedTo(ChronoUnit.HOURS).getEpochSecond();
-					} else {
-						writeSeconds = timestamp.getEpochSecond();
+					if (!doc.getPersistencePriority().isAtLeast(this.config.persistencePriority)
+							|| doc.getAccessMode() == AccessMode.WRITE_ONLY) {
+						continue;
 					}
-
-					// This is the highest timestamp before `startTime`. If existing it is used for
-					// the tailMap to make sure we get a Value even for Channels where the value has
-					// not changed within the last 5 minutes.
-					var channelStartTime = Optional.ofNullable(channel.getPastValues().floorKey(from)) //
-							.orElse(from);
-
-					var value = channelAggregateFunction.apply(//
-							channel.getPastValues() //
-									.tailMap(channelStartTime, true) //
-									.entrySet().stream() //
-									.filter(e -> e.getKey().isBefore(to)) //
-									.map(Entry::getValue) //
-									.map(Value::get) //
-									.filter(Objects::nonNull) //
-									.mapToDouble(channelMapFunction) // convert to double
-					);
-
-					if (channel.channelDoc() instanceof EnumDoc) {
-						final var enumChannelValue = aggregateEnumChannel(channel, channelStartTime, to);
-						if (!enumChannelValue.isJsonNull()) {
-							value = OptionalDouble.of(enumChannelValue.getAsDouble());
-						}
+					if (!this.collectChannel(channel, timestamp, from, to)) {
+						dropped = true;
 					}
+				}
+			}
+			this.config.onUnableToInsert.accept(dropped);
 
-					if (!value.isPresent()) {
-						// only available channels
-						return null;
-					}
+			if (this.windowStart == Long.MIN_VALUE) {
+				this.windowStart = timestamp.getEpochSecond();
+			}
+			if (timestamp.getEpochSecond() - this.windowStart >= this.config.writeWindowSeconds()) {
+				// Write window passed -> trigger flush
+				this.windowStart = Long.MIN_VALUE;
+				this.flushRequested = true;
+				this.lock.notifyAll();
+			}
+		}
+	}
 
-					return new DataRecord(//
-							writeSeconds, //
-							channel.address(), //
-							channel.channelDoc().getUnit(), //
-							value.getAsDouble() //
-					);
-				}) //
-				.filter(Objects::nonNull) //
-				.forEach(dataRecord -> {
-					this.config.onUnableToInsert.accept(!this.records.offer(dataRecord));
-				});
+	/**
+	 * Aggregates the values of a Channel and adds them to its {@link Series}.
+	 *
+	 * @param channel   the {@link Channel}
+	 * @param timestamp the timestamp of the data
+	 * @param from      the start of the aggregation period
+	 * @param to        the end of the aggregation period
+	 * @return false if the sample was dropped because the buffer is full
+	 */
+	private boolean collectChannel(Channel<?> channel, Instant timestamp, LocalDateTime from, LocalDateTime to) {
+		final var channelAggregateFunction = channel.channelDoc().getUnit().getChannelAggregateFunction();
+
+		final long writeSeconds;
+		if (channel.channelDoc().getUnit().isCumulated()) {
+			// Write every 1h
+			writeSeconds = timestamp.truncatedTo(ChronoUnit.HOURS).getEpochSecond();
+		} else {
+			writeSeconds = timestamp.getEpochSecond();
+		}
+
+		// This is the highest timestamp before `startTime`. If existing it is used for
+		// the tailMap to make sure we get a Value even for Channels where the value has
+		// not changed within the last 5 minutes.
+		var channelStartTime = Optional.ofNullable(channel.pastValues().floorTimestamp(from)) //
+				.orElse(from);
+
+		var value = channelAggregateFunction.apply(//
+				channel.pastValues().doubles(channelStartTime, to));
 
+		if (channel.channelDoc() instanceof EnumDoc) {
+			final var enumChannelValue = aggregateEnumChannel(channel, channelStartTime, to);
+			if (!enumChannelValue.isJsonNull()) {
+				value = OptionalDouble.of(enumChannelValue.getAsDouble());
+			}
+		}
+
+		if (!value.isPresent()) {
+			// only available channels
+			return true;
+		}
+
+		final var unit = channel.channelDoc().getUnit();
+		return this.collecting.computeIfAbsent(channel.address(), address -> new Series(address, unit)) //
+				.add(unit, writeSeconds, value.getAsDouble());
 	}
 
 	@Override
 	protected void forever() throws InterruptedException {
-		final var record = this.records.take();
+		synchronized (this.lock) {
+			while (!this.flushRequested) {
+				this.lock.wait();
+			}
+			this.flushRequested = false;
+
+			// Swap buffers; the arrays of the previous flush are reused
+			var series = this.writing;
+			this.writing = this.collecting;
+			this.collecting = series;
+			this.collecting.values().removeIf(s -> s.size() == 0); // Channel disappeared
+			this.collecting.values().forEach(Series::clear);
+		}
+
+		this.writingPending = true;
+		this.flush(this.writing);
+		this.writingPending = false;
+	}
 
+	/**
+	 * Writes all buffered samples. Every RRD file is opened once and all its
+	 * samples are written with one reused {@link Sample}.
+	 *
+	 * @param series the {@link Series} per {@link ChannelAddress}
+	 */
+	protected void flush(Map<ChannelAddress, Series> series) {
 		if (this.config.readOnly() && this.config.debugMode()) {
-			this.log.info("Read-Only-Mode is activated. Not writing record: " + record.toString());
+			this.log.info("Read-Only-Mode is activated. Not writing samples of " + series.size() + " Channels");
 			return;
 		}
 
-		try (var database = this.rrd4jSupplier.getRrdDb(this.config.rrdDbId, record.address, record.unit,
-				record.timestamp - 1)) {
-			if (database.getLastUpdateTime() == record.timestamp()) {
-				// overwrite last value if same time stamp
-				final var robin = database.getArchive(0).getRobin(0);
-				robin.setValue(robin.getSize() - 1, record.value());
-			} else if (database.getLastUpdateTime() < record.timestamp()) {
-				// Avoid and silently ignore error "IllegalArgumentException: Bad sample time:
-				// YYY. Last update time was ZZZ, at least one second step is required".
-
-				// Add Sample to RRD4J
-				database.createSample(record.timestamp()) //
-						.setValue(0, record.value) //
-						.update();
+		for (var s : series.values()) {
+			if (s.size() == 0) {
+				continue;
 			}
+			try (var handle = this.rrd4jSupplier.getRrdDb(this.config.rrdDbId, s.address, s.unit,
+					s.getTimestamp(0) - 1)) {
+				final var database = handle.get();
+				Sample sample = null;
+				for (var i = 0; i < s.size(); i++) {
+					final var timestamp = s.getTimestamp(i);
+					final var value = s.getValue(i);
+					if (database.getLastUpdateTime() == timestamp) {
+						// overwrite last value if same time stamp
+						final var robin = database.getArchive(0).getRobin(0);
+						robin.setValue(robin.getSize() - 1, value);
+					} else if (database.getLastUpdateTime() < timestamp) {
+						// Avoid and silently ignore error "IllegalArgumentException: Bad sample
+						// time: YYY. Last update time was ZZZ, at least one second step is
+						// required".
+
+						// Add Sample to RRD4J
+						if (sample == null) {
+							sample = database.createSample();
+						}
+						sample.setTime(timestamp) //
+								.setValue(0, value) //
+								.update();
+					}
+				}
 
-			this.config.onQueueFull.accept(false);
-		} catch (Throwable e) {
-			this.config.onQueueFull.accept(true);
-			if (this.config.debugMode()) {
-				this.log.error("Unable to insert Sample [%s] %s: %s".formatted(record.address,
-						e.getClass().getSimpleName(), e.getMessage()), e);
+				this.config.onQueueFull.accept(false);
+			} catch (Throwable e) {
+				this.config.onQueueFull.accept(true);
+				if (this.config.debugMode()) {
+					this.log.error("Unable to insert Samples [%s] %s: %s".formatted(s.address,
+							e.getClass().getSimpleName(), e.getMessage()), e);
+				}
 			}
 		}
 	}
 
-	private static final ToDoubleFunction<? super Object> MAP_BOOLEAN_TO_DOUBLE //
-			= value -> ((Boolean) value ? 1d : 0d);
-	private static final ToDoubleFunction<? super Object> MAP_SHORT_TO_DOUBLE //
-			= value -> ((Short) value).doubleValue();
-	private static final ToDoubleFunction<? super Object> MAP_INTEGER_TO_DOUBLE //
-			= value -> ((Integer) value).doubleValue();
-	private static final ToDoubleFunction<? super Object> MAP_LONG_TO_DOUBLE //
-			= value -> ((Long) value).doubleValue();
-	private static final ToDoubleFunction<? super Object> MAP_FLOAT_TO_DOUBLE //
-			= value -> ((Float) value).doubleValue();
-	private static final ToDoubleFunction<? super Object> MAP_DOUBLE_TO_DOUBLE //
-			= value -> ((Double) value);
-	private static final ToDoubleFunction<? super Object> MAP_TO_DOUBLE_NOT_SUPPORTED //
-			= value -> 0d;
-
-	private static ToDoubleFunction<? super Object> getChannelMapFunction(OpenemsType openemsType) {
-		return switch (openemsType) {
-		case BOOLEAN -> MAP_BOOLEAN_TO_DOUBLE;
-		case SHORT -> MAP_SHORT_TO_DOUBLE;
-		case INTEGER -> MAP_INTEGER_TO_DOUBLE;
-		case LONG -> MAP_LONG_TO_DOUBLE;
-		case FLOAT -> MAP_FLOAT_TO_DOUBLE;
-		case DOUBLE -> MAP_DOUBLE_TO_DOUBLE;
-		case STRING -> MAP_TO_DOUBLE_NOT_SUPPORTED; // Strings are not supported by RRD4J
-		};
-	}
-
 	protected static JsonElement aggregateEnumChannel(//
 			Channel<?> channel, //
 			LocalDateTime channelStartTime, //
@@ -269,13 +399,9 @@ public class RecordWorker extends AbstractImmediateWorker {
 		if (!(doc instanceof EnumDoc)) {
 			return JsonNull.INSTANCE;
 		}
-		final var numberOfValuesPerOption = channel.getPastValues() //
-				.tailMap(channelStartTime, true) //
-				.entrySet() //
-				.stream() //
-				.filter(e -> e.getKey().isBefore(endTime)) //
-				.filter(e -> e.getValue().isDefined()) //
-				.map(e -> (Integer) e.getValue().get()) //
+		final var pastValues = channel.pastValues();
+		final var numberOfValuesPerOption = pastValues.doubles(channelStartTime, endTime) //
+				.mapToObj(value -> (int) value) //
 				.collect(groupingBy(Function.identity(), counting()));
 
 		final var values = numberOfValuesPerOption.entrySet().stream() //
@@ -297,19 +423,10 @@ public class RecordWorker extends AbstractImmediateWorker {
 			maxValues.add(entry.getKey());
 		}
 
-		// pick first value with most appearances
-		for (var entry : channel.getPastValues().descendingMap().entrySet()) {
-			for (var optionValue : maxValues) {
-				if (!entry.getValue().isDefined()) {
-					continue;
-				}
-				final var entryValue = entry.getValue().get();
-				if (((Integer) entryValue).intValue() == optionValue) {
-					return new JsonPrimitive(optionValue);
-				}
-			}
-		}
-		return JsonNull.INSTANCE;
+		// pick latest value with most appearances
+		return pastValues.findLastDefined(value -> maxValues.contains(value)) //
+				.<JsonElement>map(value -> new JsonPrimitive((Integer) value)) //
+				.orElse(JsonNull.INSTANCE);
 	}
 
 }
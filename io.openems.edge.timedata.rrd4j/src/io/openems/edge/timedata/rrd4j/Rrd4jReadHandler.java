@@ -167,11 +167,12 @@ public class Rrd4jReadHandler {
 			// unable to get channel
 			throw new OpenemsException("RRD4j Database for " + notSendChannel + " is missing");
 		}
-		try (final var database = this.rrd4jSupplier.getExistingUpdatedRrdDb(//
+		try (final var handle = this.rrd4jSupplier.getExistingUpdatedRrdDb(//
 				rrdDbId, channel.address(), channel.channelDoc().getUnit())) {
-			if (database == null) {
+			if (handle == null) {
 				throw new OpenemsException("RRD4j Database for " + notSendChannel + " is missing");
 			}
+			final var database = handle.get();
 			return getTimerangesOfNotSendData(database, lastResendTimestamp);
 		} catch (IOException e) {
 			throw new OpenemsException("Unable to query database.", e);
@@ -212,15 +213,16 @@ public class Rrd4jReadHandler {
 				}
 				continue;
 			}
-			try (final var database = this.rrd4jSupplier.getExistingUpdatedRrdDb(//
+			try (final var handle = this.rrd4jSupplier.getExistingUpdatedRrdDb(//
 					rrdDbId, channel.address(), channel.channelDoc().getUnit())) {
-				if (database == null) {
+				if (handle == null) {
 					if (debugMode) {
 						this.log.warn("Unable to query RRD4j: " //
 								+ "RRD4j Database for " + channelAddress + " is missing");
 					}
 					continue;
 				}
+				final var database = handle.get();
 
 				for (int i = 0; i < database.getArcCount(); i++) {
 					final var archive = database.getArchive(i);
@@ -310,9 +312,9 @@ public class Rrd4jReadHandler {
 				}
 				final var chDef = Rrd4jSupplier.getDsDefForChannel(channel.channelDoc().getUnit());
 				final double[] result;
-				try (final var database = this.rrd4jSupplier.getExistingUpdatedRrdDb(rrdDbId, channel.address(),
+				try (final var handle = this.rrd4jSupplier.getExistingUpdatedRrdDb(rrdDbId, channel.address(),
 						channel.channelDoc().getUnit())) {
-					if (database == null) {
+					if (handle == null) {
 						if (debugMode) {
 							this.log.warn(
 									"Unable to query RRD4j" + "RRD4j Database for " + channelAddress + " is missing");
@@ -320,6 +322,7 @@ public class Rrd4jReadHandler {
 						errorCounter++;
 						continue;
 					}
+					final var database = handle.get();
 
 					final var fetchedData = database
 							.createFetchRequest(chDef.consolFun(), fromTimestamp, toTimeStamp, resolution.toSeconds())
@@ -402,15 +405,16 @@ public class Rrd4jReadHandler {
 						}
 						return JsonNull.INSTANCE;
 					}
-					try (final var database = this.rrd4jSupplier.getExistingUpdatedRrdDb(//
+					try (final var handle = this.rrd4jSupplier.getExistingUpdatedRrdDb(//
 							rrdDbId, channel.address(), channel.channelDoc().getUnit())) {
-						if (database == null) {
+						if (handle == null) {
 							if (debugMode) {
 								this.log.warn("Unable to query RRD4j: " //
 										+ "RRD4j Database for " + channelAddress + " is missing");
 							}
 							return JsonNull.INSTANCE;
 						}
+						final var database = handle.get();
 
 						var first = getFirstValueBefore(database, fromTimestamp);
 
@@ -543,11 +547,12 @@ public class Rrd4jReadHandler {
 				return Optional.empty();
 			}
 
-			try (var database = this.rrd4jSupplier.getExistingUpdatedRrdDb(rrdDbId, channelAddress,
+			try (var handle = this.rrd4jSupplier.getExistingUpdatedRrdDb(rrdDbId, channelAddress,
 					channel.channelDoc().getUnit())) {
-				if (database == null) {
+				if (handle == null) {
 					return Optional.empty();
 				}
+				final var database = handle.get();
 
 				// search for last value in robin
 				final var robin = database.getArchive(0).getRobin(0);
@@ -586,10 +591,11 @@ public class Rrd4jReadHandler {
 	) {
 		return CompletableFuture.supplyAsync(() -> {
 
-			try (var database = this.rrd4jSupplier.getExistingUpdatedRrdDb(rrdDbId, channelAddress, unit)) {
-				if (database == null) {
+			try (var handle = this.rrd4jSupplier.getExistingUpdatedRrdDb(rrdDbId, channelAddress, unit)) {
+				if (handle == null) {
 					return Optional.empty();
 				}
+				final var database = handle.get();
 
 				// search for last value in robin
 				final var robin = database.getArchive(0).getRobin(0);
@@ -8,12 +8,13 @@ import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
 import java.time.ZonedDateTime;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
 
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Reference;
 import org.osgi.service.component.annotations.ServiceScope;
 import org.rrd4j.ConsolFun;
@@ -22,13 +23,12 @@ import org.rrd4j.core.DsDef;
 import org.rrd4j.core.FetchData;
 import org.rrd4j.core.RrdBackendFactory;
 import org.rrd4j.core.RrdDb;
-import org.rrd4j.core.RrdRandomAccessFileBackendFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import io.openems.common.OpenemsConstants;
 import io.openems.common.channel.Unit;
-import io.openems.common.function.ThrowingSupplier;
+import io.openems.common.exceptions.OpenemsException;
 import io.openems.common.timedata.CommonTimedataService;
 import io.openems.common.types.ChannelAddress;
 import io.openems.edge.common.type.TypeUtils;
@@ -46,8 +46,15 @@ public class Rrd4jSupplier {
 	@Reference
 	private VersionHandler versionHandler;
 
-	private final KeyLock keyLock = new KeyLock();
-	private final RrdBackendFactory factory;
+	private final RrdDbCache cache = new RrdDbCache();
+	private volatile RrdBackendFactory factory;
+	private Backend backend;
+
+	/** Component-ID -> configuration; guarded by this. */
+	private final Map<String, Configuration> configurations = new HashMap<>();
+
+	private static record Configuration(Backend backend, int cacheSize) {
+	}
 
 	// channelAddress, rrdDbId => file path
 	private final BiFunction<ChannelAddress, String, String> fileValidator;
@@ -63,7 +70,7 @@ public class Rrd4jSupplier {
 	@Activate
 	public Rrd4jSupplier() {
 		this(//
-				new RrdRandomAccessFileBackendFactory(), //
+				Backend.FILE.createFactory(), //
 				(t, u) -> {
 					final var file = getDbFile(t, u);
 					if (!file.exists()) {
@@ -72,6 +79,74 @@ public class Rrd4jSupplier {
 					return file.toURI().toString();
 				} //
 		);
+		this.backend = Backend.FILE;
+	}
+
+	@Deactivate
+	private synchronized void deactivate() {
+		this.cache.closeAll();
+		this.closeFactory();
+	}
+
+	/**
+	 * Configures the backend and the number of {@link RrdDb}s that are kept open
+	 * for a Timedata component. All components share the same backend; the cache
+	 * holds the max of their cache sizes. Changing the backend closes all cached
+	 * {@link RrdDb}s and the previous {@link RrdBackendFactory}.
+	 *
+	 * @param componentId the Component-ID of the Timedata component
+	 * @param backend     the {@link Backend}
+	 * @param cacheSize   the max number of open {@link RrdDb}s; 0 to disable the
+	 *                    cache
+	 * @throws OpenemsException if another component uses a different
+	 *                          {@link Backend}
+	 */
+	public synchronized void configure(String componentId, Backend backend, int cacheSize)
+			throws OpenemsException {
+		for (var entry : this.configurations.entrySet()) {
+			if (!entry.getKey().equals(componentId) && entry.getValue().backend() != backend) {
+				throw new OpenemsException("Backend [" + backend + "] conflicts with Backend ["
+						+ entry.getValue().backend() + "] of [" + entry.getKey() + "]");
+			}
+		}
+		this.configurations.put(componentId, new Configuration(backend, cacheSize));
+
+		if (backend != this.backend) {
+			this.cache.closeAll();
+			this.closeFactory();
+			this.factory = backend.createFactory();
+			this.backend = backend;
+		}
+		this.updateCacheCapacity();
+	}
+
+	/**
+	 * Removes the configuration of a Timedata component. Closes all cached
+	 * {@link RrdDb}s if no component is left.
+	 *
+	 * @param componentId the Component-ID of the Timedata component
+	 */
+	public synchronized void unconfigure(String componentId) {
+		this.configurations.remove(componentId);
+		if (this.configurations.isEmpty()) {
+			this.cache.closeAll();
+		}
+		this.updateCacheCapacity();
+	}
+
+	private void updateCacheCapacity() {
+		this.cache.setCapacity(this.configurations.values().stream() //
+				.mapToInt(Configuration::cacheSize) //
+				.max() //
+				.orElse(0));
+	}
+
+	private void closeFactory() {
+		try {
+			this.factory.close();
+		} catch (IOException e) {
+			this.log.warn("Unable to close RrdBackendFactory: " + e.getMessage());
+		}
 	}
 
 	/**
@@ -85,16 +160,16 @@ public class Rrd4jSupplier {
 	 * @param channelUnit    the {@link Unit}
 	 * @param startTime      the starttime for newly created RrdDbs
 	 * @param rrdDbId        the id of the rrd4j database
-	 * @return the RrdDb
+	 * @return the {@link RrdDbHandle} of the RrdDb
 	 * @throws IOException on error
 	 */
-	public RrdDb getRrdDb(//
+	public RrdDbHandle getRrdDb(//
 			final String rrdDbId, //
 			final ChannelAddress channelAddress, //
 			final Unit channelUnit, //
 			final long startTime //
 	) throws IOException {
-		return this.keyLock.lock(rrdDbId + "/" + channelAddress.toString(), () -> {
+		return this.cache.open(rrdDbId + "/" + channelAddress.toString(), () -> {
 			var rrdDb = this.getExistingRrdDb(channelAddress, rrdDbId);
 			if (rrdDb != null) {
 				// Database exists
@@ -112,15 +187,15 @@ public class Rrd4jSupplier {
 	 * @param rrdDbId        the id of the RrdDb
 	 * @param channelAddress the address of the {@link RrdDb}
 	 * @param channelUnit    the unit of the channel
-	 * @return the {@link RrdDb} or null if not existing
+	 * @return the {@link RrdDbHandle} of the RrdDb or null if not existing
 	 * @throws IOException on IO-Error
 	 */
-	public RrdDb getExistingUpdatedRrdDb(//
+	public RrdDbHandle getExistingUpdatedRrdDb(//
 			final String rrdDbId, //
 			final ChannelAddress channelAddress, //
 			final Unit channelUnit //
 	) throws IOException {
-		return this.keyLock.lock(rrdDbId + "/" + channelAddress.toString(), () -> {
+		return this.cache.open(rrdDbId + "/" + channelAddress.toString(), () -> {
 			var rrdDb = this.getExistingRrdDb(channelAddress, rrdDbId);
 			if (rrdDb == null) {
 				return null;
@@ -378,16 +453,4 @@ public class Rrd4jSupplier {
 		return result;
 	}
 
-	private class KeyLock {
-
-		private final Map<String, Object> locks = new ConcurrentHashMap<>();
-
-		public <T, E extends Exception> T lock(String key, ThrowingSupplier<T, E> supplier) throws E {
-			synchronized (this.locks.computeIfAbsent(key, t -> new Object())) {
-				return supplier.get();
-			}
-		}
-
-	}
-
 }
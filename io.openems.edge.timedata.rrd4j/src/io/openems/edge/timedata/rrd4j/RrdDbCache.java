@@ -0,0 +1,169 @@
+package io.openems.edge.timedata.rrd4j;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.rrd4j.core.RrdDb;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.openems.common.function.ThrowingSupplier;
+
+/**
+ * Serializes access to RRD files and optionally keeps the least recently used
+ * {@link RrdDb}s open, so they are shared by reads and writes without repeated
+ * open/parse/close cycles.
+ *
+ * <p>
+ * Every RRD file is guarded by its own lock. A cached {@link RrdDb} is only
+ * used by one {@link RrdDbHandle} at a time; an evicted {@link RrdDb} that is
+ * still in use is closed when its handle gets closed.
+ */
+public class RrdDbCache {
+
+	private final Logger log = LoggerFactory.getLogger(RrdDbCache.class);
+
+	private final Map<String, ReentrantLock> locks = new ConcurrentHashMap<>();
+
+	/** Key -> open RrdDb, in access-order; guarded by itself. */
+	private final LinkedHashMap<String, RrdDb> open = new LinkedHashMap<>(16, 0.75F, true);
+
+	private int capacity = 0;
+
+	/**
+	 * Sets the max number of open {@link RrdDb}s. 0 disables the cache.
+	 *
+	 * @param capacity the capacity
+	 */
+	public void setCapacity(int capacity) {
+		synchronized (this.open) {
+			this.capacity = Math.max(0, capacity);
+			this.evict();
+		}
+	}
+
+	/**
+	 * Closes all cached {@link RrdDb}s.
+	 */
+	public void closeAll() {
+		synchronized (this.open) {
+			var capacity = this.capacity;
+			this.capacity = 0;
+			this.evict();
+			this.capacity = capacity;
+		}
+	}
+
+	/**
+	 * Executes the supplier exclusively for the given key.
+	 *
+	 * @param <T>      the type of the result
+	 * @param <E>      the type of the exception
+	 * @param key      the key of the RRD file
+	 * @param supplier the {@link ThrowingSupplier}
+	 * @return the result of the supplier
+	 * @throws E on error
+	 */
+	public <T, E extends Exception> T lock(String key, ThrowingSupplier<T, E> supplier) throws E {
+		final var lock = this.getLock(key);
+		lock.lock();
+		try {
+			return supplier.get();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Gets a {@link RrdDbHandle} for the given key; either from the cache or by
+	 * calling the opener.
+	 *
+	 * @param key    the key of the RRD file
+	 * @param opener opens the {@link RrdDb}; may return null
+	 * @return the {@link RrdDbHandle}; null if the opener returned null
+	 * @throws IOException on error
+	 */
+	public RrdDbHandle open(String key, ThrowingSupplier<RrdDb, IOException> opener) throws IOException {
+		final var lock = this.getLock(key);
+		lock.lock();
+		var keepLocked = false;
+		try {
+			RrdDb rrdDb;
+			synchronized (this.open) {
+				if (this.capacity == 0) {
+					rrdDb = null;
+				} else {
+					rrdDb = this.open.get(key);
+				}
+			}
+			if (rrdDb == null) {
+				rrdDb = opener.get();
+				if (rrdDb == null) {
+					return null;
+				}
+				synchronized (this.open) {
+					if (this.capacity == 0) {
+						return new RrdDbHandle(rrdDb, rrdDb::close);
+					}
+					this.open.put(key, rrdDb);
+					this.evict();
+				}
+			}
+
+			// Keep the RrdDb exclusive till the handle is closed
+			final var db = rrdDb;
+			keepLocked = true;
+			return new RrdDbHandle(db, () -> this.release(key, db, lock));
+
+		} finally {
+			if (!keepLocked) {
+				lock.unlock();
+			}
+		}
+	}
+
+	private void release(String key, RrdDb rrdDb, ReentrantLock lock) throws IOException {
+		try {
+			synchronized (this.open) {
+				if (this.open.get(key) != rrdDb) {
+					// got evicted while in use
+					rrdDb.close();
+				}
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Evicts the least recently used {@link RrdDb}s till the capacity is met. Must
+	 * be called while holding the monitor of {@link #open}.
+	 */
+	private void evict() {
+		var iterator = this.open.entrySet().iterator();
+		while (this.open.size() > this.capacity && iterator.hasNext()) {
+			var entry = iterator.next();
+			iterator.remove();
+			var lock = this.getLock(entry.getKey());
+			if (lock.isHeldByCurrentThread() || !lock.tryLock()) {
+				// In use -> closed on release
+				continue;
+			}
+			try {
+				entry.getValue().close();
+			} catch (IOException e) {
+				this.log.warn("Unable to close RrdDb [" + entry.getKey() + "]: " + e.getMessage());
+			} finally {
+				lock.unlock();
+			}
+		}
+	}
+
+	private ReentrantLock getLock(String key) {
+		return this.locks.computeIfAbsent(key, k -> new ReentrantLock());
+	}
+
+}
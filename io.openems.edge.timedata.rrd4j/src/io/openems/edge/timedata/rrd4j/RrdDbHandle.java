@@ -0,0 +1,40 @@
+package io.openems.edge.timedata.rrd4j;
+
+import java.io.IOException;
+
+import org.rrd4j.core.RrdDb;
+
+import io.openems.common.function.ThrowingRunnable;
+
+/**
+ * A handle to an open {@link RrdDb} provided by the {@link Rrd4jSupplier}.
+ *
+ * <p>
+ * Always use in a try-with-resources block. Closing the handle either closes
+ * the {@link RrdDb} or returns it to the cache of open databases.
+ */
+public final class RrdDbHandle implements AutoCloseable {
+
+	private final RrdDb rrdDb;
+	private final ThrowingRunnable<IOException> onClose;
+
+	protected RrdDbHandle(RrdDb rrdDb, ThrowingRunnable<IOException> onClose) {
+		this.rrdDb = rrdDb;
+		this.onClose = onClose;
+	}
+
+	/**
+	 * Gets the {@link RrdDb}. Do not close it directly.
+	 *
+	 * @return the {@link RrdDb}
+	 */
+	public RrdDb get() {
+		return this.rrdDb;
+	}
+
+	@Override
+	public void close() throws IOException {
+		this.onClose.run();
+	}
+
+}
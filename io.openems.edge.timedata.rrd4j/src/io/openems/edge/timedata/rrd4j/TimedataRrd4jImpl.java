@@ -48,6 +48,9 @@ public final class TimedataRrd4jImpl extends AbstractOpenemsComponent
 	@Reference
 	private Rrd4jReadHandler readHandler;
 
+	@Reference
+	private Rrd4jSupplier rrd4jSupplier;
+
 	private boolean debugMode = false;
 
 	public TimedataRrd4jImpl() {
@@ -60,6 +63,7 @@ public final class TimedataRrd4jImpl extends AbstractOpenemsComponent
 
 	@Activate
 	private void activate(ComponentContext context, Config config) throws Exception {
+		this.rrd4jSupplier.configure(config.id(), config.backend(), config.cacheSize());
 		super.activate(context, config.id(), config.alias(), config.enabled());
 		this.debugMode = config.debugMode();
 
@@ -69,6 +73,7 @@ public final class TimedataRrd4jImpl extends AbstractOpenemsComponent
 				config.isReadOnly(), //
 				this.debugMode, //
 				config.persistencePriority(), //
+				config.writeWindow(), //
 				isFull -> this._setQueueIsFull(isFull), //
 				unableToInsert -> this._setUnableToInsertSample(unableToInsert) //
 		));
@@ -82,6 +87,7 @@ public final class TimedataRrd4jImpl extends AbstractOpenemsComponent
 		super.deactivate();
 		this.workerFactory.unget(this.worker);
 		this.worker = null;
+		this.rrd4jSupplier.unconfigure(this.id());
 	}
 
 	@Override
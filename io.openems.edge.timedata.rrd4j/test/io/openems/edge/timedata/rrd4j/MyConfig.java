@@ -11,6 +11,9 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 		private PersistencePriority persistencePriority;
 		private boolean readOnly;
 		private boolean debugMode;
+		private int writeWindow;
+		private Backend backend = Backend.FILE;
+		private int cacheSize;
 
 		private Builder() {
 		}
@@ -35,6 +38,21 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 			return this;
 		}
 
+		public Builder setWriteWindow(int writeWindow) {
+			this.writeWindow = writeWindow;
+			return this;
+		}
+
+		public Builder setBackend(Backend backend) {
+			this.backend = backend;
+			return this;
+		}
+
+		public Builder setCacheSize(int cacheSize) {
+			this.cacheSize = cacheSize;
+			return this;
+		}
+
 		public MyConfig build() {
 			return new MyConfig(this);
 		}
@@ -71,4 +89,19 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 		return this.builder.debugMode;
 	}
 
-}
\ No newline at end of file
+	@Override
+	public int writeWindow() {
+		return this.builder.writeWindow;
+	}
+
+	@Override
+	public Backend backend() {
+		return this.builder.backend;
+	}
+
+	@Override
+	public int cacheSize() {
+		return this.builder.cacheSize;
+	}
+
+}
@@ -0,0 +1,37 @@
+package io.openems.edge.timedata.rrd4j;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import io.openems.common.channel.Unit;
+import io.openems.common.types.ChannelAddress;
+import io.openems.edge.timedata.rrd4j.RecordWorker.Series;
+
+public class RecordWorkerTest {
+
+	@Test
+	public void testSeries() {
+		var sut = new Series(new ChannelAddress("meter0", "ActivePower"), Unit.WATT);
+		assertTrue(sut.add(Unit.WATT, 300, 1));
+		assertTrue(sut.add(Unit.WATT, 600, 2));
+		assertEquals(2, sut.size());
+
+		// Same timestamp overwrites
+		assertTrue(sut.add(Unit.WATT, 600, 3));
+		assertEquals(2, sut.size());
+		assertEquals(600, sut.getTimestamp(1));
+		assertEquals(3, sut.getValue(1), 0.001);
+
+		// Buffer is bounded
+		for (var i = sut.size(); i < RecordWorker.MAX_SAMPLES_PER_SERIES; i++) {
+			assertTrue(sut.add(Unit.WATT, 900 + i * 300, i));
+		}
+		assertFalse(sut.add(Unit.WATT, Long.MAX_VALUE, 0));
+		assertEquals(RecordWorker.MAX_SAMPLES_PER_SERIES, sut.size());
+		assertEquals(1, sut.getValue(0), 0.001);
+	}
+
+}
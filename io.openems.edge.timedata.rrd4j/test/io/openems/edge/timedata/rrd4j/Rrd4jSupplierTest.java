@@ -6,6 +6,7 @@ import org.junit.Test;
 import org.rrd4j.ConsolFun;
 
 import io.openems.common.channel.Unit;
+import io.openems.common.exceptions.OpenemsException;
 
 public class Rrd4jSupplierTest {
 
@@ -21,4 +22,25 @@ public class Rrd4jSupplierTest {
 		}
 	}
 
+	@Test
+	public void testConfigure() throws OpenemsException {
+		final var sut = new Rrd4jSupplier();
+		sut.configure("rrd4j0", Backend.FILE, 10);
+		sut.configure("rrd4j1", Backend.FILE, 0);
+		// Same component may change its own configuration
+		sut.configure("rrd4j0", Backend.FILE, 20);
+
+		sut.unconfigure("rrd4j1");
+		sut.configure("rrd4j0", Backend.NIO, 20);
+		sut.unconfigure("rrd4j0");
+		sut.configure("rrd4j1", Backend.FILE, 0);
+	}
+
+	@Test(expected = OpenemsException.class)
+	public void testConfigureConflict() throws OpenemsException {
+		final var sut = new Rrd4jSupplier();
+		sut.configure("rrd4j0", Backend.FILE, 0);
+		sut.configure("rrd4j1", Backend.NIO, 0);
+	}
+
 }
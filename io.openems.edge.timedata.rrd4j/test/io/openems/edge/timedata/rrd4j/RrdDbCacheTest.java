@@ -0,0 +1,92 @@
+package io.openems.edge.timedata.rrd4j;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.rrd4j.core.RrdDb;
+import org.rrd4j.core.RrdMemoryBackendFactory;
+
+import io.openems.common.channel.Unit;
+import io.openems.edge.timedata.rrd4j.version.Version.CreateDatabaseConfig;
+import io.openems.edge.timedata.rrd4j.version.Version3;
+import io.openems.edge.timedata.rrd4j.version.Version3Test;
+
+public class RrdDbCacheTest {
+
+	private RrdMemoryBackendFactory factory;
+	private Version3 version3;
+	private AtomicInteger opened;
+
+	@Before
+	public void setUp() {
+		this.factory = new RrdMemoryBackendFactory();
+		this.version3 = Version3Test.createDummyVersion3();
+		this.opened = new AtomicInteger();
+	}
+
+	private RrdDb createDb(String path) throws IOException {
+		this.opened.incrementAndGet();
+		return this.version3.createNewDb(new CreateDatabaseConfig(//
+				"rrdDbId", Unit.WATT, path, 0L, this.factory, null));
+	}
+
+	@Test
+	public void testDisabled() throws IOException {
+		var sut = new RrdDbCache();
+		RrdDb db;
+		try (var handle = sut.open("a", () -> this.createDb("a"))) {
+			db = handle.get();
+		}
+		assertTrue(db.isClosed());
+
+		assertNull(sut.open("b", () -> null));
+	}
+
+	@Test
+	public void testCache() throws IOException {
+		var sut = new RrdDbCache();
+		sut.setCapacity(1);
+
+		RrdDb a;
+		try (var handle = sut.open("a", () -> this.createDb("a"))) {
+			a = handle.get();
+		}
+		assertFalse(a.isClosed());
+
+		// Served from cache
+		try (var handle = sut.open("a", () -> this.createDb("a"))) {
+			assertSame(a, handle.get());
+		}
+		assertEquals(1, this.opened.get());
+
+		// Evicts 'a'
+		try (var handle = sut.open("b", () -> this.createDb("b"))) {
+			assertTrue(a.isClosed());
+		}
+		assertEquals(2, this.opened.get());
+	}
+
+	@Test
+	public void testEvictWhileInUse() throws IOException {
+		var sut = new RrdDbCache();
+		sut.setCapacity(1);
+
+		var handleA = sut.open("a", () -> this.createDb("a"));
+		try (var handleB = sut.open("b", () -> this.createDb("b"))) {
+			// 'a' is evicted, but still in use -> not yet closed
+			assertFalse(handleA.get().isClosed());
+		}
+		assertFalse(handleA.get().isClosed());
+		handleA.close();
+		assertTrue(handleA.get().isClosed());
+	}
+
+}